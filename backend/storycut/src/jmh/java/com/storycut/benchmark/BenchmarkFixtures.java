@@ -0,0 +1,112 @@
+package com.storycut.benchmark;
+
+import com.storycut.domain.auth.util.JWTUtil;
+import com.storycut.domain.auth.util.VerifiedTokenCache;
+import com.storycut.domain.mediachat.model.ChatMessage;
+import com.storycut.domain.room.entity.Room;
+import com.storycut.domain.video.entity.Video;
+import com.storycut.global.model.entity.BaseEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+/**
+ * 벤치마크 공용 픽스처 - 스프링 컨텍스트 없이 운영 코드와 같은 설정으로 객체를 구성한다.
+ */
+final class BenchmarkFixtures {
+
+    static final String CONTEXT_PATH = "/api/v1/spring";
+    private static final String JWT_SECRET = "storycut-benchmark-secret-key-must-be-at-least-32-bytes";
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 5, 1, 12, 0);
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * application-secret.yml 값 대신 고정 키/만료 시간으로 초기화한 JWTUtil
+     */
+    static JWTUtil jwtUtil(boolean cacheEnabled) {
+        VerifiedTokenCache cache = new VerifiedTokenCache(cacheEnabled, 10_000, new SimpleMeterRegistry());
+        JWTUtil jwtUtil = new JWTUtil(username -> {
+            throw new UsernameNotFoundException(username);
+        }, cache);
+        setField(jwtUtil, "secretKey", JWT_SECRET);
+        setField(jwtUtil, "ACCESS_TOKEN_EXPIRE_TIME", 3_600_000L);
+        setField(jwtUtil, "REFRESH_TOKEN_EXPIRE_TIME", 1_209_600_000L);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+
+    static Room room(long id) {
+        Room room = Room.builder()
+                .hostMemberId(id % 7)
+                .title("스토리컷 공유방 " + id)
+                .password(id % 2 == 0 ? "1234" : null)
+                .context("가족 여행 영상을 함께 편집하는 방입니다.")
+                .thumbnail("https://cdn.storycut.com/rooms/" + id + "/thumbnail.jpg")
+                .build();
+        setField(room, "id", id);
+        audit(room);
+        return room;
+    }
+
+    static Video video(long id) {
+        Video video = Video.builder()
+                .memberId(id % 7)
+                .videoTitle("편집 영상 " + id)
+                .originalVideoId(id > 1 ? id - 1 : null)
+                .isBlur(id % 3 == 0)
+                .build();
+        video.completeUpload("https://cdn.storycut.com/videos/" + id + ".mp4",
+                "https://cdn.storycut.com/videos/" + id + ".jpg");
+        setField(video, "id", id);
+        audit(video);
+        return video;
+    }
+
+    static ChatMessage chatMessage(long index) {
+        return ChatMessage.builder()
+                .id(String.format("6650f0c2a1b2c3d4e5%06d", index))
+                .roomId(1L)
+                .senderId(index % 7)
+                .videoId(String.valueOf(index))
+                .title("공유 영상 " + index)
+                .mediaUrl("https://cdn.storycut.com/videos/" + index + ".mp4")
+                .thumbnailUrl("https://cdn.storycut.com/videos/" + index + ".jpg")
+                .createdAt(NOW.plusSeconds(index))
+                .build();
+    }
+
+    static <T> List<T> listOf(int size, java.util.function.LongFunction<T> factory) {
+        List<T> list = new ArrayList<>(size);
+        for (long i = 1; i <= size; i++) {
+            list.add(factory.apply(i));
+        }
+        return list;
+    }
+
+    private static void audit(BaseEntity entity) {
+        setField(entity, "createdAt", NOW);
+        setField(entity, "updatedAt", NOW);
+    }
+
+    private static void setField(Object target, String name, Object value) {
+        Class<?> type = target.getClass();
+        while (type != null) {
+            try {
+                Field field = type.getDeclaredField(name);
+                field.setAccessible(true);
+                field.set(target, value);
+                return;
+            } catch (NoSuchFieldException e) {
+                type = type.getSuperclass();
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        throw new IllegalArgumentException("필드를 찾을 수 없습니다: " + name);
+    }
+}
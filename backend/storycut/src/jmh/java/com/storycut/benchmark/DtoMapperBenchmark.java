@@ -0,0 +1,45 @@
+package com.storycut.benchmark;
+
+import com.storycut.domain.mediachat.dto.response.ChatMessageResponse;
+import com.storycut.domain.mediachat.model.ChatMessage;
+import com.storycut.domain.room.dto.response.RoomResponse;
+import com.storycut.domain.room.entity.Room;
+import com.storycut.domain.video.dto.response.VideoResponse;
+import com.storycut.domain.video.entity.Video;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 엔티티 -> 응답 DTO 변환
+ */
+@State(Scope.Benchmark)
+public class DtoMapperBenchmark {
+
+    private Room room;
+    private Video video;
+    private ChatMessage chatMessage;
+
+    @Setup
+    public void setUp() {
+        room = BenchmarkFixtures.room(1L);
+        video = BenchmarkFixtures.video(1L);
+        chatMessage = BenchmarkFixtures.chatMessage(1L);
+    }
+
+    @Benchmark
+    public RoomResponse roomResponse() {
+        return RoomResponse.from(3L, room, 5);
+    }
+
+    @Benchmark
+    public VideoResponse videoResponse() {
+        return VideoResponse.from(video);
+    }
+
+    @Benchmark
+    public ChatMessageResponse chatMessageResponse() {
+        return ChatMessageResponse.from(chatMessage);
+    }
+}
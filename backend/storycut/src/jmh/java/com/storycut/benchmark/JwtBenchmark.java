@@ -0,0 +1,49 @@
+package com.storycut.benchmark;
+
+import com.storycut.domain.auth.util.JWTUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JWT 발급/검증 경로
+ * cacheEnabled로 검증 캐시(VerifiedTokenCache) 유무를 비교한다.
+ */
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    @Param({"true", "false"})
+    private boolean cacheEnabled;
+
+    private JWTUtil jwtUtil;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = BenchmarkFixtures.jwtUtil(cacheEnabled);
+        accessToken = jwtUtil.createAccessToken(42L, "member42@storycut.com");
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtUtil.createAccessToken(42L, "member42@storycut.com");
+    }
+
+    @Benchmark
+    public JWTUtil.TokenStatus checkToken() {
+        return jwtUtil.checkToken(accessToken);
+    }
+
+    @Benchmark
+    public Long getMemberId() {
+        return jwtUtil.getMemberId(accessToken);
+    }
+
+    @Benchmark
+    public Long verifyAndGetMemberId() {
+        // 필터가 실제로 수행하는 경로 (검증 결과의 클레임에서 ID 추출)
+        return jwtUtil.verify(accessToken).getMemberId();
+    }
+}
@@ -0,0 +1,52 @@
+package com.storycut.benchmark;
+
+import com.storycut.domain.auth.JwtFilter.JwtAuthenticationFilter;
+import com.storycut.global.security.matcher.PublicEndpointMatcher;
+import jakarta.servlet.http.HttpServletRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+/**
+ * JwtAuthenticationFilter.shouldNotFilter - 모든 요청에서 실행되는 공개 경로 판정
+ */
+@State(Scope.Benchmark)
+public class JwtFilterBenchmark {
+
+    @Param({"/api/v1/spring/room/123/members", "/api/v1/spring/auth/refresh"})
+    private String uri;
+
+    private ExposedJwtAuthenticationFilter filter;
+    private HttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        filter = new ExposedJwtAuthenticationFilter(new PublicEndpointMatcher(BenchmarkFixtures.CONTEXT_PATH));
+        MockHttpServletRequest mockRequest = new MockHttpServletRequest("GET", uri);
+        mockRequest.setContextPath(BenchmarkFixtures.CONTEXT_PATH);
+        request = mockRequest;
+    }
+
+    @Benchmark
+    public boolean shouldNotFilter() {
+        return filter.shouldNotFilter(request);
+    }
+
+    /**
+     * protected 메서드 호출용 하위 클래스 (판정에 쓰이지 않는 의존성은 null)
+     */
+    static class ExposedJwtAuthenticationFilter extends JwtAuthenticationFilter {
+
+        ExposedJwtAuthenticationFilter(PublicEndpointMatcher publicEndpointMatcher) {
+            super(null, null, publicEndpointMatcher, null);
+        }
+
+        @Override
+        public boolean shouldNotFilter(HttpServletRequest request) {
+            return super.shouldNotFilter(request);
+        }
+    }
+}
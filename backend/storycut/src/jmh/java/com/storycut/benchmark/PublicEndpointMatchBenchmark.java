@@ -0,0 +1,59 @@
+package com.storycut.benchmark;
+
+import com.storycut.global.model.enums.PublicEndpoint;
+import com.storycut.global.security.matcher.PublicEndpointMatcher;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 공개 엔드포인트 판정 비교 - 기존 JwtAuthenticationFilter 루프 vs 세그먼트 트라이
+ * <p>
+ * 실행: ./gradlew jmh -PjmhIncludes=PublicEndpointMatchBenchmark
+ * (gc 프로파일러 결과의 gc.alloc.rate.norm으로 요청당 할당량 비교)
+ * </p>
+ */
+@State(Scope.Benchmark)
+public class PublicEndpointMatchBenchmark {
+
+    private static final String CONTEXT_PATH = "/api/v1/spring";
+
+    @Param({
+            "/api/v1/spring/room/123/members",   // 보호 API (가장 흔한 경우, 전체 패턴 불일치)
+            "/api/v1/spring/auth/refresh",        // 정확 일치 공개 경로
+            "/api/v1/spring/swagger-ui/index.html" // 와일드카드 공개 경로
+    })
+    private String uri;
+
+    private PublicEndpointMatcher matcher;
+
+    @Setup
+    public void setUp() {
+        matcher = new PublicEndpointMatcher(CONTEXT_PATH);
+    }
+
+    @Benchmark
+    public boolean legacyLoop() {
+        // 변경 전 shouldNotFilter 구현 (요청마다 목록 생성 + substring)
+        List<String> publicPaths = PublicEndpoint.getAll();
+        for (String pattern : publicPaths) {
+            if (pattern.endsWith("/**")) {
+                String prefix = pattern.substring(0, pattern.length() - 3);
+                if (uri.startsWith(prefix)) {
+                    return true;
+                }
+            } else if (uri.equals(pattern)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean segmentTrie() {
+        return matcher.matches(uri);
+    }
+}
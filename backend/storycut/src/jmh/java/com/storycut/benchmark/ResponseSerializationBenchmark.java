@@ -0,0 +1,47 @@
+package com.storycut.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.storycut.domain.mediachat.dto.response.ChatMessageResponse;
+import com.storycut.domain.room.dto.response.RoomResponse;
+import com.storycut.global.model.dto.BaseResponse;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * 목록 응답 JSON 직렬화 (스프링 MVC와 같은 ObjectMapper 설정)
+ */
+@State(Scope.Benchmark)
+public class ResponseSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private BaseResponse<List<ChatMessageResponse>> chatMessages;
+    private BaseResponse<List<RoomResponse>> rooms;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        chatMessages = new BaseResponse<>(BenchmarkFixtures.listOf(size,
+                index -> ChatMessageResponse.from(BenchmarkFixtures.chatMessage(index))));
+        rooms = new BaseResponse<>(BenchmarkFixtures.listOf(size,
+                index -> RoomResponse.from(3L, BenchmarkFixtures.room(index), (int) (index % 10))));
+    }
+
+    @Benchmark
+    public byte[] chatMessageList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(chatMessages);
+    }
+
+    @Benchmark
+    public byte[] roomList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(rooms);
+    }
+}
@@ -1,11 +1,13 @@
 package com.storycut.domain.auth.JwtFilter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.storycut.domain.auth.service.TokenBlacklistService;
 import com.storycut.domain.auth.util.JWTUtil;
 import com.storycut.domain.auth.util.JWTUtil.TokenStatus;
+import com.storycut.domain.auth.util.JWTUtil.TokenVerification;
 import com.storycut.global.model.dto.BaseResponse;
 import com.storycut.global.model.dto.BaseResponseStatus;
-import com.storycut.global.model.enums.PublicEndpoint;
+import com.storycut.global.security.matcher.PublicEndpointMatcher;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,7 +20,6 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.List;
 
 @Slf4j
 @Component
@@ -26,6 +27,8 @@ import java.util.List;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JWTUtil jwtUtil;
+    private final TokenBlacklistService tokenBlacklistService;
+    private final PublicEndpointMatcher publicEndpointMatcher;
     private final ObjectMapper objectMapper;
 
     @Override
@@ -35,23 +38,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String token = jwtUtil.resolveToken(request);
 
         if (token != null) {
-            TokenStatus tokenStatus = jwtUtil.checkToken(token);
+            // 서명 검증은 한 번만 수행하고 결과의 클레임으로 인증 정보를 구성
+            TokenVerification verification = jwtUtil.verify(token);
+            TokenStatus tokenStatus = verification.status();
 
             if (tokenStatus == TokenStatus.VALID) {
+                // 로그아웃된 토큰, 탈퇴한 회원의 토큰 차단 (블룸 필터 양성일 때만 Redis 조회)
+                if (tokenBlacklistService.isRevoked(token, verification)) {
+                    log.debug("로그아웃된 토큰 요청 차단");
+                    writeUnauthorized(response, BaseResponseStatus.JWT_TOKEN_REVOKED);
+                    return;
+                }
+
                 // 유효한 토큰의 경우 인증 정보 설정
-                Authentication authentication = jwtUtil.getAuthentication(token);
+                Authentication authentication = jwtUtil.getAuthentication(verification);
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             } else if (tokenStatus == TokenStatus.EXPIRED) {
                 // 만료된 토큰에 대한 특별 처리
                 log.debug("만료된 토큰: {}", token);
-
-                // 401 Unauthorized 응답 설정
-                response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                response.setContentType("application/json;charset=UTF-8");
-
-                // 응답 바디 설정
-                BaseResponse<Void> errorResponse = new BaseResponse<>(BaseResponseStatus.JWT_ACCESS_TOKEN_EXPIRED);
-                response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+                writeUnauthorized(response, BaseResponseStatus.JWT_ACCESS_TOKEN_EXPIRED);
                 return; // 필터 체인 진행하지 않음
             }
             // INVALID 상태는 별도 처리 안 함 (인증 없이 요청 진행)
@@ -61,28 +66,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * 401 Unauthorized 응답 작성
+     */
+    private void writeUnauthorized(HttpServletResponse response, BaseResponseStatus status) throws IOException {
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        response.setContentType("application/json;charset=UTF-8");
+
+        BaseResponse<Void> errorResponse = new BaseResponse<>(status);
+        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+    }
+
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
-        // 현재 요청 URI
-        String uri = request.getRequestURI();
-        
-        // 공개 URL 패턴 목록
-        List<String> publicPaths = PublicEndpoint.getAll();
-        
-        // 공개 URL 패턴 중 하나라도 일치하면 필터를 적용하지 않음
-        for (String pattern : publicPaths) {
-            if (pattern.endsWith("/**")) {
-                // 와일드카드 패턴 처리
-                String prefix = pattern.substring(0, pattern.length() - 3);
-                if (uri.startsWith(prefix)) {
-                    return true;
-                }
-            } else if (uri.equals(pattern)) {
-                // 정확한 경로 매치
-                return true;
-            }
-        }
-        
-        return false;
+        // 기동 시 컴파일된 공개 URL 트라이로 판정 (요청마다 목록 생성/문자열 분리 없음)
+        return publicEndpointMatcher.matches(request);
     }
-}
\ No newline at end of file
+}
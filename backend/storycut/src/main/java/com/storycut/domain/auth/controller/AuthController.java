@@ -56,7 +56,8 @@ public class AuthController implements AuthAPI {
     @Override
     public RedirectView handleOAuth2Callback(String code, String state) {
         log.info("[OAuth2 콜백] 인증 코드 수신 - state: {}", state);
-        Long memberId = tokenService.validateAuthState(state);
+        // state는 조회와 동시에 삭제되어 재사용할 수 없음
+        Long memberId = tokenService.consumeAuthState(state);
         if (memberId == null) {
             log.warn("[OAuth2 콜백] 유효하지 않은 상태 토큰: {}", state);
             return new RedirectView(baseUrl + "/auth/error?error=invalid_state");
@@ -64,7 +65,6 @@ public class AuthController implements AuthAPI {
 
         try {
             TokenDto tokenDto = googleAuthService.exchangeAuthCodeForTokens(code, memberId);
-            tokenService.deleteAuthState(state);
             log.info("[OAuth2 콜백] 토큰 교환 성공 - 사용자 ID: {}", memberId);
             return new RedirectView("storycut://auth/success?token=" + tokenDto.getGoogleAccessToken());
         } catch (Exception e) {
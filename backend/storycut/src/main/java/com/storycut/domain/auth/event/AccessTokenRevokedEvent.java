@@ -0,0 +1,11 @@
+package com.storycut.domain.auth.event;
+
+/**
+ * 액세스 토큰 폐기 이벤트 - 폐기를 반영한 모든 노드에서 발행된다 (해당 토큰으로 연결된 WebSocket 세션 종료 등).
+ *
+ * @param digest 폐기된 토큰의 다이제스트 ({@code TokenDigest.of})
+ */
+public record AccessTokenRevokedEvent(
+        String digest
+) {
+}
@@ -0,0 +1,10 @@
+package com.storycut.domain.auth.event;
+
+/**
+ * 회원 단위 토큰 폐기 이벤트 (회원 탈퇴) - 폐기를 반영한 모든 노드에서 발행된다.
+ * 그 회원에게 발급된 모든 액세스 토큰이 대상이므로, 해당 회원의 WebSocket 세션을 모두 종료한다.
+ */
+public record MemberTokensRevokedEvent(
+        Long memberId
+) {
+}
@@ -0,0 +1,144 @@
+package com.storycut.domain.auth.google;
+
+import com.storycut.global.client.BulkheadFullException;
+import com.storycut.global.exception.BusinessException;
+import com.storycut.global.model.dto.BaseResponseStatus;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+/**
+ * 구글 토큰 엔드포인트 호출 클라이언트
+ * <p>
+ * 공용 WebClient(커넥션 풀, 타임아웃, 호스트별 벌크헤드 적용)를 통해서만 구글을 호출한다.
+ * 타임아웃/연결 실패/벌크헤드 초과는 {@link BaseResponseStatus#SERVICE_UNAVAILABLE}로 변환한다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GoogleApiClient {
+
+    private static final String GOOGLE_TOKEN_URL = "https://oauth2.googleapis.com/token";
+    // 커넥션 획득 대기 + 응답 타임아웃을 모두 포함하는 최종 상한
+    private static final Duration BLOCK_TIMEOUT = Duration.ofSeconds(10);
+
+    private final WebClient webClient;
+
+    @Value("${spring.security.oauth2.client.registration.google.client-id}")
+    private String GOOGLE_CLIENT_ID;
+
+    @Value("${spring.security.oauth2.client.registration.google.client-secret}")
+    private String GOOGLE_CLIENT_SECRET;
+
+    /**
+     * 인증 코드로 액세스/리프레시 토큰 교환
+     */
+    public GoogleTokenResponse exchangeAuthorizationCode(String code, String redirectUri) {
+        MultiValueMap<String, String> formData = clientCredentials();
+        formData.add("code", code);
+        formData.add("grant_type", "authorization_code");
+        formData.add("redirect_uri", redirectUri);
+
+        try {
+            GoogleTokenResponse response = requestToken(formData, BaseResponseStatus.TOKEN_GENERATION_FAILED);
+            if (response.refreshToken() == null) {
+                throw new BusinessException(BaseResponseStatus.TOKEN_GENERATION_FAILED);
+            }
+            return response;
+        } catch (WebClientResponseException e) {
+            log.error("구글 인증 코드 교환 API 오류: {} {}", e.getStatusCode(), e.getResponseBodyAsString());
+            throw new BusinessException(BaseResponseStatus.TOKEN_GENERATION_FAILED);
+        } catch (RuntimeException e) {
+            throw translate(e, BaseResponseStatus.TOKEN_GENERATION_FAILED);
+        }
+    }
+
+    /**
+     * 리프레시 토큰으로 액세스 토큰 갱신
+     */
+    public GoogleTokenResponse refreshAccessToken(String refreshToken) {
+        MultiValueMap<String, String> formData = clientCredentials();
+        formData.add("refresh_token", refreshToken);
+        formData.add("grant_type", "refresh_token");
+
+        try {
+            return requestToken(formData, BaseResponseStatus.GOOGLE_TOKEN_REFRESH_FAILED);
+        } catch (WebClientResponseException e) {
+            log.error("구글 토큰 갱신 API 오류: {}", e.getMessage());
+
+            if (e.getStatusCode().is4xxClientError()) {
+                // 'invalid_grant' 오류는 보통 리프레시 토큰이 만료되었거나 취소되었음을 의미
+                if (e.getStatusCode().value() == 400 && e.getResponseBodyAsString().contains("invalid_grant")) {
+                    throw new BusinessException(BaseResponseStatus.GOOGLE_REFRESH_TOKEN_EXPIRED);
+                }
+                // 그 외 클라이언트 오류는 액세스 토큰 만료로 처리
+                throw new BusinessException(BaseResponseStatus.GOOGLE_ACCESS_TOKEN_EXPIRED);
+            }
+            // 5xx 등 서버 오류는 일반 갱신 실패로 처리
+            throw new BusinessException(BaseResponseStatus.GOOGLE_TOKEN_REFRESH_FAILED);
+        } catch (RuntimeException e) {
+            throw translate(e, BaseResponseStatus.GOOGLE_TOKEN_REFRESH_FAILED);
+        }
+    }
+
+    private GoogleTokenResponse requestToken(MultiValueMap<String, String> formData, BaseResponseStatus emptyStatus) {
+        GoogleTokenResponse response = webClient.post()
+                .uri(GOOGLE_TOKEN_URL)
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .body(BodyInserters.fromFormData(formData))
+                .retrieve()
+                .bodyToMono(GoogleTokenResponse.class)
+                .block(BLOCK_TIMEOUT);
+
+        if (response == null || response.accessToken() == null) {
+            throw new BusinessException(emptyStatus);
+        }
+        return response;
+    }
+
+    private MultiValueMap<String, String> clientCredentials() {
+        MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
+        formData.add("client_id", GOOGLE_CLIENT_ID);
+        formData.add("client_secret", GOOGLE_CLIENT_SECRET);
+        return formData;
+    }
+
+    /**
+     * 응답 외 오류 변환 - 지연/연결 실패는 503, 그 외는 호출별 기본 오류
+     */
+    private BusinessException translate(RuntimeException e, BaseResponseStatus fallback) {
+        if (e instanceof BusinessException businessException) {
+            return businessException;
+        }
+        if (isUnavailable(e)) {
+            log.warn("구글 API 호출 지연/실패: {}", e.getMessage());
+            return new BusinessException(BaseResponseStatus.SERVICE_UNAVAILABLE);
+        }
+        log.error("구글 API 호출 중 오류 발생", e);
+        return new BusinessException(fallback);
+    }
+
+    private boolean isUnavailable(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof BulkheadFullException
+                    || cause instanceof WebClientRequestException
+                    || cause instanceof TimeoutException
+                    || cause instanceof io.netty.handler.timeout.TimeoutException) {
+                return true;
+            }
+        }
+        // block(Duration) 시간 초과는 IllegalStateException으로 전달됨
+        return e instanceof IllegalStateException && String.valueOf(e.getMessage()).startsWith("Timeout on blocking read");
+    }
+}
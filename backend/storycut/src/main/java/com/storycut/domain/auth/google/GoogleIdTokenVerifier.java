@@ -0,0 +1,173 @@
+package com.storycut.domain.auth.google;
+
+import com.storycut.global.exception.BusinessException;
+import com.storycut.global.model.dto.BaseResponseStatus;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.security.Key;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 구글 ID 토큰 로컬 검증기
+ * <p>
+ * 구글 공개키 세트를 메모리에 캐시해 두고 RSA 서명, 발급자, 대상(client id), 만료 시간을 직접 검증한다.
+ * 로그인마다 tokeninfo 엔드포인트를 호출하던 외부 왕복이 로컬 서명 검증으로 대체된다.
+ * </p>
+ * <ul>
+ *     <li>키 세트는 응답의 max-age가 지나기 전에 백그라운드에서 갱신한다.</li>
+ *     <li>캐시에 없는 kid가 들어오면 (키 교체 직후) 즉시 다시 가져오되, 최소 간격으로 호출 빈도를 제한한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class GoogleIdTokenVerifier {
+
+    private static final Set<String> GOOGLE_ISSUERS = Set.of("accounts.google.com", "https://accounts.google.com");
+    private static final Duration CLOCK_SKEW = Duration.ofSeconds(30);
+    private static final Duration MIN_REFETCH_INTERVAL = Duration.ofSeconds(30);
+    private static final double REFRESH_RATIO = 0.8; // max-age의 80% 시점에 미리 갱신
+
+    private final GoogleSigningKeySource keySource;
+    private final List<String> audiences;
+    private final Clock clock;
+    private final JwtParser parser;
+    private final Timer verifyTimer;
+    private final MeterRegistry meterRegistry;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile GoogleSigningKeys signingKeys = GoogleSigningKeys.empty();
+    private volatile Instant refreshAt = Instant.EPOCH;
+    private volatile Instant lastFetchAt = Instant.EPOCH;
+
+    @Autowired
+    public GoogleIdTokenVerifier(
+            GoogleSigningKeySource keySource,
+            MeterRegistry meterRegistry,
+            @Value("${app.google.id-token.audiences:${spring.security.oauth2.client.registration.google.client-id}}")
+            List<String> audiences) {
+        this(keySource, meterRegistry, audiences, Clock.systemUTC());
+    }
+
+    GoogleIdTokenVerifier(GoogleSigningKeySource keySource, MeterRegistry meterRegistry,
+                          List<String> audiences, Clock clock) {
+        this.keySource = keySource;
+        this.audiences = List.copyOf(audiences);
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+        this.verifyTimer = Timer.builder("google.idtoken.verify")
+                .description("구글 ID 토큰 로컬 검증 시간")
+                .register(meterRegistry);
+        this.parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        return findKey(header.getKeyId());
+                    }
+                })
+                .clockSkewSeconds(CLOCK_SKEW.getSeconds())
+                .clock(() -> java.util.Date.from(clock.instant()))
+                .build();
+    }
+
+    /**
+     * ID 토큰 검증 후 클레임 반환 (sub, email, name, picture 등)
+     */
+    public Claims verify(String idToken) {
+        return verifyTimer.record(() -> {
+            Claims claims;
+            try {
+                claims = parser.parseSignedClaims(idToken).getPayload();
+            } catch (JwtException | IllegalArgumentException e) {
+                log.debug("구글 ID 토큰 검증 실패: {}", e.getMessage());
+                throw new BusinessException(BaseResponseStatus.TOKEN_VERIFICATION_FAILED);
+            }
+
+            if (!GOOGLE_ISSUERS.contains(claims.getIssuer())) {
+                log.debug("구글 ID 토큰 발급자 불일치: {}", claims.getIssuer());
+                throw new BusinessException(BaseResponseStatus.TOKEN_VERIFICATION_FAILED);
+            }
+            Set<String> tokenAudiences = claims.getAudience();
+            if (tokenAudiences == null || tokenAudiences.stream().noneMatch(audiences::contains)) {
+                log.debug("구글 ID 토큰 대상 불일치: {}", tokenAudiences);
+                throw new BusinessException(BaseResponseStatus.TOKEN_VERIFICATION_FAILED);
+            }
+            return claims;
+        });
+    }
+
+    /**
+     * 기동 시 키 세트 미리 로딩 (첫 로그인 지연 방지)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        refresh("startup");
+    }
+
+    /**
+     * 만료 전 백그라운드 갱신
+     */
+    @Scheduled(fixedDelayString = "${app.google.jwks.check-interval-ms:60000}")
+    public void refreshIfStale() {
+        if (!clock.instant().isBefore(refreshAt)) {
+            refresh("scheduled");
+        }
+    }
+
+    private Key findKey(String keyId) {
+        Key key = signingKeys.get(keyId);
+        if (key != null) {
+            return key;
+        }
+
+        // 모르는 kid - 키 교체 직후일 수 있으므로 제한된 빈도로 즉시 재조회
+        if (clock.instant().isAfter(lastFetchAt.plus(MIN_REFETCH_INTERVAL))) {
+            refresh("unknown-kid");
+        }
+        return signingKeys.get(keyId);
+    }
+
+    private void refresh(String reason) {
+        // 동시에 여러 요청이 재조회를 시도하면 한 번만 호출하고 나머지는 결과를 공유
+        Instant requestedAt = clock.instant();
+        refreshLock.lock();
+        try {
+            if (lastFetchAt.isAfter(requestedAt)) {
+                return;
+            }
+            GoogleSigningKeys fetched = keySource.fetch();
+            Instant now = clock.instant();
+            signingKeys = fetched;
+            lastFetchAt = now;
+            refreshAt = now.plusMillis((long) (fetched.maxAge().toMillis() * REFRESH_RATIO));
+            meterRegistry.counter("google.jwks.refresh", "reason", reason, "result", "success").increment();
+            log.info("구글 서명 키 갱신 완료 - 사유: {}, 키 수: {}, max-age: {}", reason, fetched.keys().size(), fetched.maxAge());
+        } catch (Exception e) {
+            // 갱신 실패 시 기존 키 유지, 잠시 후 재시도
+            Instant now = clock.instant();
+            lastFetchAt = now;
+            refreshAt = now.plus(MIN_REFETCH_INTERVAL);
+            meterRegistry.counter("google.jwks.refresh", "reason", reason, "result", "failure").increment();
+            log.warn("구글 서명 키 갱신 실패 - 사유: {}, 오류: {}", reason, e.getMessage());
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.storycut.domain.auth.google;
+
+/**
+ * 구글 ID 토큰 서명 검증용 공개키 공급원
+ * <p>
+ * 운영에서는 구글 JWKS 엔드포인트({@link HttpGoogleSigningKeySource})를 사용하고,
+ * 테스트에서는 로컬에서 생성한 키 세트를 반환하는 구현으로 대체한다.
+ * </p>
+ */
+@FunctionalInterface
+public interface GoogleSigningKeySource {
+
+    /**
+     * 현재 유효한 서명 키 세트 조회
+     */
+    GoogleSigningKeys fetch();
+}
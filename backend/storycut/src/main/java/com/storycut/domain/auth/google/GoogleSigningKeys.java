@@ -0,0 +1,23 @@
+package com.storycut.domain.auth.google;
+
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 구글 서명 키 세트 - kid별 공개키와 응답 캐시 헤더(max-age)에서 얻은 유효 기간
+ */
+public record GoogleSigningKeys(Map<String, PublicKey> keys, Duration maxAge) {
+
+    public GoogleSigningKeys {
+        keys = Map.copyOf(keys);
+    }
+
+    public static GoogleSigningKeys empty() {
+        return new GoogleSigningKeys(Map.of(), Duration.ZERO);
+    }
+
+    public PublicKey get(String keyId) {
+        return keyId != null ? keys.get(keyId) : null;
+    }
+}
@@ -0,0 +1,196 @@
+package com.storycut.domain.auth.google;
+
+import com.storycut.global.exception.BusinessException;
+import com.storycut.global.model.dto.BaseResponseStatus;
+import com.storycut.global.util.RedisCommands;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 구글 액세스 토큰 갱신 코디네이터
+ * <p>
+ * 회원별 구글 액세스 토큰을 {@code G_AT:<memberId>}에 expires_in 기준 TTL로 캐시하고,
+ * 캐시가 없을 때만 구글 토큰 엔드포인트를 호출한다. 같은 회원의 동시 갱신 요청은
+ * <ul>
+ *     <li>노드 안에서는 진행 중인 갱신 결과(CompletableFuture)를 공유하고</li>
+ *     <li>노드 간에는 짧은 Redis 락({@code G_LOCK:<memberId>}, SET NX PX)으로 한 노드만 호출하며
+ *     나머지는 캐시에 결과가 올라오기를 기다린다.</li>
+ * </ul>
+ * </p>
+ */
+@Slf4j
+@Component
+public class GoogleTokenRefreshCoordinator {
+
+    private static final String GOOGLE_ACCESS_TOKEN_PREFIX = "G_AT:";
+    private static final String REFRESH_LOCK_PREFIX = "G_LOCK:";
+
+    private static final Duration EXPIRY_MARGIN = Duration.ofSeconds(60); // 만료 직전 토큰 반환 방지
+    private static final Duration DEFAULT_EXPIRES_IN = Duration.ofHours(1);
+    private static final Duration LOCK_TTL = Duration.ofSeconds(15);      // 구글 호출 상한(10초)보다 길게
+    private static final Duration WAIT_TIMEOUT = Duration.ofSeconds(12);
+    private static final long POLL_INTERVAL_MS = 100;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisCommands redisCommands;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<Long, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    public GoogleTokenRefreshCoordinator(RedisTemplate<String, String> redisTemplate, RedisCommands redisCommands,
+                                         MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.redisCommands = redisCommands;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 캐시된 액세스 토큰 반환, 없으면 회원당 한 번만 갱신
+     *
+     * @param refresher 실제 구글 갱신 로직 (갱신이 필요할 때 클러스터 전체에서 한 번만 실행됨)
+     */
+    public String getAccessToken(Long memberId, Supplier<GoogleTokenResponse> refresher) {
+        String cached = getCached(memberId);
+        if (cached != null) {
+            record("cache_hit");
+            return cached;
+        }
+
+        CompletableFuture<String> mine = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(memberId, mine);
+        if (existing != null) {
+            // 같은 노드에서 이미 갱신 중 - 결과 공유
+            record("joined");
+            return await(existing);
+        }
+
+        try {
+            String token = refreshAcrossNodes(memberId, refresher);
+            mine.complete(token);
+            return token;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(memberId, mine);
+        }
+    }
+
+    /**
+     * 새로 발급받은 토큰 캐시 (인증 코드 교환 직후 등)
+     */
+    public void store(Long memberId, GoogleTokenResponse response) {
+        Duration expiresIn = response.expiresIn() != null
+                ? Duration.ofSeconds(response.expiresIn())
+                : DEFAULT_EXPIRES_IN;
+        Duration ttl = expiresIn.minus(EXPIRY_MARGIN);
+        if (ttl.isNegative() || ttl.isZero()) {
+            return;
+        }
+        redisTemplate.opsForValue().set(GOOGLE_ACCESS_TOKEN_PREFIX + memberId, response.accessToken(),
+                ttl.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 캐시된 토큰 삭제 (재동의, 회원 탈퇴 등)
+     */
+    public void evict(Long memberId) {
+        redisTemplate.delete(GOOGLE_ACCESS_TOKEN_PREFIX + memberId);
+    }
+
+    private String refreshAcrossNodes(Long memberId, Supplier<GoogleTokenResponse> refresher) {
+        String lockKey = REFRESH_LOCK_PREFIX + memberId;
+        long deadline = System.nanoTime() + WAIT_TIMEOUT.toNanos();
+
+        while (true) {
+            String lockValue = UUID.randomUUID().toString();
+            Boolean acquired = redisTemplate.opsForValue()
+                    .setIfAbsent(lockKey, lockValue, LOCK_TTL.toMillis(), TimeUnit.MILLISECONDS);
+
+            if (Boolean.TRUE.equals(acquired)) {
+                try {
+                    // 락 획득 직전에 다른 노드가 갱신을 끝냈을 수 있음
+                    String cached = getCached(memberId);
+                    if (cached != null) {
+                        record("cache_hit");
+                        return cached;
+                    }
+                    GoogleTokenResponse response = refresher.get();
+                    store(memberId, response);
+                    record("refreshed");
+                    return response.accessToken();
+                } finally {
+                    releaseLock(lockKey, lockValue);
+                }
+            }
+
+            // 다른 노드가 갱신 중 - 결과가 캐시에 올라올 때까지 대기
+            while (System.nanoTime() < deadline) {
+                sleep();
+                String cached = getCached(memberId);
+                if (cached != null) {
+                    record("waited");
+                    return cached;
+                }
+                if (!Boolean.TRUE.equals(redisTemplate.hasKey(lockKey))) {
+                    break; // 락이 풀렸는데 결과가 없음 (상대 노드 갱신 실패) - 직접 시도
+                }
+            }
+            if (System.nanoTime() >= deadline) {
+                record("timeout");
+                log.warn("구글 토큰 갱신 대기 시간 초과 - 사용자 ID: {}", memberId);
+                throw new BusinessException(BaseResponseStatus.SERVICE_UNAVAILABLE);
+            }
+        }
+    }
+
+    /**
+     * 내가 건 락일 때만 해제 (비교와 삭제를 원자적으로 수행)
+     */
+    private void releaseLock(String lockKey, String lockValue) {
+        redisCommands.compareAndDelete(lockKey, lockValue);
+    }
+
+    private String getCached(Long memberId) {
+        return redisTemplate.opsForValue().get(GOOGLE_ACCESS_TOKEN_PREFIX + memberId);
+    }
+
+    private String await(CompletableFuture<String> future) {
+        try {
+            return future.get(WAIT_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | CompletionException e) {
+            if (e.getCause() instanceof BusinessException businessException) {
+                throw businessException;
+            }
+            throw new BusinessException(BaseResponseStatus.GOOGLE_TOKEN_REFRESH_FAILED);
+        } catch (TimeoutException e) {
+            throw new BusinessException(BaseResponseStatus.SERVICE_UNAVAILABLE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(BaseResponseStatus.SERVICE_UNAVAILABLE);
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(POLL_INTERVAL_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(BaseResponseStatus.SERVICE_UNAVAILABLE);
+        }
+    }
+
+    private void record(String outcome) {
+        meterRegistry.counter("google.token.refresh.requests", "outcome", outcome).increment();
+    }
+}
@@ -0,0 +1,16 @@
+package com.storycut.domain.auth.google;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * 구글 토큰 엔드포인트 응답
+ * refresh_token은 인증 코드 교환(최초 동의) 시에만 포함된다.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record GoogleTokenResponse(
+        @JsonProperty("access_token") String accessToken,
+        @JsonProperty("expires_in") Long expiresIn,
+        @JsonProperty("refresh_token") String refreshToken
+) {
+}
@@ -0,0 +1,78 @@
+package com.storycut.domain.auth.google;
+
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.PublicJwk;
+import java.security.Key;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * 구글 JWKS 엔드포인트에서 서명 키를 가져오는 구현
+ * 응답의 Cache-Control max-age를 키 세트의 유효 기간으로 사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HttpGoogleSigningKeySource implements GoogleSigningKeySource {
+
+    private static final String GOOGLE_JWKS_URL = "https://www.googleapis.com/oauth2/v3/certs";
+    private static final Duration FETCH_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration DEFAULT_MAX_AGE = Duration.ofHours(1);
+
+    private final WebClient webClient;
+
+    @Override
+    public GoogleSigningKeys fetch() {
+        ResponseEntity<String> response = webClient.get()
+                .uri(GOOGLE_JWKS_URL)
+                .retrieve()
+                .toEntity(String.class)
+                .block(FETCH_TIMEOUT);
+
+        if (response == null || response.getBody() == null) {
+            throw new IllegalStateException("구글 JWKS 응답이 비어 있습니다.");
+        }
+
+        JwkSet jwkSet = Jwks.setParser().build().parse(response.getBody());
+        Map<String, PublicKey> keys = new HashMap<>();
+        for (Jwk<?> jwk : jwkSet.getKeys()) {
+            if (jwk instanceof PublicJwk<?> publicJwk && jwk.getId() != null) {
+                Key key = publicJwk.toKey();
+                keys.put(jwk.getId(), (PublicKey) key);
+            }
+        }
+
+        return new GoogleSigningKeys(keys, parseMaxAge(response.getHeaders()));
+    }
+
+    /**
+     * Cache-Control 헤더의 max-age 추출 (없으면 기본값)
+     */
+    static Duration parseMaxAge(HttpHeaders headers) {
+        String cacheControl = headers.getCacheControl();
+        if (cacheControl == null) {
+            return DEFAULT_MAX_AGE;
+        }
+        for (String directive : cacheControl.split(",")) {
+            String trimmed = directive.trim();
+            if (trimmed.startsWith("max-age=")) {
+                try {
+                    return Duration.ofSeconds(Long.parseLong(trimmed.substring("max-age=".length())));
+                } catch (NumberFormatException e) {
+                    log.debug("잘못된 max-age 값: {}", trimmed);
+                }
+            }
+        }
+        return DEFAULT_MAX_AGE;
+    }
+}
@@ -4,8 +4,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.storycut.domain.auth.model.dto.TokenDto;
 import com.storycut.domain.auth.service.TokenService;
 import com.storycut.domain.auth.util.JWTUtil;
-import com.storycut.domain.member.model.entity.Member;
-import com.storycut.domain.member.repository.MemberRepository;
+import com.storycut.domain.member.model.dto.MemberSnapshot;
+import com.storycut.domain.member.service.MemberCache;
 import com.storycut.global.exception.BusinessException;
 import com.storycut.global.model.dto.BaseResponseStatus;
 import jakarta.servlet.http.HttpServletRequest;
@@ -27,7 +27,7 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
 
     private final JWTUtil jwtUtil;
     private final TokenService tokenService;
-    private final MemberRepository memberRepository;
+    private final MemberCache memberCache;
     private final ObjectMapper objectMapper;
 
     @Override
@@ -44,15 +44,16 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
         // Google의 고유 식별자(sub) 추출
         String providerId = oAuth2User.getAttribute("sub");
 
-        // providerId로 사용자 찾기 (이메일 대신 providerId로 조회)
-        Member member = memberRepository.findByProviderId(providerId)
+        // providerId로 사용자 찾기 (이메일 대신 providerId로 조회, 직전 loadUser에서 채운 캐시 사용)
+        MemberSnapshot member = memberCache.findIdByProviderId(providerId)
+                .flatMap(memberCache::findById)
                 .orElseThrow(() -> new BusinessException(BaseResponseStatus.USER_NOT_FOUND));
         
-        Long memberId = member.getId();
+        Long memberId = member.id();
 
         // 토큰 생성 - memberId 사용
-        String accessToken = jwtUtil.createAccessToken(memberId);
-        String refreshToken = jwtUtil.createRefreshToken(memberId);
+        String accessToken = jwtUtil.createAccessToken(memberId, member.email());
+        String refreshToken = jwtUtil.createRefreshToken(memberId, member.email());
         
         // 리프레시 토큰 저장
         tokenService.saveRefreshToken(memberId, refreshToken);
@@ -2,8 +2,10 @@ package com.storycut.domain.auth.service;
 
 import com.storycut.domain.auth.model.GoogleOAuth2UserInfo;
 import com.storycut.domain.auth.model.OAuth2UserInfo;
+import com.storycut.domain.member.model.dto.MemberSnapshot;
 import com.storycut.domain.member.model.entity.Member;
 import com.storycut.domain.member.repository.MemberRepository;
+import com.storycut.domain.member.service.MemberCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -26,6 +28,7 @@ import java.util.Optional;
 public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequest, OAuth2User> {
 
     private final MemberRepository memberRepository;
+    private final MemberCache memberCache;
 
     @Override
     @Transactional
@@ -68,10 +71,18 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
 
     // 사용자 정보를 저장하거나 업데이트하는 메소드
     @Transactional
-    public Member saveOrUpdateMember(OAuth2UserInfo userInfo) {
+    public MemberSnapshot saveOrUpdateMember(OAuth2UserInfo userInfo) {
         String providerId = userInfo.getId();
         log.info("OAuth2 사용자 정보 처리 - providerId: {}, email: {}", providerId, userInfo.getEmail());
         
+        // 재로그인 시 프로필이 바뀌지 않았으면 캐시된 정보로 바로 반환 (DB 조회/쓰기 없음)
+        Optional<MemberSnapshot> cached = memberCache.findIdByProviderId(providerId)
+                .flatMap(memberCache::findById);
+        if (cached.isPresent()
+                && cached.get().hasSameProfile(userInfo.getEmail(), userInfo.getName(), userInfo.getImageUrl())) {
+            return cached.get();
+        }
+        
         Optional<Member> memberOptional = memberRepository.findByProviderId(providerId);
         
         if (memberOptional.isPresent()) {
@@ -84,7 +95,9 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
             existingMember.updateProfileImg(userInfo.getImageUrl());
             
             log.info("기존 사용자 정보 업데이트 - providerId: {}, memberId: {}", providerId, existingMember.getId());
-            return memberRepository.save(existingMember);
+            Member savedMember = memberRepository.save(existingMember);
+            memberCache.evict(savedMember.getId(), providerId);
+            return MemberSnapshot.from(savedMember);
         } else {
             // 새 회원이면 생성
             Member newMember = Member.builder()
@@ -97,7 +110,7 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
             
             Member savedMember = memberRepository.save(newMember);
             log.info("새 사용자 등록 완료 - providerId: {}, memberId: {}", providerId, savedMember.getId());
-            return savedMember;
+            return MemberSnapshot.from(savedMember);
         }
     }
 }
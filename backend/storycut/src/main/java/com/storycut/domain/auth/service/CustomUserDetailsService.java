@@ -1,31 +1,30 @@
 package com.storycut.domain.auth.service;
 
 import com.storycut.domain.auth.model.CustomUserDetails;
-import com.storycut.domain.member.model.entity.Member;
-import com.storycut.domain.member.repository.MemberRepository;
+import com.storycut.domain.member.model.dto.MemberSnapshot;
+import com.storycut.domain.member.service.MemberCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
-    private final MemberRepository memberRepository;
+    private final MemberCache memberCache;
 
     @Override
-    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String memberId) throws UsernameNotFoundException {
-        Member member = memberRepository.findById(Long.parseLong(memberId))
+        // 인증된 모든 요청에서 호출되므로 캐시된 프로필로 Principal 구성
+        MemberSnapshot member = memberCache.findById(Long.parseLong(memberId))
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다. ID: " + memberId));
         
         // 기본 User 객체 대신 CustomUserDetails 반환
         return new CustomUserDetails(
-                member.getId(),
-                member.getEmail()
+                member.id(),
+                member.email()
         );
     }
 }
\ No newline at end of file
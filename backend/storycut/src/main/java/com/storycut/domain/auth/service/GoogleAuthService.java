@@ -1,23 +1,22 @@
 package com.storycut.domain.auth.service;
 
+import com.storycut.domain.auth.google.GoogleApiClient;
+import com.storycut.domain.auth.google.GoogleIdTokenVerifier;
+import com.storycut.domain.auth.google.GoogleTokenRefreshCoordinator;
+import com.storycut.domain.auth.google.GoogleTokenResponse;
 import com.storycut.domain.auth.model.GoogleOAuth2UserInfo;
 import com.storycut.domain.auth.model.OAuth2UserInfo;
 import com.storycut.domain.auth.model.dto.TokenDto;
 import com.storycut.domain.auth.model.dto.YouTubeAuthResponse;
 import com.storycut.domain.auth.util.JWTUtil;
-import com.storycut.domain.member.model.entity.Member;
+import com.storycut.domain.member.model.dto.MemberSnapshot;
 import com.storycut.global.exception.BusinessException;
 import com.storycut.global.model.dto.BaseResponseStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.reactive.function.BodyInserters;
-import org.springframework.web.reactive.function.client.WebClient;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -34,11 +33,12 @@ public class GoogleAuthService {
     private final JWTUtil jwtUtil;
     private final TokenService tokenService;
     private final CustomOAuth2UserService oAuth2UserService;
+    private final GoogleIdTokenVerifier googleIdTokenVerifier;
+    private final GoogleApiClient googleApiClient;
+    private final GoogleTokenRefreshCoordinator googleTokenRefreshCoordinator;
 
     // 구글 API URL 상수
-    private static final String GOOGLE_TOKEN_INFO_URL = "https://oauth2.googleapis.com/tokeninfo?id_token=";
     private static final String GOOGLE_AUTH_URL = "https://accounts.google.com/o/oauth2/v2/auth";
-    private static final String GOOGLE_TOKEN_URL = "https://oauth2.googleapis.com/token";
     
     // 유튜브 업로드 권한 스코프
     private static final String YOUTUBE_UPLOAD_SCOPE = "https://www.googleapis.com/auth/youtube.upload";
@@ -46,9 +46,6 @@ public class GoogleAuthService {
     @Value("${spring.security.oauth2.client.registration.google.client-id}")
     private String GOOGLE_CLIENT_ID;
     
-    @Value("${spring.security.oauth2.client.registration.google.client-secret}")
-    private String GOOGLE_CLIENT_SECRET;
-    
     @Value("${app.baseUrl}")
     private String BASE_URL;
     
@@ -66,27 +63,18 @@ public class GoogleAuthService {
             if (devMode && "test".equals(idToken)) {
                 tokenInfo = createDummyUserInfo();
             } else {
-                // WebClient를 통해 구글 API 호출하여 ID 토큰 검증
-                WebClient webClient = WebClient.builder().build();
-                tokenInfo = webClient.get()
-                    .uri(GOOGLE_TOKEN_INFO_URL + idToken)
-                    .retrieve()
-                    .bodyToMono(Map.class)
-                    .block();
-                    
-                if (tokenInfo == null) {
-                    throw new BusinessException(BaseResponseStatus.TOKEN_VERIFICATION_FAILED);
-                }
+                // 캐시된 구글 공개키로 ID 토큰 로컬 검증 (서명, 발급자, 대상, 만료)
+                tokenInfo = googleIdTokenVerifier.verify(idToken);
             }
             
             // OAuth2UserInfo 객체 생성 및 회원 정보 저장/갱신
             OAuth2UserInfo userInfo = new GoogleOAuth2UserInfo(tokenInfo);
-            Member member = oAuth2UserService.saveOrUpdateMember(userInfo);
-            Long memberId = member.getId();
+            MemberSnapshot member = oAuth2UserService.saveOrUpdateMember(userInfo);
+            Long memberId = member.id();
             
             // 서버 JWT 토큰 발급 및 저장
-            String accessToken = jwtUtil.createAccessToken(memberId);
-            String refreshToken = jwtUtil.createRefreshToken(memberId);
+            String accessToken = jwtUtil.createAccessToken(memberId, member.email());
+            String refreshToken = jwtUtil.createRefreshToken(memberId, member.email());
             tokenService.saveRefreshToken(memberId, refreshToken);
             
             // JWT 토큰 반환
@@ -95,6 +83,8 @@ public class GoogleAuthService {
                     .refreshToken(refreshToken)
                     .build();
 
+        } catch (BusinessException e) {
+            throw e;
         } catch (Exception e) {
             log.error("구글 로그인 실패", e);
             throw new BusinessException(BaseResponseStatus.GOOGLE_LOGIN_ERROR);
@@ -139,9 +129,8 @@ public class GoogleAuthService {
             String googleAccessToken = "dummy_google_access_token_" + System.currentTimeMillis();
             String googleRefreshToken = "dummy_google_refresh_token_" + System.currentTimeMillis();
             
-            // 사용자 정보 업데이트
-            Member member = tokenService.getMemberById(memberId);
-            member.updateGoogleAccessToken(googleAccessToken);
+            // 사용자 정보 업데이트 (엔티티 조회 없이 단일 UPDATE)
+            tokenService.saveGoogleAccessToken(memberId, googleAccessToken);
             
             // 리프레시 토큰 저장 (암호화 없이)
             tokenService.saveGoogleRefreshToken(memberId, googleRefreshToken);
@@ -152,39 +141,23 @@ public class GoogleAuthService {
         }
         
         try {
-            // Google Token API 호출을 위한 파라미터 준비
-            MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
-            formData.add("client_id", GOOGLE_CLIENT_ID);
-            formData.add("client_secret", GOOGLE_CLIENT_SECRET);
-            formData.add("code", code);
-            formData.add("grant_type", "authorization_code");
-            formData.add("redirect_uri", BASE_URL + "/api/v1/spring/auth/oauth2/callback");
-            
-            // WebClient를 사용하여 Google Token API 호출
-            Map<String, Object> response = WebClient.builder().build()
-                    .post()
-                    .uri(GOOGLE_TOKEN_URL)
-                    .contentType(MediaType.APPLICATION_FORM_URLENCODED)
-                    .body(BodyInserters.fromFormData(formData))
-                    .retrieve()
-                    .bodyToMono(Map.class)
-                    .block();
-            
-            if (response == null || !response.containsKey("access_token") || !response.containsKey("refresh_token")) {
-                throw new BusinessException(BaseResponseStatus.TOKEN_GENERATION_FAILED);
-            }
+            // 공용 외부 호출 클라이언트로 구글 토큰 교환 (타임아웃/벌크헤드 적용)
+            GoogleTokenResponse response = googleApiClient.exchangeAuthorizationCode(
+                    code, BASE_URL + "/api/v1/spring/auth/oauth2/callback");
             
             // 토큰 추출
-            String googleAccessToken = (String) response.get("access_token");
-            String googleRefreshToken = (String) response.get("refresh_token");
+            String googleAccessToken = response.accessToken();
+            String googleRefreshToken = response.refreshToken();
             
-            // 사용자 정보 업데이트
-            Member member = tokenService.getMemberById(memberId);
-            member.updateGoogleAccessToken(googleAccessToken);
+            // 사용자 정보 업데이트 (엔티티 조회 없이 단일 UPDATE)
+            tokenService.saveGoogleAccessToken(memberId, googleAccessToken);
             
             // 리프레시 토큰 저장 (암호화 없이)
             tokenService.saveGoogleRefreshToken(memberId, googleRefreshToken);
             
+            // 발급받은 액세스 토큰을 만료 시각까지 캐시하여 직후 갱신 요청은 구글 호출 없이 처리
+            googleTokenRefreshCoordinator.store(memberId, response);
+            
             return TokenDto.builder()
                     .googleAccessToken(googleAccessToken)
                     .build();
@@ -200,7 +173,6 @@ public class GoogleAuthService {
     /**
      * 구글 액세스 토큰 갱신
      */
-    @Transactional
     public TokenDto refreshGoogleAccessToken(Long memberId) {
         // 구글 액세스 토큰 갱신
         String newGoogleAccessToken = tokenService.refreshGoogleAccessToken(memberId);
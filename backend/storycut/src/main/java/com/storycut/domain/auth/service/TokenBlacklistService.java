@@ -0,0 +1,300 @@
+package com.storycut.domain.auth.service;
+
+import com.storycut.domain.auth.event.AccessTokenRevokedEvent;
+import com.storycut.domain.auth.event.MemberTokensRevokedEvent;
+import com.storycut.domain.auth.util.JWTUtil.TokenVerification;
+import com.storycut.domain.auth.util.TokenDigest;
+import com.storycut.global.util.BloomFilter;
+import com.storycut.global.util.RedisCommands;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 로그아웃된 액세스 토큰 블랙리스트 서비스
+ * <p>
+ * Redis에는 {@code BL:<토큰 다이제스트>} 키로 남은 유효 시간 동안 저장하고, 각 노드는 폐기된 다이제스트를
+ * 로컬 블룸 필터로 유지한다. 요청마다 블룸 필터만 확인하며, "있을 수 있음"으로 판정된 경우에만 Redis를 조회한다.
+ * </p>
+ * <p>
+ * 노드 간 동기화는 {@code auth:blacklist} 채널로 다이제스트를 발행하여 이루어지고, 기동 시와 주기적으로
+ * Redis의 {@code BL:*} 키를 스캔해 필터를 다시 만든다 (만료된 항목 정리 포함).
+ * 폐기를 반영할 때마다 {@link AccessTokenRevokedEvent}를 발행해, 이미 인증을 마친 연결(WebSocket 세션)도 정리되도록 한다.
+ * </p>
+ * <p>
+ * 회원 탈퇴는 토큰 하나가 아니라 그 회원에게 발급된 모든 액세스 토큰(다른 기기 포함)을 폐기한다.
+ * {@code BL:member:<회원 ID>} 키에 폐기 시각을 액세스 토큰 유효 시간 동안 저장하고, 각 노드는 회원 ID -> 폐기 시각을
+ * 메모리에 유지한다. 발급 시각(iat)이 폐기 시각 이전인 토큰은 Redis 조회 없이 차단된다.
+ * 폐기 시각으로부터 액세스 토큰 유효 시간이 지나면 그 이전 토큰은 모두 만료되었으므로 재구성 시 정리한다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class TokenBlacklistService implements MessageListener {
+
+    private static final String TOKEN_BLACKLIST_PREFIX = "BL:";
+    private static final String MEMBER_REVOCATION_PREFIX = "BL:member:";
+    private static final String MEMBER_MESSAGE_PREFIX = "member:";
+    private static final char MESSAGE_SEPARATOR = ':';
+    private static final String BLACKLIST_CHANNEL = "auth:blacklist";
+    private static final int SCAN_COUNT = 1000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisCommands redisCommands;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final long accessTokenValidityMs;
+    private final Counter redisLookupCounter;
+    private final Counter revokedHitCounter;
+
+    private volatile BloomFilter filter;
+    private volatile BloomFilter rebuilding; // 재구성 중 들어온 폐기 항목을 새 필터에도 반영
+
+    // 회원 ID -> 회원 단위 폐기 시각 (이 시각 이전에 발급된 액세스 토큰은 모두 폐기)
+    private final Map<Long, Long> memberCutoffs = new ConcurrentHashMap<>();
+
+    public TokenBlacklistService(
+            RedisTemplate<String, String> redisTemplate,
+            RedisCommands redisCommands,
+            RedisMessageListenerContainer listenerContainer,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.blacklist.expected-insertions:100000}") long expectedInsertions,
+            @Value("${jwt.blacklist.false-positive-rate:0.001}") double falsePositiveRate,
+            @Value("${jwt.access-token-validity}") long accessTokenValidityMs) {
+        this.redisTemplate = redisTemplate;
+        this.redisCommands = redisCommands;
+        this.listenerContainer = listenerContainer;
+        this.eventPublisher = eventPublisher;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.accessTokenValidityMs = accessTokenValidityMs;
+        this.filter = BloomFilter.create(expectedInsertions, falsePositiveRate);
+        this.redisLookupCounter = Counter.builder("jwt.blacklist.redis.lookups")
+                .description("블룸 필터 양성 판정으로 발생한 Redis 조회 수")
+                .register(meterRegistry);
+        this.revokedHitCounter = Counter.builder("jwt.blacklist.revoked.hits")
+                .description("차단된 로그아웃 토큰 요청 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(BLACKLIST_CHANNEL));
+    }
+
+    /**
+     * 액세스 토큰 폐기 - 남은 유효 시간 동안 Redis에 저장하고 다른 노드에 전파
+     *
+     * @param keysToDelete 같은 왕복에서 함께 삭제할 키 (로그아웃 시 리프레시 토큰 등)
+     */
+    public void revoke(String accessToken, long remainingMillis, String... keysToDelete) {
+        if (remainingMillis <= 0) {
+            if (keysToDelete.length > 0) {
+                redisTemplate.delete(List.of(keysToDelete));
+            }
+            return;
+        }
+        String digest = TokenDigest.of(accessToken);
+
+        // DEL + PSETEX + PUBLISH를 한 번의 파이프라인으로 전송
+        redisCommands.pipelined(connection -> {
+            if (keysToDelete.length > 0) {
+                connection.del(keysToDelete);
+            }
+            connection.pSetEx(TOKEN_BLACKLIST_PREFIX + digest, remainingMillis, "logout");
+            connection.publish(BLACKLIST_CHANNEL, digest);
+        });
+        addLocal(TokenDigest.decode(digest));
+        eventPublisher.publishEvent(new AccessTokenRevokedEvent(digest));
+    }
+
+    /**
+     * 회원 단위 폐기 (회원 탈퇴) - 지금까지 발급된 그 회원의 액세스 토큰을 모두 폐기하고 다른 노드에 전파
+     *
+     * @param keysToDelete 같은 왕복에서 함께 삭제할 키 (리프레시 토큰 등)
+     */
+    public void revokeMember(Long memberId, String... keysToDelete) {
+        long cutoff = System.currentTimeMillis();
+
+        // DEL + PSETEX + PUBLISH를 한 번의 파이프라인으로 전송
+        redisCommands.pipelined(connection -> {
+            if (keysToDelete.length > 0) {
+                connection.del(keysToDelete);
+            }
+            connection.pSetEx(MEMBER_REVOCATION_PREFIX + memberId, accessTokenValidityMs, String.valueOf(cutoff));
+            connection.publish(BLACKLIST_CHANNEL, MEMBER_MESSAGE_PREFIX + memberId + MESSAGE_SEPARATOR + cutoff);
+        });
+        memberCutoffs.merge(memberId, cutoff, Math::max);
+        eventPublisher.publishEvent(new MemberTokensRevokedEvent(memberId));
+    }
+
+    /**
+     * 폐기된 토큰 여부 확인 (검증을 마친 토큰)
+     * 회원 단위 폐기는 메모리에서 발급 시각만 비교하고, 토큰 단위 폐기는 블룸 필터 음성이면 Redis 조회 없이 false,
+     * 양성일 때만 Redis로 최종 확인한다.
+     */
+    public boolean isRevoked(String accessToken, TokenVerification verification) {
+        Long memberId = verification.getMemberId();
+        Long cutoff = memberId != null ? memberCutoffs.get(memberId) : null;
+        if (cutoff != null && verification.getIssuedAt() <= cutoff) {
+            revokedHitCounter.increment();
+            return true;
+        }
+        return isTokenRevoked(accessToken);
+    }
+
+    private boolean isTokenRevoked(String accessToken) {
+        byte[] hash = TokenDigest.sha256(accessToken);
+        if (!filter.mightContain(hash)) {
+            return false;
+        }
+
+        redisLookupCounter.increment();
+        String key = TOKEN_BLACKLIST_PREFIX + TokenDigest.encode(hash);
+        try {
+            boolean revoked = Boolean.TRUE.equals(redisTemplate.hasKey(key));
+            if (revoked) {
+                revokedHitCounter.increment();
+            }
+            return revoked;
+        } catch (Exception e) {
+            // 폐기 가능성이 있는 토큰이므로 Redis 장애 시에는 차단 쪽으로 처리
+            log.warn("블랙리스트 조회 실패 - 토큰 차단 처리: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * 다른 노드에서 발행한 폐기 다이제스트 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String digest = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (digest.startsWith(MEMBER_MESSAGE_PREFIX)) {
+            onMemberRevoked(digest);
+            return;
+        }
+        try {
+            addLocal(TokenDigest.decode(digest));
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 블랙리스트 메시지 무시: {}", digest);
+            return;
+        }
+        eventPublisher.publishEvent(new AccessTokenRevokedEvent(digest));
+    }
+
+    private void onMemberRevoked(String body) {
+        int separator = body.indexOf(MESSAGE_SEPARATOR, MEMBER_MESSAGE_PREFIX.length());
+        Long memberId;
+        long cutoff;
+        try {
+            memberId = Long.valueOf(body.substring(MEMBER_MESSAGE_PREFIX.length(), separator));
+            cutoff = Long.parseLong(body.substring(separator + 1));
+        } catch (IndexOutOfBoundsException | NumberFormatException e) {
+            log.warn("잘못된 회원 토큰 폐기 메시지 무시: {}", body);
+            return;
+        }
+        memberCutoffs.merge(memberId, cutoff, Math::max);
+        eventPublisher.publishEvent(new MemberTokensRevokedEvent(memberId));
+    }
+
+    /**
+     * 기동 시 Redis에 남아 있는 블랙리스트로 필터 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * 주기적 재구성 - 만료된 키를 필터에서 제거하고 누락된 메시지를 보정
+     */
+    @Scheduled(fixedDelayString = "${jwt.blacklist.rebuild-interval-ms:600000}",
+            initialDelayString = "${jwt.blacklist.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        BloomFilter next = BloomFilter.create(expectedInsertions, falsePositiveRate);
+        rebuilding = next;
+        int count = 0;
+        List<String> memberKeys = new ArrayList<>();
+        try (Cursor<String> cursor = redisTemplate.scan(
+                ScanOptions.scanOptions().match(TOKEN_BLACKLIST_PREFIX + "*").count(SCAN_COUNT).build())) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                if (key.startsWith(MEMBER_REVOCATION_PREFIX)) {
+                    memberKeys.add(key);
+                    continue;
+                }
+                String digest = key.substring(TOKEN_BLACKLIST_PREFIX.length());
+                try {
+                    next.put(TokenDigest.decode(digest));
+                    count++;
+                } catch (IllegalArgumentException e) {
+                    log.debug("다이제스트 형식이 아닌 블랙리스트 키 건너뜀: {}", digest);
+                }
+            }
+            filter = next;
+            loadMemberCutoffs(memberKeys);
+            log.info("블랙리스트 블룸 필터 재구성 완료 - 항목 수: {}, 폐기된 회원 수: {}", count, memberCutoffs.size());
+        } catch (Exception e) {
+            // 재구성 실패 시 기존 필터를 그대로 사용
+            log.warn("블랙리스트 블룸 필터 재구성 실패: {}", e.getMessage());
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    /**
+     * 회원 단위 폐기 시각 보정 - 누락된 메시지를 Redis 값으로 채우고, 유효 시간이 지나 의미가 없어진 항목은 제거
+     */
+    private void loadMemberCutoffs(List<String> memberKeys) {
+        if (!memberKeys.isEmpty()) {
+            List<String> cutoffs = redisTemplate.opsForValue().multiGet(memberKeys);
+            for (int i = 0; cutoffs != null && i < memberKeys.size(); i++) {
+                try {
+                    Long memberId = Long.valueOf(memberKeys.get(i).substring(MEMBER_REVOCATION_PREFIX.length()));
+                    if (cutoffs.get(i) != null) {
+                        memberCutoffs.merge(memberId, Long.parseLong(cutoffs.get(i)), Math::max);
+                    }
+                } catch (NumberFormatException e) {
+                    log.debug("형식이 맞지 않는 회원 폐기 키 건너뜀: {}", memberKeys.get(i));
+                }
+            }
+        }
+        long expiredBefore = System.currentTimeMillis() - accessTokenValidityMs;
+        memberCutoffs.values().removeIf(cutoff -> cutoff < expiredBefore);
+    }
+
+    /**
+     * 로컬 필터에 추가 - 재구성 중이면 새 필터에도 함께 추가
+     * rebuilding을 먼저 읽어야 교체 직전에 추가된 항목이 유실되지 않는다.
+     */
+    private void addLocal(byte[] hash) {
+        BloomFilter pending = rebuilding;
+        if (pending != null) {
+            pending.put(hash);
+        }
+        filter.put(hash);
+    }
+}
@@ -1,28 +1,25 @@
 package com.storycut.domain.auth.service;
 
+import com.storycut.domain.auth.google.GoogleApiClient;
+import com.storycut.domain.auth.google.GoogleTokenRefreshCoordinator;
+import com.storycut.domain.auth.google.GoogleTokenResponse;
 import com.storycut.domain.auth.model.dto.TokenDto;
 import com.storycut.domain.auth.util.JWTUtil;
-import com.storycut.domain.member.model.entity.Member;
 import com.storycut.domain.member.repository.MemberRepository;
 import com.storycut.global.exception.BusinessException;
 import com.storycut.global.model.dto.BaseResponseStatus;
+import com.storycut.global.util.RedisCommands;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.http.MediaType;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.reactive.function.BodyInserters;
-import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.web.reactive.function.client.WebClientResponseException;
 
-import java.util.Map;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -36,13 +33,16 @@ public class TokenService {
     private final JWTUtil jwtUtil;
     private final MemberRepository memberRepository;
     private final RedisTemplate<String, String> redisTemplate;
+    private final RedisCommands redisCommands;
+    private final TokenBlacklistService tokenBlacklistService;
+    private final GoogleApiClient googleApiClient;
+    private final GoogleTokenRefreshCoordinator googleTokenRefreshCoordinator;
     private final HttpServletRequest request;
     
     // Redis 키 접두사 상수
     private static final String REFRESH_TOKEN_PREFIX = "RT:";
     private static final String GOOGLE_REFRESH_TOKEN_PREFIX = "G_RT:";
     private static final String AUTH_STATE_PREFIX = "STATE:";
-    private static final String TOKEN_BLACKLIST_PREFIX = "BL:";
     
     // 토큰 만료 시간 상수
     @Value("${jwt.refresh-token-validity}")
@@ -55,15 +55,6 @@ public class TokenService {
     
     private static final long AUTH_STATE_EXPIRE_TIME = 10 * 60; // 10분 (초 단위)
     
-    // Google API 상수
-    private static final String GOOGLE_TOKEN_URL = "https://oauth2.googleapis.com/token";
-    
-    @Value("${spring.security.oauth2.client.registration.google.client-id}")
-    private String GOOGLE_CLIENT_ID;
-    
-    @Value("${spring.security.oauth2.client.registration.google.client-secret}")
-    private String GOOGLE_CLIENT_SECRET;
-    
     @Value("${app.dev-mode:false}")
     private boolean devMode;
 
@@ -104,26 +95,17 @@ public class TokenService {
     }
     
     /**
-     * 인증 상태 검증 및 사용자 ID 반환
-     */
-    @Transactional(readOnly = true)
-    public Long validateAuthState(String state) {
-        String memberIdStr = redisTemplate.opsForValue().get(AUTH_STATE_PREFIX + state);
-        return memberIdStr != null ? Long.valueOf(memberIdStr) : null;
-    }
-    
-    /**
-     * 인증 상태 토큰 삭제
+     * 인증 상태 소비 및 사용자 ID 반환
+     * 조회와 삭제를 하나의 원자적 명령으로 처리하여 같은 state로 콜백이 두 번 처리되지 않도록 한다.
      */
-    @Transactional
-    public void deleteAuthState(String state) {
-        if (state != null) {
-            redisTemplate.delete(AUTH_STATE_PREFIX + state);
+    public Long consumeAuthState(String state) {
+        if (state == null) {
+            return null;
         }
+        String memberIdStr = redisCommands.getAndDelete(AUTH_STATE_PREFIX + state);
+        return memberIdStr != null ? Long.valueOf(memberIdStr) : null;
     }
     
-
-    
     /**
      * 구글 리프레시 토큰 존재 여부 확인
      */
@@ -137,8 +119,9 @@ public class TokenService {
      */
     @Transactional
     public TokenDto refreshAccessToken(String refreshToken) {
-        // 리프레시 토큰 상태 확인
-        JWTUtil.TokenStatus tokenStatus = jwtUtil.checkToken(refreshToken);
+        // 리프레시 토큰 상태 확인 (한 번의 파싱으로 상태와 클레임을 함께 얻음)
+        JWTUtil.TokenVerification verification = jwtUtil.verify(refreshToken);
+        JWTUtil.TokenStatus tokenStatus = verification.status();
         
         // 토큰 상태에 따른 처리
         if (tokenStatus == JWTUtil.TokenStatus.EXPIRED) {
@@ -148,16 +131,15 @@ public class TokenService {
         }
 
         // 유효한 토큰에서 멤버 ID 추출
-        Long memberId = jwtUtil.getMemberId(refreshToken);
+        Long memberId = verification.getMemberId();
 
-        // 저장된 리프레시 토큰과 일치하는지 확인
-        String savedRefreshToken = redisTemplate.opsForValue().get(REFRESH_TOKEN_PREFIX + memberId);
-        if (savedRefreshToken == null || !savedRefreshToken.equals(refreshToken)) {
+        // 저장된 리프레시 토큰과 일치하는지 확인 (서버 측에서 원자적으로 비교)
+        if (!redisCommands.compare(REFRESH_TOKEN_PREFIX + memberId, refreshToken)) {
             throw new BusinessException(BaseResponseStatus.REFRESH_TOKEN_INVALID);
         }
 
-        // 새 액세스 토큰 발급
-        String newAccessToken = jwtUtil.createAccessToken(memberId);
+        // 새 액세스 토큰 발급 (리프레시 토큰의 이메일 클레임을 이어받음)
+        String newAccessToken = jwtUtil.createAccessToken(memberId, verification.getEmail());
         
         return TokenDto.builder()
                 .accessToken(newAccessToken)
@@ -167,19 +149,23 @@ public class TokenService {
     
     /**
      * 구글 액세스 토큰 갱신
+     * 유효한 토큰이 캐시되어 있으면 구글 호출/DB 쓰기 없이 바로 반환하고,
+     * 갱신이 필요하면 같은 회원의 동시 요청을 노드 간에도 한 번의 구글 호출로 합친다.
+     * 외부 호출 동안 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 수행한다.
      */
-    @Transactional
     public String refreshGoogleAccessToken(Long memberId) {
+        return googleTokenRefreshCoordinator.getAccessToken(memberId, () -> requestGoogleAccessToken(memberId));
+    }
+
+    /**
+     * 실제 구글 액세스 토큰 갱신 (코디네이터가 갱신이 필요할 때만 호출)
+     */
+    private GoogleTokenResponse requestGoogleAccessToken(Long memberId) {
         // 개발 모드에서는 더미 데이터 반환
         if (devMode) {
             String dummyToken = "dummy_google_token_" + System.currentTimeMillis();
-            
-            // 멤버 엔티티 업데이트
-            Member member = getMemberById(memberId);
-            member.updateGoogleAccessToken(dummyToken);
-            memberRepository.save(member);
-            
-            return dummyToken;
+            saveGoogleAccessToken(memberId, dummyToken);
+            return new GoogleTokenResponse(dummyToken, null, null);
         }
 
         // Redis에서 구글 리프레시 토큰 가져오기
@@ -189,57 +175,22 @@ public class TokenService {
             throw new BusinessException(BaseResponseStatus.GOOGLE_REFRESH_TOKEN_NOT_FOUND);
         }
         
-        try {
-            
-            // Google Token API 호출을 위한 파라미터 준비
-            MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
-            formData.add("client_id", GOOGLE_CLIENT_ID);
-            formData.add("client_secret", GOOGLE_CLIENT_SECRET);
-            formData.add("refresh_token", googleRefreshToken);
-            formData.add("grant_type", "refresh_token");
-            
-            // WebClient를 사용하여 Google Token API 호출
-            WebClient webClient = WebClient.builder().build();
-            Map<String, Object> response = webClient.post()
-                    .uri(GOOGLE_TOKEN_URL)
-                    .contentType(MediaType.APPLICATION_FORM_URLENCODED)
-                    .body(BodyInserters.fromFormData(formData))
-                    .retrieve()
-                    .bodyToMono(Map.class)
-                    .block();
-            
-            if (response == null || !response.containsKey("access_token")) {
-                throw new BusinessException(BaseResponseStatus.GOOGLE_TOKEN_REFRESH_FAILED);
-            }
-
-            String newGoogleAccessToken = (String) response.get("access_token");
+        // 공용 외부 호출 클라이언트로 구글 토큰 갱신 (타임아웃/벌크헤드 적용, 오류는 BusinessException으로 변환)
+        GoogleTokenResponse response = googleApiClient.refreshAccessToken(googleRefreshToken);
 
-            // 새 액세스 토큰을 Member 엔티티에 저장
-            Member member = getMemberById(memberId);
-            member.updateGoogleAccessToken(newGoogleAccessToken);
-            memberRepository.save(member);
+        // 새 액세스 토큰을 Member 엔티티에 저장 (실제로 갱신된 경우에만)
+        saveGoogleAccessToken(memberId, response.accessToken());
 
-            return newGoogleAccessToken;
-        } catch (WebClientResponseException e) {
-            // Google API 응답 오류 처리
-            log.error("구글 토큰 갱신 API 오류: {}", e.getMessage());
+        return response;
+    }
 
-            if (e.getStatusCode().is4xxClientError()) {
-                // 401 또는 400 오류가 발생하면 리프레시 토큰이 유효하지 않거나 만료된 것으로 판단
-                if (e.getStatusCode().value() == 400 && e.getResponseBodyAsString().contains("invalid_grant")) {
-                    // 'invalid_grant' 오류는 보통 리프레시 토큰이 만료되었거나 취소되었음을 의미
-                    throw new BusinessException(BaseResponseStatus.GOOGLE_REFRESH_TOKEN_EXPIRED);
-                }
-                // 그 외 클라이언트 오류는 액세스 토큰 만료로 처리
-                throw new BusinessException(BaseResponseStatus.GOOGLE_ACCESS_TOKEN_EXPIRED);
-            }
-            // 5xx 등 서버 오류는 일반 갱신 실패로 처리
-            throw new BusinessException(BaseResponseStatus.GOOGLE_TOKEN_REFRESH_FAILED);
-        } catch (BusinessException e) {
-            throw e;
-        } catch (Exception e) {
-            log.error("구글 액세스 토큰 갱신 중 오류 발생", e);
-            throw new BusinessException(BaseResponseStatus.GOOGLE_TOKEN_REFRESH_FAILED);
+    /**
+     * 구글 액세스 토큰 저장 (엔티티 조회 없이 단일 UPDATE, 캐시된 프로필에는 포함되지 않으므로 무효화 불필요)
+     */
+    @Transactional
+    public void saveGoogleAccessToken(Long memberId, String googleAccessToken) {
+        if (memberRepository.updateGoogleAccessToken(memberId, googleAccessToken) == 0) {
+            throw new BusinessException(BaseResponseStatus.USER_NOT_FOUND);
         }
     }
 
@@ -248,39 +199,39 @@ public class TokenService {
      */
     @Transactional
     public void logout(Long memberId) {
-        // Redis에서 리프레시 토큰 삭제
-        redisTemplate.delete(REFRESH_TOKEN_PREFIX + memberId);
-        
-        // 현재 요청에서 토큰 추출
-        String accessToken = jwtUtil.resolveToken(request);
-        
-        if (accessToken != null) {
-            JWTUtil.TokenStatus tokenStatus = jwtUtil.checkToken(accessToken);
-            
-            // 액세스 토큰 블랙리스트에 추가 (남은 유효 시간동안)
-            if (tokenStatus == JWTUtil.TokenStatus.VALID) {
-                long expiration = jwtUtil.getExpirationTime(accessToken) - System.currentTimeMillis();
-                if (expiration > 0) {
-                    redisTemplate.opsForValue().set(
-                            TOKEN_BLACKLIST_PREFIX + accessToken,
-                            "logout",
-                            expiration,
-                            TimeUnit.MILLISECONDS
-                    );
-                    log.info("액세스 토큰 블랙리스트 추가 - 사용자 ID: {}, 만료까지 남은 시간: {}ms", memberId, expiration);
-                }
-            }
-        }
+        revokeCurrentAccessToken(memberId, REFRESH_TOKEN_PREFIX + memberId);
         
         log.info("사용자 로그아웃 처리 완료 - ID: {}", memberId);
     }
 
     /**
-     * ID로 회원 조회
+     * 회원 탈퇴 시 토큰 폐기 - 서비스/구글 리프레시 토큰 삭제와 회원 단위 액세스 토큰 폐기를 즉시 처리
+     * 액세스 토큰은 서명된 클레임만으로 인증되므로, 다른 기기의 토큰까지 폐기하지 않으면 탈퇴 후에도 만료 시까지 사용할 수 있다.
      */
-    @Transactional(readOnly = true)
-    public Member getMemberById(Long memberId) {
-        return memberRepository.findById(memberId)
-                .orElseThrow(() -> new BusinessException(BaseResponseStatus.USER_NOT_FOUND));
+    public void revokeAllTokens(Long memberId) {
+        tokenBlacklistService.revokeMember(memberId,
+                REFRESH_TOKEN_PREFIX + memberId, GOOGLE_REFRESH_TOKEN_PREFIX + memberId);
+        log.info("회원 단위 액세스 토큰 폐기 - 사용자 ID: {}", memberId);
+    }
+
+    /**
+     * 현재 요청의 액세스 토큰을 남은 유효 시간 동안 블랙리스트에 추가하고, 주어진 키를 같은 왕복에서 삭제
+     */
+    private void revokeCurrentAccessToken(Long memberId, String... keysToDelete) {
+        // 현재 요청에서 토큰 추출
+        String accessToken = jwtUtil.resolveToken(request);
+        JWTUtil.TokenVerification verification = accessToken != null
+                ? jwtUtil.verify(accessToken)
+                : JWTUtil.TokenVerification.invalid();
+        
+        if (verification.isValid()) {
+            // 리프레시 토큰 삭제 + 액세스 토큰 블랙리스트 추가 (남은 유효 시간동안)를 한 번의 왕복으로 처리
+            long expiration = verification.getExpirationTime() - System.currentTimeMillis();
+            tokenBlacklistService.revoke(accessToken, expiration, keysToDelete);
+            log.info("액세스 토큰 블랙리스트 추가 - 사용자 ID: {}, 만료까지 남은 시간: {}ms", memberId, expiration);
+        } else {
+            // Redis에서 리프레시 토큰 삭제
+            redisTemplate.delete(List.of(keysToDelete));
+        }
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.storycut.domain.auth.util;
 
+import com.storycut.domain.auth.model.CustomUserDetails;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -25,6 +26,7 @@ public class JWTUtil {
 
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
+    private static final String EMAIL_CLAIM = "email";
 
     @Value("${jwt.access-token-validity}")
     private long ACCESS_TOKEN_EXPIRE_TIME; // application-secret.yml에서 설정
@@ -33,16 +35,19 @@ public class JWTUtil {
     private long REFRESH_TOKEN_EXPIRE_TIME; // application-secret.yml에서 설정
 
     private final UserDetailsService userDetailsService;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Value("${jwt.secret}")
     private String secretKey;
 
     private SecretKey key;
+    private JwtParser jwtParser; // 불변 객체이므로 한 번 생성 후 모든 스레드에서 재사용
 
     @PostConstruct
     public void init() {
         byte[] keyBytes = secretKey.getBytes(StandardCharsets.UTF_8);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parser().verifyWith(key).build();
     }
 
     // 토큰 상태를 나타내는 열거형
@@ -52,25 +57,81 @@ public class JWTUtil {
         INVALID     // 유효하지 않은 토큰 (서명 불일치, 형식 오류 등)
     }
 
+    /**
+     * 토큰 검증 결과 - 상태, 클레임, 만료 시각을 한 번의 파싱으로 담아 반환
+     * <p>
+     * 유효하지 않은 토큰은 claims가 null이며, 만료된 토큰은 만료 예외에 포함된 클레임을 그대로 담는다.
+     * </p>
+     */
+    public record TokenVerification(TokenStatus status, Claims claims) {
+
+        private static final TokenVerification INVALID = new TokenVerification(TokenStatus.INVALID, null);
+
+        public static TokenVerification invalid() {
+            return INVALID;
+        }
+
+        public boolean isValid() {
+            return status == TokenStatus.VALID;
+        }
+
+        public Long getMemberId() {
+            return claims != null ? Long.valueOf(claims.getSubject()) : null;
+        }
+
+        public String getEmail() {
+            return claims != null ? claims.get(EMAIL_CLAIM, String.class) : null;
+        }
+
+        public long getExpirationTime() {
+            return claims != null && claims.getExpiration() != null ? claims.getExpiration().getTime() : 0L;
+        }
+
+        /**
+         * 발급 시각 (epoch ms, 초 단위로 잘림) - 발급 시각 클레임이 없으면 0
+         */
+        public long getIssuedAt() {
+            return claims != null && claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() : 0L;
+        }
+    }
+
     /**
      * Access 토큰 생성
      */
     public String createAccessToken(Long memberId) {
-        return createToken(String.valueOf(memberId), ACCESS_TOKEN_EXPIRE_TIME);
+        return createAccessToken(memberId, null);
+    }
+
+    /**
+     * Access 토큰 생성 (이메일 클레임 포함 - 인증 시 DB 조회 생략용)
+     */
+    public String createAccessToken(Long memberId, String email) {
+        return createToken(String.valueOf(memberId), email, ACCESS_TOKEN_EXPIRE_TIME);
     }
 
     /**
      * Refresh 토큰 생성
      */
     public String createRefreshToken(Long memberId) {
-        return createToken(String.valueOf(memberId), REFRESH_TOKEN_EXPIRE_TIME);
+        return createRefreshToken(memberId, null);
+    }
+
+    /**
+     * Refresh 토큰 생성 (이메일 클레임 포함 - 액세스 토큰 재발급 시 그대로 이어받음)
+     */
+    public String createRefreshToken(Long memberId, String email) {
+        return createToken(String.valueOf(memberId), email, REFRESH_TOKEN_EXPIRE_TIME);
     }
 
     /**
      * 토큰 생성 공통 메소드
      */
-    private String createToken(String subject, long expireTime) {
-        Claims claims = Jwts.claims().subject(subject).build();
+    private String createToken(String subject, String email, long expireTime) {
+        ClaimsBuilder claimsBuilder = Jwts.claims().subject(subject);
+        if (StringUtils.hasText(email)) {
+            claimsBuilder.add(EMAIL_CLAIM, email);
+        }
+        Claims claims = claimsBuilder.build();
         Date now = new Date();
         Date expiredDate = new Date(now.getTime() + expireTime);
 
@@ -105,15 +166,31 @@ public class JWTUtil {
      * 토큰 상태 확인 (유효, 만료, 유효하지 않음)
      */
     public TokenStatus checkToken(String token) {
+        return verify(token).status();
+    }
+
+    /**
+     * 토큰을 한 번만 파싱하여 상태와 클레임을 함께 반환
+     * 서명 검증은 이 메서드에서만 수행하고, 이후 필요한 값은 결과의 클레임에서 꺼내 쓴다.
+     * 이미 검증된 토큰은 캐시된 클레임을 반환하여 서명 검증과 디코딩을 생략한다.
+     */
+    public TokenVerification verify(String token) {
+        String cacheKey = verifiedTokenCache.keyOf(token);
+        Claims cached = verifiedTokenCache.get(cacheKey);
+        if (cached != null) {
+            return new TokenVerification(TokenStatus.VALID, cached);
+        }
+
         try {
-            Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
-            return TokenStatus.VALID;
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+            verifiedTokenCache.put(cacheKey, claims);
+            return new TokenVerification(TokenStatus.VALID, claims);
         } catch (ExpiredJwtException e) {
             log.debug("만료된 JWT 토큰: {}", e.getMessage());
-            return TokenStatus.EXPIRED;
+            return new TokenVerification(TokenStatus.EXPIRED, e.getClaims());
         } catch (JwtException | IllegalArgumentException e) {
             log.debug("유효하지 않은 JWT 토큰: {}", e.getMessage());
-            return TokenStatus.INVALID;
+            return TokenVerification.invalid();
         }
     }
 
@@ -121,9 +198,7 @@ public class JWTUtil {
      * 토큰에서 멤버 ID 추출
      */
     public Long getMemberId(String token) {
-        String memberId = Jwts.parser()
-                .verifyWith(key)
-                .build()
+        String memberId = jwtParser
                 .parseSignedClaims(token)
                 .getPayload()
                 .getSubject();
@@ -138,14 +213,27 @@ public class JWTUtil {
         UserDetails userDetails = userDetailsService.loadUserByUsername(this.getMemberId(token).toString());
         return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
     }
+
+    /**
+     * 검증된 클레임으로 인증 객체 생성
+     * 서명된 클레임에 회원 ID와 이메일이 모두 있으면 DB 조회 없이 principal을 만들고,
+     * 이메일 클레임이 없는 이전 토큰만 회원 테이블을 조회한다.
+     */
+    public Authentication getAuthentication(TokenVerification verification) {
+        Long memberId = verification.getMemberId();
+        String email = verification.getEmail();
+
+        UserDetails userDetails = email != null
+                ? new CustomUserDetails(memberId, email)
+                : userDetailsService.loadUserByUsername(memberId.toString());
+        return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+    }
     
     /**
      * 토큰 만료 시간 반환
      */
     public long getExpirationTime(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(key)
-                .build()
+        Claims claims = jwtParser
                 .parseSignedClaims(token)
                 .getPayload();
         
@@ -0,0 +1,57 @@
+package com.storycut.domain.auth.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * JWT 문자열의 SHA-256 다이제스트 유틸
+ * <p>
+ * 수백 바이트짜리 토큰 원문 대신 43자 길이의 Base64URL 다이제스트를 캐시/Redis 키로 사용한다.
+ * </p>
+ */
+public final class TokenDigest {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    });
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private TokenDigest() {
+    }
+
+    /**
+     * 토큰의 SHA-256 다이제스트 (32바이트)
+     */
+    public static byte[] sha256(String token) {
+        return SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * 토큰의 다이제스트를 Base64URL 문자열로 반환
+     */
+    public static String of(String token) {
+        return encode(sha256(token));
+    }
+
+    /**
+     * 다이제스트 바이트 배열을 Base64URL 문자열로 변환
+     */
+    public static String encode(byte[] digest) {
+        return ENCODER.encodeToString(digest);
+    }
+
+    /**
+     * Base64URL 다이제스트 문자열을 바이트 배열로 복원
+     */
+    public static byte[] decode(String digest) {
+        return DECODER.decode(digest);
+    }
+}
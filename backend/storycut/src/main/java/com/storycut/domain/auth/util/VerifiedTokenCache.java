@@ -0,0 +1,123 @@
+package com.storycut.domain.auth.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서명 검증을 통과한 JWT 클레임 캐시
+ * <p>
+ * 같은 액세스 토큰이 수명 동안 반복 전송되므로, 토큰 다이제스트를 키로 검증된 클레임을 보관해
+ * 재요청 시 서명 검증과 Base64/JSON 디코딩을 생략한다. 항목은 토큰 자체의 exp 시각에 맞춰 만료되며
+ * 최대 크기를 넘으면 자주 쓰이지 않는 항목부터 제거된다.
+ * </p>
+ * <p>
+ * {@code jwt.cache.enabled=false}로 끄면 항상 미스로 동작하여 캐시 유무에 따른 지연 시간 비교가 가능하다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    private final boolean enabled;
+    private final Cache<String, Claims> cache;
+
+    public VerifiedTokenCache(
+            @Value("${jwt.cache.enabled:true}") boolean enabled,
+            @Value("${jwt.cache.max-size:10000}") long maxSize,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new ClaimsExpiry())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verified-token");
+        log.info("JWT 검증 캐시 설정 - enabled: {}, maxSize: {}", enabled, maxSize);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 캐시 키 생성 - 캐시가 꺼져 있으면 다이제스트 계산도 생략하고 null 반환
+     */
+    public String keyOf(String token) {
+        return enabled ? TokenDigest.of(token) : null;
+    }
+
+    /**
+     * 아직 만료되지 않은 검증 클레임 조회
+     */
+    public Claims get(String key) {
+        if (key == null) {
+            return null;
+        }
+        Claims claims = cache.getIfPresent(key);
+        if (claims == null) {
+            return null;
+        }
+        // 만료 스케줄링 정밀도와 무관하게 exp가 지난 항목은 절대 반환하지 않음
+        if (isExpired(claims)) {
+            cache.invalidate(key);
+            return null;
+        }
+        return claims;
+    }
+
+    /**
+     * 검증된 클레임 저장
+     */
+    public void put(String key, Claims claims) {
+        if (key == null || claims.getExpiration() == null || isExpired(claims)) {
+            return;
+        }
+        cache.put(key, claims);
+    }
+
+    /**
+     * 특정 토큰 항목 제거 (로그아웃 등)
+     */
+    public void invalidate(String key) {
+        if (key != null) {
+            cache.invalidate(key);
+        }
+    }
+
+    private static boolean isExpired(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return expiration == null || expiration.getTime() <= System.currentTimeMillis();
+    }
+
+    /**
+     * 항목별 만료 시간을 토큰의 exp까지 남은 시간으로 설정
+     */
+    private static class ClaimsExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0L));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
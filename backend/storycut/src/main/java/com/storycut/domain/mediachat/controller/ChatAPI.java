@@ -1,8 +1,10 @@
 package com.storycut.domain.mediachat.controller;
 
 import com.storycut.domain.auth.model.CustomUserDetails;
+import com.storycut.domain.mediachat.dto.query.ChatDirection;
 import com.storycut.domain.mediachat.dto.request.ChatMessageRequest;
 import com.storycut.domain.mediachat.dto.response.ChatMessageResponse;
+import com.storycut.domain.mediachat.dto.response.ChatSliceResponse;
 import com.storycut.global.model.dto.BaseResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -44,6 +46,7 @@ public interface ChatAPI {
             content = @Content(schema = @Schema(implementation = BaseResponse.class))),
         @ApiResponse(responseCode = "400", description = "입력값을 확인해주세요. (400)"),
         @ApiResponse(responseCode = "401", description = "인증이 필요합니다. (401)"),
+        @ApiResponse(responseCode = "403", description = "공유방 참여자가 아닙니다. (2007)"),
         @ApiResponse(responseCode = "404", description = "해당 방이 존재하지 않습니다. (2000)")
     })
     @PostMapping("/")
@@ -63,14 +66,40 @@ public interface ChatAPI {
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "요청에 성공하였습니다. (200)",
             content = @Content(schema = @Schema(implementation = BaseResponse.class))),
+        @ApiResponse(responseCode = "403", description = "공유방 참여자가 아닙니다. (2007)"),
         @ApiResponse(responseCode = "404", description = "해당 방이 존재하지 않습니다. (2000)")
     })
     @GetMapping("/{roomId}")
     ResponseEntity<BaseResponse<List<ChatMessageResponse>>> getChatMessages(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails authUser,
             @Parameter(description = "메시지를 조회할 방 ID", required = true) @PathVariable Long roomId,
             @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size);
 
+    /**
+     * 커서 기반 채팅 메시지 목록 조회 API
+     */
+    @Operation(
+        summary = "공유방 비디오 목록 커서 조회",
+        description = "특정 방의 공유된 비디오를 커서 기준으로 조회합니다. 응답의 nextCursor를 전달하면 이어서 조회하며, "
+            + "direction=OLDER는 이전 메시지를 최신순으로, NEWER는 이후 메시지를 오래된 순으로 반환합니다.",
+        security = @SecurityRequirement(name = "JWT")
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "요청에 성공하였습니다. (200)",
+            content = @Content(schema = @Schema(implementation = BaseResponse.class))),
+        @ApiResponse(responseCode = "400", description = "채팅 목록 커서가 유효하지 않습니다. (5003)"),
+        @ApiResponse(responseCode = "403", description = "공유방 참여자가 아닙니다. (2007)"),
+        @ApiResponse(responseCode = "404", description = "해당 방이 존재하지 않습니다. (2000)")
+    })
+    @GetMapping("/{roomId}/cursor")
+    ResponseEntity<BaseResponse<ChatSliceResponse>> getChatMessagesByCursor(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails authUser,
+            @Parameter(description = "메시지를 조회할 방 ID", required = true) @PathVariable Long roomId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 조회 시 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "조회 방향 (OLDER, NEWER)") @RequestParam(defaultValue = "OLDER") ChatDirection direction,
+            @Parameter(description = "조회 개수 (최대 100)") @RequestParam(defaultValue = "10") int size);
+
     /**
      * 채팅 메시지 목록 조회 API (페이징)
      */
@@ -2,7 +2,9 @@ package com.storycut.domain.mediachat.controller;
 
 import com.storycut.domain.auth.model.CustomUserDetails;
 import com.storycut.domain.mediachat.dto.response.ChatMessageResponse;
+import com.storycut.domain.mediachat.dto.response.ChatSliceResponse;
 import com.storycut.domain.mediachat.service.ChatService;
+import com.storycut.domain.mediachat.dto.query.ChatDirection;
 import com.storycut.domain.mediachat.dto.request.ChatMessageRequest;
 import com.storycut.global.model.dto.BaseResponse;
 import lombok.RequiredArgsConstructor;
@@ -37,11 +39,28 @@ public class ChatController implements ChatAPI {
      */
     @Override
     public ResponseEntity<BaseResponse<List<ChatMessageResponse>>> getChatMessages(
+            CustomUserDetails authUser,
             Long roomId,
             int page,
             int size) {
 
-        List<ChatMessageResponse> response = chatService.getChatMessages(roomId, page, size);
+        List<ChatMessageResponse> response = chatService.getChatMessages(roomId, authUser.getMemberId(), page, size);
+        return ResponseEntity.ok(new BaseResponse<>(response));
+    }
+
+    /**
+     * 커서 기반 채팅 메시지 목록 조회 API
+     */
+    @Override
+    public ResponseEntity<BaseResponse<ChatSliceResponse>> getChatMessagesByCursor(
+            CustomUserDetails authUser,
+            Long roomId,
+            String cursor,
+            ChatDirection direction,
+            int size) {
+
+        ChatSliceResponse response = chatService.getChatMessagesByCursor(
+                roomId, authUser.getMemberId(), cursor, direction, size);
         return ResponseEntity.ok(new BaseResponse<>(response));
     }
 
@@ -0,0 +1,48 @@
+package com.storycut.domain.mediachat.dto.query;
+
+import com.storycut.domain.mediachat.model.ChatMessage;
+import com.storycut.global.exception.BusinessException;
+import com.storycut.global.model.dto.BaseResponseStatus;
+import org.bson.types.ObjectId;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+
+/**
+ * 채팅 목록 키셋 커서 - 기준 메시지의 (생성 시각, 문서 ID)
+ * 생성 시각은 MongoDB Date와 같은 밀리초 정밀도로 담고, 클라이언트에는 base64url 문자열("epochMillis:objectId")로 전달한다.
+ */
+public record ChatCursor(long createdAtMillis, ObjectId id) {
+
+    private static final String SEPARATOR = ":";
+
+    public static ChatCursor from(ChatMessage message) {
+        // MongoDB는 LocalDateTime을 시스템 시간대 기준 Date로 저장하므로 같은 시간대로 변환
+        long millis = message.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return new ChatCursor(millis, new ObjectId(message.getId()));
+    }
+
+    public LocalDateTime createdAt() {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(createdAtMillis), ZoneId.systemDefault());
+    }
+
+    public String encode() {
+        String raw = createdAtMillis + SEPARATOR + id.toHexString();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ChatCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new ChatCursor(
+                    Long.parseLong(raw.substring(0, separator)),
+                    new ObjectId(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new BusinessException(BaseResponseStatus.INVALID_CHAT_CURSOR);
+        }
+    }
+}
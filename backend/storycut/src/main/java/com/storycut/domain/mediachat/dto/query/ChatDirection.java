@@ -0,0 +1,9 @@
+package com.storycut.domain.mediachat.dto.query;
+
+/**
+ * 채팅 목록 커서 조회 방향
+ * OLDER: 커서보다 오래된 메시지를 최신순으로, NEWER: 커서보다 새로운 메시지를 오래된 순으로 조회
+ */
+public enum ChatDirection {
+    OLDER, NEWER
+}
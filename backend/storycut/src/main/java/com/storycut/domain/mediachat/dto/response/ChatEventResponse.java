@@ -0,0 +1,29 @@
+package com.storycut.domain.mediachat.dto.response;
+
+/**
+ * 공유방 구독자에게 전달되는 채팅 이벤트
+ *
+ * @param type 이벤트 종류 (CREATED, DELETED)
+ * @param roomId 공유방 ID
+ * @param chatId 대상 채팅 메시지 ID
+ * @param message 생성된 메시지 (DELETED 이벤트는 null)
+ */
+public record ChatEventResponse(
+        Type type,
+        Long roomId,
+        String chatId,
+        ChatMessageResponse message
+) {
+
+    public enum Type {
+        CREATED, DELETED
+    }
+
+    public static ChatEventResponse created(ChatMessageResponse message) {
+        return new ChatEventResponse(Type.CREATED, message.getRoomId(), message.getId(), message);
+    }
+
+    public static ChatEventResponse deleted(Long roomId, String chatId) {
+        return new ChatEventResponse(Type.DELETED, roomId, chatId, null);
+    }
+}
@@ -2,14 +2,19 @@ package com.storycut.domain.mediachat.dto.response;
 
 import com.storycut.domain.mediachat.model.ChatMessage;
 import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 /**
  * 채팅 메시지 응답 DTO
  */
 @Getter
 @Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class ChatMessageResponse {
 
     private String id;
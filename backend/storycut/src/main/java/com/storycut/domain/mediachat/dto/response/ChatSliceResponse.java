@@ -0,0 +1,17 @@
+package com.storycut.domain.mediachat.dto.response;
+
+import java.util.List;
+
+/**
+ * 채팅 목록 커서 조회 응답 (전체 개수 조회 없이 다음 목록 존재 여부만 제공)
+ *
+ * @param messages 조회한 메시지 (OLDER는 최신순, NEWER는 오래된 순)
+ * @param nextCursor 같은 방향으로 이어서 조회할 때 전달할 커서 (조회 결과가 없으면 요청 커서 그대로)
+ * @param hasMore 같은 방향으로 더 조회할 메시지가 있는지 여부
+ */
+public record ChatSliceResponse(
+        List<ChatMessageResponse> messages,
+        String nextCursor,
+        boolean hasMore
+) {
+}
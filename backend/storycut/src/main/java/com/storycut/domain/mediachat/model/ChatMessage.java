@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -20,6 +21,7 @@ import org.springframework.data.mongodb.core.mapping.Document;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "chat_messages")
+@CompoundIndex(name = "idx_room_id_created_at_id", def = "{'roomId': 1, 'createdAt': -1, '_id': -1}")
 public class ChatMessage {
 
     @Id
@@ -28,6 +30,7 @@ public class ChatMessage {
     @Indexed
     private Long roomId;
 
+    @Indexed
     private Long senderId;
 
     private String videoId;
@@ -0,0 +1,24 @@
+package com.storycut.domain.mediachat.repository;
+
+import com.storycut.domain.mediachat.dto.query.ChatCursor;
+import com.storycut.domain.mediachat.dto.query.ChatDirection;
+import com.storycut.domain.mediachat.model.ChatMessage;
+import java.util.List;
+
+/**
+ * 채팅 메시지 키셋(커서) 조회 - MongoTemplate으로 구현
+ */
+public interface ChatMessageCursorRepository {
+
+    /**
+     * 커서 기준으로 한 방향의 메시지를 최대 limit개 조회합니다.
+     * {roomId: 1, createdAt: -1, _id: -1} 인덱스 범위 탐색만 하므로 조회 깊이와 무관하게 비용이 일정합니다.
+     *
+     * @param roomId 조회할 Room ID
+     * @param cursor 기준 커서 (null이면 OLDER는 최신부터, NEWER는 가장 오래된 것부터)
+     * @param direction 조회 방향
+     * @param limit 최대 조회 개수
+     * @return OLDER는 최신순, NEWER는 오래된 순으로 정렬된 메시지 목록
+     */
+    List<ChatMessage> findByRoomIdAndCursor(Long roomId, ChatCursor cursor, ChatDirection direction, int limit);
+}
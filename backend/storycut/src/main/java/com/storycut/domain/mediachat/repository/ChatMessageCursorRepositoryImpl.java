@@ -0,0 +1,39 @@
+package com.storycut.domain.mediachat.repository;
+
+import com.storycut.domain.mediachat.dto.query.ChatCursor;
+import com.storycut.domain.mediachat.dto.query.ChatDirection;
+import com.storycut.domain.mediachat.model.ChatMessage;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+@RequiredArgsConstructor
+public class ChatMessageCursorRepositoryImpl implements ChatMessageCursorRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<ChatMessage> findByRoomIdAndCursor(Long roomId, ChatCursor cursor, ChatDirection direction, int limit) {
+        boolean older = direction == ChatDirection.OLDER;
+        Criteria criteria = Criteria.where("roomId").is(roomId);
+
+        if (cursor != null) {
+            // (createdAt, _id) 튜플 비교: 생성 시각이 같은 메시지는 _id로 순서를 정한다
+            Criteria sameTime = Criteria.where("createdAt").is(cursor.createdAt());
+            criteria = criteria.orOperator(
+                    older ? Criteria.where("createdAt").lt(cursor.createdAt())
+                          : Criteria.where("createdAt").gt(cursor.createdAt()),
+                    older ? sameTime.and("_id").lt(cursor.id())
+                          : sameTime.and("_id").gt(cursor.id()));
+        }
+
+        Sort.Direction sortDirection = older ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Query query = Query.query(criteria)
+                .with(Sort.by(sortDirection, "createdAt").and(Sort.by(sortDirection, "_id")))
+                .limit(limit);
+        return mongoTemplate.find(query, ChatMessage.class);
+    }
+}
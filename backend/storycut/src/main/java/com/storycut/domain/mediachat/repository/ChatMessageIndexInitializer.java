@@ -0,0 +1,42 @@
+package com.storycut.domain.mediachat.repository;
+
+import com.storycut.domain.mediachat.model.ChatMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 메시지 컬렉션 인덱스 보장
+ * <p>
+ * 자동 인덱스 생성(auto-index-creation)은 기본적으로 꺼져 있으므로, 커서 조회가 의존하는 복합 인덱스를
+ * 기동 시 직접 생성한다. 이미 같은 정의의 인덱스가 있으면 MongoDB가 아무 작업도 하지 않는다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageIndexInitializer {
+
+    static final String ROOM_CREATED_AT_INDEX = "idx_room_id_created_at_id";
+
+    private final MongoTemplate mongoTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        try {
+            mongoTemplate.indexOps(ChatMessage.class).ensureIndex(new Index()
+                    .on("roomId", Sort.Direction.ASC)
+                    .on("createdAt", Sort.Direction.DESC)
+                    .on("_id", Sort.Direction.DESC)
+                    .named(ROOM_CREATED_AT_INDEX));
+        } catch (RuntimeException e) {
+            // 인덱스가 없어도 조회는 동작하므로 기동은 계속한다
+            log.warn("채팅 메시지 인덱스 생성 실패: {}", e.getMessage());
+        }
+    }
+}
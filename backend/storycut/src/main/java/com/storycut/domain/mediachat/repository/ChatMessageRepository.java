@@ -3,9 +3,12 @@ package com.storycut.domain.mediachat.repository;
 import com.storycut.domain.mediachat.model.ChatMessage;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -15,7 +18,7 @@ import org.springframework.stereotype.Repository;
  * </p>
  */
 @Repository
-public interface ChatMessageRepository extends MongoRepository<ChatMessage, String> {
+public interface ChatMessageRepository extends MongoRepository<ChatMessage, String>, ChatMessageCursorRepository {
 
     /**
      * Room ID로 채팅 메시지 목록을 조회합니다.
@@ -27,14 +30,21 @@ public interface ChatMessageRepository extends MongoRepository<ChatMessage, Stri
 
     /**
      * Room ID로 채팅 메시지 목록을 페이징하여 조회합니다.
-     * 시간 역순으로 정렬됩니다.
+     * 시간 역순으로 정렬되며, 전체 개수 조회(count) 없이 다음 페이지 존재 여부만 확인합니다.
      *
      * @param roomId 조회할 Room ID
      * @param pageable 페이징 정보
-     * @return 해당 Room의 채팅 메시지 페이지
+     * @return 해당 Room의 채팅 메시지 슬라이스
      */
-    Page<ChatMessage> findByRoomIdOrderByCreatedAtDesc(Long roomId, Pageable pageable);
+    Slice<ChatMessage> findByRoomIdOrderByCreatedAtDesc(Long roomId, Pageable pageable);
 
+    /**
+     * Room ID로 가장 최근에 공유된 비디오 메시지를 조회합니다.
+     *
+     * @param roomId 조회할 Room ID
+     * @return 가장 최근 비디오 메시지 (없으면 빈 값)
+     */
+    Optional<ChatMessage> findFirstByRoomIdAndVideoIdNotNullOrderByCreatedAtDesc(Long roomId);
 
     /**
      * Room ID로 특정 시간 이후의 채팅 메시지 목록을 조회합니다.
@@ -53,6 +63,28 @@ public interface ChatMessageRepository extends MongoRepository<ChatMessage, Stri
      */
     void deleteByRoomId(Long roomId);
 
+    /**
+     * Room ID로 채팅 메시지의 ID만 조회합니다.
+     * 방 정리 시 한 번에 삭제할 양을 제한하기 위해 사용합니다.
+     *
+     * @param roomId 조회할 Room ID
+     * @param pageable 조회 개수
+     * @return ID만 채워진 채팅 메시지 목록
+     */
+    @Query(value = "{ 'roomId': ?0 }", fields = "{ '_id': 1 }")
+    List<ChatMessage> findIdsByRoomId(Long roomId, Pageable pageable);
+
+    /**
+     * 발신자 ID로 채팅 메시지의 ID와 Room ID만 조회합니다.
+     * 회원 탈퇴 시 한 번에 삭제할 양을 제한하고, 영향받는 방의 최근 채팅 캐시를 무효화하기 위해 사용합니다.
+     *
+     * @param senderId 조회할 발신자 ID
+     * @param pageable 조회 개수
+     * @return ID와 Room ID만 채워진 채팅 메시지 목록
+     */
+    @Query(value = "{ 'senderId': ?0 }", fields = "{ '_id': 1, 'roomId': 1 }")
+    List<ChatMessage> findIdsBySenderId(Long senderId, Pageable pageable);
+
     /**
      * 특정 발신자의 채팅 메시지 목록을 조회합니다.
      *
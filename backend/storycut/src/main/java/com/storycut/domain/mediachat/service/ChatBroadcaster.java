@@ -0,0 +1,106 @@
+package com.storycut.domain.mediachat.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.storycut.domain.mediachat.dto.response.ChatEventResponse;
+import com.storycut.global.config.WebSocketConfig;
+import com.storycut.global.util.RedisCommands;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * 채팅 이벤트 노드 간 팬아웃
+ * <p>
+ * 저장/삭제된 메시지 이벤트를 한 번만 JSON으로 직렬화해 공유방별 Redis 채널({@code chat:room:<공유방 ID>})에 발행한다.
+ * 각 노드는 로컬 구독자가 있는 공유방 채널만 구독하며({@link ChatRoomSubscriptionRegistry}),
+ * 수신한 바이트를 다시 직렬화하지 않고 그대로 {@code /topic/rooms/<공유방 ID>} 구독자에게 전달한다.
+ * 메시지 하나당 추가 비용은 발행 1회로, 노드 수나 수신자 수와 무관하다.
+ * </p>
+ * <p>
+ * 저장한 노드도 Redis를 거쳐 수신하므로 로컬에 직접 보내지 않는다 (중복 전송 방지).
+ * 발행이 실패하면 로컬 구독자에게만 직접 전달하고, 다른 노드의 클라이언트는 목록 조회로 보정한다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class ChatBroadcaster implements MessageListener {
+
+    static final String CHANNEL_PREFIX = "chat:room:";
+
+    private final RedisCommands redisCommands;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final Counter publishFailedCounter;
+
+    public ChatBroadcaster(RedisCommands redisCommands,
+                           SimpMessagingTemplate messagingTemplate,
+                           ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry) {
+        this.redisCommands = redisCommands;
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+        this.publishFailedCounter = Counter.builder("chat.fanout.publish.failed")
+                .description("Redis 발행에 실패해 로컬 구독자에게만 전달된 채팅 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    public static String channelOf(Long roomId) {
+        return CHANNEL_PREFIX + roomId;
+    }
+
+    /**
+     * 이벤트를 한 번 직렬화해 공유방 채널에 발행
+     */
+    public void broadcast(ChatEventResponse event) {
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(event);
+        } catch (JsonProcessingException e) {
+            log.warn("채팅 이벤트 직렬화 실패 roomId={}, type={}", event.roomId(), event.type(), e);
+            return;
+        }
+
+        try {
+            redisCommands.publish(channelOf(event.roomId()), payload);
+        } catch (RuntimeException e) {
+            log.warn("채팅 이벤트 발행 실패, 로컬 구독자에게만 전달 roomId={}, type={}", event.roomId(), event.type(), e);
+            publishFailedCounter.increment();
+            deliverLocally(event.roomId(), payload);
+        }
+    }
+
+    /**
+     * 구독 중인 공유방 채널의 메시지를 로컬 STOMP 구독자에게 그대로 전달
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        try {
+            deliverLocally(Long.valueOf(channel.substring(CHANNEL_PREFIX.length())), message.getBody());
+        } catch (RuntimeException e) {
+            log.warn("채팅 이벤트 전달 실패 channel={}", channel, e);
+        }
+    }
+
+    private void deliverLocally(Long roomId, byte[] payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        try {
+            messagingTemplate.send(WebSocketConfig.ROOM_TOPIC_PREFIX + roomId,
+                    MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+        } catch (MessagingException e) {
+            log.warn("채팅 이벤트 로컬 전송 실패 roomId={}", roomId, e);
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package com.storycut.domain.mediachat.service;
 
+import com.storycut.domain.mediachat.dto.query.ChatDirection;
 import com.storycut.domain.mediachat.dto.request.ChatMessageRequest;
+import com.storycut.domain.mediachat.dto.response.ChatEventResponse;
 import com.storycut.domain.mediachat.dto.response.ChatMessageResponse;
-import com.storycut.domain.room.entity.Room;
+import com.storycut.domain.mediachat.dto.response.ChatSliceResponse;
+import com.storycut.domain.room.dto.query.RoomSnapshot;
 import com.storycut.domain.room.service.RoomDetailService;
+import com.storycut.domain.room.service.RoomMembershipIndex;
 import com.storycut.global.exception.BusinessException;
 import com.storycut.global.model.dto.BaseResponseStatus;
 import lombok.RequiredArgsConstructor;
@@ -28,27 +32,43 @@ public class ChatFacadeService implements ChatService {
 
     private final ChatMessageService chatMessageService;
     private final RoomDetailService roomDetailService;
+    private final RoomMembershipIndex roomMembershipIndex;
+    private final ChatBroadcaster chatBroadcaster;
 
     @Override
     @Transactional
     public ChatMessageResponse saveVideoMessage(Long roomId, Long memberId, ChatMessageRequest request) {
-        // Room 존재 확인
-        roomDetailService.findRoomById(roomId);
+        // Room 존재 및 참여 여부 확인
+        validateRoomMember(roomId, memberId);
         
         // 채팅 메시지 저장 작업을 ChatMessageService에 위임
-        return chatMessageService.saveMessage(roomId, memberId, request);
+        ChatMessageResponse saved = chatMessageService.saveMessage(roomId, memberId, request);
+
+        // 공유방 구독자에게 실시간 전송
+        chatBroadcaster.broadcast(ChatEventResponse.created(saved));
+        return saved;
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<ChatMessageResponse> getChatMessages(Long roomId, int page, int size) {
-        // Room 존재 확인
-        roomDetailService.findRoomById(roomId);
+    public List<ChatMessageResponse> getChatMessages(Long roomId, Long memberId, int page, int size) {
+        // Room 존재 및 참여 여부 확인
+        validateRoomMember(roomId, memberId);
         
         // 페이징된 채팅 메시지 조회 작업을 ChatMessageService에 위임
         return chatMessageService.getByRoomIdWithPaging(roomId, page, size);
     }
 
+    @Override
+    public ChatSliceResponse getChatMessagesByCursor(Long roomId, Long memberId, String cursor,
+                                                     ChatDirection direction, int size) {
+        // Room 존재 및 참여 여부 확인
+        validateRoomMember(roomId, memberId);
+
+        // 커서 기준 조회 작업을 ChatMessageService에 위임
+        return chatMessageService.getByRoomIdWithCursor(roomId, cursor, direction, size);
+    }
+
     @Override
     public ChatMessageResponse getChatMessage(String chatId){
         // 메시지 존재 여부 확인
@@ -61,9 +81,9 @@ public class ChatFacadeService implements ChatService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<ChatMessageResponse> getMessagesAfter(Long roomId, LocalDateTime timestamp) {
-        // Room 존재 확인
-        roomDetailService.findRoomById(roomId);
+    public List<ChatMessageResponse> getMessagesAfter(Long roomId, Long memberId, LocalDateTime timestamp) {
+        // Room 존재 및 참여 여부 확인
+        validateRoomMember(roomId, memberId);
         
         // 특정 시간 이후의 메시지 조회 작업을 ChatMessageService에 위임
         return chatMessageService.getByRoomIdAfterTimestamp(roomId, timestamp);
@@ -75,8 +95,8 @@ public class ChatFacadeService implements ChatService {
         // 메시지 존재 여부 및 권한 확인을 위해 Room 정보 조회
         // 메시지가 어떤 Room에 속하는지 먼저 확인해야 함
         Long roomId = getRoomIdFromMessage(chatId);
-        Room room = roomDetailService.findRoomById(roomId);
-        Long roomHostId = room.getHostId();
+        RoomSnapshot room = roomDetailService.getRoomSnapshot(roomId);
+        Long roomHostId = room.hostId();
         
         // 권한 확인 (메시지 작성자 또는 방장)
         if (!chatMessageService.isMemberAuthorized(chatId, memberId, roomHostId)) {
@@ -84,7 +104,21 @@ public class ChatFacadeService implements ChatService {
         }
         
         // 메시지 삭제 작업을 ChatMessageService에 위임
-        return chatMessageService.deleteById(chatId);
+        boolean deleted = chatMessageService.deleteById(chatId);
+
+        // 공유방 구독자에게 실시간 전송
+        chatBroadcaster.broadcast(ChatEventResponse.deleted(roomId, chatId));
+        return deleted;
+    }
+
+    /**
+     * 공유방 존재(캐시) 및 참여 여부(멤버십 인덱스) 확인
+     */
+    private void validateRoomMember(Long roomId, Long memberId) {
+        roomDetailService.getRoomSnapshot(roomId);
+        if (!roomMembershipIndex.isMember(roomId, memberId)) {
+            throw new BusinessException(BaseResponseStatus.NOT_ROOM_MEMBER);
+        }
     }
 
     private Long getRoomIdFromMessage(String chatId) {
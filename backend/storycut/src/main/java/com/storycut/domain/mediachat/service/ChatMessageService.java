@@ -1,22 +1,26 @@
 package com.storycut.domain.mediachat.service;
 
+import com.storycut.domain.mediachat.dto.query.ChatCursor;
+import com.storycut.domain.mediachat.dto.query.ChatDirection;
 import com.storycut.domain.mediachat.dto.request.ChatMessageRequest;
 import com.storycut.domain.mediachat.dto.response.ChatMessageResponse;
+import com.storycut.domain.mediachat.dto.response.ChatSliceResponse;
 import com.storycut.domain.mediachat.model.ChatMessage;
 import com.storycut.domain.mediachat.repository.ChatMessageRepository;
 import com.storycut.global.exception.BusinessException;
 import com.storycut.global.model.dto.BaseResponseStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -26,7 +30,10 @@ import java.util.stream.Collectors;
 @Transactional
 public class ChatMessageService {
 
+    static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final ChatMessageRepository chatMessageRepository;
+    private final RecentChatCache recentChatCache;
 
     public ChatMessageResponse getById(String chatId) {
         // 채팅 메시지 조회
@@ -49,15 +56,50 @@ public class ChatMessageService {
 
     @Transactional(readOnly = true)
     public List<ChatMessageResponse> getByRoomIdWithPaging(Long roomId, int page, int size) {
-        // 채팅 메시지 페이징 조회
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "timestamp"));
-        Page<ChatMessage> messagePage = chatMessageRepository.findByRoomIdOrderByCreatedAtDesc(roomId, pageable);
+        // 활성 방의 첫 페이지는 최근 채팅 캐시에서 처리
+        if (page == 0 && recentChatCache.covers(size)) {
+            return recentChatCache.getFirstPage(roomId, size);
+        }
+
+        // 채팅 메시지 페이징 조회 (생성 시각 역순, 같은 시각은 _id 역순 / count 쿼리 없음)
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "_id"));
+        Slice<ChatMessage> messagePage = chatMessageRepository.findByRoomIdOrderByCreatedAtDesc(roomId, pageable);
 
         return messagePage.getContent().stream()
                 .map(ChatMessageResponse::from)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 커서 기준 채팅 메시지 조회 - 한 건 더 조회해 같은 방향의 다음 목록 존재 여부를 판단
+     */
+    @Transactional(readOnly = true)
+    public ChatSliceResponse getByRoomIdWithCursor(Long roomId, String cursor, ChatDirection direction, int size) {
+        ChatCursor decoded = (cursor == null || cursor.isBlank()) ? null : ChatCursor.decode(cursor);
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+
+        List<ChatMessage> messages = chatMessageRepository.findByRoomIdAndCursor(roomId, decoded, direction, pageSize + 1);
+        boolean hasMore = messages.size() > pageSize;
+        List<ChatMessage> content = hasMore ? messages.subList(0, pageSize) : messages;
+
+        String nextCursor = content.isEmpty()
+                ? (decoded == null ? null : decoded.encode())
+                : ChatCursor.from(content.get(content.size() - 1)).encode();
+        return new ChatSliceResponse(
+                content.stream().map(ChatMessageResponse::from).toList(),
+                nextCursor,
+                hasMore);
+    }
+
+    /**
+     * 방에 가장 최근 공유된 비디오 메시지 조회
+     */
+    @Transactional(readOnly = true)
+    public Optional<ChatMessageResponse> getLatestVideoByRoomId(Long roomId) {
+        return chatMessageRepository.findFirstByRoomIdAndVideoIdNotNullOrderByCreatedAtDesc(roomId)
+                .map(ChatMessageResponse::from);
+    }
+
     @Transactional(readOnly = true)
     public List<ChatMessageResponse> getByRoomIdAfterTimestamp(Long roomId, LocalDateTime createdAt) {
         // 특정 시간 이후의 채팅 메시지 조회
@@ -100,7 +142,9 @@ public class ChatMessageService {
         ChatMessage chatMessage = request.toEntity(roomId, memberId);
         ChatMessage savedMessage = chatMessageRepository.save(chatMessage);
 
-        return ChatMessageResponse.from(savedMessage);
+        ChatMessageResponse response = ChatMessageResponse.from(savedMessage);
+        recentChatCache.onSaved(response);
+        return response;
     }
 
     public boolean deleteById(String chatId) {
@@ -110,12 +154,53 @@ public class ChatMessageService {
         }
         
         // 메시지 삭제 처리
-        chatMessageRepository.delete(messageOpt.get());
+        ChatMessage message = messageOpt.get();
+        chatMessageRepository.delete(message);
+        recentChatCache.onDeleted(message.getRoomId(), message.getId());
         return true;
     }
 
     public void deleteAllByRoomId(Long roomId) {
         chatMessageRepository.deleteByRoomId(roomId);
+        recentChatCache.evict(List.of(roomId));
+    }
+
+    /**
+     * 방의 채팅 메시지를 최대 batchSize개만 삭제 (ID 조회 후 $in 삭제 한 번)
+     *
+     * @return 삭제한 메시지 수 (0이면 남은 메시지 없음)
+     */
+    public int deleteBatchByRoomId(Long roomId, int batchSize) {
+        int deleted = deleteBatch(chatMessageRepository.findIdsByRoomId(roomId, PageRequest.of(0, batchSize)));
+        if (deleted > 0) {
+            recentChatCache.evict(List.of(roomId));
+        }
+        return deleted;
+    }
+
+    /**
+     * 회원이 보낸 채팅 메시지를 최대 batchSize개만 삭제
+     *
+     * @return 삭제한 메시지 수 (0이면 남은 메시지 없음)
+     */
+    public int deleteBatchBySenderId(Long senderId, int batchSize) {
+        List<ChatMessage> messages = chatMessageRepository.findIdsBySenderId(senderId, PageRequest.of(0, batchSize));
+        int deleted = deleteBatch(messages);
+        if (deleted > 0) {
+            // 어떤 메시지가 지워졌는지 방마다 추적하지 않고, 영향받은 방 단위로 캐시 무효화
+            recentChatCache.evict(messages.stream().map(ChatMessage::getRoomId).filter(Objects::nonNull).distinct().toList());
+        }
+        return deleted;
+    }
+
+    private int deleteBatch(List<ChatMessage> messages) {
+        List<String> ids = messages.stream()
+                .map(ChatMessage::getId)
+                .toList();
+        if (!ids.isEmpty()) {
+            chatMessageRepository.deleteAllById(ids);
+        }
+        return ids.size();
     }
 
 
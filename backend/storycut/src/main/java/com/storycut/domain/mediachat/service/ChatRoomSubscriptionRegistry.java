@@ -0,0 +1,272 @@
+package com.storycut.domain.mediachat.service;
+
+import com.storycut.domain.auth.event.AccessTokenRevokedEvent;
+import com.storycut.domain.auth.event.MemberTokensRevokedEvent;
+import com.storycut.domain.room.event.RoomMembershipChangedEvent;
+import com.storycut.domain.room.service.RoomMembershipIndex;
+import com.storycut.global.model.dto.BaseResponseStatus;
+import com.storycut.global.websocket.StompAuthChannelInterceptor;
+import com.storycut.global.websocket.StompSessionAuth;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+/**
+ * 공유방 채널 구독 참조 카운트와 구독 세션 정리
+ * <p>
+ * 이 노드의 STOMP 세션이 공유방 토픽을 구독/해지/연결 종료할 때마다 방별 로컬 구독 수를 세고,
+ * 0 → 1이 되면 Redis 채널({@code chat:room:<공유방 ID>})을 구독하고 1 → 0이 되면 해지한다.
+ * 로컬 구독자가 없는 공유방의 메시지는 이 노드로 전달되지 않는다.
+ * </p>
+ * <p>
+ * 권한 확인은 구독 시점에 {@link StompAuthChannelInterceptor}에서 한 번만 이루어지므로, 이후 권한이 사라진 세션은
+ * 여기서 ERROR 프레임을 보내 연결을 종료한다 (클라이언트는 재연결 후 권한이 있는 방만 다시 구독).
+ * <ul>
+ *     <li>퇴장(LEFT): 해당 회원이 그 방을 구독 중인 세션</li>
+ *     <li>공유방 삭제(ROOM_DELETED): 그 방을 구독 중인 모든 세션</li>
+ *     <li>액세스 토큰 폐기(로그아웃, 회원 탈퇴): 그 토큰으로 연결한 세션</li>
+ *     <li>액세스 토큰 만료: 주기적으로 확인해 만료 시각이 지난 세션</li>
+ * </ul>
+ * 다른 노드에서 커밋된 참여 관계 변경은 멤버십 인덱스 채널({@link RoomMembershipIndex#CHANNEL})로 받는다.
+ * 회원 탈퇴는 후속 처리에서 참여 중인 방을 모두 퇴장하므로 퇴장 이벤트로 함께 정리된다.
+ * </p>
+ * <p>
+ * 구독 이벤트는 메시지 수에 비해 드물기 때문에 단일 모니터로 직렬화한다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class ChatRoomSubscriptionRegistry implements MessageListener {
+
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ChatBroadcaster chatBroadcaster;
+    private final MessageChannel clientOutboundChannel;
+    private final Clock clock;
+
+    // 세션 ID -> 구독 세션 (인증 정보, 구독 ID -> 공유방 ID)
+    private final Map<String, SessionSubscriptions> sessions = new HashMap<>();
+
+    // 공유방 ID -> 이 노드의 구독 수
+    private final Map<Long, Integer> roomRefCounts = new HashMap<>();
+
+    public ChatRoomSubscriptionRegistry(RedisMessageListenerContainer listenerContainer,
+                                        ChatBroadcaster chatBroadcaster,
+                                        @Qualifier("clientOutboundChannel") MessageChannel clientOutboundChannel,
+                                        MeterRegistry meterRegistry) {
+        this(listenerContainer, chatBroadcaster, clientOutboundChannel, meterRegistry, Clock.systemUTC());
+    }
+
+    ChatRoomSubscriptionRegistry(RedisMessageListenerContainer listenerContainer,
+                                 ChatBroadcaster chatBroadcaster,
+                                 MessageChannel clientOutboundChannel,
+                                 MeterRegistry meterRegistry,
+                                 Clock clock) {
+        this.listenerContainer = listenerContainer;
+        this.chatBroadcaster = chatBroadcaster;
+        this.clientOutboundChannel = clientOutboundChannel;
+        this.clock = clock;
+        Gauge.builder("chat.fanout.subscribed.rooms", this, ChatRoomSubscriptionRegistry::subscribedRoomCount)
+                .description("이 노드가 Redis 채널을 구독 중인 공유방 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void subscribeMembershipChanges() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(RoomMembershipIndex.CHANNEL));
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Long roomId = StompAuthChannelInterceptor.parseRoomId(accessor.getDestination());
+        if (roomId != null && accessor.getSessionId() != null && accessor.getSubscriptionId() != null) {
+            subscribe(accessor.getSessionId(), StompSessionAuth.from(accessor.getSessionAttributes()),
+                    accessor.getSubscriptionId(), roomId);
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        if (accessor.getSessionId() != null && accessor.getSubscriptionId() != null) {
+            unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        disconnect(event.getSessionId());
+    }
+
+    /**
+     * 이 노드에서 커밋된 참여 관계 변경 (Redis 발행 실패와 무관하게 로컬 세션은 바로 정리)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipChanged(RoomMembershipChangedEvent event) {
+        revokeSubscriptions(event);
+    }
+
+    /**
+     * 다른 노드(와 이 노드)에서 발행한 참여 관계 변경 - 이미 종료된 세션은 다시 처리되지 않는다
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            revokeSubscriptions(RoomMembershipChangedEvent.decode(body));
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 멤버십 변경 메시지 무시: {}", body);
+        }
+    }
+
+    @EventListener
+    public void onAccessTokenRevoked(AccessTokenRevokedEvent event) {
+        closeSessions(session -> session.auth != null && event.digest().equals(session.auth.tokenDigest()),
+                BaseResponseStatus.JWT_TOKEN_REVOKED);
+    }
+
+    @EventListener
+    public void onMemberTokensRevoked(MemberTokensRevokedEvent event) {
+        closeSessions(session -> session.auth != null && event.memberId().equals(session.auth.memberId()),
+                BaseResponseStatus.JWT_TOKEN_REVOKED);
+    }
+
+    /**
+     * 액세스 토큰 만료 시각이 지난 세션 종료
+     */
+    @Scheduled(fixedDelayString = "${app.websocket.session-expiry-check-interval-ms:10000}")
+    public void closeExpiredSessions() {
+        long now = clock.millis();
+        closeSessions(session -> session.auth != null && session.auth.isExpired(now),
+                BaseResponseStatus.JWT_ACCESS_TOKEN_EXPIRED);
+    }
+
+    synchronized void subscribe(String sessionId, StompSessionAuth auth, String subscriptionId, Long roomId) {
+        Long previous = sessions.computeIfAbsent(sessionId, id -> new SessionSubscriptions(auth))
+                .rooms.put(subscriptionId, roomId);
+        if (previous != null) {
+            // 같은 구독 ID 재사용 - 이전 방 구독은 해지로 처리
+            release(previous);
+        }
+        if (roomRefCounts.merge(roomId, 1, Integer::sum) == 1) {
+            listenerContainer.addMessageListener(chatBroadcaster, new ChannelTopic(ChatBroadcaster.channelOf(roomId)));
+            log.debug("공유방 채널 구독 roomId={}", roomId);
+        }
+    }
+
+    synchronized void unsubscribe(String sessionId, String subscriptionId) {
+        SessionSubscriptions session = sessions.get(sessionId);
+        if (session == null) {
+            return;
+        }
+        Long roomId = session.rooms.remove(subscriptionId);
+        if (session.rooms.isEmpty()) {
+            sessions.remove(sessionId);
+        }
+        if (roomId != null) {
+            release(roomId);
+        }
+    }
+
+    synchronized void disconnect(String sessionId) {
+        SessionSubscriptions session = sessions.remove(sessionId);
+        if (session != null) {
+            session.rooms.values().forEach(this::release);
+        }
+    }
+
+    synchronized int subscribedRoomCount() {
+        return roomRefCounts.size();
+    }
+
+    private void revokeSubscriptions(RoomMembershipChangedEvent event) {
+        switch (event.type()) {
+            case LEFT -> closeSessions(session -> session.auth != null
+                            && event.memberId().equals(session.auth.memberId())
+                            && session.rooms.containsValue(event.roomId()),
+                    BaseResponseStatus.NOT_ROOM_MEMBER);
+            case ROOM_DELETED -> closeSessions(session -> session.rooms.containsValue(event.roomId()),
+                    BaseResponseStatus.NOT_FOUND_ROOM);
+            case JOINED -> {
+            }
+        }
+    }
+
+    /**
+     * 조건에 맞는 세션의 구독을 해지하고 ERROR 프레임으로 연결 종료
+     * (전송은 모니터 밖에서 수행하며, 이어지는 연결 종료 이벤트는 이미 해지된 세션이라 무시된다)
+     */
+    private void closeSessions(Predicate<SessionSubscriptions> matcher, BaseResponseStatus reason) {
+        List<String> closed;
+        synchronized (this) {
+            closed = sessions.entrySet().stream()
+                    .filter(entry -> matcher.test(entry.getValue()))
+                    .map(Map.Entry::getKey)
+                    .toList();
+            closed.forEach(this::disconnect);
+        }
+        for (String sessionId : closed) {
+            sendError(sessionId, reason);
+        }
+        if (!closed.isEmpty()) {
+            log.debug("STOMP 세션 종료 - 사유: {}, 세션 수: {}", reason, closed.size());
+        }
+    }
+
+    private void sendError(String sessionId, BaseResponseStatus reason) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.ERROR);
+        accessor.setSessionId(sessionId);
+        accessor.setMessage(reason.getMessage());
+        accessor.setLeaveMutable(true);
+        try {
+            clientOutboundChannel.send(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+        } catch (MessagingException e) {
+            log.warn("STOMP 세션 종료 프레임 전송 실패 sessionId={}", sessionId, e);
+        }
+    }
+
+    private void release(Long roomId) {
+        Integer remaining = roomRefCounts.computeIfPresent(roomId, (id, count) -> count > 1 ? count - 1 : null);
+        if (remaining == null) {
+            listenerContainer.removeMessageListener(chatBroadcaster, new ChannelTopic(ChatBroadcaster.channelOf(roomId)));
+            log.debug("공유방 채널 구독 해지 roomId={}", roomId);
+        }
+    }
+
+    /**
+     * 세션별 인증 정보(CONNECT 시점)와 공유방 구독 목록
+     */
+    private static final class SessionSubscriptions {
+
+        private final StompSessionAuth auth;
+        private final Map<String, Long> rooms = new HashMap<>();
+
+        private SessionSubscriptions(StompSessionAuth auth) {
+            this.auth = auth;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.storycut.domain.mediachat.service;
 
 import com.storycut.domain.mediachat.dto.response.ChatMessageResponse;
+import com.storycut.domain.mediachat.dto.response.ChatSliceResponse;
+import com.storycut.domain.mediachat.dto.query.ChatDirection;
 import com.storycut.domain.mediachat.dto.request.ChatMessageRequest;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -29,11 +31,26 @@ public interface ChatService {
      * Room의 채팅 메시지를 페이징하여 조회합니다.
      *
      * @param roomId Room ID
+     * @param memberId 조회 요청자 ID (공유방 참여자만 조회 가능)
      * @param page 페이지 번호 (0부터 시작)
      * @param size 페이지 크기
      * @return 채팅 메시지 페이지
      */
-    List<ChatMessageResponse> getChatMessages(Long roomId, int page, int size);
+    List<ChatMessageResponse> getChatMessages(Long roomId, Long memberId, int page, int size);
+
+    /**
+     * Room의 채팅 메시지를 커서 기준으로 조회합니다.
+     * 오프셋 페이징과 달리 조회 깊이와 무관하게 비용이 일정하며, 전체 개수는 조회하지 않습니다.
+     *
+     * @param roomId Room ID
+     * @param memberId 조회 요청자 ID (공유방 참여자만 조회 가능)
+     * @param cursor 이전 응답의 nextCursor (첫 조회는 null)
+     * @param direction OLDER: 커서 이전 메시지(최신순), NEWER: 커서 이후 메시지(오래된 순)
+     * @param size 조회 개수 (최대 100)
+     * @return 메시지 목록과 다음 커서, 추가 메시지 존재 여부
+     * @throws com.storycut.global.exception.BusinessException 커서 형식이 올바르지 않거나 참여자가 아닌 경우
+     */
+    ChatSliceResponse getChatMessagesByCursor(Long roomId, Long memberId, String cursor, ChatDirection direction, int size);
 
     /**
      * Room의 채팅 메시지를 조회합니다.
@@ -48,10 +65,11 @@ public interface ChatService {
      * 실시간 채팅에서 새로운 메시지만 가져올 때 사용할 수 있습니다.
      *
      * @param roomId Room ID
+     * @param memberId 조회 요청자 ID (공유방 참여자만 조회 가능)
      * @param timestamp 조회 시작 시간
      * @return 해당 시간 이후의 채팅 메시지 목록
      */
-    List<ChatMessageResponse> getMessagesAfter(Long roomId, LocalDateTime timestamp);
+    List<ChatMessageResponse> getMessagesAfter(Long roomId, Long memberId, LocalDateTime timestamp);
 
     /**
      * 채팅 메시지를 삭제합니다. (소프트 딜리트)
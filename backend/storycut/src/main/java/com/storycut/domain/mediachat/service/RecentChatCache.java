@@ -0,0 +1,460 @@
+package com.storycut.domain.mediachat.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.storycut.domain.mediachat.dto.response.ChatMessageResponse;
+import com.storycut.domain.mediachat.repository.ChatMessageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공유방 최근 채팅 캐시 (첫 페이지 전용)
+ * <p>
+ * 방마다 최신 메시지 capacity개를 최신순으로 보관한다.
+ * L1은 자주 조회되는 방만 담는 프로세스 내 링 버퍼로, Caffeine(W-TinyLFU)의 빈도 스케치로 입장을 판단하므로
+ * 한 번 조회되고 마는 방이 자주 조회되는 방을 밀어내지 않는다.
+ * L2는 Redis 리스트({@code chat:recent:<공유방 ID>}, 최대 capacity개)로, L1에 없는 방도 MongoDB 대신 한 번의 LRANGE로 읽는다.
+ * </p>
+ * <p>
+ * 저장 시 L1 링에 바로 추가하고 L2에는 이미 있는 리스트에만 추가한다 (없는 리스트는 다음 조회 때 MongoDB로 채움).
+ * 삭제 시 L1 링에서 제거하고 L2 리스트는 지운다.
+ * 다른 노드에는 {@code chat:recent:updates} 채널로 알린다. 저장은 직렬화한 메시지를 함께 보내 받은 노드가 자신의 링에
+ * 바로 추가하므로, 활발한 방에서도 모든 노드가 계속 L1에서 응답한다. 삭제만 L1을 무효화하며, 무효화된 노드는
+ * 다음 조회 때 L2에서 다시 채운다.
+ * </p>
+ * <p>
+ * MongoDB로 다시 채우는 동안 같은 방에 쓰기가 있었으면 결과를 캐시에 넣지 않는다.
+ * L1은 노드 내 방 ID별 쓰기 순번을 넣기 전후로 비교하고, L2는 모든 노드의 쓰기가 올리는 방별 버전
+ * ({@code chat:recent:ver:<공유방 ID>})이 조회 시작 시점과 같을 때만 Lua 스크립트로 채운다.
+ * 쓰기(버전 증가 + 리스트 갱신/삭제)도 스크립트 하나로 실행하므로, 채우기는 쓰기 전후 어느 한쪽에만 놓인다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class RecentChatCache implements MessageListener {
+
+    private static final String KEY_PREFIX = "chat:recent:";
+    private static final String VERSION_KEY_PREFIX = "chat:recent:ver:";
+    private static final String UPDATE_CHANNEL = "chat:recent:updates";
+    private static final char SEPARATOR = '|';
+    private static final int WRITE_STRIPES = 256;
+
+    // 버전이 조회 시작 시점과 같을 때만 리스트를 교체 (KEYS[1] = 리스트, KEYS[2] = 버전, ARGV[1] = 기대 버전, ARGV[2] = TTL, 이후 최신순 값)
+    private static final RedisScript<Long> FILL_IF_VERSION = new DefaultRedisScript<>("""
+            if (redis.call('GET', KEYS[2]) or '') ~= ARGV[1] then
+                return 0
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('RPUSH', KEYS[1], unpack(ARGV, 3))
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    // 버전을 올린 뒤 이미 있는 리스트에만 추가 (ARGV[1] = TTL, ARGV[2] = 최대 개수, ARGV[3] = 값)
+    private static final RedisScript<Long> PUSH = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            redis.call('LPUSH', KEYS[1], ARGV[3])
+            redis.call('LTRIM', KEYS[1], 0, tonumber(ARGV[2]) - 1)
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    // 버전을 올린 뒤 리스트 삭제 - 진행 중인 채우기는 버전 불일치로 건너뜀 (ARGV[1] = TTL)
+    private static final RedisScript<Long> EVICT = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            return redis.call('DEL', KEYS[1])
+            """, Long.class);
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final int capacity;
+    private final Duration remoteTtl;
+    private final Cache<Long, RecentChatRing> local;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // 방 ID 해시별 쓰기 순번 - 다시 채우기 시작 후 쓰기가 있었는지 판단 (방 수와 무관하게 크기 고정)
+    private final AtomicLongArray writeSequences = new AtomicLongArray(WRITE_STRIPES);
+
+    private final Counter l1HitCounter;
+    private final Counter l2HitCounter;
+    private final Counter missCounter;
+
+    public RecentChatCache(ChatMessageRepository chatMessageRepository,
+                           RedisTemplate<String, String> redisTemplate,
+                           RedisMessageListenerContainer listenerContainer,
+                           ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.chat.recent.size:50}") int capacity,
+                           @Value("${app.chat.recent.hot-rooms:1000}") long hotRooms,
+                           @Value("${app.chat.recent.local-ttl:5m}") Duration localTtl,
+                           @Value("${app.chat.recent.remote-ttl:30m}") Duration remoteTtl) {
+        this.chatMessageRepository = chatMessageRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.capacity = capacity;
+        this.remoteTtl = remoteTtl;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(hotRooms)
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, local, "chat.recent.l1");
+        this.l1HitCounter = requestCounter(meterRegistry, "l1");
+        this.l2HitCounter = requestCounter(meterRegistry, "l2");
+        this.missCounter = requestCounter(meterRegistry, "miss");
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("chat.recent.requests")
+                .description("최근 채팅 첫 페이지 조회 결과 (l1, l2, miss)")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(UPDATE_CHANNEL));
+    }
+
+    /**
+     * 요청한 크기를 캐시로 처리할 수 있는지 여부
+     */
+    public boolean covers(int size) {
+        return size > 0 && size <= capacity;
+    }
+
+    /**
+     * 방의 최신 메시지 size개 조회 (최신순) - L1, L2, MongoDB 순
+     */
+    public List<ChatMessageResponse> getFirstPage(Long roomId, int size) {
+        RecentChatRing ring = local.getIfPresent(roomId);
+        if (ring != null) {
+            List<ChatMessageResponse> page = ring.firstPage(size);
+            if (page != null) {
+                l1HitCounter.increment();
+                return page;
+            }
+        }
+
+        long sequence = writeSequences.get(stripe(roomId));
+        List<ChatMessageResponse> remote = readRemote(roomId);
+        // 리스트가 capacity보다 짧으면 방의 전체 메시지이다 (삭제 시 리스트를 지우고, 저장은 기존 리스트에만 추가하므로)
+        if (remote != null && (remote.size() >= size || remote.size() < capacity)) {
+            l2HitCounter.increment();
+            install(roomId, sequence, new RecentChatRing(capacity, remote, remote.size() < capacity));
+            return head(remote, size);
+        }
+
+        missCounter.increment();
+        String version = readVersion(roomId);
+        List<ChatMessageResponse> loaded = chatMessageRepository
+                .findByRoomIdOrderByCreatedAtDesc(roomId, PageRequest.of(0, capacity, Sort.by(Sort.Direction.DESC, "_id")))
+                .map(ChatMessageResponse::from)
+                .getContent();
+        install(roomId, sequence, new RecentChatRing(capacity, loaded, loaded.size() < capacity));
+        fillRemote(roomId, version, loaded);
+        return head(loaded, size);
+    }
+
+    /**
+     * 메시지 저장 반영 - L1 링과 기존 L2 리스트에 추가하고 다른 노드에 메시지 전달
+     */
+    public void onSaved(ChatMessageResponse message) {
+        Long roomId = message.getRoomId();
+        writeSequences.incrementAndGet(stripe(roomId));
+
+        RecentChatRing ring = local.getIfPresent(roomId);
+        if (ring != null) {
+            ring.add(message);
+        }
+
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            log.warn("최근 채팅 캐시 직렬화 실패 roomId={}: {}", roomId, e.getMessage());
+            deleteRemote(roomId);
+            publish(roomId, null);
+            return;
+        }
+        try {
+            redisTemplate.execute(PUSH, List.of(keyOf(roomId), versionKeyOf(roomId)),
+                    String.valueOf(remoteTtl.toMillis()), String.valueOf(capacity), json);
+        } catch (RuntimeException e) {
+            // 리스트를 갱신하지 못했으면 지워서 다음 조회 때 MongoDB로 다시 채우도록 함
+            log.warn("최근 채팅 캐시 추가 실패 roomId={}: {}", roomId, e.getMessage());
+            deleteRemote(roomId);
+        }
+        publish(roomId, json);
+    }
+
+    /**
+     * 메시지 삭제 반영 - L1 링에서 제거하고 L2 리스트는 삭제
+     */
+    public void onDeleted(Long roomId, String chatId) {
+        writeSequences.incrementAndGet(stripe(roomId));
+
+        RecentChatRing ring = local.getIfPresent(roomId);
+        if (ring != null) {
+            ring.remove(chatId);
+        }
+        deleteRemote(roomId);
+        publish(roomId, null);
+    }
+
+    /**
+     * 방 단위 무효화 - 배치 삭제(방 정리, 회원 탈퇴)처럼 어떤 메시지가 지워졌는지 추적하지 않는 경우
+     */
+    public void evict(Collection<Long> roomIds) {
+        for (Long roomId : roomIds) {
+            writeSequences.incrementAndGet(stripe(roomId));
+            local.invalidate(roomId);
+            deleteRemote(roomId);
+            publish(roomId, null);
+        }
+    }
+
+    /**
+     * 다른 노드의 쓰기 알림 - 저장은 현재 노드 링에 추가하고, 삭제는 L1만 무효화
+     * (자신이 보낸 알림은 이미 반영했으므로 무시)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(SEPARATOR);
+        if (separator <= 0 || nodeId.equals(body.substring(0, separator))) {
+            return;
+        }
+        int payloadSeparator = body.indexOf(SEPARATOR, separator + 1);
+        Long roomId;
+        try {
+            roomId = Long.valueOf(payloadSeparator < 0
+                    ? body.substring(separator + 1)
+                    : body.substring(separator + 1, payloadSeparator));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 최근 채팅 변경 메시지 무시: {}", body);
+            return;
+        }
+        writeSequences.incrementAndGet(stripe(roomId));
+        if (payloadSeparator < 0) {
+            local.invalidate(roomId);
+            return;
+        }
+        RecentChatRing ring = local.getIfPresent(roomId);
+        if (ring == null) {
+            return;
+        }
+        try {
+            ring.add(objectMapper.readValue(body.substring(payloadSeparator + 1), ChatMessageResponse.class));
+        } catch (JsonProcessingException e) {
+            log.warn("최근 채팅 변경 메시지 역직렬화 실패 roomId={}: {}", roomId, e.getMessage());
+            local.invalidate(roomId);
+        }
+    }
+
+    /**
+     * 조회 시작 이후 쓰기가 없었을 때만 L1에 등록
+     * 비교와 등록 사이에 들어온 쓰기는 링을 찾지 못하므로, 등록 후 다시 비교해 달라졌으면 되돌린다.
+     */
+    private void install(Long roomId, long sequence, RecentChatRing ring) {
+        int stripe = stripe(roomId);
+        if (writeSequences.get(stripe) != sequence) {
+            return;
+        }
+        local.put(roomId, ring);
+        if (writeSequences.get(stripe) != sequence) {
+            local.asMap().remove(roomId, ring);
+        }
+    }
+
+    /**
+     * 현재 버전 조회 (없으면 빈 문자열, Redis 장애 시 null → L2 채우기 생략)
+     */
+    private String readVersion(Long roomId) {
+        try {
+            String version = redisTemplate.opsForValue().get(versionKeyOf(roomId));
+            return version == null ? "" : version;
+        } catch (RuntimeException e) {
+            log.warn("최근 채팅 캐시 버전 조회 실패 roomId={}: {}", roomId, e.getMessage());
+            return null;
+        }
+    }
+
+    private List<ChatMessageResponse> readRemote(Long roomId) {
+        try {
+            List<String> values = redisTemplate.opsForList().range(keyOf(roomId), 0, capacity - 1);
+            if (values == null || values.isEmpty()) {
+                return null;
+            }
+            List<ChatMessageResponse> messages = new ArrayList<>(values.size());
+            for (String value : values) {
+                messages.add(objectMapper.readValue(value, ChatMessageResponse.class));
+            }
+            return messages;
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("최근 채팅 캐시 조회 실패 roomId={}: {}", roomId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void fillRemote(Long roomId, String version, List<ChatMessageResponse> messages) {
+        if (version == null || messages.isEmpty()) {
+            return;
+        }
+        try {
+            Object[] args = new Object[messages.size() + 2];
+            args[0] = version;
+            args[1] = String.valueOf(remoteTtl.toMillis());
+            for (int i = 0; i < messages.size(); i++) {
+                args[i + 2] = objectMapper.writeValueAsString(messages.get(i));
+            }
+            redisTemplate.execute(FILL_IF_VERSION, List.of(keyOf(roomId), versionKeyOf(roomId)), args);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("최근 채팅 캐시 저장 실패 roomId={}: {}", roomId, e.getMessage());
+        }
+    }
+
+    private void deleteRemote(Long roomId) {
+        try {
+            redisTemplate.execute(EVICT, List.of(keyOf(roomId), versionKeyOf(roomId)),
+                    String.valueOf(remoteTtl.toMillis()));
+        } catch (RuntimeException e) {
+            // 리스트는 remoteTtl 이내에 만료됨
+            log.warn("최근 채팅 캐시 삭제 실패 roomId={}: {}", roomId, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드에 변경 알림 ({@code <노드 ID>|<공유방 ID>[|<저장된 메시지 JSON>]}, JSON이 없으면 무효화)
+     */
+    private void publish(Long roomId, String json) {
+        String body = nodeId + SEPARATOR + roomId + (json != null ? SEPARATOR + json : "");
+        try {
+            redisTemplate.convertAndSend(UPDATE_CHANNEL, body);
+        } catch (RuntimeException e) {
+            // 다른 노드의 L1은 localTtl 이내에 만료됨
+            log.warn("최근 채팅 캐시 변경 메시지 발행 실패 roomId={}: {}", roomId, e.getMessage());
+        }
+    }
+
+    private static List<ChatMessageResponse> head(List<ChatMessageResponse> messages, int size) {
+        return List.copyOf(messages.subList(0, Math.min(size, messages.size())));
+    }
+
+    private static String keyOf(Long roomId) {
+        return KEY_PREFIX + roomId;
+    }
+
+    private static String versionKeyOf(Long roomId) {
+        return VERSION_KEY_PREFIX + roomId;
+    }
+
+    private static int stripe(Long roomId) {
+        return Long.hashCode(roomId) & (WRITE_STRIPES - 1);
+    }
+
+    /**
+     * 방 하나의 최신 메시지 링 버퍼 (최신순 = 작성 시각, ID 내림차순, 최대 capacity개)
+     * complete는 방의 메시지 전체를 담고 있는지 여부로, 담긴 개수보다 큰 페이지도 처리할 수 있는지 판단한다.
+     */
+    static final class RecentChatRing {
+
+        // MongoDB 조회와 같은 (createdAt DESC, _id DESC) 순서 - MongoDB는 작성 시각을 밀리초까지만 저장하므로 같은 정밀도로 비교
+        private static final Comparator<ChatMessageResponse> NEWEST_FIRST = Comparator
+                .comparing((ChatMessageResponse message) -> message.getCreatedAt().truncatedTo(ChronoUnit.MILLIS))
+                .thenComparing(ChatMessageResponse::getId)
+                .reversed();
+
+        private final int capacity;
+        private final List<ChatMessageResponse> entries;
+        private boolean complete;
+
+        RecentChatRing(int capacity, List<ChatMessageResponse> newestFirst, boolean complete) {
+            this.capacity = capacity;
+            this.entries = new ArrayList<>(capacity + 1);
+            newestFirst.stream().limit(capacity).forEach(entries::add);
+            this.complete = complete;
+        }
+
+        /**
+         * 최신 size개 (담긴 메시지만으로 답할 수 없으면 null)
+         */
+        synchronized List<ChatMessageResponse> firstPage(int size) {
+            if (size > entries.size() && !complete) {
+                return null;
+            }
+            List<ChatMessageResponse> page = new ArrayList<>(Math.min(size, entries.size()));
+            for (ChatMessageResponse entry : entries) {
+                if (page.size() == size) {
+                    break;
+                }
+                page.add(entry);
+            }
+            return page;
+        }
+
+        /**
+         * 메시지 추가 - MongoDB 첫 페이지와 같은 (작성 시각, ID) 내림차순 위치에 넣는다
+         * ObjectId는 초 단위 시각 뒤에 노드별 값이 붙으므로, 같은 초에 다른 노드에서 저장된 메시지는 ID만으로 순서를 정할 수 없다.
+         * 노드마다 다른 노드의 저장을 받는 순서가 다를 수 있고, 다시 채운 링에 이미 담긴 메시지는 건너뛴다.
+         * 담긴 메시지보다 오래된 메시지는 전체를 담은 링에만 추가한다 (그렇지 않으면 사이에 빠진 메시지가 있을 수 있음).
+         */
+        synchronized void add(ChatMessageResponse message) {
+            int index = entries.size();
+            for (int i = 0; i < entries.size(); i++) {
+                ChatMessageResponse entry = entries.get(i);
+                if (entry.getId().equals(message.getId())) {
+                    return;
+                }
+                if (index == entries.size() && NEWEST_FIRST.compare(entry, message) > 0) {
+                    index = i;
+                }
+            }
+            if (index >= capacity || (index == entries.size() && !complete)) {
+                return;
+            }
+            entries.add(index, message);
+            if (entries.size() > capacity) {
+                entries.remove(entries.size() - 1);
+                complete = false;
+            }
+        }
+
+        synchronized void remove(String chatId) {
+            entries.removeIf(entry -> entry.getId().equals(chatId));
+        }
+    }
+}
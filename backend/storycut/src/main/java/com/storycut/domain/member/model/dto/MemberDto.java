@@ -33,6 +33,17 @@ public class MemberDto {
                 .updatedAt(member.getUpdatedAt())
                 .build();
         }
+
+        public static Response fromSnapshot(MemberSnapshot member) {
+            return Response.builder()
+                .email(member.email())
+                .name(member.name())
+                .nickname(member.nickname())
+                .profileImg(member.profileImg())
+                .createdAt(member.createdAt())
+                .updatedAt(member.updatedAt())
+                .build();
+        }
     }
 
     @Getter
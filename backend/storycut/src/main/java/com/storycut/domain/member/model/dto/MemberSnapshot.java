@@ -0,0 +1,43 @@
+package com.storycut.domain.member.model.dto;
+
+import com.storycut.domain.member.model.entity.Member;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 캐시용 회원 프로필 스냅샷 (불변)
+ * 구글 액세스 토큰 등 민감 정보는 포함하지 않는다.
+ */
+public record MemberSnapshot(
+        Long id,
+        String email,
+        String name,
+        String nickname,
+        String profileImg,
+        String providerId,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    public static MemberSnapshot from(Member member) {
+        return new MemberSnapshot(
+                member.getId(),
+                member.getEmail(),
+                member.getName(),
+                member.getNickname(),
+                member.getProfileImg(),
+                member.getProviderId(),
+                member.getCreatedAt(),
+                member.getUpdatedAt()
+        );
+    }
+
+    /**
+     * OAuth 제공자에서 받은 프로필과 동일한지 확인 (재로그인 시 불필요한 쓰기 방지)
+     */
+    public boolean hasSameProfile(String email, String name, String profileImg) {
+        return Objects.equals(this.email, email)
+                && Objects.equals(this.name, name)
+                && Objects.equals(this.profileImg, profileImg);
+    }
+}
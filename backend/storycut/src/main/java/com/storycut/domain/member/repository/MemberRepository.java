@@ -2,7 +2,11 @@ package com.storycut.domain.member.repository;
 
 import com.storycut.domain.member.model.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -13,5 +17,19 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     Optional<Member> findByProviderId(String providerId);
 
+    @Query("SELECT m.id FROM Member m WHERE m.providerId = :providerId")
+    Optional<Long> findIdByProviderId(@Param("providerId") String providerId);
+
     boolean existsByEmail(String email);
+
+    /**
+     * 구글 액세스 토큰만 갱신 (엔티티 로딩 없이 단일 UPDATE)
+     *
+     * @return 갱신된 행 수 (0이면 회원 없음)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Member m SET m.googleAccessToken = :googleAccessToken WHERE m.id = :memberId")
+    int updateGoogleAccessToken(@Param("memberId") Long memberId,
+                                @Param("googleAccessToken") String googleAccessToken);
 }
@@ -0,0 +1,62 @@
+package com.storycut.domain.member.service;
+
+import com.storycut.domain.member.model.dto.MemberSnapshot;
+import com.storycut.domain.member.repository.MemberRepository;
+import com.storycut.global.cache.TwoLevelCache;
+import com.storycut.global.cache.TwoLevelCacheManager;
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원 프로필 캐시 - 인증(Principal 로딩), 프로필 조회, OAuth 재로그인에서 매 요청 DB 조회를 줄인다.
+ * <p>
+ * 프로필을 변경/삭제하는 쪽에서 {@link #evict(Long, String)}를 호출하면
+ * 커밋 이후 모든 노드의 캐시가 무효화된다.
+ * </p>
+ */
+@Component
+public class MemberCache {
+
+    private final MemberRepository memberRepository;
+    private final TwoLevelCache<MemberSnapshot> byId;
+    private final TwoLevelCache<Long> idByProviderId;
+
+    public MemberCache(MemberRepository memberRepository,
+                       TwoLevelCacheManager cacheManager,
+                       @Value("${app.cache.member.local-max-size:10000}") long localMaxSize,
+                       @Value("${app.cache.member.local-ttl:5m}") Duration localTtl,
+                       @Value("${app.cache.member.remote-ttl:30m}") Duration remoteTtl) {
+        this.memberRepository = memberRepository;
+        this.byId = cacheManager.create("member", MemberSnapshot.class, localMaxSize, localTtl, remoteTtl);
+        this.idByProviderId = cacheManager.create("member.provider", Long.class, localMaxSize, localTtl, remoteTtl);
+    }
+
+    /**
+     * ID로 회원 프로필 조회
+     */
+    public Optional<MemberSnapshot> findById(Long memberId) {
+        return byId.get(memberId, () -> memberRepository.findById(memberId)
+                .map(MemberSnapshot::from)
+                .orElse(null));
+    }
+
+    /**
+     * OAuth 제공자 ID로 회원 ID 조회
+     */
+    public Optional<Long> findIdByProviderId(String providerId) {
+        return idByProviderId.get(providerId, () -> memberRepository.findIdByProviderId(providerId)
+                .orElse(null));
+    }
+
+    /**
+     * 회원 프로필 무효화 (트랜잭션 안에서는 커밋 이후 수행)
+     */
+    public void evict(Long memberId, String providerId) {
+        byId.evict(memberId);
+        if (providerId != null) {
+            idByProviderId.evict(providerId);
+        }
+    }
+}
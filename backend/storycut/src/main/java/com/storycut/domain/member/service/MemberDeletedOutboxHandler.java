@@ -0,0 +1,69 @@
+package com.storycut.domain.member.service;
+
+import com.storycut.domain.mediachat.service.ChatMessageService;
+import com.storycut.domain.room.dto.response.RoomResponse;
+import com.storycut.domain.room.service.RoomService;
+import com.storycut.global.exception.BusinessException;
+import com.storycut.global.model.dto.BaseResponseStatus;
+import com.storycut.global.outbox.OutboxEventType;
+import com.storycut.global.outbox.OutboxHandler;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원 탈퇴 후속 처리 - 참여 중인 공유방 퇴장(방장이면 승계 또는 방 삭제), 채팅 메시지 삭제
+ * (토큰 폐기는 탈퇴 요청에서 즉시 처리)
+ * <p>
+ * 각 단계는 이미 처리된 부분을 건너뛰므로 재시도해도 안전하다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class MemberDeletedOutboxHandler implements OutboxHandler {
+
+    private final RoomService roomService;
+    private final ChatMessageService chatMessageService;
+    private final int batchSize;
+
+    public MemberDeletedOutboxHandler(RoomService roomService,
+                                      ChatMessageService chatMessageService,
+                                      @Value("${app.outbox.batch-size:100}") int batchSize) {
+        this.roomService = roomService;
+        this.chatMessageService = chatMessageService;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public OutboxEventType type() {
+        return OutboxEventType.MEMBER_DELETED;
+    }
+
+    @Override
+    public void handle(Long memberId) {
+        // 1. 참여 중인 공유방 퇴장 (방마다 별도 트랜잭션)
+        List<RoomResponse> rooms = roomService.getMyRooms(memberId);
+        for (RoomResponse room : rooms) {
+            try {
+                roomService.leaveRoom(memberId, room.getRoomId());
+            } catch (BusinessException e) {
+                // 그 사이 이미 퇴장했거나 방이 삭제된 경우
+                if (e.getBaseResponseStatus() != BaseResponseStatus.NOT_ROOM_MEMBER
+                        && e.getBaseResponseStatus() != BaseResponseStatus.NOT_FOUND_ROOM) {
+                    throw e;
+                }
+            }
+        }
+
+        // 2. 작성한 채팅 메시지 삭제 (배치 단위)
+        long messages = 0;
+        int deleted;
+        while ((deleted = chatMessageService.deleteBatchBySenderId(memberId, batchSize)) > 0) {
+            messages += deleted;
+        }
+
+        log.info("회원 탈퇴 후속 처리 완료 - 사용자 ID: {}, 퇴장한 공유방: {}, 삭제한 채팅 메시지: {}",
+                memberId, rooms.size(), messages);
+    }
+}
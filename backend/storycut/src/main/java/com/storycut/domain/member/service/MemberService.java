@@ -1,13 +1,16 @@
 package com.storycut.domain.member.service;
 
+import com.storycut.domain.auth.service.TokenService;
 import com.storycut.domain.member.model.dto.MemberDto;
+import com.storycut.domain.member.model.dto.MemberSnapshot;
 import com.storycut.domain.member.model.entity.Member;
 import com.storycut.domain.member.repository.MemberRepository;
 import com.storycut.global.exception.BusinessException;
 import com.storycut.global.model.dto.BaseResponseStatus;
+import com.storycut.global.outbox.OutboxEventType;
+import com.storycut.global.outbox.OutboxPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,15 +20,16 @@ import org.springframework.transaction.annotation.Transactional;
 public class MemberService {
 
     private final MemberRepository memberRepository;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final OutboxPublisher outboxPublisher;
+    private final MemberCache memberCache;
+    private final TokenService tokenService;
 
-    @Transactional(readOnly = true)
     public MemberDto.Response getMemberInfo(Long memberId) {
-        // memberId로 회원 조회
-        Member member = memberRepository.findById(memberId)
+        // 캐시된 회원 프로필 조회 (없으면 DB 조회 후 캐시)
+        MemberSnapshot member = memberCache.findById(memberId)
                 .orElseThrow(() -> new BusinessException(BaseResponseStatus.USER_NOT_FOUND));
         
-        return MemberDto.Response.fromEntity(member);
+        return MemberDto.Response.fromSnapshot(member);
     }
 
     @Transactional
@@ -46,6 +50,7 @@ public class MemberService {
 
         // 변경된 정보 저장
         Member updatedMember = memberRepository.save(member);
+        memberCache.evict(memberId, member.getProviderId());
         log.info("회원 정보 업데이트 완료 - ID: {}", memberId);
         
         return MemberDto.Response.fromEntity(updatedMember);
@@ -57,11 +62,15 @@ public class MemberService {
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new BusinessException(BaseResponseStatus.USER_NOT_FOUND));
 
-        // Redis에서 리프레시 토큰 삭제
-        redisTemplate.delete("RT:" + memberId);
-
         // 회원 정보 삭제
         memberRepository.delete(member);
+        memberCache.evict(memberId, member.getProviderId());
+
+        // 리프레시 토큰 삭제와 모든 기기의 액세스 토큰 폐기는 즉시 처리 (후속 처리가 재시도되는 동안 토큰 재사용/재발급 방지)
+        tokenService.revokeAllTokens(memberId);
+
+        // 공유방 퇴장, 채팅 메시지 삭제는 같은 트랜잭션에 기록 후 비동기 처리 (MemberDeletedOutboxHandler)
+        outboxPublisher.append(OutboxEventType.MEMBER_DELETED, memberId);
 
         log.info("계정 탈퇴 처리 완료 - 사용자 ID: {}", memberId);
     }
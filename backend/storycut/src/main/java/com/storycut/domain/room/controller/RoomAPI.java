@@ -5,7 +5,10 @@ import com.storycut.domain.room.dto.request.RoomCreateRequest;
 import com.storycut.domain.room.dto.request.RoomInviteRequest;
 import com.storycut.domain.room.dto.request.RoomUpdateRequest;
 import com.storycut.domain.room.dto.request.UpdateThumbnailRequest;
+import com.storycut.domain.room.dto.response.RoomFeedResponse;
+import com.storycut.domain.room.dto.response.RoomHomeResponse;
 import com.storycut.domain.room.dto.response.RoomMemberResponse;
+import com.storycut.domain.room.dto.response.RoomPresenceResponse;
 import com.storycut.domain.room.dto.response.RoomResponse;
 import com.storycut.global.model.dto.BaseResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -66,6 +69,27 @@ public interface RoomAPI {
     ResponseEntity<BaseResponse<List<RoomResponse>>> getMyRooms(
         @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails authUser);
 
+    /**
+     * 공유방 둘러보기 API
+     */
+    @Operation(
+        summary = "공유방 둘러보기",
+        description = "공유방 목록을 최신순으로 조회합니다. 응답의 nextCursor를 cursor로 전달하면 다음 페이지를 조회하며, "
+            + "title을 전달하면 제목이 해당 문자열로 시작하는 공유방만 조회합니다.",
+        security = @SecurityRequirement(name = "JWT")
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "요청에 성공하였습니다. (200)",
+            content = @Content(schema = @Schema(implementation = BaseResponse.class))),
+        @ApiResponse(responseCode = "400", description = "유효하지 않은 페이지 커서입니다. (2009)"),
+        @ApiResponse(responseCode = "401", description = "인증이 필요합니다. (401)")
+    })
+    @GetMapping("/discover")
+    ResponseEntity<BaseResponse<RoomFeedResponse>> discoverRooms(
+        @Parameter(description = "이전 페이지 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+        @Parameter(description = "페이지 크기 (기본 20, 최대 50)") @RequestParam(required = false) Integer size,
+        @Parameter(description = "제목 접두사 검색어") @RequestParam(required = false) String title);
+
     /**
      * 공유방 수정 API
      */
@@ -187,6 +211,27 @@ public interface RoomAPI {
         @Parameter(description = "입장할 공유방 ID", required = true) @RequestParam Long roomId,
         @Parameter(description = "공유방 비밀번호 (선택사항)") @RequestParam(required = false) String password);
 
+    /**
+     * 초대코드로 공유방 입장 API
+     */
+    @Operation(
+        summary = "초대코드로 공유방 입장",
+        description = "초대코드로 공유방을 찾아 바로 입장합니다. 초대코드 조회와 입장을 한 번의 요청으로 처리합니다.",
+        security = @SecurityRequirement(name = "JWT")
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "요청에 성공하였습니다. (200)",
+            content = @Content(schema = @Schema(implementation = BaseResponse.class))),
+        @ApiResponse(responseCode = "400", description = "초대코드 또는 비밀번호가 유효하지 않거나 이미 참여 중입니다. (2002, 2003, 2004, 2005)"),
+        @ApiResponse(responseCode = "401", description = "인증이 필요합니다. (401)"),
+        @ApiResponse(responseCode = "409", description = "공유방 최대 참여 인원을 초과했습니다. (2006)")
+    })
+    @PostMapping("/enter/invite")
+    ResponseEntity<BaseResponse<RoomResponse>> enterRoomByInviteCode(
+        @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails authUser,
+        @Parameter(description = "입력할 6자리 초대코드", required = true) @RequestParam String inviteCode,
+        @Parameter(description = "공유방 비밀번호 (선택사항)") @RequestParam(required = false) String password);
+
     /**
      * 공유방 나가기 API
      */
@@ -235,9 +280,66 @@ public interface RoomAPI {
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "요청에 성공하였습니다. (200)",
             content = @Content(schema = @Schema(implementation = BaseResponse.class))),
+        @ApiResponse(responseCode = "403", description = "공유방 참여자가 아닙니다. (2007)"),
         @ApiResponse(responseCode = "404", description = "해당 방이 존재하지 않습니다. (2000)")
     })
     @GetMapping("/members/{roomId}")
     ResponseEntity<BaseResponse<List<RoomMemberResponse>>> getRoomMembers(
+        @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails authUser,
+        @Parameter(description = "조회할 공유방 ID", required = true) @PathVariable Long roomId);
+
+    /**
+     * 공유방 접속 하트비트 API
+     */
+    @Operation(
+        summary = "공유방 접속 하트비트",
+        description = "공유방 화면을 보는 동안 주기적으로 호출합니다. 30초 동안 하트비트가 없으면 접속 종료로 간주합니다.",
+        security = @SecurityRequirement(name = "JWT")
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "요청에 성공하였습니다. (200)",
+            content = @Content(schema = @Schema(implementation = BaseResponse.class))),
+        @ApiResponse(responseCode = "403", description = "공유방 참여자가 아닙니다. (2007)")
+    })
+    @PostMapping("/presence/{roomId}")
+    ResponseEntity<BaseResponse<String>> heartbeat(
+        @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails authUser,
+        @Parameter(description = "접속 중인 공유방 ID", required = true) @PathVariable Long roomId);
+
+    /**
+     * 공유방 홈 화면 조회 API
+     */
+    @Operation(
+        summary = "공유방 홈 화면 조회",
+        description = "공유방 정보, 참여자 목록, 최근 채팅, 최근 공유 비디오를 한 번에 조회합니다. "
+            + "제한 시간 안에 조회하지 못한 항목은 비어 있으며 unavailableParts에 항목 이름이 담깁니다.",
+        security = @SecurityRequirement(name = "JWT")
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "요청에 성공하였습니다. (200)",
+            content = @Content(schema = @Schema(implementation = BaseResponse.class))),
+        @ApiResponse(responseCode = "403", description = "공유방 참여자가 아닙니다. (2007)")
+    })
+    @GetMapping("/home/{roomId}")
+    ResponseEntity<BaseResponse<RoomHomeResponse>> getRoomHome(
+        @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails authUser,
+        @Parameter(description = "조회할 공유방 ID", required = true) @PathVariable Long roomId);
+
+    /**
+     * 공유방 접속 현황 조회 API
+     */
+    @Operation(
+        summary = "공유방 접속 현황 조회",
+        description = "공유방에 현재 접속 중인 회원 목록을 조회합니다.",
+        security = @SecurityRequirement(name = "JWT")
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "요청에 성공하였습니다. (200)",
+            content = @Content(schema = @Schema(implementation = BaseResponse.class))),
+        @ApiResponse(responseCode = "403", description = "공유방 참여자가 아닙니다. (2007)")
+    })
+    @GetMapping("/presence/{roomId}")
+    ResponseEntity<BaseResponse<RoomPresenceResponse>> getRoomPresence(
+        @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails authUser,
         @Parameter(description = "조회할 공유방 ID", required = true) @PathVariable Long roomId);
-}
\ No newline at end of file
+}
@@ -5,7 +5,10 @@ import com.storycut.domain.room.dto.request.RoomCreateRequest;
 import com.storycut.domain.room.dto.request.RoomInviteRequest;
 import com.storycut.domain.room.dto.request.RoomUpdateRequest;
 import com.storycut.domain.room.dto.request.UpdateThumbnailRequest;
+import com.storycut.domain.room.dto.response.RoomFeedResponse;
+import com.storycut.domain.room.dto.response.RoomHomeResponse;
 import com.storycut.domain.room.dto.response.RoomMemberResponse;
+import com.storycut.domain.room.dto.response.RoomPresenceResponse;
 import com.storycut.domain.room.dto.response.RoomResponse;
 import com.storycut.domain.room.service.RoomService;
 import com.storycut.global.model.dto.BaseResponse;
@@ -39,6 +42,14 @@ public class RoomController implements RoomAPI {
         return ResponseEntity.ok(new BaseResponse<> (response));
     }
 
+    @Override
+    public ResponseEntity<BaseResponse<RoomFeedResponse>> discoverRooms(
+            String cursor, Integer size, String title) {
+
+        RoomFeedResponse response = roomService.discoverRooms(cursor, size, title);
+        return ResponseEntity.ok(new BaseResponse<> (response));
+    }
+
     @Override
     public ResponseEntity<BaseResponse<RoomResponse>> updateRoom(
             CustomUserDetails authUser, Long roomId, RoomUpdateRequest request) {
@@ -84,6 +95,14 @@ public class RoomController implements RoomAPI {
         return ResponseEntity.ok(new BaseResponse<> (response));
     }
 
+    @Override
+    public ResponseEntity<BaseResponse<RoomResponse>> enterRoomByInviteCode(
+            CustomUserDetails authUser, String inviteCode, String password) {
+
+        RoomResponse response = roomService.enterRoomByInviteCode(authUser.getMemberId(), inviteCode, password);
+        return ResponseEntity.ok(new BaseResponse<> (response));
+    }
+
     @Override
     public ResponseEntity<BaseResponse<String>> leaveRoom(
             CustomUserDetails authUser, Long roomId) {
@@ -102,9 +121,33 @@ public class RoomController implements RoomAPI {
 
     @Override
     public ResponseEntity<BaseResponse<List<RoomMemberResponse>>> getRoomMembers(
-            Long roomId) {
+            CustomUserDetails authUser, Long roomId) {
         
-        List<RoomMemberResponse> response = roomService.getRoomMembers(roomId);
+        List<RoomMemberResponse> response = roomService.getRoomMembers(authUser.getMemberId(), roomId);
+        return ResponseEntity.ok(new BaseResponse<> (response));
+    }
+
+    @Override
+    public ResponseEntity<BaseResponse<String>> heartbeat(
+            CustomUserDetails authUser, Long roomId) {
+
+        roomService.heartbeat(authUser.getMemberId(), roomId);
+        return ResponseEntity.ok(new BaseResponse<> ("OK"));
+    }
+
+    @Override
+    public ResponseEntity<BaseResponse<RoomHomeResponse>> getRoomHome(
+            CustomUserDetails authUser, Long roomId) {
+
+        RoomHomeResponse response = roomService.getRoomHome(authUser.getMemberId(), roomId);
+        return ResponseEntity.ok(new BaseResponse<> (response));
+    }
+
+    @Override
+    public ResponseEntity<BaseResponse<RoomPresenceResponse>> getRoomPresence(
+            CustomUserDetails authUser, Long roomId) {
+
+        RoomPresenceResponse response = roomService.getRoomPresence(authUser.getMemberId(), roomId);
         return ResponseEntity.ok(new BaseResponse<> (response));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,39 @@
+package com.storycut.domain.room.dto.query;
+
+import com.storycut.global.exception.BusinessException;
+import com.storycut.global.model.dto.BaseResponseStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 공유방 둘러보기 키셋 커서 - 이전 페이지 마지막 항목의 (생성 시각, 방 ID)
+ * 클라이언트에는 내부 형식을 드러내지 않도록 base64url 문자열로 전달한다.
+ */
+public record RoomFeedCursor(LocalDateTime createdAt, Long roomId) {
+
+    private static final String SEPARATOR = "|";
+
+    public static RoomFeedCursor from(RoomFeedItem item) {
+        return new RoomFeedCursor(item.createdAt(), item.roomId());
+    }
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + roomId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static RoomFeedCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new RoomFeedCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.valueOf(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new BusinessException(BaseResponseStatus.INVALID_ROOM_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.storycut.domain.room.dto.query;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공유방 둘러보기 목록 항목 - 목록 화면에 필요한 컬럼만 조회
+ */
+public record RoomFeedItem(
+        Long roomId,
+        Long hostId,
+        String roomTitle,
+        boolean hasPassword,
+        String roomThumbnail,
+        int memberCount,
+        Integer capacity,
+        LocalDateTime createdAt
+) {
+}
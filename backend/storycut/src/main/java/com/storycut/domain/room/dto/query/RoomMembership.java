@@ -0,0 +1,11 @@
+package com.storycut.domain.room.dto.query;
+
+/**
+ * 참여 관계 프로젝션 - 멤버십 인덱스 구성 시 엔티티 로딩 없이 키셋 페이징으로 읽는다.
+ */
+public record RoomMembership(
+        Long id,
+        Long roomId,
+        Long memberId
+) {
+}
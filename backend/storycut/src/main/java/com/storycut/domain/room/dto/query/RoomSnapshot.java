@@ -0,0 +1,41 @@
+package com.storycut.domain.room.dto.query;
+
+import com.storycut.domain.room.entity.Room;
+import java.time.LocalDateTime;
+
+/**
+ * 캐시용 공유방 스냅샷 (불변)
+ * 비밀번호 원문은 포함하지 않고 설정 여부만 보관한다.
+ */
+public record RoomSnapshot(
+        Long id,
+        Long hostId,
+        String title,
+        String context,
+        String thumbnail,
+        boolean hasPassword,
+        int memberCount,
+        Integer capacity,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    public static RoomSnapshot from(Room room) {
+        return new RoomSnapshot(
+                room.getId(),
+                room.getHostId(),
+                room.getTitle(),
+                room.getContext(),
+                room.getThumbnail(),
+                room.getPassword() != null && !room.getPassword().isEmpty(),
+                room.getMemberCount(),
+                room.getCapacity(),
+                room.getCreatedAt(),
+                room.getUpdatedAt()
+        );
+    }
+
+    public boolean isHost(Long memberId) {
+        return hostId.equals(memberId);
+    }
+}
@@ -0,0 +1,21 @@
+package com.storycut.domain.room.dto.query;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공유방 목록 조회용 프로젝션 - 방 정보, 참여자 수, 방장 여부를 한 번의 쿼리로 조회
+ */
+public record RoomSummary(
+        Long roomId,
+        Long hostId,
+        String roomTitle,
+        boolean hasPassword,
+        String roomContext,
+        String roomThumbnail,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        boolean isHost,
+        int memberCount,
+        Integer capacity
+) {
+}
@@ -1,6 +1,7 @@
 package com.storycut.domain.room.dto.request;
 
 import com.storycut.domain.room.entity.Room;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -20,6 +21,10 @@ public class RoomCreateRequest {
     private String roomContext;
 
     private String roomThumbnail;
+
+    // 최대 참여 인원 (선택, 미입력 시 제한 없음)
+    @Min(value = 1, message = "최대 참여 인원은 1명 이상이어야 합니다.")
+    private Integer roomCapacity;
     
     public Room toEntity(Long hostMemberId) {
         return Room.builder()
@@ -28,6 +33,7 @@ public class RoomCreateRequest {
                 .password(roomPassword)
                 .context(roomContext)
                 .thumbnail(roomThumbnail)
+                .capacity(roomCapacity)
                 .build();
     }
 }
@@ -0,0 +1,17 @@
+package com.storycut.domain.room.dto.response;
+
+import com.storycut.domain.room.dto.query.RoomFeedItem;
+
+import java.util.List;
+
+/**
+ * 공유방 둘러보기 페이지 응답
+ *
+ * @param nextCursor 다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)
+ */
+public record RoomFeedResponse(
+        List<RoomFeedItem> rooms,
+        String nextCursor,
+        boolean hasNext
+) {
+}
@@ -0,0 +1,22 @@
+package com.storycut.domain.room.dto.response;
+
+import com.storycut.domain.mediachat.dto.response.ChatMessageResponse;
+import java.util.List;
+
+/**
+ * 공유방 홈 화면 응답 (공유방 정보, 참여자, 최근 채팅, 최근 공유 비디오를 한 번에 조회)
+ *
+ * @param room 공유방 정보 (조회 실패 시 null)
+ * @param members 참여자 목록 (조회 실패 시 null)
+ * @param recentChats 최근 채팅 첫 페이지, 최신순 (조회 실패 시 null)
+ * @param latestVideo 가장 최근 공유된 비디오 메시지 (없거나 조회 실패 시 null)
+ * @param unavailableParts 시간 초과나 오류로 채우지 못한 항목 이름 목록 (room, members, recentChats, latestVideo)
+ */
+public record RoomHomeResponse(
+        RoomResponse room,
+        List<RoomMemberResponse> members,
+        List<ChatMessageResponse> recentChats,
+        ChatMessageResponse latestVideo,
+        List<String> unavailableParts
+) {
+}
@@ -0,0 +1,15 @@
+package com.storycut.domain.room.dto.response;
+
+import java.util.List;
+
+/**
+ * 공유방 접속 현황 응답
+ *
+ * @param onlineMemberIds 최근 하트비트 기준으로 접속 중인 회원 ID 목록
+ */
+public record RoomPresenceResponse(
+        Long roomId,
+        List<Long> onlineMemberIds,
+        int onlineCount
+) {
+}
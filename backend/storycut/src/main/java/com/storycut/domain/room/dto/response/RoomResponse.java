@@ -1,5 +1,7 @@
 package com.storycut.domain.room.dto.response;
 
+import com.storycut.domain.room.dto.query.RoomSnapshot;
+import com.storycut.domain.room.dto.query.RoomSummary;
 import com.storycut.domain.room.entity.Room;
 import lombok.Builder;
 import lombok.Getter;
@@ -20,6 +22,8 @@ public class RoomResponse {
     private LocalDateTime updatedAt;
     private boolean isHost;
     private int memberCount;
+    private Integer roomCapacity;
+    private Long onlineCount; // 현재 접속 인원 (내 공유방 목록에서만 제공)
     
     public static RoomResponse from(Long memberId, Room publicRoom, int memberCount) {
         return RoomResponse.builder()
@@ -33,6 +37,40 @@ public class RoomResponse {
                 .updatedAt(publicRoom.getUpdatedAt())
                 .isHost(publicRoom.isHost(memberId))
                 .memberCount(memberCount)
+                .roomCapacity(publicRoom.getCapacity())
+                .build();
+    }
+
+    public static RoomResponse from(Long memberId, RoomSnapshot room) {
+        return RoomResponse.builder()
+                .roomId(room.id())
+                .hostId(room.hostId())
+                .roomTitle(room.title())
+                .roomContext(room.context())
+                .roomThumbnail(room.thumbnail())
+                .hasPassword(room.hasPassword())
+                .createdAt(room.createdAt())
+                .updatedAt(room.updatedAt())
+                .isHost(room.isHost(memberId))
+                .memberCount(room.memberCount())
+                .roomCapacity(room.capacity())
+                .build();
+    }
+
+    public static RoomResponse from(RoomSummary summary, long onlineCount) {
+        return RoomResponse.builder()
+                .roomId(summary.roomId())
+                .hostId(summary.hostId())
+                .roomTitle(summary.roomTitle())
+                .roomContext(summary.roomContext())
+                .roomThumbnail(summary.roomThumbnail())
+                .hasPassword(summary.hasPassword())
+                .createdAt(summary.createdAt())
+                .updatedAt(summary.updatedAt())
+                .isHost(summary.isHost())
+                .memberCount(summary.memberCount())
+                .roomCapacity(summary.capacity())
+                .onlineCount(onlineCount)
                 .build();
     }
 }
@@ -1,25 +1,41 @@
 package com.storycut.domain.room.entity;
 
+import com.storycut.domain.room.entity.listener.RoomCacheInvalidationListener;
 import com.storycut.global.model.entity.BaseEntity;
-import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.SQLRestriction;
 
-
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "room")
+@Table(
+        name = "room",
+        indexes = {
+                // 둘러보기 키셋 페이징 (created_at, room_id 역순)
+                @Index(name = "idx_room_created_at_room_id", columnList = "created_at, room_id"),
+                // 제목 접두사 검색
+                @Index(name = "idx_room_title", columnList = "room_title")
+        }
+)
+// 삭제 표시된 방은 조회 대상에서 제외 (실제 행은 RoomPurgeWorker가 정리)
+@SQLRestriction("deleted_at IS NULL")
+@EntityListeners(RoomCacheInvalidationListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Room extends BaseEntity {
@@ -44,16 +60,39 @@ public class Room extends BaseEntity {
     @Column(name = "room_thumbnail")
     private String thumbnail;
 
-    @OneToMany(mappedBy = "room", cascade = CascadeType.ALL)
+    // 참여자 수 - 엔티티 변경 감지로 덮어쓰지 않도록 원자적 UPDATE로만 갱신 (RoomRepository)
+    @ColumnDefault("0")
+    @Column(name = "member_count", nullable = false, updatable = false)
+    private int memberCount;
+
+    // 낙관적 락 버전 - 방장 변경과 참여자 퇴장이 동시에 일어나 방장이 없는 방이 생기지 않도록 한다
+    // (퇴장 시 참여자 수 감소 쿼리도 버전을 올림)
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    // 최대 참여 인원 (null이면 제한 없음)
+    @Column(name = "room_capacity")
+    private Integer capacity;
+
+    // 삭제 요청 시각 (null이면 사용 중인 방)
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
+    // 참여자 정리는 RoomPurgeWorker의 벌크 DELETE로 처리하므로 cascade를 두지 않는다
+    @OneToMany(mappedBy = "room")
     private List<RoomMember> roomMembers = new ArrayList<>();
 
     @Builder
-    public Room(Long hostMemberId, String title, String password, String context, String thumbnail) {
+    public Room(Long hostMemberId, String title, String password, String context, String thumbnail,
+                Integer capacity) {
         this.hostId = hostMemberId;
         this.title = title;
         this.password = password;
         this.context = context;
         this.thumbnail = thumbnail;
+        this.capacity = capacity;
     }
 
     public void updateRoom(String title, String password, String context) {
@@ -70,6 +109,10 @@ public class Room extends BaseEntity {
         this.hostId = newHostId;
     }
 
+    public void markDeleted() {
+        this.deletedAt = LocalDateTime.now();
+    }
+
     public boolean isHost(Long memberId) {
         return this.hostId.equals(memberId);
     }
@@ -6,9 +6,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -18,7 +20,13 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "room_member")
+@Table(
+        name = "room_member",
+        uniqueConstraints = @UniqueConstraint(name = "uk_room_member_room_id_member_id",
+                columnNames = {"room_id", "member_id"}),
+        // 방장 승계 시 가장 오래된 참여자 조회용
+        indexes = @Index(name = "idx_room_member_room_id_created_at", columnList = "room_id, created_at, id")
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class RoomMember {
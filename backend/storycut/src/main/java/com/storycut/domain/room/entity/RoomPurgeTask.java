@@ -0,0 +1,84 @@
+package com.storycut.domain.room.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 공유방 정리 작업 - 방 삭제 표시와 같은 트랜잭션에서 등록되어, 처리 도중 프로세스가 죽어도 다음 실행에서 이어서 처리된다.
+ */
+@Entity
+@Table(
+        name = "room_purge_task",
+        indexes = @Index(name = "idx_room_purge_task_next_attempt_at", columnList = "next_attempt_at")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RoomPurgeTask {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @Column(name = "room_id")
+    private Long roomId;
+
+    // 지금까지 삭제한 참여 관계 수
+    @Column(name = "purged_members", nullable = false)
+    private long purgedMembers;
+
+    // 지금까지 삭제한 채팅 메시지 수
+    @Column(name = "purged_messages", nullable = false)
+    private long purgedMessages;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private RoomPurgeTask(Long roomId) {
+        this.roomId = roomId;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    public static RoomPurgeTask of(Long roomId) {
+        return new RoomPurgeTask(roomId);
+    }
+
+    public void recordProgress(long members, long messages) {
+        this.purgedMembers += members;
+        this.purgedMessages += messages;
+    }
+
+    /**
+     * 실패 기록 - 시도 횟수에 따라 지수적으로 늘어나는 간격 뒤에 재시도
+     */
+    public void recordFailure(String error, Duration baseBackoff, Duration maxBackoff) {
+        this.attempts++;
+        long factor = 1L << Math.min(attempts - 1, 20);
+        Duration backoff = baseBackoff.multipliedBy(factor);
+        if (backoff.compareTo(maxBackoff) > 0) {
+            backoff = maxBackoff;
+        }
+        this.nextAttemptAt = LocalDateTime.now().plus(backoff);
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+    }
+}
@@ -0,0 +1,33 @@
+package com.storycut.domain.room.entity.listener;
+
+import com.storycut.domain.room.entity.Room;
+import com.storycut.domain.room.service.RoomCache;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Room 엔티티 변경 시 공유방 캐시 무효화
+ * <p>
+ * 제목/비밀번호/썸네일/방장 변경과 삭제는 모두 엔티티를 통해 반영되므로 JPA 콜백에서 한 번에 처리한다.
+ * 생성 시에도 무효화하여 같은 ID에 대한 부정 캐시가 남지 않게 한다.
+ * 참여자 수처럼 벌크 UPDATE로 바뀌는 값은 콜백이 호출되지 않으므로 갱신 지점에서 직접 무효화한다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class RoomCacheInvalidationListener {
+
+    // JPA 슬라이스 테스트 등 캐시 빈이 없는 환경에서도 엔티티를 사용할 수 있도록 지연 조회
+    private final ObjectProvider<RoomCache> roomCache;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Room room) {
+        roomCache.ifAvailable(cache -> cache.evict(room.getId()));
+    }
+}
@@ -0,0 +1,56 @@
+package com.storycut.domain.room.event;
+
+/**
+ * 공유방 참여 관계 변경 이벤트 - 커밋 이후 멤버십 인덱스에 반영된다.
+ *
+ * @param memberId ROOM_DELETED인 경우 null
+ */
+public record RoomMembershipChangedEvent(
+        Type type,
+        Long roomId,
+        Long memberId
+) {
+
+    private static final char SEPARATOR = ':';
+
+    public enum Type {
+        JOINED, LEFT, ROOM_DELETED
+    }
+
+    public static RoomMembershipChangedEvent joined(Long roomId, Long memberId) {
+        return new RoomMembershipChangedEvent(Type.JOINED, roomId, memberId);
+    }
+
+    public static RoomMembershipChangedEvent left(Long roomId, Long memberId) {
+        return new RoomMembershipChangedEvent(Type.LEFT, roomId, memberId);
+    }
+
+    public static RoomMembershipChangedEvent roomDeleted(Long roomId) {
+        return new RoomMembershipChangedEvent(Type.ROOM_DELETED, roomId, null);
+    }
+
+    /**
+     * 노드 간 전파용 문자열 ({@code <유형>:<공유방 ID>[:<회원 ID>]})
+     */
+    public String encode() {
+        return type.name() + SEPARATOR + roomId + (memberId != null ? SEPARATOR + memberId.toString() : "");
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 맞지 않는 경우
+     */
+    public static RoomMembershipChangedEvent decode(String body) {
+        String[] parts = body.split(String.valueOf(SEPARATOR));
+        if (parts.length < 2) {
+            throw new IllegalArgumentException(body);
+        }
+        try {
+            return new RoomMembershipChangedEvent(
+                    Type.valueOf(parts[0]),
+                    Long.valueOf(parts[1]),
+                    parts.length > 2 ? Long.valueOf(parts[2]) : null);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(body, e);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.storycut.domain.room.repository;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * room_member 중복 행 정리 - (room_id, member_id) 유니크 제약 생성 전 단계
+ * <p>
+ * ddl-auto: update는 기존 중복 행이 있으면 유니크 제약 생성에 실패하고 로그만 남기므로,
+ * EntityManagerFactory(스키마 갱신)보다 먼저 실행되어 같은 참여 관계 중 가장 먼저 생성된 행(id 최소)만 남긴다.
+ * 제약이 생긴 뒤에는 조회 결과가 항상 비어 있으므로 아무 작업도 하지 않는다.
+ * 삭제로 어긋난 참여자 수(member_count)는 참여자 수 보정 작업이 맞춘다.
+ * </p>
+ */
+@Slf4j
+@Component(RoomMemberDuplicateCleaner.BEAN_NAME)
+@RequiredArgsConstructor
+public class RoomMemberDuplicateCleaner implements InitializingBean {
+
+    static final String BEAN_NAME = "roomMemberDuplicateCleaner";
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        try {
+            List<Long> duplicateIds = jdbcTemplate.queryForList(
+                    "SELECT rm.id FROM room_member rm JOIN room_member keep " +
+                    "ON keep.room_id = rm.room_id AND keep.member_id = rm.member_id AND keep.id < rm.id",
+                    Long.class);
+            for (int from = 0; from < duplicateIds.size(); from += BATCH_SIZE) {
+                List<Long> batch = duplicateIds.subList(from, Math.min(from + BATCH_SIZE, duplicateIds.size()));
+                jdbcTemplate.update("DELETE FROM room_member WHERE id IN (" +
+                        String.join(",", batch.stream().map(String::valueOf).toList()) + ")");
+            }
+            if (!duplicateIds.isEmpty()) {
+                log.info("room_member 중복 참여 관계 정리 - 삭제: {}건", duplicateIds.size());
+            }
+        } catch (DataAccessException e) {
+            // 테이블이 아직 없는 최초 기동 등 - 스키마 생성 시 제약이 함께 만들어짐
+            log.warn("room_member 중복 정리 생략: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 스키마 갱신(EntityManagerFactory 생성)이 중복 정리 이후에 실행되도록 의존 관계 추가
+     */
+    @Component
+    static class EntityManagerFactoryDependsOnCleaner extends EntityManagerFactoryDependsOnPostProcessor {
+
+        EntityManagerFactoryDependsOnCleaner() {
+            super(BEAN_NAME);
+        }
+    }
+}
@@ -1,8 +1,18 @@
 package com.storycut.domain.room.repository;
 
+import com.storycut.domain.room.dto.query.RoomMembership;
 import com.storycut.domain.room.entity.RoomMember;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,9 +22,80 @@ public interface RoomMemberRepository extends JpaRepository<RoomMember, Long> {
     
     Optional<RoomMember> findByRoomIdAndMemberId(Long roomId, Long memberId);
     
-    void deleteByRoomIdAndMemberId(Long roomId, Long memberId);
+    /**
+     * 엔티티 로딩 없이 단일 DELETE
+     *
+     * @return 삭제된 행 수 (0이면 참여자가 아님)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM RoomMember rm WHERE rm.room.id = :roomId AND rm.memberId = :memberId")
+    int deleteByRoomIdAndMemberId(@Param("roomId") Long roomId, @Param("memberId") Long memberId);
     
-    boolean existsByRoomIdAndMemberId(Long roomId, Long memberId);
+    /**
+     * 참여 여부 - 삭제 표시된 방의 (정리 대기 중인) 참여 관계는 제외
+     */
+    @Query("SELECT COUNT(rm) > 0 FROM RoomMember rm JOIN rm.room r " +
+           "WHERE r.id = :roomId AND rm.memberId = :memberId AND r.deletedAt IS NULL")
+    boolean existsByRoomIdAndMemberId(@Param("roomId") Long roomId, @Param("memberId") Long memberId);
+
+    /**
+     * 참여 관계 추가 - 엔티티 로딩 없는 단일 INSERT (사전 존재 확인 불필요)
+     * 이미 참여 중이거나 없는 방이면 {@link DataIntegrityViolationException}이 발생하며,
+     * 중복 참여 여부는 {@link #isDuplicateMembership}으로 구분한다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO room_member (room_id, member_id, created_at) " +
+                   "VALUES (:roomId, :memberId, :createdAt)", nativeQuery = true)
+    void insertMember(@Param("roomId") Long roomId, @Param("memberId") Long memberId,
+                      @Param("createdAt") LocalDateTime createdAt);
+
+    /**
+     * 방장 승계 대상 - 나가는 회원을 제외한 가장 오래된 참여자 (room_id, created_at, id 인덱스 사용)
+     */
+    @Query("SELECT rm.memberId FROM RoomMember rm " +
+           "WHERE rm.room.id = :roomId AND rm.memberId <> :memberId " +
+           "ORDER BY rm.createdAt ASC, rm.id ASC")
+    List<Long> findOldestMemberIdExcept(@Param("roomId") Long roomId, @Param("memberId") Long memberId,
+                                        Limit limit);
     
     List<RoomMember> findByMemberId(Long memberId);
+
+    /**
+     * 참여 관계 키셋 페이징 조회 (id 오름차순, afterId 초과)
+     */
+    @Query("SELECT new com.storycut.domain.room.dto.query.RoomMembership(rm.id, rm.room.id, rm.memberId) " +
+           "FROM RoomMember rm JOIN rm.room r " +
+           "WHERE rm.id > :afterId AND r.deletedAt IS NULL ORDER BY rm.id")
+    List<RoomMembership> findMembershipsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * 방 참여자 ID 목록 - 멤버십 인덱스의 방 단위 재확인용 (삭제 표시된 방은 빈 목록)
+     */
+    @Query("SELECT rm.memberId FROM RoomMember rm JOIN rm.room r " +
+           "WHERE r.id = :roomId AND r.deletedAt IS NULL")
+    List<Long> findMemberIdsByRoomId(@Param("roomId") Long roomId);
+
+    /**
+     * 방 정리용 참여 관계 ID 배치 조회
+     */
+    @Query("SELECT rm.id FROM RoomMember rm WHERE rm.room.id = :roomId ORDER BY rm.id")
+    List<Long> findIdsByRoomId(@Param("roomId") Long roomId, Limit limit);
+
+    /**
+     * 참여 관계 벌크 삭제 (엔티티 로딩 없이 DELETE 한 번)
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RoomMember rm WHERE rm.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") List<Long> ids);
+
+    /**
+     * 참여 관계 추가 실패가 (room_id, member_id) 유니크 제약 위반인지 확인
+     * 외래 키 위반, 값 잘림 등 다른 무결성 오류는 중복 참여로 보지 않는다.
+     */
+    static boolean isDuplicateMembership(DataIntegrityViolationException e) {
+        return e instanceof DuplicateKeyException
+                || e.getCause() instanceof ConstraintViolationException violation
+                && violation.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE;
+    }
 }
@@ -0,0 +1,16 @@
+package com.storycut.domain.room.repository;
+
+import com.storycut.domain.room.entity.RoomPurgeTask;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RoomPurgeTaskRepository extends JpaRepository<RoomPurgeTask, Long> {
+
+    /**
+     * 재시도 시각이 지난 정리 작업 (오래 기다린 순)
+     */
+    List<RoomPurgeTask> findByNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(LocalDateTime now, Limit limit);
+}
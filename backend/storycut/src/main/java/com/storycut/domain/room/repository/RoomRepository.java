@@ -1,20 +1,120 @@
 package com.storycut.domain.room.repository;
 
+import com.storycut.domain.room.dto.query.RoomFeedItem;
+import com.storycut.domain.room.dto.query.RoomSummary;
 import com.storycut.domain.room.entity.Room;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface RoomRepository extends JpaRepository<Room, Long> {
-    
-    List<Room> findAllByOrderByCreatedAtDesc();
+
+    String FEED_COLUMNS = "r.id, r.hostId, r.title, " +
+            "CASE WHEN r.password IS NOT NULL AND r.password <> '' THEN true ELSE false END, " +
+            "r.thumbnail, r.memberCount, r.capacity, r.createdAt";
     
     Optional<Room> findByIdAndHostId(Long id, Long hostMemberId);
     
-    @Query("SELECT r FROM Room r WHERE r.id IN " +
-           "(SELECT rm.room.id FROM RoomMember rm WHERE rm.memberId = :memberId)")
-    List<Room> findRoomsByMemberId(@Param("memberId") Long memberId);
+    /**
+     * 회원이 참여 중인 공유방 목록을 참여자 수, 방장 여부와 함께 한 번의 쿼리로 조회
+     * (참여 방 수와 관계없이 SQL 1회, 참여자 수는 비정규화된 member_count 사용)
+     */
+    @Query("SELECT new com.storycut.domain.room.dto.query.RoomSummary(" +
+           "r.id, r.hostId, r.title, " +
+           "CASE WHEN r.password IS NOT NULL AND r.password <> '' THEN true ELSE false END, " +
+           "r.context, r.thumbnail, r.createdAt, r.updatedAt, " +
+           "CASE WHEN r.hostId = :memberId THEN true ELSE false END, " +
+           "r.memberCount, r.capacity) " +
+           "FROM RoomMember mine JOIN mine.room r " +
+           "WHERE mine.memberId = :memberId AND r.deletedAt IS NULL")
+    List<RoomSummary> findRoomSummariesByMemberId(@Param("memberId") Long memberId);
+
+    /**
+     * 공유방 둘러보기 첫 페이지 - (created_at, room_id) 인덱스 역순 조회
+     *
+     * @param titlePrefix LIKE 접두사 패턴 (null이면 전체, 와일드카드는 '!'로 이스케이프)
+     */
+    @Query("SELECT new com.storycut.domain.room.dto.query.RoomFeedItem(" + FEED_COLUMNS + ") " +
+           "FROM Room r " +
+           "WHERE r.deletedAt IS NULL " +
+           "AND (:titlePrefix IS NULL OR r.title LIKE :titlePrefix ESCAPE '!') " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<RoomFeedItem> findFeedFirstPage(@Param("titlePrefix") String titlePrefix, Limit limit);
+
+    /**
+     * 공유방 둘러보기 다음 페이지 - 커서 (createdAt, id) 이후부터 키셋 조회 (OFFSET 없이 페이지마다 일정한 비용)
+     */
+    @Query("SELECT new com.storycut.domain.room.dto.query.RoomFeedItem(" + FEED_COLUMNS + ") " +
+           "FROM Room r " +
+           "WHERE r.deletedAt IS NULL " +
+           "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :roomId)) " +
+           "AND (:titlePrefix IS NULL OR r.title LIKE :titlePrefix ESCAPE '!') " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<RoomFeedItem> findFeedAfter(@Param("titlePrefix") String titlePrefix,
+                                     @Param("createdAt") LocalDateTime createdAt,
+                                     @Param("roomId") Long roomId,
+                                     Limit limit);
+
+    /**
+     * 현재 참여자 수 조회 (영속성 컨텍스트가 아닌 DB 값)
+     */
+    @Query("SELECT r.memberCount FROM Room r WHERE r.id = :roomId")
+    Optional<Integer> findMemberCountById(@Param("roomId") Long roomId);
+
+    /**
+     * 참여자 수 원자적 증가 - 정원이 있으면 정원 미만일 때만 증가 (행 락 대기 없이 조건부 UPDATE 한 번)
+     *
+     * @return 갱신된 행 수 (0이면 방이 없거나 정원 초과)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Room r SET r.memberCount = r.memberCount + 1 " +
+           "WHERE r.id = :roomId AND r.deletedAt IS NULL " +
+           "AND (r.capacity IS NULL OR r.memberCount < r.capacity)")
+    int incrementMemberCount(@Param("roomId") Long roomId);
+
+    /**
+     * 참여자 수 원자적 감소 - 방장이 아닌 회원의 퇴장만 반영 (0 미만으로 내려가지 않음)
+     * 같은 방의 방장 승계와 충돌을 감지할 수 있도록 버전도 함께 올린다.
+     *
+     * @return 갱신된 행 수 (0이면 방이 없거나 해당 회원이 현재 방장)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Room r SET " +
+           "r.memberCount = CASE WHEN r.memberCount > 0 THEN r.memberCount - 1 ELSE 0 END, " +
+           "r.version = r.version + 1 " +
+           "WHERE r.id = :roomId AND r.hostId <> :memberId")
+    int decrementMemberCount(@Param("roomId") Long roomId, @Param("memberId") Long memberId);
+
+    /**
+     * ID 구간 내에서 실제 참여자 수와 어긋난 member_count 보정
+     *
+     * @return 보정된 방 수
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Room r SET r.memberCount = " +
+           "(SELECT CAST(COUNT(rm) AS Integer) FROM RoomMember rm WHERE rm.room = r) " +
+           "WHERE r.id >= :fromId AND r.id < :toId " +
+           "AND r.memberCount <> (SELECT CAST(COUNT(rm2) AS Integer) FROM RoomMember rm2 WHERE rm2.room = r)")
+    int reconcileMemberCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query("SELECT MAX(r.id) FROM Room r")
+    Optional<Long> findMaxId();
+
+    /**
+     * 삭제 표시된 방의 행 제거 (엔티티 조회 제한을 우회하기 위해 네이티브 쿼리 사용)
+     *
+     * @return 삭제된 행 수 (0이면 이미 정리되었거나 삭제 표시되지 않은 방)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM room WHERE room_id = :roomId AND deleted_at IS NOT NULL", nativeQuery = true)
+    int hardDeleteMarked(@Param("roomId") Long roomId);
 }
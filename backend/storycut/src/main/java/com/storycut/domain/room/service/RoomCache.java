@@ -0,0 +1,50 @@
+package com.storycut.domain.room.service;
+
+import com.storycut.domain.room.dto.query.RoomSnapshot;
+import com.storycut.domain.room.repository.RoomRepository;
+import com.storycut.global.cache.TwoLevelCache;
+import com.storycut.global.cache.TwoLevelCacheManager;
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공유방 조회 캐시 - 채팅 전송/조회, 공유방 상세 등 읽기 위주 경로에서 매번 DB를 조회하지 않도록 한다.
+ * <p>
+ * 존재하지 않는 방 ID는 짧게 부정 캐시하고, 방 정보가 바뀌면
+ * {@link com.storycut.domain.room.entity.listener.RoomCacheInvalidationListener} 및 참여자 수 갱신 지점에서 모든 노드의 캐시를 무효화한다.
+ * </p>
+ */
+@Component
+public class RoomCache {
+
+    private final RoomRepository roomRepository;
+    private final TwoLevelCache<RoomSnapshot> cache;
+
+    public RoomCache(RoomRepository roomRepository,
+                     TwoLevelCacheManager cacheManager,
+                     @Value("${app.cache.room.local-max-size:10000}") long localMaxSize,
+                     @Value("${app.cache.room.local-ttl:1m}") Duration localTtl,
+                     @Value("${app.cache.room.remote-ttl:10m}") Duration remoteTtl,
+                     @Value("${app.cache.room.negative-ttl:30s}") Duration negativeTtl) {
+        this.roomRepository = roomRepository;
+        this.cache = cacheManager.create("room", RoomSnapshot.class, localMaxSize, localTtl, remoteTtl, negativeTtl);
+    }
+
+    /**
+     * ID로 공유방 조회
+     */
+    public Optional<RoomSnapshot> findById(Long roomId) {
+        return cache.get(roomId, () -> roomRepository.findById(roomId)
+                .map(RoomSnapshot::from)
+                .orElse(null));
+    }
+
+    /**
+     * 공유방 캐시 무효화 (트랜잭션 안에서는 커밋 이후 수행)
+     */
+    public void evict(Long roomId) {
+        cache.evict(roomId);
+    }
+}
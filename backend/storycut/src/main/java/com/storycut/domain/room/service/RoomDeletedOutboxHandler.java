@@ -0,0 +1,35 @@
+package com.storycut.domain.room.service;
+
+import com.storycut.domain.room.event.RoomMembershipChangedEvent;
+import com.storycut.global.outbox.OutboxEventType;
+import com.storycut.global.outbox.OutboxHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공유방 삭제 후속 처리 - Redis 캐시 제거, 초대코드 회수, 멤버십 변경 전파
+ * <p>
+ * 커밋 직후의 이벤트 리스너로도 처리되지만, 그 사이 프로세스가 종료되어도 다른 노드에 반영되도록 아웃박스로 한 번 더 보장한다.
+ * MySQL/MongoDB 데이터 정리는 같은 트랜잭션에서 등록된 정리 작업(RoomPurgeWorker)이 담당한다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class RoomDeletedOutboxHandler implements OutboxHandler {
+
+    private final RoomCache roomCache;
+    private final RoomMembershipIndex roomMembershipIndex;
+    private final RoomInviteService roomInviteService;
+
+    @Override
+    public OutboxEventType type() {
+        return OutboxEventType.ROOM_DELETED;
+    }
+
+    @Override
+    public void handle(Long roomId) {
+        roomCache.evict(roomId);
+        roomInviteService.revokeInviteCode(roomId);
+        roomMembershipIndex.onMembershipChanged(RoomMembershipChangedEvent.roomDeleted(roomId));
+    }
+}
@@ -2,12 +2,20 @@ package com.storycut.domain.room.service;
 
 import static com.storycut.global.model.dto.BaseResponseStatus.*;
 
+import com.storycut.domain.room.dto.query.RoomSnapshot;
+import com.storycut.domain.room.dto.query.RoomSummary;
 import com.storycut.domain.room.dto.request.RoomCreateRequest;
 import com.storycut.domain.room.dto.response.RoomResponse;
 import com.storycut.domain.room.entity.Room;
+import com.storycut.domain.room.entity.RoomPurgeTask;
+import com.storycut.domain.room.event.RoomMembershipChangedEvent;
+import com.storycut.domain.room.repository.RoomPurgeTaskRepository;
 import com.storycut.domain.room.repository.RoomRepository;
 import com.storycut.global.exception.BusinessException;
+import com.storycut.global.outbox.OutboxEventType;
+import com.storycut.global.outbox.OutboxPublisher;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +28,10 @@ import java.util.List;
 public class RoomDetailService {
     
     private final RoomRepository roomRepository;
+    private final RoomPurgeTaskRepository roomPurgeTaskRepository;
+    private final OutboxPublisher outboxPublisher;
+    private final RoomCache roomCache;
+    private final ApplicationEventPublisher eventPublisher;
     
 
     @Transactional
@@ -35,19 +47,34 @@ public class RoomDetailService {
     }
     
 
+    /**
+     * 캐시된 공유방 조회 - 존재 확인, 방장 확인 등 엔티티 수정이 필요 없는 읽기 경로용
+     */
+    public RoomSnapshot getRoomSnapshot(Long roomId) {
+        return roomCache.findById(roomId)
+                .orElseThrow(() -> new BusinessException(NOT_FOUND_ROOM));
+    }
+    
+
     public Room findRoomByIdAndHostId(Long roomId, Long hostMemberId) {
         return roomRepository.findByIdAndHostId(roomId, hostMemberId)
                 .orElseThrow(() ->  new BusinessException(NOT_VALID_HOST));
     }
     
 
-    public List<Room> findRoomsByMemberId(Long memberId) {
-        return roomRepository.findRoomsByMemberId(memberId);
+    public List<RoomSummary> findRoomSummariesByMemberId(Long memberId) {
+        return roomRepository.findRoomSummariesByMemberId(memberId);
     }
 
+    /**
+     * 공유방 삭제 - 삭제 표시와 정리 작업 등록만 하고, 참여 관계/채팅 메시지/방 행은 RoomPurgeWorker가 정리
+     */
     @Transactional
     public void deleteRoom(Room room) {
-        roomRepository.delete(room);
+        room.markDeleted();
+        roomPurgeTaskRepository.save(RoomPurgeTask.of(room.getId()));
+        outboxPublisher.append(OutboxEventType.ROOM_DELETED, room.getId());
+        eventPublisher.publishEvent(RoomMembershipChangedEvent.roomDeleted(room.getId()));
     }
     
 
@@ -64,4 +91,14 @@ public class RoomDetailService {
     public RoomResponse mapToResponse(Long memberId, Room room, int memberCount) {
         return RoomResponse.from(memberId, room, memberCount);
     }
+
+
+    public RoomResponse mapToResponse(Long memberId, RoomSnapshot room) {
+        return RoomResponse.from(memberId, room);
+    }
+
+
+    public RoomResponse mapToResponse(RoomSummary summary, long onlineCount) {
+        return RoomResponse.from(summary, onlineCount);
+    }
 }
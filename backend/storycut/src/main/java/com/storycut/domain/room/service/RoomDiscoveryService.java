@@ -0,0 +1,92 @@
+package com.storycut.domain.room.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.storycut.domain.room.dto.query.RoomFeedCursor;
+import com.storycut.domain.room.dto.query.RoomFeedItem;
+import com.storycut.domain.room.dto.response.RoomFeedResponse;
+import com.storycut.domain.room.repository.RoomRepository;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+/**
+ * 공유방 둘러보기 서비스
+ * <p>
+ * (created_at, room_id) 키셋 페이징으로 조회하므로 방 수와 관계없이 페이지마다 인덱스 범위 스캔 한 번이다.
+ * 가장 많이 요청되는 필터 없는 첫 페이지는 노드별로 캐시하며, refresh 간격이 지난 뒤 요청이 오면
+ * 기존 페이지를 반환하면서 백그라운드에서 한 번만 다시 조회한다.
+ * </p>
+ */
+@Service
+public class RoomDiscoveryService {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 50;
+
+    private static final char LIKE_ESCAPE = '!';
+
+    private final RoomRepository roomRepository;
+    private final LoadingCache<Integer, RoomFeedResponse> firstPageCache;
+
+    public RoomDiscoveryService(RoomRepository roomRepository,
+                                @Value("${app.room.discover.first-page-refresh:5s}") Duration firstPageRefresh) {
+        this.roomRepository = roomRepository;
+        this.firstPageCache = Caffeine.newBuilder()
+                .maximumSize(MAX_PAGE_SIZE)
+                .refreshAfterWrite(firstPageRefresh)
+                // 갱신이 계속 실패하면 오래된 페이지를 내보내지 않도록 만료도 함께 둔다
+                .expireAfterWrite(firstPageRefresh.multipliedBy(12))
+                .build(size -> findPage(null, null, size));
+    }
+
+    /**
+     * 공유방 둘러보기 - 최신순
+     *
+     * @param cursor 이전 응답의 nextCursor (null이면 첫 페이지)
+     * @param size 페이지 크기 (기본 20, 최대 50)
+     * @param title 제목 접두사 (선택)
+     */
+    public RoomFeedResponse discover(String cursor, Integer size, String title) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        String titlePrefix = toLikePrefix(title);
+        RoomFeedCursor after = cursor == null || cursor.isBlank() ? null : RoomFeedCursor.decode(cursor);
+
+        if (after == null && titlePrefix == null) {
+            return firstPageCache.get(pageSize);
+        }
+        return findPage(titlePrefix, after, pageSize);
+    }
+
+    private RoomFeedResponse findPage(String titlePrefix, RoomFeedCursor after, int size) {
+        // 다음 페이지 존재 여부를 COUNT 없이 알기 위해 한 건 더 조회
+        Limit limit = Limit.of(size + 1);
+        List<RoomFeedItem> rows = after == null
+                ? roomRepository.findFeedFirstPage(titlePrefix, limit)
+                : roomRepository.findFeedAfter(titlePrefix, after.createdAt(), after.roomId(), limit);
+
+        boolean hasNext = rows.size() > size;
+        List<RoomFeedItem> page = hasNext ? List.copyOf(rows.subList(0, size)) : List.copyOf(rows);
+        String nextCursor = hasNext ? RoomFeedCursor.from(page.get(page.size() - 1)).encode() : null;
+        return new RoomFeedResponse(page, nextCursor, hasNext);
+    }
+
+    /**
+     * 제목 접두사를 LIKE 패턴으로 변환 (입력의 와일드카드는 문자 그대로 검색)
+     */
+    static String toLikePrefix(String title) {
+        if (title == null || title.isBlank()) {
+            return null;
+        }
+        StringBuilder pattern = new StringBuilder();
+        for (char c : title.trim().toCharArray()) {
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                pattern.append(LIKE_ESCAPE);
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+}
@@ -2,22 +2,27 @@ package com.storycut.domain.room.service;
 
 import static com.storycut.global.model.dto.BaseResponseStatus.*;
 
-import com.storycut.domain.mediachat.service.ChatMessageService;
+import com.storycut.domain.room.dto.query.RoomSnapshot;
+import com.storycut.domain.room.dto.query.RoomSummary;
 import com.storycut.domain.room.dto.request.RoomCreateRequest;
 import com.storycut.domain.room.dto.request.RoomUpdateRequest;
+import com.storycut.domain.room.dto.response.RoomFeedResponse;
+import com.storycut.domain.room.dto.response.RoomHomeResponse;
 import com.storycut.domain.room.dto.response.RoomMemberResponse;
+import com.storycut.domain.room.dto.response.RoomPresenceResponse;
 import com.storycut.domain.room.dto.response.RoomResponse;
 import com.storycut.domain.room.entity.Room;
 import com.storycut.domain.room.entity.RoomMember;
 import com.storycut.global.exception.BusinessException;
-import java.util.Comparator;
-import java.util.Objects;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 
 
 @Service
@@ -29,7 +34,10 @@ public class RoomFacadeService implements RoomService {
     private final RoomDetailService roomDetailService;
     private final RoomMemberService roomMemberService;
     private final RoomInviteService roomInviteService;
-    private final ChatMessageService chatMessageService;
+    private final RoomMembershipIndex roomMembershipIndex;
+    private final RoomDiscoveryService roomDiscoveryService;
+    private final RoomPresenceService roomPresenceService;
+    private final RoomHomeService roomHomeService;
 
     @Override
     @Transactional
@@ -46,18 +54,25 @@ public class RoomFacadeService implements RoomService {
 
     @Override
     public List<RoomResponse> getMyRooms(Long memberId) {
-        // 회원이 참여 중인 공유방 목록 조회
-        List<Room> rooms = roomDetailService.findRoomsByMemberId(memberId);
-        
-        // 각 공유방에 대해 참여자 수를 조회하여 응답 객체로 변환
-        return rooms.stream()
-                .map(room -> {
-                    int memberCount = roomMemberService.countMembersByRoomId(room.getId());
-                    return roomDetailService.mapToResponse(memberId, room, memberCount);
-                })
+        // 회원이 참여 중인 공유방 목록을 참여자 수, 방장 여부와 함께 한 번에 조회
+        List<RoomSummary> summaries = roomDetailService.findRoomSummariesByMemberId(memberId);
+
+        // 방별 접속 인원은 한 번의 파이프라인으로 조회
+        Map<Long, Long> onlineCounts = roomPresenceService.countOnline(
+                summaries.stream().map(RoomSummary::roomId).toList());
+
+        return summaries.stream()
+                .map(summary -> roomDetailService.mapToResponse(
+                        summary, onlineCounts.getOrDefault(summary.roomId(), 0L)))
                 .toList();
     }
 
+    @Override
+    public RoomFeedResponse discoverRooms(String cursor, Integer size, String title) {
+        // 키셋 페이징 (필터 없는 첫 페이지는 캐시)
+        return roomDiscoveryService.discover(cursor, size, title);
+    }
+
     @Override
     @Transactional
     public RoomResponse updateRoom(Long memberId, Long roomId, RoomUpdateRequest request) {
@@ -67,11 +82,8 @@ public class RoomFacadeService implements RoomService {
         // 공유방 정보 수정
         room.updateRoom(request.getRoomTitle(), request.getRoomPassword(), request.getRoomContext());
 
-        // 현재 참여자 수 조회
-        int memberCount = roomMemberService.countMembersByRoomId(roomId);
-
-        // 응답 생성
-        return roomDetailService.mapToResponse(memberId, room, memberCount);
+        // 응답 생성 (참여자 수는 방 엔티티의 비정규화 컬럼 사용)
+        return roomDetailService.mapToResponse(memberId, room, room.getMemberCount());
     }
 
     @Override
@@ -83,11 +95,8 @@ public class RoomFacadeService implements RoomService {
         // 공유방 정보 수정
         room.updateThumbnail(thumbnail);
 
-        // 현재 참여자 수 조회
-        int memberCount = roomMemberService.countMembersByRoomId(roomId);
-
-        // 응답 생성
-        return roomDetailService.mapToResponse(memberId, room, memberCount);
+        // 응답 생성 (참여자 수는 방 엔티티의 비정규화 컬럼 사용)
+        return roomDetailService.mapToResponse(memberId, room, room.getMemberCount());
     }
 
     @Override
@@ -96,15 +105,11 @@ public class RoomFacadeService implements RoomService {
         // 방장 권한 확인과 함께 공유방 조회
         Room room = roomDetailService.findRoomByIdAndHostId(roomId, memberId);
         
-        // MongoDB에서 채팅 로그 삭제
-        chatMessageService.deleteAllByRoomId(roomId);
-        
-        // 공유방 삭제 (cascade로 멤버도 함께 삭제됨)
+        // 공유방 삭제 표시 (참여 관계와 채팅 로그는 RoomPurgeWorker가 배치로 정리)
         roomDetailService.deleteRoom(room);
     }
 
     @Override
-    @Transactional
     public String generateInviteCode(Long hostMemberId, Long roomId) {
         // 방장 권한 확인
         Room room = roomDetailService.findRoomByIdAndHostId(roomId, hostMemberId);
@@ -112,14 +117,19 @@ public class RoomFacadeService implements RoomService {
     }
 
     @Override
-    @Transactional
     public Long enterByCode(String inviteCode) {
-        if(inviteCode.length() != 6) {
-            throw new BusinessException(LENGTH_INVITE_CODE);
-        }
+        // 길이 검증과 대소문자 정규화는 초대코드 서비스에서 처리
         return roomInviteService.decodeInviteCode(inviteCode);
     }
 
+    @Override
+    @Transactional
+    public RoomResponse enterRoomByInviteCode(Long memberId, String inviteCode, String password) {
+        // 초대코드 조회와 입장을 한 번의 요청으로 처리 (클라이언트 왕복 1회 절감)
+        Long roomId = roomInviteService.decodeInviteCode(inviteCode);
+        return enterRoom(memberId, roomId, password);
+    }
+
     @Override
     @Transactional
     public RoomResponse enterRoom(Long memberId, Long roomId, String password) {
@@ -131,13 +141,10 @@ public class RoomFacadeService implements RoomService {
             throw new BusinessException(NOT_VALID_PASSWORD);
         }
 
-        // 이미 참여 중인지 확인
-        if (roomMemberService.isMemberExists(roomId, memberId)) {
-            throw new BusinessException(ALREADY_MEMBER_ROOM);
-        }
+        // 참여 (중복 참여는 유니크 제약으로 단일 INSERT에서 걸러짐)
         roomMemberService.addMember(memberId, room);
 
-        // 현재 참여자 수 조회
+        // 입장 반영 후 참여자 수 조회 (방 행 하나만 조회)
         int memberCount = roomMemberService.countMembersByRoomId(roomId);
 
         // 응답 생성
@@ -151,59 +158,73 @@ public class RoomFacadeService implements RoomService {
         Room room = roomDetailService.findRoomById(roomId);
         
         // 방장인 경우 특별 처리
-        if (room.getHostId().equals(memberId)) {
-            // 방에 남은 다른 멤버들 조회
-            List<RoomMember> remainingMembers = roomMemberService.findMembersByRoomId(roomId)
-                    .stream()
-                    .filter(member -> !member.getMemberId().equals(memberId))
-                    .toList();
+        if (room.isHost(memberId)) {
+            // 가장 오래된 참여자를 인덱스로 한 건만 조회
+            Optional<Long> successor = roomMemberService.findSuccessor(roomId, memberId);
             
-            if (remainingMembers.isEmpty() && Objects.equals(room.getHostId(), memberId)) {
+            if (successor.isEmpty()) {
                 // 남은 멤버가 없으면 방과 관련 데이터 삭제
                 log.info("방장 {}가 방을 삭제합니다.", memberId);
                 
-                // MongoDB에서 채팅 로그 삭제
-                chatMessageService.deleteAllByRoomId(roomId);
-                
-                // 공유방 삭제
+                // 공유방 삭제 표시 (채팅 로그 등은 RoomPurgeWorker가 정리)
                 roomDetailService.deleteRoom(room);
                 return;
-            } else {
-                // 생성 시간 기준으로 오름차순 정렬하여 가장 오래된 멤버를 새 방장으로 지정
-                RoomMember oldestMember = remainingMembers.stream()
-                        .min(Comparator.comparing(RoomMember::getCreatedAt))
-                        .orElseThrow();
-                
-                // 새로운 방장 설정
-                room.updateHostId(oldestMember.getMemberId());
-                log.info("방장 {}가 방을 떠났습니다. 새로운 방장: {}", memberId, oldestMember.getMemberId());
-                // 기존 방장 멤버 제거
-                roomMemberService.removeMember(roomId, memberId);
             }
-        } else {
-            // 일반 멤버인 경우 제거
-            roomMemberService.removeMember(roomId, memberId);
+
+            // 새로운 방장 설정 (버전 확인 - 그 사이 다른 퇴장이 반영됐다면 충돌로 롤백)
+            room.updateHostId(successor.get());
+            log.info("방장 {}가 방을 떠났습니다. 새로운 방장: {}", memberId, successor.get());
         }
+
+        // 멤버 제거 (방장은 승계 반영 후 일반 멤버로 제거됨)
+        roomMemberService.removeMember(roomId, memberId);
     }
 
     @Override
     public RoomResponse getRoomDetail(Long memberId, Long roomId) {
-        // 공유방 조회
-        Room room = roomDetailService.findRoomById(roomId);
-        
-        // 현재 참여자 수 조회
-        int memberCount = roomMemberService.countMembersByRoomId(roomId);
+        // 캐시된 공유방 조회 (참여자 수는 비정규화 컬럼 - 참여자 수와 무관한 O(1) 조회)
+        RoomSnapshot room = roomDetailService.getRoomSnapshot(roomId);
         
         // 응답 생성
-        return roomDetailService.mapToResponse(memberId, room, memberCount);
+        return roomDetailService.mapToResponse(memberId, room);
     }
 
     @Override
-    public List<RoomMemberResponse> getRoomMembers(Long roomId) {
+    public List<RoomMemberResponse> getRoomMembers(Long memberId, Long roomId) {
+        // 참여자만 목록 조회 가능 (멤버십 인덱스로 확인)
+        validateRoomMember(roomId, memberId);
+
         // 공유방 참여자 목록 조회
         List<RoomMember> members = roomMemberService.findMembersByRoomId(roomId);
         
         // 응답 생성
         return roomMemberService.mapToResponseList(members);
     }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public RoomHomeResponse getRoomHome(Long memberId, Long roomId) {
+        // 참여자 확인은 한 번만 (멤버십 인덱스), 이후 항목별 조회는 각자 짧은 트랜잭션으로 병렬 실행
+        validateRoomMember(roomId, memberId);
+        return roomHomeService.getRoomHome(memberId, roomId);
+    }
+
+    @Override
+    public void heartbeat(Long memberId, Long roomId) {
+        // 참여자만 접속 표시 가능 (멤버십 인덱스로 확인, DB 쓰기 없음)
+        validateRoomMember(roomId, memberId);
+        roomPresenceService.heartbeat(roomId, memberId);
+    }
+
+    @Override
+    public RoomPresenceResponse getRoomPresence(Long memberId, Long roomId) {
+        validateRoomMember(roomId, memberId);
+        return roomPresenceService.getOnlineMembers(roomId);
+    }
+
+    private void validateRoomMember(Long roomId, Long memberId) {
+        if (!roomMembershipIndex.isMember(roomId, memberId)) {
+            throw new BusinessException(NOT_ROOM_MEMBER);
+        }
+    }
 }
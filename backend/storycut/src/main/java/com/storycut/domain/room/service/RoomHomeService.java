@@ -0,0 +1,113 @@
+package com.storycut.domain.room.service;
+
+import com.storycut.domain.mediachat.dto.response.ChatMessageResponse;
+import com.storycut.domain.mediachat.service.ChatMessageService;
+import com.storycut.domain.room.dto.response.RoomHomeResponse;
+import com.storycut.domain.room.dto.response.RoomMemberResponse;
+import com.storycut.domain.room.dto.response.RoomResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 공유방 홈 화면 집계 서비스
+ * <p>
+ * 공유방 정보(캐시/MySQL), 참여자 목록(MySQL), 최근 채팅 첫 페이지(MongoDB), 최근 공유 비디오(MongoDB)를
+ * 제한된 전용 풀에서 동시에 조회하므로 응답 시간은 각 조회의 합이 아니라 가장 느린 조회에 가깝다.
+ * </p>
+ * <p>
+ * 항목마다 part-timeout을 두어, 시간 안에 끝나지 않거나 실패한 항목은 비워 두고 unavailableParts에 이름을 남긴다.
+ * 시간 초과된 조회 자체는 중단되지 않고 풀 스레드에서 끝까지 실행되므로 풀 크기와 대기열로 총량을 제한한다.
+ * 참여자 확인은 호출 측(RoomFacadeService)에서 한 번만 수행한다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class RoomHomeService {
+
+    static final String PART_ROOM = "room";
+    static final String PART_MEMBERS = "members";
+    static final String PART_RECENT_CHATS = "recentChats";
+    static final String PART_LATEST_VIDEO = "latestVideo";
+
+    private final RoomDetailService roomDetailService;
+    private final RoomMemberService roomMemberService;
+    private final ChatMessageService chatMessageService;
+    private final Executor executor;
+    private final MeterRegistry meterRegistry;
+    private final Duration partTimeout;
+    private final int chatPageSize;
+
+    public RoomHomeService(RoomDetailService roomDetailService,
+                           RoomMemberService roomMemberService,
+                           ChatMessageService chatMessageService,
+                           @Qualifier("roomHomeExecutor") Executor executor,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.room.home.part-timeout:800ms}") Duration partTimeout,
+                           @Value("${app.room.home.chat-page-size:20}") int chatPageSize) {
+        this.roomDetailService = roomDetailService;
+        this.roomMemberService = roomMemberService;
+        this.chatMessageService = chatMessageService;
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+        this.partTimeout = partTimeout;
+        this.chatPageSize = chatPageSize;
+    }
+
+    /**
+     * 공유방 홈 화면 데이터를 병렬로 조회 (참여자 확인이 끝난 회원만 호출)
+     */
+    public RoomHomeResponse getRoomHome(Long memberId, Long roomId) {
+        Set<String> unavailable = ConcurrentHashMap.newKeySet();
+
+        CompletableFuture<RoomResponse> room = load(PART_ROOM, unavailable,
+                () -> roomDetailService.mapToResponse(memberId, roomDetailService.getRoomSnapshot(roomId)));
+        CompletableFuture<List<RoomMemberResponse>> members = load(PART_MEMBERS, unavailable,
+                () -> roomMemberService.mapToResponseList(roomMemberService.findMembersByRoomId(roomId)));
+        CompletableFuture<List<ChatMessageResponse>> recentChats = load(PART_RECENT_CHATS, unavailable,
+                () -> chatMessageService.getByRoomIdWithPaging(roomId, 0, chatPageSize));
+        CompletableFuture<ChatMessageResponse> latestVideo = load(PART_LATEST_VIDEO, unavailable,
+                () -> chatMessageService.getLatestVideoByRoomId(roomId).orElse(null));
+
+        // 각 항목이 part-timeout 안에 값 또는 null로 완료되므로 여기서 오래 기다리지 않는다
+        CompletableFuture.allOf(room, members, recentChats, latestVideo).join();
+
+        return new RoomHomeResponse(
+                room.join(),
+                members.join(),
+                recentChats.join(),
+                latestVideo.join(),
+                unavailable.stream().sorted().toList()
+        );
+    }
+
+    /**
+     * 항목 하나를 풀에서 조회 - 시간 초과, 예외, 풀 포화(거절) 모두 null로 완료하고 항목 이름을 기록
+     */
+    private <T> CompletableFuture<T> load(String part, Set<String> unavailable, Supplier<T> loader) {
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(loader, executor);
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        return future
+                .orTimeout(partTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionally(e -> {
+                    log.warn("공유방 홈 항목 조회 실패 part={}, cause={}", part, e.toString());
+                    unavailable.add(part);
+                    meterRegistry.counter("room.home.part.unavailable", "part", part).increment();
+                    return null;
+                });
+    }
+}
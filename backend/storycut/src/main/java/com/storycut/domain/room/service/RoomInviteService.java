@@ -2,34 +2,137 @@ package com.storycut.domain.room.service;
 
 import com.storycut.global.exception.BusinessException;
 import com.storycut.global.model.dto.BaseResponseStatus;
+import java.security.SecureRandom;
 import java.time.Duration;
-import java.util.UUID;
-import lombok.RequiredArgsConstructor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 공유방 초대코드 서비스
+ * <p>
+ * {@code invite:<코드>} → 공유방 ID, {@code invite:room:<공유방 ID>} → 코드 두 키를 같은 만료 시간으로 유지한다.
+ * 코드 발급은 Lua 스크립트 한 번으로 처리하여, 유효한 코드가 있으면 그대로 재사용하고 없으면 후보 코드 중
+ * 사용 중이지 않은 첫 코드를 SET NX로 선점한다. 조회 시에는 역방향 키가 같은 코드를 가리키는지도 확인하므로
+ * 회수된 코드는 더 이상 사용할 수 없다.
+ * (스크립트가 여러 키를 다루므로 단일 Redis 노드 기준이다)
+ * </p>
+ */
 @Service
-@RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class RoomInviteService {
-    private final RedisTemplate<String, String> redisTemplate;
+
+    public static final int CODE_LENGTH = 6;
 
     private static final String INVITE_KEY_PREFIX = "invite:";
+    private static final String ROOM_KEY_PREFIX = "invite:room:";
+    // 혼동하기 쉬운 문자(0, O, 1, I)를 제외한 32자 - 6자리 기준 약 10억 개
+    private static final char[] ALPHABET = "23456789ABCDEFGHJKLMNPQRSTUVWXYZ".toCharArray();
+    private static final int CANDIDATES_PER_ATTEMPT = 5;
+
+    // KEYS[1]: 역방향 키, ARGV[1]: 공유방 ID, ARGV[2]: 만료(ms), ARGV[3]: 코드 키 접두사, ARGV[4..]: 후보 코드
+    private static final RedisScript<String> ALLOCATE = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[1])
+            if current and redis.call('GET', ARGV[3] .. current) == ARGV[1] then
+                return current
+            end
+            for i = 4, #ARGV do
+                if redis.call('SET', ARGV[3] .. ARGV[i], ARGV[1], 'PX', ARGV[2], 'NX') then
+                    redis.call('SET', KEYS[1], ARGV[i], 'PX', ARGV[2])
+                    return ARGV[i]
+                end
+            end
+            return false
+            """, String.class);
+
+    // KEYS[1]: 코드 키, ARGV[1]: 코드, ARGV[2]: 역방향 키 접두사
+    private static final RedisScript<String> RESOLVE = new DefaultRedisScript<>("""
+            local roomId = redis.call('GET', KEYS[1])
+            if roomId and redis.call('GET', ARGV[2] .. roomId) == ARGV[1] then
+                return roomId
+            end
+            return false
+            """, String.class);
+
+    // KEYS[1]: 역방향 키, ARGV[1]: 코드 키 접두사
+    private static final RedisScript<Long> REVOKE = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[1])
+            if current then
+                redis.call('DEL', ARGV[1] .. current)
+            end
+            return redis.call('DEL', KEYS[1])
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration ttl;
+    private final Random random;
+
+    public RoomInviteService(RedisTemplate<String, String> redisTemplate,
+                             @Value("${app.room.invite.ttl:10m}") Duration ttl) {
+        this(redisTemplate, ttl, new SecureRandom());
+    }
+
+    RoomInviteService(RedisTemplate<String, String> redisTemplate, Duration ttl, Random random) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+        this.random = random;
+    }
 
-    @Transactional
+    /**
+     * 초대코드 발급 - 유효한 코드가 있으면 재사용, 없으면 충돌 확인 후 새 코드 선점
+     */
     public String generateInviteCode(Long roomId) {
-        String inviteCode = UUID.randomUUID().toString().substring(0, 6).toUpperCase();
-        redisTemplate.opsForValue().set(INVITE_KEY_PREFIX + inviteCode, roomId.toString(), Duration.ofMinutes(10));
-        return inviteCode;
+        List<String> args = new ArrayList<>(3 + CANDIDATES_PER_ATTEMPT);
+        args.add(roomId.toString());
+        args.add(String.valueOf(ttl.toMillis()));
+        args.add(INVITE_KEY_PREFIX);
+        for (int i = 0; i < CANDIDATES_PER_ATTEMPT; i++) {
+            args.add(randomCode());
+        }
+        String code = redisTemplate.execute(ALLOCATE, List.of(ROOM_KEY_PREFIX + roomId), args.toArray());
+        if (code == null) {
+            // 후보가 모두 사용 중인 경우 (코드 공간 대비 발급량이 매우 많을 때만 발생)
+            throw new BusinessException(BaseResponseStatus.INVITE_CODE_ALLOCATION_FAILED);
+        }
+        return code;
     }
 
-    @Transactional
+    /**
+     * 초대코드로 공유방 ID 조회 (대소문자 구분 없음)
+     */
     public Long decodeInviteCode(String inviteCode) {
-        String roomId = redisTemplate.opsForValue().get(INVITE_KEY_PREFIX + inviteCode);
+        String code = normalize(inviteCode);
+        String roomId = redisTemplate.execute(RESOLVE, List.of(INVITE_KEY_PREFIX + code), code, ROOM_KEY_PREFIX);
         if (roomId == null) {
             throw new BusinessException(BaseResponseStatus.INVALID_INVITE_CODE);
         }
         return Long.valueOf(roomId);
     }
+
+    /**
+     * 공유방의 초대코드 회수 (공유방 삭제 시)
+     */
+    public void revokeInviteCode(Long roomId) {
+        redisTemplate.execute(REVOKE, List.of(ROOM_KEY_PREFIX + roomId), INVITE_KEY_PREFIX);
+    }
+
+    private String randomCode() {
+        char[] code = new char[CODE_LENGTH];
+        for (int i = 0; i < CODE_LENGTH; i++) {
+            code[i] = ALPHABET[random.nextInt(ALPHABET.length)];
+        }
+        return new String(code);
+    }
+
+    private String normalize(String inviteCode) {
+        if (inviteCode == null || inviteCode.length() != CODE_LENGTH) {
+            throw new BusinessException(BaseResponseStatus.LENGTH_INVITE_CODE);
+        }
+        return inviteCode.toUpperCase(Locale.ROOT);
+    }
 }
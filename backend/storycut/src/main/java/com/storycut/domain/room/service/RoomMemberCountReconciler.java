@@ -0,0 +1,74 @@
+package com.storycut.domain.room.service;
+
+import com.storycut.domain.room.repository.RoomRepository;
+import com.storycut.global.util.RedisLock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공유방 참여자 수(member_count) 보정 작업
+ * <p>
+ * 참여자 수는 입장/퇴장 시 원자적 UPDATE로 유지되지만, 수동 데이터 수정이나 컬럼 추가 이전 데이터 등으로
+ * 실제 room_member 행 수와 어긋날 수 있다. 주기적으로 방 ID 구간별로 나누어 어긋난 방만 보정하며,
+ * 여러 노드 중 한 곳에서만 실행되도록 Redis 락을 사용한다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class RoomMemberCountReconciler {
+
+    private static final String LOCK_NAME = "room:member-count:reconcile";
+
+    private final RoomRepository roomRepository;
+    private final RedisLock redisLock;
+    private final int batchSize;
+    private final Duration leaseTime;
+    private final Counter repairedCounter;
+
+    public RoomMemberCountReconciler(RoomRepository roomRepository,
+                                     RedisLock redisLock,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${app.room.member-count.reconcile-batch-size:1000}") int batchSize,
+                                     @Value("${app.room.member-count.reconcile-lease:10m}") Duration leaseTime) {
+        this.roomRepository = roomRepository;
+        this.redisLock = redisLock;
+        this.batchSize = batchSize;
+        this.leaseTime = leaseTime;
+        this.repairedCounter = Counter.builder("room.member_count.repaired")
+                .description("보정 작업으로 수정된 공유방 참여자 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.room.member-count.reconcile-interval-ms:600000}",
+            initialDelayString = "${app.room.member-count.reconcile-initial-delay-ms:60000}")
+    public void reconcileScheduled() {
+        try {
+            redisLock.runExclusively(LOCK_NAME, leaseTime, this::reconcile);
+        } catch (Exception e) {
+            log.warn("공유방 참여자 수 보정 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 전체 방을 ID 구간별로 보정 (구간마다 별도 트랜잭션으로 락 유지 시간을 짧게 유지)
+     *
+     * @return 보정된 방 수
+     */
+    public int reconcile() {
+        long maxId = roomRepository.findMaxId().orElse(0L);
+        int repaired = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += batchSize) {
+            repaired += roomRepository.reconcileMemberCounts(fromId, fromId + batchSize);
+        }
+        if (repaired > 0) {
+            repairedCounter.increment(repaired);
+            log.warn("공유방 참여자 수 보정 완료 - 보정된 방 수: {}", repaired);
+        }
+        return repaired;
+    }
+}
@@ -1,17 +1,28 @@
 package com.storycut.domain.room.service;
 
+import static com.storycut.global.model.dto.BaseResponseStatus.ALREADY_MEMBER_ROOM;
+import static com.storycut.global.model.dto.BaseResponseStatus.CONFLICT;
 import static com.storycut.global.model.dto.BaseResponseStatus.NOT_FOUND_ROOM;
+import static com.storycut.global.model.dto.BaseResponseStatus.NOT_ROOM_MEMBER;
+import static com.storycut.global.model.dto.BaseResponseStatus.ROOM_FULL;
 
 import com.storycut.domain.room.dto.response.RoomMemberResponse;
 import com.storycut.domain.room.entity.Room;
 import com.storycut.domain.room.entity.RoomMember;
+import com.storycut.domain.room.event.RoomMembershipChangedEvent;
 import com.storycut.domain.room.repository.RoomMemberRepository;
+import com.storycut.domain.room.repository.RoomRepository;
 import com.storycut.global.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 
@@ -21,21 +32,61 @@ import java.util.stream.Collectors;
 public class RoomMemberService {
     
     private final RoomMemberRepository roomMemberRepository;
+    private final RoomRepository roomRepository;
+    private final RoomCache roomCache;
+    private final ApplicationEventPublisher eventPublisher;
     
 
+    /**
+     * 공유방 참여 - 존재 확인 없이 단일 INSERT(유니크 제약)로 중복 참여를 막고, 정원 확인은 조건부 UPDATE로 처리
+     * 둘 중 하나라도 실패하면 예외로 트랜잭션 전체가 롤백된다.
+     */
     @Transactional
-    public RoomMember addMember(Long memberId, Room room) {
-        RoomMember member = RoomMember.builder()
-                .memberId(memberId)
-                .room(room)
-                .build();
-        return roomMemberRepository.save(member);
+    public void addMember(Long memberId, Room room) {
+        Long roomId = room.getId();
+        try {
+            roomMemberRepository.insertMember(roomId, memberId, LocalDateTime.now());
+        } catch (DataIntegrityViolationException e) {
+            // 유니크 제약 위반만 중복 참여로 처리하고, 그 외 무결성 오류는 그대로 전파
+            if (RoomMemberRepository.isDuplicateMembership(e)) {
+                throw new BusinessException(ALREADY_MEMBER_ROOM);
+            }
+            throw e;
+        }
+        if (roomRepository.incrementMemberCount(roomId) == 0) {
+            throw new BusinessException(ROOM_FULL);
+        }
+        // 벌크 UPDATE는 엔티티 콜백을 거치지 않으므로 캐시된 참여자 수를 직접 무효화
+        roomCache.evict(roomId);
+        eventPublisher.publishEvent(RoomMembershipChangedEvent.joined(roomId, memberId));
     }
     
 
+    /**
+     * 공유방 퇴장 - 방장은 승계가 반영된 뒤에만 나갈 수 있다.
+     * 참여자 수 감소 쿼리가 "현재 방장이 아님"을 조건으로 하므로, 동시에 방장으로 지정된 회원은 여기서 걸러진다.
+     */
     @Transactional
     public void removeMember(Long roomId, Long memberId) {
-        roomMemberRepository.deleteByRoomIdAndMemberId(roomId, memberId);
+        if (roomRepository.decrementMemberCount(roomId, memberId) == 0) {
+            // 그 사이 방장으로 승계되었거나 방이 삭제됨 - 재시도 시 방장 퇴장 흐름으로 처리
+            throw new BusinessException(CONFLICT);
+        }
+        if (roomMemberRepository.deleteByRoomIdAndMemberId(roomId, memberId) == 0) {
+            throw new BusinessException(NOT_ROOM_MEMBER);
+        }
+        roomCache.evict(roomId);
+        eventPublisher.publishEvent(RoomMembershipChangedEvent.left(roomId, memberId));
+    }
+
+
+    /**
+     * 방장 승계 대상 조회 - 나가는 방장을 제외한 가장 오래된 참여자
+     */
+    public Optional<Long> findSuccessor(Long roomId, Long leavingHostId) {
+        return roomMemberRepository.findOldestMemberIdExcept(roomId, leavingHostId, Limit.of(1))
+                .stream()
+                .findFirst();
     }
 
 
@@ -57,8 +108,9 @@ public class RoomMemberService {
 
 
     public int countMembersByRoomId(Long roomId) {
-        return roomMemberRepository.findByRoomId(roomId)
-            .orElseThrow(() -> new BusinessException(NOT_FOUND_ROOM)).size();
+        // 비정규화된 참여자 수 (방 행 하나만 조회)
+        return roomRepository.findMemberCountById(roomId)
+            .orElseThrow(() -> new BusinessException(NOT_FOUND_ROOM));
     }
 
 
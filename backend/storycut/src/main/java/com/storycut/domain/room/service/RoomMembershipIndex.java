@@ -0,0 +1,431 @@
+package com.storycut.domain.room.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.storycut.domain.room.dto.query.RoomMembership;
+import com.storycut.domain.room.event.RoomMembershipChangedEvent;
+import com.storycut.domain.room.repository.RoomMemberRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 노드별 공유방 참여 관계 인덱스
+ * <p>
+ * 방별 참여자 집합과 회원별 참여 방 집합을 압축 비트맵(Roaring)으로 메모리에 보관하여
+ * 채팅/영상 공유 등의 참여자 권한 확인을 DB 조회 없이 처리한다.
+ * 기동 시 room_member를 키셋 페이징으로 읽어 구성하고, 참여 관계 변경 이벤트(커밋 이후)와
+ * Redis Pub/Sub으로 모든 노드에 반영하며, 주기적으로 다시 구성해 누락된 변경을 보정한다.
+ * </p>
+ * <p>
+ * 비트맵은 복사 후 교체(copy-on-write)하므로 읽기는 락 없이 수행된다.
+ * 인덱스에 없는 경우에는 다른 노드의 변경이 아직 도착하지 않았을 수 있으므로 DB로 한 번 더 확인한다.
+ * </p>
+ * <p>
+ * Pub/Sub 메시지는 유실될 수 있으므로, 방별 마지막 확인 시각이 positive-ttl보다 오래되면
+ * 해당 방의 참여자 집합을 DB에서 다시 읽어 유실된 퇴장을 재구성 주기보다 빨리 보정한다.
+ * DB 확인 중 같은 방의 퇴장/삭제가 반영되면 확인 결과를 인덱스에 넣지 않는다(퇴장한 회원이 되살아나지 않도록).
+ * </p>
+ * <p>
+ * DB로 확인한 비참여 결과는 negative-ttl 동안 (공유방, 회원) 단위로 기억하여, 참여하지 않은 회원의 반복 요청
+ * (폴링, 하트비트, 구독 등)이 매번 DB를 조회하지 않게 한다. 입장 이벤트가 반영되면 해당 항목을 지우고,
+ * DB 확인 중 같은 방의 입장이 반영되면 비참여 결과를 기억하지 않는다.
+ * 입장 메시지가 유실된 경우에도 negative-ttl이 지나면 다시 DB로 확인한다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class RoomMembershipIndex implements MessageListener {
+
+    public static final String CHANNEL = "room:membership";
+    private static final int REMOVAL_STRIPES = 256;
+    private static final long NEGATIVE_MAX_SIZE = 100_000;
+
+    private final RoomMemberRepository roomMemberRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final int batchSize;
+    private final Duration positiveTtl;
+    private final Clock clock;
+
+    // 방(스트라이프)별 퇴장/삭제 반영 횟수 - DB 확인 중 퇴장이 끼어들었는지 판별
+    private final AtomicLongArray removalEpochs = new AtomicLongArray(REMOVAL_STRIPES);
+    // 방(스트라이프)별 입장 반영 횟수 - DB 확인 중 입장이 끼어들었는지 판별
+    private final AtomicLongArray joinEpochs = new AtomicLongArray(REMOVAL_STRIPES);
+
+    // DB로 확인한 비참여 (공유방, 회원) - 짧은 시간 동안 DB 재조회 생략
+    private final Cache<NonMember, Boolean> nonMembers;
+
+    private volatile Index current = new Index();
+    private volatile boolean ready;
+
+    // 재구성 중 들어온 변경 - 새 인덱스는 재구성 스레드만 수정하고, 교체 직전에 이 목록을 재생해 반영
+    private final Object rebuildLock = new Object();
+    private List<RoomMembershipChangedEvent> pendingDuringRebuild;
+
+    public RoomMembershipIndex(RoomMemberRepository roomMemberRepository,
+                               RedisTemplate<String, String> redisTemplate,
+                               RedisMessageListenerContainer listenerContainer,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.room.membership-index.batch-size:5000}") int batchSize,
+                               @Value("${app.room.membership-index.positive-ttl:60s}") Duration positiveTtl,
+                               @Value("${app.room.membership-index.negative-ttl:5s}") Duration negativeTtl) {
+        this(roomMemberRepository, redisTemplate, listenerContainer, meterRegistry, batchSize, positiveTtl,
+                negativeTtl, Clock.systemUTC());
+    }
+
+    RoomMembershipIndex(RoomMemberRepository roomMemberRepository,
+                        RedisTemplate<String, String> redisTemplate,
+                        RedisMessageListenerContainer listenerContainer,
+                        MeterRegistry meterRegistry,
+                        int batchSize,
+                        Duration positiveTtl,
+                        Duration negativeTtl,
+                        Clock clock) {
+        this.roomMemberRepository = roomMemberRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.batchSize = batchSize;
+        this.positiveTtl = positiveTtl;
+        this.clock = clock;
+        this.nonMembers = Caffeine.newBuilder()
+                .maximumSize(NEGATIVE_MAX_SIZE)
+                .expireAfterWrite(negativeTtl)
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, nonMembers, "room.membership.negative");
+        Gauge.builder("room.membership.index.bytes", this, index -> index.current.sizeInBytes())
+                .description("멤버십 인덱스 비트맵 메모리 사용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("room.membership.index.rooms", this, index -> index.current.membersByRoom.size())
+                .description("멤버십 인덱스에 올라간 공유방 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 참여 여부 확인
+     */
+    public boolean isMember(Long roomId, Long memberId) {
+        if (ready) {
+            Index index = current;
+            Roaring64Bitmap members = index.membersByRoom.get(roomId);
+            if (members != null && members.contains(memberId)) {
+                long now = clock.millis();
+                // 확인한 지 오래된 방은 한 요청만 DB로 다시 읽고, 나머지는 기존 인덱스로 응답
+                if (index.claimRefresh(roomId, now, now - positiveTtl.toMillis())) {
+                    return refreshRoom(index, roomId, now).contains(memberId);
+                }
+                return true;
+            }
+        }
+        NonMember key = new NonMember(roomId, memberId);
+        if (nonMembers.getIfPresent(key) != null) {
+            return false;
+        }
+        // 인덱스 구성 전이거나 다른 노드의 입장 이벤트가 아직 도착하지 않은 경우 DB로 확인
+        long epoch = removalEpochs.get(stripe(roomId));
+        long joinEpoch = joinEpochs.get(stripe(roomId));
+        boolean exists = roomMemberRepository.existsByRoomIdAndMemberId(roomId, memberId);
+        if (!exists) {
+            nonMembers.put(key, Boolean.TRUE);
+            // 확인 중 입장이 반영되었으면 방금 기억한 비참여 결과를 되돌림
+            if (joinEpochs.get(stripe(roomId)) != joinEpoch) {
+                nonMembers.invalidate(key);
+            }
+        } else if (ready) {
+            Index index = current;
+            index.add(roomId, memberId, clock.millis());
+            // 확인 중 퇴장/삭제가 반영되었으면 방금 넣은 항목을 되돌림 (다음 확인은 다시 DB로)
+            if (removalEpochs.get(stripe(roomId)) != epoch) {
+                index.remove(roomId, memberId);
+            }
+        }
+        return exists;
+    }
+
+    /**
+     * 회원이 참여 중인 공유방 ID 목록 (인덱스 기준)
+     */
+    public long[] roomIdsOf(Long memberId) {
+        Roaring64Bitmap rooms = current.roomsByMember.get(memberId);
+        return rooms != null ? rooms.toArray() : new long[0];
+    }
+
+    /**
+     * 커밋된 참여 관계 변경을 현재 노드에 반영하고 다른 노드로 전파
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipChanged(RoomMembershipChangedEvent event) {
+        apply(event);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, event.encode());
+        } catch (Exception e) {
+            // 다른 노드는 DB 재확인과 주기적 재구성으로 보정됨
+            log.warn("멤버십 변경 메시지 발행 실패 - {}, 오류: {}", event, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드의 참여 관계 변경 수신 (자신이 발행한 메시지도 수신하지만 반영은 멱등)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            apply(RoomMembershipChangedEvent.decode(body));
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 멤버십 변경 메시지 무시: {}", body);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * room_member 전체를 키셋 페이징으로 읽어 인덱스 재구성
+     */
+    @Scheduled(fixedDelayString = "${app.room.membership-index.rebuild-interval-ms:1800000}",
+            initialDelayString = "${app.room.membership-index.rebuild-interval-ms:1800000}")
+    public void rebuild() {
+        Index next = new Index();
+        long startedAt = clock.millis();
+        synchronized (rebuildLock) {
+            pendingDuringRebuild = new ArrayList<>();
+        }
+        long lastId = 0L;
+        int count = 0;
+        try {
+            List<RoomMembership> page;
+            do {
+                page = roomMemberRepository.findMembershipsAfter(lastId, Limit.of(batchSize));
+                for (RoomMembership membership : page) {
+                    next.addMutable(membership.roomId(), membership.memberId());
+                    lastId = membership.id();
+                }
+                count += page.size();
+            } while (page.size() == batchSize);
+            next.optimize();
+            next.markVerified(startedAt);
+            // 재구성 중 들어온 변경을 재생한 뒤 교체 (락 안에서 수행하므로 이후 변경은 새 인덱스에 바로 반영됨)
+            synchronized (rebuildLock) {
+                long now = clock.millis();
+                pendingDuringRebuild.forEach(event -> next.apply(event, now));
+                current = next;
+                pendingDuringRebuild = null;
+            }
+            ready = true;
+            log.info("공유방 멤버십 인덱스 구성 완료 - 참여 관계: {}, 공유방: {}, 메모리: {} bytes",
+                    count, next.membersByRoom.size(), next.sizeInBytes());
+        } catch (Exception e) {
+            // 실패 시 기존 인덱스 유지 (구성 전이면 DB 조회로 동작)
+            log.warn("공유방 멤버십 인덱스 구성 실패: {}", e.getMessage());
+        } finally {
+            synchronized (rebuildLock) {
+                pendingDuringRebuild = null;
+            }
+        }
+    }
+
+    /**
+     * 변경 반영 - 재구성 중이면 교체 직전에 새 인덱스에 재생하도록 보관
+     */
+    private void apply(RoomMembershipChangedEvent event) {
+        if (event.type() == RoomMembershipChangedEvent.Type.JOINED) {
+            // 비참여 결과를 지우기 전에 올려야 진행 중인 DB 확인이 입장을 놓치지 않음
+            joinEpochs.incrementAndGet(stripe(event.roomId()));
+            nonMembers.invalidate(new NonMember(event.roomId(), event.memberId()));
+        } else {
+            // 인덱스에서 지우기 전에 올려야 진행 중인 DB 확인이 퇴장을 놓치지 않음
+            removalEpochs.incrementAndGet(stripe(event.roomId()));
+        }
+        synchronized (rebuildLock) {
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(event);
+            }
+            current.apply(event, clock.millis());
+        }
+    }
+
+    /**
+     * 방 참여자 집합을 DB 기준으로 교체 - 조회 중 퇴장/삭제가 반영되었으면 방 전체를 인덱스에서 내림
+     *
+     * @return DB에서 읽은 참여자 집합
+     */
+    private Roaring64Bitmap refreshRoom(Index index, long roomId, long now) {
+        long epoch = removalEpochs.get(stripe(roomId));
+        Roaring64Bitmap fresh = new Roaring64Bitmap();
+        roomMemberRepository.findMemberIdsByRoomId(roomId).forEach(fresh::addLong);
+        index.replaceRoom(roomId, fresh, now);
+        if (removalEpochs.get(stripe(roomId)) != epoch) {
+            index.removeRoom(roomId);
+        }
+        return fresh;
+    }
+
+    private static int stripe(long roomId) {
+        return Long.hashCode(roomId) & (REMOVAL_STRIPES - 1);
+    }
+
+    private record NonMember(long roomId, long memberId) {
+    }
+
+    /**
+     * 방→참여자, 회원→참여 방 양방향 비트맵
+     */
+    private static final class Index {
+
+        private final Map<Long, Roaring64Bitmap> membersByRoom = new ConcurrentHashMap<>();
+        private final Map<Long, Roaring64Bitmap> roomsByMember = new ConcurrentHashMap<>();
+        // 방별 마지막 DB 확인 시각 (epoch millis)
+        private final Map<Long, Long> verifiedAt = new ConcurrentHashMap<>();
+
+        void apply(RoomMembershipChangedEvent event, long now) {
+            switch (event.type()) {
+                case JOINED -> add(event.roomId(), event.memberId(), now);
+                case LEFT -> remove(event.roomId(), event.memberId());
+                case ROOM_DELETED -> removeRoom(event.roomId());
+            }
+        }
+
+        /**
+         * 참여자 추가 - 처음 올라가는 방은 지금 확인된 것으로 보고 positive-ttl 이후 재확인
+         */
+        void add(long roomId, long memberId, long now) {
+            verifiedAt.putIfAbsent(roomId, now);
+            addCopyOnWrite(membersByRoom, roomId, memberId);
+            addCopyOnWrite(roomsByMember, memberId, roomId);
+        }
+
+        void remove(long roomId, long memberId) {
+            removeCopyOnWrite(membersByRoom, roomId, memberId);
+            removeCopyOnWrite(roomsByMember, memberId, roomId);
+        }
+
+        void removeRoom(long roomId) {
+            verifiedAt.remove(roomId);
+            Roaring64Bitmap members = membersByRoom.remove(roomId);
+            if (members != null) {
+                members.forEach(memberId -> removeCopyOnWrite(roomsByMember, memberId, roomId));
+            }
+        }
+
+        /**
+         * DB에서 다시 읽은 참여자 집합으로 교체 (역방향 비트맵은 차이만 반영)
+         */
+        void replaceRoom(long roomId, Roaring64Bitmap members, long now) {
+            Roaring64Bitmap old = membersByRoom.get(roomId);
+            if (members.isEmpty()) {
+                membersByRoom.remove(roomId);
+            } else {
+                membersByRoom.put(roomId, members);
+            }
+            if (old != null) {
+                old.forEach(memberId -> {
+                    if (!members.contains(memberId)) {
+                        removeCopyOnWrite(roomsByMember, memberId, roomId);
+                    }
+                });
+            }
+            members.forEach(memberId -> addCopyOnWrite(roomsByMember, memberId, roomId));
+            verifiedAt.put(roomId, now);
+        }
+
+        /**
+         * 확인 시각이 기준보다 오래되었으면 현재 시각으로 선점 (동시에 한 요청만 true)
+         */
+        boolean claimRefresh(long roomId, long now, long staleBefore) {
+            Long last = verifiedAt.get(roomId);
+            if (last == null) {
+                return verifiedAt.putIfAbsent(roomId, now) == null;
+            }
+            return last < staleBefore && verifiedAt.replace(roomId, last, now);
+        }
+
+        /**
+         * 재구성 직후 모든 방을 확인된 것으로 표시
+         */
+        void markVerified(long now) {
+            membersByRoom.keySet().forEach(roomId -> verifiedAt.put(roomId, now));
+        }
+
+        /**
+         * 공개 전 초기 구성용 (복사 없이 직접 추가)
+         */
+        void addMutable(long roomId, long memberId) {
+            membersByRoom.computeIfAbsent(roomId, key -> new Roaring64Bitmap()).addLong(memberId);
+            roomsByMember.computeIfAbsent(memberId, key -> new Roaring64Bitmap()).addLong(roomId);
+        }
+
+        void optimize() {
+            membersByRoom.values().forEach(Roaring64Bitmap::runOptimize);
+            roomsByMember.values().forEach(Roaring64Bitmap::runOptimize);
+        }
+
+        long sizeInBytes() {
+            long size = 0;
+            for (Roaring64Bitmap bitmap : membersByRoom.values()) {
+                size += bitmap.getLongSizeInBytes();
+            }
+            for (Roaring64Bitmap bitmap : roomsByMember.values()) {
+                size += bitmap.getLongSizeInBytes();
+            }
+            return size;
+        }
+
+        private static void addCopyOnWrite(Map<Long, Roaring64Bitmap> map, long key, long value) {
+            map.compute(key, (k, old) -> {
+                if (old != null && old.contains(value)) {
+                    return old;
+                }
+                Roaring64Bitmap next = old != null ? old.clone() : new Roaring64Bitmap();
+                next.addLong(value);
+                return next;
+            });
+        }
+
+        private static void removeCopyOnWrite(Map<Long, Roaring64Bitmap> map, long key, long value) {
+            map.computeIfPresent(key, (k, old) -> {
+                if (!old.contains(value)) {
+                    return old;
+                }
+                Roaring64Bitmap next = old.clone();
+                next.removeLong(value);
+                return next.isEmpty() ? null : next;
+            });
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.storycut.domain.room.service;
+
+import com.storycut.domain.room.dto.response.RoomPresenceResponse;
+import com.storycut.domain.room.event.RoomMembershipChangedEvent;
+import com.storycut.global.util.RedisCommands;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisZSetCommands.ZAddArgs;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 공유방 접속 현황(presence) 서비스
+ * <p>
+ * 방마다 {@code presence:room:<공유방 ID>} 정렬 집합에 회원 ID를 마지막 하트비트 시각(epoch ms)을 점수로 저장한다.
+ * 하트비트는 메모리 버퍼에 회원별 최신 시각만 모아 두었다가 주기적으로 한 번의 파이프라인(ZADD GT/PEXPIRE)으로 반영하므로,
+ * 같은 회원의 반복 하트비트는 하나로 합쳐지고 요청마다 Redis 왕복이 생기지 않는다. MySQL에는 쓰지 않는다.
+ * 노드마다 반영 주기가 달라 늦게 반영되는 더 오래된 시각이 최신 시각을 덮어쓰지 않도록 GT 옵션을 사용한다.
+ * </p>
+ * <p>
+ * 만료는 별도 정리 작업 없이 지연 처리한다. 조회 시 window 이내 점수만 세고, 반영과 목록 조회 때
+ * window가 지난 항목을 ZREMRANGEBYSCORE로 지운다. 아무도 하트비트를 보내지 않는 방의 키는 PEXPIRE로 사라진다.
+ * 퇴장과 공유방 삭제는 window를 기다리지 않고 커밋 직후 바로 제거한다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class RoomPresenceService {
+
+    private static final String PRESENCE_KEY_PREFIX = "presence:room:";
+
+    private final RedisCommands redisCommands;
+    private final Clock clock;
+    private final Duration window;
+    private final Counter heartbeatCounter;
+    private final Counter flushedCounter;
+
+    // 방 ID -> (회원 ID -> 마지막 하트비트 시각), 반영 시 통째로 교체
+    private final AtomicReference<ConcurrentHashMap<Long, ConcurrentHashMap<Long, Long>>> buffer =
+            new AtomicReference<>(new ConcurrentHashMap<>());
+
+    public RoomPresenceService(RedisCommands redisCommands,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.room.presence.window:30s}") Duration window) {
+        this(redisCommands, meterRegistry, window, Clock.systemUTC());
+    }
+
+    RoomPresenceService(RedisCommands redisCommands, MeterRegistry meterRegistry, Duration window, Clock clock) {
+        this.redisCommands = redisCommands;
+        this.window = window;
+        this.clock = clock;
+        this.heartbeatCounter = Counter.builder("room.presence.heartbeats")
+                .description("수신한 공유방 하트비트 수")
+                .register(meterRegistry);
+        this.flushedCounter = Counter.builder("room.presence.flushed")
+                .description("Redis에 반영된 공유방 접속 항목 수 (버퍼에서 합쳐진 뒤)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 하트비트 기록 (메모리 버퍼에만 기록, Redis 반영은 flush에서 일괄 처리)
+     */
+    public void heartbeat(Long roomId, Long memberId) {
+        long now = clock.millis();
+        buffer.get()
+                .computeIfAbsent(roomId, id -> new ConcurrentHashMap<>())
+                .merge(memberId, now, Math::max);
+        heartbeatCounter.increment();
+    }
+
+    /**
+     * 버퍼에 모인 하트비트를 한 번의 파이프라인으로 반영
+     * (교체 직전에 버퍼를 잡은 하트비트는 유실될 수 있으나 다음 하트비트로 보정된다)
+     */
+    @Scheduled(fixedDelayString = "${app.room.presence.flush-interval-ms:1000}")
+    public void flush() {
+        Map<Long, ConcurrentHashMap<Long, Long>> pending = buffer.getAndSet(new ConcurrentHashMap<>());
+        if (pending.isEmpty()) {
+            return;
+        }
+        long now = clock.millis();
+        long staleBefore = now - window.toMillis();
+        long keyTtl = window.multipliedBy(2).toMillis();
+        try {
+            redisCommands.pipelined(connection -> pending.forEach((roomId, members) -> {
+                String key = key(roomId);
+                members.forEach((memberId, seenAt) -> connection.zAdd(key, seenAt, memberId.toString(), ZAddArgs.empty().gt()));
+                connection.zRemRangeByScore(key, Double.NEGATIVE_INFINITY, staleBefore);
+                connection.pExpire(key, keyTtl);
+            }));
+            flushedCounter.increment(pending.values().stream().mapToInt(Map::size).sum());
+        } catch (Exception e) {
+            // 다음 하트비트(window 이내)로 다시 반영되므로 재시도하지 않음
+            log.warn("공유방 접속 현황 반영 실패 - 방 수: {}, 오류: {}", pending.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 퇴장/공유방 삭제 반영 - 나간 회원이 window 동안 접속 중으로 보이지 않도록 커밋 직후 제거
+     * (다른 노드 버퍼에 남은 하트비트가 뒤늦게 반영되면 window 이후 만료로 정리된다)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipChanged(RoomMembershipChangedEvent event) {
+        String key = key(event.roomId());
+        try {
+            switch (event.type()) {
+                case LEFT -> {
+                    ConcurrentHashMap<Long, Long> members = buffer.get().get(event.roomId());
+                    if (members != null) {
+                        members.remove(event.memberId());
+                    }
+                    redisCommands.pipelined(connection -> connection.zRem(key, event.memberId().toString()));
+                }
+                case ROOM_DELETED -> {
+                    buffer.get().remove(event.roomId());
+                    redisCommands.pipelined(connection -> connection.del(key));
+                }
+                case JOINED -> {
+                }
+            }
+        } catch (Exception e) {
+            // 정리 실패 시에도 window 이후 조회에서 제외됨
+            log.warn("공유방 접속 현황 정리 실패 - {}, 오류: {}", event, e.getMessage());
+        }
+    }
+
+    /**
+     * 공유방 접속 중인 회원 목록 (만료 항목 정리와 조회를 한 번의 왕복으로 처리)
+     */
+    @SuppressWarnings("unchecked")
+    public RoomPresenceResponse getOnlineMembers(Long roomId) {
+        String key = key(roomId);
+        long staleBefore = clock.millis() - window.toMillis();
+        List<Object> results = redisCommands.pipelined(connection -> {
+            connection.zRemRangeByScore(key, Double.NEGATIVE_INFINITY, staleBefore);
+            connection.zRangeByScore(key, staleBefore + 1, Double.POSITIVE_INFINITY);
+        });
+        Set<String> members = results.size() > 1 && results.get(1) != null
+                ? (Set<String>) results.get(1)
+                : Set.of();
+        List<Long> memberIds = members.stream().map(Long::valueOf).toList();
+        return new RoomPresenceResponse(roomId, memberIds, memberIds.size());
+    }
+
+    /**
+     * 여러 공유방의 접속 인원 수를 한 번의 파이프라인(ZCOUNT)으로 조회
+     * Redis 장애 시 목록 조회 자체가 실패하지 않도록 빈 결과를 반환한다.
+     *
+     * @return 공유방 ID -> 접속 인원 수 (조회 실패 시 빈 맵)
+     */
+    public Map<Long, Long> countOnline(List<Long> roomIds) {
+        if (roomIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> distinctIds = List.copyOf(new HashSet<>(roomIds));
+        long staleBefore = clock.millis() - window.toMillis();
+        try {
+            List<Object> results = redisCommands.pipelined(connection -> distinctIds.forEach(
+                    roomId -> connection.zCount(key(roomId), staleBefore + 1, Double.POSITIVE_INFINITY)));
+            Map<Long, Long> counts = new HashMap<>(distinctIds.size());
+            for (int i = 0; i < distinctIds.size() && i < results.size(); i++) {
+                Object count = results.get(i);
+                counts.put(distinctIds.get(i), count instanceof Long value ? value : 0L);
+            }
+            return counts;
+        } catch (Exception e) {
+            log.warn("공유방 접속 인원 조회 실패 - 방 수: {}, 오류: {}", distinctIds.size(), e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private static String key(Long roomId) {
+        return PRESENCE_KEY_PREFIX + roomId;
+    }
+}
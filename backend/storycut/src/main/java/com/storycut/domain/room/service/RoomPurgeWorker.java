@@ -0,0 +1,141 @@
+package com.storycut.domain.room.service;
+
+import com.storycut.domain.mediachat.service.ChatMessageService;
+import com.storycut.domain.room.entity.RoomPurgeTask;
+import com.storycut.domain.room.repository.RoomMemberRepository;
+import com.storycut.domain.room.repository.RoomPurgeTaskRepository;
+import com.storycut.domain.room.repository.RoomRepository;
+import com.storycut.global.util.RedisLock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 삭제 표시된 공유방 정리 작업
+ * <p>
+ * 방 삭제 요청은 삭제 표시와 정리 작업 등록만 하고 바로 응답한다. 이 워커가 참여 관계(벌크 DELETE)와
+ * 채팅 메시지(MongoDB)를 배치 단위로 지운 뒤 방 행을 제거한다. 각 단계는 멱등이므로 도중에 실패하거나
+ * 프로세스가 종료되어도 다음 실행에서 처음부터 다시 수행하면 되고, 실패한 작업은 지수 백오프로 재시도한다.
+ * 여러 노드 중 한 곳에서만 실행되도록 Redis 락을 사용한다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class RoomPurgeWorker {
+
+    private static final String LOCK_NAME = "room:purge";
+
+    private final RoomPurgeTaskRepository roomPurgeTaskRepository;
+    private final RoomMemberRepository roomMemberRepository;
+    private final RoomRepository roomRepository;
+    private final ChatMessageService chatMessageService;
+    private final RedisLock redisLock;
+    private final int batchSize;
+    private final int maxTasks;
+    private final Duration leaseTime;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+    private final Counter completedCounter;
+    private final Counter failedCounter;
+
+    public RoomPurgeWorker(RoomPurgeTaskRepository roomPurgeTaskRepository,
+                           RoomMemberRepository roomMemberRepository,
+                           RoomRepository roomRepository,
+                           ChatMessageService chatMessageService,
+                           RedisLock redisLock,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.room.purge.batch-size:500}") int batchSize,
+                           @Value("${app.room.purge.max-tasks:20}") int maxTasks,
+                           @Value("${app.room.purge.lease:5m}") Duration leaseTime,
+                           @Value("${app.room.purge.base-backoff:30s}") Duration baseBackoff,
+                           @Value("${app.room.purge.max-backoff:1h}") Duration maxBackoff) {
+        this.roomPurgeTaskRepository = roomPurgeTaskRepository;
+        this.roomMemberRepository = roomMemberRepository;
+        this.roomRepository = roomRepository;
+        this.chatMessageService = chatMessageService;
+        this.redisLock = redisLock;
+        this.batchSize = batchSize;
+        this.maxTasks = maxTasks;
+        this.leaseTime = leaseTime;
+        this.baseBackoff = baseBackoff;
+        this.maxBackoff = maxBackoff;
+        this.completedCounter = Counter.builder("room.purge.completed")
+                .description("정리가 완료된 공유방 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("room.purge.failed")
+                .description("실패 후 재시도가 예약된 공유방 정리 작업 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.room.purge.interval-ms:5000}",
+            initialDelayString = "${app.room.purge.initial-delay-ms:30000}")
+    public void purgeScheduled() {
+        try {
+            redisLock.runExclusively(LOCK_NAME, leaseTime, this::purgeDueTasks);
+        } catch (Exception e) {
+            log.warn("공유방 정리 작업 실행 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 재시도 시각이 된 정리 작업을 최대 maxTasks개 처리
+     *
+     * @return 정리가 완료된 방 수
+     */
+    public int purgeDueTasks() {
+        List<RoomPurgeTask> tasks = roomPurgeTaskRepository
+                .findByNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(LocalDateTime.now(), Limit.of(maxTasks));
+        int completed = 0;
+        for (RoomPurgeTask task : tasks) {
+            try {
+                purge(task);
+                completed++;
+            } catch (Exception e) {
+                task.recordFailure(e.getMessage(), baseBackoff, maxBackoff);
+                roomPurgeTaskRepository.save(task);
+                failedCounter.increment();
+                log.warn("공유방 정리 실패 - roomId: {}, 시도 횟수: {}, 다음 시도: {}",
+                        task.getRoomId(), task.getAttempts(), task.getNextAttemptAt(), e);
+            }
+        }
+        return completed;
+    }
+
+    /**
+     * 방 하나 정리 - 배치마다 별도로 커밋하여 긴 트랜잭션과 락 점유를 피한다.
+     */
+    private void purge(RoomPurgeTask task) {
+        Long roomId = task.getRoomId();
+
+        // 1. 참여 관계 (방 행의 외래 키 대상이므로 먼저 삭제)
+        long members = 0;
+        List<Long> memberIds;
+        while (!(memberIds = roomMemberRepository.findIdsByRoomId(roomId, Limit.of(batchSize))).isEmpty()) {
+            members += roomMemberRepository.deleteAllByIdIn(memberIds);
+        }
+        task.recordProgress(members, 0);
+        roomPurgeTaskRepository.save(task);
+
+        // 2. 채팅 메시지
+        long messages = 0;
+        int deleted;
+        while ((deleted = chatMessageService.deleteBatchByRoomId(roomId, batchSize)) > 0) {
+            messages += deleted;
+        }
+        task.recordProgress(0, messages);
+
+        // 3. 방 행 제거 후 작업 완료 처리
+        roomRepository.hardDeleteMarked(roomId);
+        roomPurgeTaskRepository.delete(task);
+        completedCounter.increment();
+        log.info("공유방 정리 완료 - roomId: {}, 참여 관계: {}, 채팅 메시지: {}",
+                roomId, task.getPurgedMembers(), task.getPurgedMessages());
+    }
+}
@@ -2,7 +2,10 @@ package com.storycut.domain.room.service;
 
 import com.storycut.domain.room.dto.request.RoomCreateRequest;
 import com.storycut.domain.room.dto.request.RoomUpdateRequest;
+import com.storycut.domain.room.dto.response.RoomFeedResponse;
+import com.storycut.domain.room.dto.response.RoomHomeResponse;
 import com.storycut.domain.room.dto.response.RoomMemberResponse;
+import com.storycut.domain.room.dto.response.RoomPresenceResponse;
 import com.storycut.domain.room.dto.response.RoomResponse;
 
 import java.util.List;
@@ -33,6 +36,18 @@ public interface RoomService {
      * @return 회원이 참여 중인 공유방 목록
      */
     List<RoomResponse> getMyRooms(Long memberId);
+
+    /**
+     * 공유방 둘러보기 목록을 최신순으로 조회합니다.
+     * 커서 기반(키셋) 페이징으로, 이전 응답의 nextCursor를 전달하면 다음 페이지를 조회합니다.
+     *
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (기본 20, 최대 50)
+     * @param title 제목 접두사 검색어 (선택)
+     * @return 공유방 목록과 다음 페이지 커서
+     * @throws com.storycut.global.exception.BusinessException 커서 형식이 올바르지 않은 경우
+     */
+    RoomFeedResponse discoverRooms(String cursor, Integer size, String title);
     
     /**
      * 공유방 정보를 수정합니다.
@@ -72,6 +87,7 @@ public interface RoomService {
      * 공유방 초대코드를 생성합니다.
      *
      * 방장이 초대 버튼을 눌렀을 때 호출되며, 랜덤 6자리 코드를 Redis에 10분간 저장합니다.
+     * 아직 유효한 초대코드가 있으면 새로 만들지 않고 같은 코드를 반환합니다.
      * 해당 코드는 다른 사용자가 방에 입장할 때 사용됩니다.
      *
      * @param hostMemberId 초대코드를 생성할 방의 방장 ID
@@ -93,6 +109,19 @@ public interface RoomService {
      */
     Long enterByCode(String inviteCode);
 
+    /**
+     * 초대코드로 공유방에 바로 입장합니다.
+     *
+     * 초대코드 조회({@link #enterByCode})와 입장({@link #enterRoom})을 한 번의 호출로 처리합니다.
+     *
+     * @param memberId 입장하려는 사용자 ID
+     * @param inviteCode 초대코드 (6자리)
+     * @param password 공유방 비밀번호
+     * @return 입장 후 공유방 정보를 포함한 응답 객체
+     * @throws com.storycut.global.exception.BusinessException 초대코드나 비밀번호가 유효하지 않거나 이미 참여 중일 경우
+     */
+    RoomResponse enterRoomByInviteCode(Long memberId, String inviteCode, String password);
+
     /**
      * 비밀번호를 입력하여 공유방에 입장합니다.
      *
@@ -133,8 +162,41 @@ public interface RoomService {
     /**
      * 공유방 참여자 목록을 조회합니다.
      * 
+     * @param memberId 조회 요청자 ID (공유방 참여자만 조회 가능)
      * @param roomId 조회할 공유방의 ID
      * @return 공유방 참여자 목록을 담은 응답 객체 리스트
      */
-    List<RoomMemberResponse> getRoomMembers(Long roomId);
+    List<RoomMemberResponse> getRoomMembers(Long memberId, Long roomId);
+
+    /**
+     * 공유방 홈 화면 데이터를 한 번에 조회합니다.
+     * 공유방 정보, 참여자 목록, 최근 채팅 첫 페이지, 가장 최근 공유된 비디오를 병렬로 조회하며,
+     * 제한 시간 안에 조회하지 못한 항목은 비워 두고 unavailableParts에 항목 이름을 담아 반환합니다.
+     *
+     * @param memberId 조회 요청자 ID (공유방 참여자만 조회 가능)
+     * @param roomId 조회할 공유방 ID
+     * @return 공유방 홈 화면 응답
+     * @throws com.storycut.global.exception.BusinessException 공유방 참여자가 아닌 경우
+     */
+    RoomHomeResponse getRoomHome(Long memberId, Long roomId);
+
+    /**
+     * 공유방 접속 하트비트를 기록합니다.
+     * 클라이언트는 공유방 화면을 보는 동안 주기적으로 호출하며, 일정 시간(기본 30초) 하트비트가 없으면 접속 종료로 간주합니다.
+     *
+     * @param memberId 하트비트를 보내는 회원 ID (공유방 참여자만 가능)
+     * @param roomId 공유방 ID
+     * @throws com.storycut.global.exception.BusinessException 공유방 참여자가 아닌 경우
+     */
+    void heartbeat(Long memberId, Long roomId);
+
+    /**
+     * 공유방에 현재 접속 중인 회원 목록을 조회합니다.
+     *
+     * @param memberId 조회 요청자 ID (공유방 참여자만 조회 가능)
+     * @param roomId 조회할 공유방 ID
+     * @return 접속 중인 회원 ID 목록과 인원 수
+     * @throws com.storycut.global.exception.BusinessException 공유방 참여자가 아닌 경우
+     */
+    RoomPresenceResponse getRoomPresence(Long memberId, Long roomId);
 }
@@ -0,0 +1,274 @@
+package com.storycut.global.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * 2단계 캐시 - L1(프로세스 내 Caffeine) + L2(Redis JSON)
+ * <p>
+ * 조회는 L1 → L2 → 로더(DB) 순서로 진행하며, 하위 단계에서 찾은 값은 상위 단계에 채운다.
+ * 같은 키에 대한 동시 미스는 노드마다 한 번만 L2/로더를 호출하고 나머지는 그 결과를 기다린다.
+ * 무효화는 트랜잭션 커밋 이후 L2를 삭제하고 Redis Pub/Sub로 모든 노드의 L1을 비운다
+ * ({@link TwoLevelCacheManager}).
+ * </p>
+ * <p>
+ * 로더가 읽은 값은 키별 버전(무효화마다 증가)이 조회 시작 시점과 같을 때만 L2에 채운다.
+ * 로더가 커밋 직전의 이전 값을 읽고 무효화보다 늦게 L2를 채우면 remoteTtl 동안 이전 값이 남기 때문이다.
+ * </p>
+ * <p>
+ * Redis 장애 시에는 L2를 건너뛰고 로더로 조회하므로 캐시 때문에 읽기가 실패하지 않는다.
+ * 로더가 null을 반환하면 기본적으로 캐시하지 않으며, 부정 캐시가 설정된 경우에만
+ * "없음"을 짧게 기억해 존재하지 않는 키로 반복 조회가 DB까지 가지 않게 한다.
+ * </p>
+ *
+ * @param <V> 캐시 값 타입 (JSON 직렬화 가능한 불변 객체)
+ */
+@Slf4j
+public class TwoLevelCache<V> {
+
+    // L2에 저장하는 "없음" 표시 (정상 JSON 값과 겹치지 않음)
+    private static final String NULL_MARKER = "\u0000";
+
+    // 버전이 조회 시작 시점과 같을 때만 저장 (KEYS[1] = 값, KEYS[2] = 버전, ARGV[1] = 기대 버전, 없으면 빈 문자열)
+    private static final RedisScript<Long> FILL_IF_VERSION = new DefaultRedisScript<>("""
+            if (redis.call('GET', KEYS[2]) or '') ~= ARGV[1] then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    // 버전을 올린 뒤 값 삭제 - 진행 중인 채우기는 버전 불일치로 건너뜀
+    private static final RedisScript<Long> EVICT = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            return redis.call('DEL', KEYS[1])
+            """, Long.class);
+
+    private final String name;
+    private final Cache<String, V> local;
+    private final Cache<String, Boolean> localNegative;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final JavaType valueType;
+    private final Duration remoteTtl;
+    private final Duration negativeTtl;
+    private final TwoLevelCacheManager manager;
+
+    private final Counter l1Hits;
+    private final Counter l2Hits;
+    private final Counter negativeHits;
+    private final Counter misses;
+
+    TwoLevelCache(String name, Cache<String, V> local, Cache<String, Boolean> localNegative,
+                  RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper, JavaType valueType,
+                  Duration remoteTtl, Duration negativeTtl, TwoLevelCacheManager manager,
+                  MeterRegistry meterRegistry) {
+        this.name = name;
+        this.local = local;
+        this.localNegative = localNegative;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.valueType = valueType;
+        this.remoteTtl = remoteTtl;
+        this.negativeTtl = negativeTtl;
+        this.manager = manager;
+        this.l1Hits = requestCounter(meterRegistry, "l1");
+        this.l2Hits = requestCounter(meterRegistry, "l2");
+        this.negativeHits = requestCounter(meterRegistry, "negative");
+        this.misses = requestCounter(meterRegistry, "miss");
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 캐시 조회, 없으면 로더로 읽어 L2/L1에 채움
+     */
+    public Optional<V> get(Object key, Supplier<V> loader) {
+        String cacheKey = String.valueOf(key);
+
+        V value = local.getIfPresent(cacheKey);
+        if (value != null) {
+            l1Hits.increment();
+            return Optional.of(value);
+        }
+        if (localNegative != null && localNegative.getIfPresent(cacheKey) != null) {
+            negativeHits.increment();
+            return Optional.empty();
+        }
+
+        // 키 단위 계산 - 동시 미스 중 하나만 L2/로더를 호출하고 나머지는 결과를 기다림
+        return Optional.ofNullable(local.get(cacheKey, k -> load(k, loader)));
+    }
+
+    /**
+     * 값 저장 (L2 + 현재 노드 L1)
+     */
+    public void put(Object key, V value) {
+        String cacheKey = String.valueOf(key);
+        writeRemote(cacheKey, value, remoteTtl);
+        local.put(cacheKey, value);
+        if (localNegative != null) {
+            localNegative.invalidate(cacheKey);
+        }
+    }
+
+    /**
+     * 모든 노드에서 항목 제거 - 트랜잭션 안에서 호출되면 커밋 이후에 수행
+     */
+    public void evict(Object key) {
+        manager.evictAfterCommit(this, String.valueOf(key));
+    }
+
+    /**
+     * L2 항목 삭제 (무효화 발행 노드에서 한 번만 수행)
+     */
+    void evictRemote(String cacheKey) {
+        try {
+            redisTemplate.execute(EVICT, List.of(remoteKey(cacheKey), versionKey(cacheKey)),
+                    String.valueOf(remoteTtl.toMillis()));
+        } catch (Exception e) {
+            log.warn("[{}] L2 캐시 삭제 실패 - key: {}, 오류: {}", name, cacheKey, e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 노드 L1 항목 삭제 (무효화 메시지 수신 시)
+     */
+    void evictLocal(String cacheKey) {
+        local.invalidate(cacheKey);
+        if (localNegative != null) {
+            localNegative.invalidate(cacheKey);
+        }
+    }
+
+    Cache<String, V> localCache() {
+        return local;
+    }
+
+    /**
+     * L1 미스 시 L2 → 로더 순서로 조회 (Caffeine 계산 함수 안에서 실행되므로 L1에 직접 쓰지 않음)
+     */
+    private V load(String cacheKey, Supplier<V> loader) {
+        String json = readRemote(cacheKey);
+        if (NULL_MARKER.equals(json) && localNegative != null) {
+            negativeHits.increment();
+            localNegative.put(cacheKey, Boolean.TRUE);
+            return null;
+        }
+        if (json != null) {
+            V value = deserialize(cacheKey, json);
+            if (value != null) {
+                l2Hits.increment();
+                return value;
+            }
+        }
+
+        misses.increment();
+        // 로더 호출 전에 버전을 읽어 두고, 그 사이 무효화가 있었으면 L2를 채우지 않음
+        String version = readVersion(cacheKey);
+        V value = loader.get();
+        if (value != null) {
+            fillRemote(cacheKey, version, serialize(cacheKey, value), remoteTtl);
+        } else if (localNegative != null) {
+            fillRemote(cacheKey, version, NULL_MARKER, negativeTtl);
+            localNegative.put(cacheKey, Boolean.TRUE);
+        }
+        return value;
+    }
+
+    /**
+     * 현재 버전 조회 (없으면 빈 문자열, Redis 장애 시 null → L2 채우기 생략)
+     */
+    private String readVersion(String cacheKey) {
+        try {
+            String version = redisTemplate.opsForValue().get(versionKey(cacheKey));
+            return version == null ? "" : version;
+        } catch (Exception e) {
+            log.warn("[{}] L2 캐시 버전 조회 실패 - key: {}, 오류: {}", name, cacheKey, e.getMessage());
+            return null;
+        }
+    }
+
+    private void fillRemote(String cacheKey, String version, String json, Duration ttl) {
+        if (version == null || json == null) {
+            return;
+        }
+        try {
+            redisTemplate.execute(FILL_IF_VERSION, List.of(remoteKey(cacheKey), versionKey(cacheKey)),
+                    version, json, String.valueOf(ttl.toMillis()));
+        } catch (Exception e) {
+            log.warn("[{}] L2 캐시 저장 실패 - key: {}, 오류: {}", name, cacheKey, e.getMessage());
+        }
+    }
+
+    private String readRemote(String cacheKey) {
+        try {
+            return redisTemplate.opsForValue().get(remoteKey(cacheKey));
+        } catch (Exception e) {
+            log.warn("[{}] L2 캐시 조회 실패 - key: {}, 오류: {}", name, cacheKey, e.getMessage());
+            return null;
+        }
+    }
+
+    private V deserialize(String cacheKey, String json) {
+        try {
+            return objectMapper.readValue(json, valueType);
+        } catch (Exception e) {
+            // 값 구조가 바뀐 이전 버전 항목 등은 미스로 처리하고 새 값으로 덮어씀
+            log.warn("[{}] L2 캐시 역직렬화 실패 - key: {}, 오류: {}", name, cacheKey, e.getMessage());
+            return null;
+        }
+    }
+
+    private String serialize(String cacheKey, V value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (Exception e) {
+            log.warn("[{}] L2 캐시 직렬화 실패 - key: {}, 오류: {}", name, cacheKey, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRemote(String cacheKey, V value, Duration ttl) {
+        String json = serialize(cacheKey, value);
+        if (json == null) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(remoteKey(cacheKey), json, ttl.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            log.warn("[{}] L2 캐시 저장 실패 - key: {}, 오류: {}", name, cacheKey, e.getMessage());
+        }
+    }
+
+    private String remoteKey(String cacheKey) {
+        return "cache:" + name + ":" + cacheKey;
+    }
+
+    private String versionKey(String cacheKey) {
+        return "cache:" + name + ":" + cacheKey + ":ver";
+    }
+
+    private Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("cache.two_level.requests")
+                .description("2단계 캐시 조회 결과 (l1/l2 적중, negative = 없음 캐시 적중, miss = DB 조회)")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,136 @@
+package com.storycut.global.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 2단계 캐시 생성 및 노드 간 무효화 버스
+ * <p>
+ * 캐시 이름별로 {@link TwoLevelCache}를 등록해 두고, {@code cache:invalidate} 채널로
+ * "캐시이름|키" 메시지를 주고받아 모든 노드의 L1을 비운다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TwoLevelCacheManager implements MessageListener {
+
+    private static final String INVALIDATION_CHANNEL = "cache:invalidate";
+    private static final char SEPARATOR = '|';
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, TwoLevelCache<?>> caches = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 캐시 생성
+     *
+     * @param localMaxSize L1 최대 항목 수
+     * @param localTtl     L1 유지 시간 (무효화 메시지 유실 대비 상한)
+     * @param remoteTtl    L2 유지 시간
+     */
+    public <V> TwoLevelCache<V> create(String name, Class<V> valueType,
+                                       long localMaxSize, Duration localTtl, Duration remoteTtl) {
+        return create(name, valueType, localMaxSize, localTtl, remoteTtl, null);
+    }
+
+    /**
+     * 부정 캐시를 사용하는 캐시 생성
+     *
+     * @param negativeTtl 존재하지 않는 키를 기억하는 시간 (null이면 부정 캐시 미사용)
+     */
+    public <V> TwoLevelCache<V> create(String name, Class<V> valueType, long localMaxSize,
+                                       Duration localTtl, Duration remoteTtl, Duration negativeTtl) {
+        JavaType javaType = objectMapper.constructType(valueType);
+
+        Cache<String, V> local = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, local, name + ".l1");
+
+        Cache<String, Boolean> localNegative = negativeTtl == null ? null : Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(negativeTtl)
+                .build();
+
+        TwoLevelCache<V> cache = new TwoLevelCache<>(name, local, localNegative, redisTemplate, objectMapper,
+                javaType, remoteTtl, negativeTtl, this, meterRegistry);
+        if (caches.putIfAbsent(name, cache) != null) {
+            throw new IllegalStateException("이미 등록된 캐시 이름입니다: " + name);
+        }
+        return cache;
+    }
+
+    /**
+     * 커밋 이후 무효화 - 롤백되면 무효화하지 않고, 커밋 전에 다른 요청이 이전 값을 다시 채우는 경쟁을 줄인다.
+     */
+    void evictAfterCommit(TwoLevelCache<?> cache, String cacheKey) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictEverywhere(cache, cacheKey);
+                }
+            });
+        } else {
+            evictEverywhere(cache, cacheKey);
+        }
+    }
+
+    private void evictEverywhere(TwoLevelCache<?> cache, String cacheKey) {
+        cache.evictRemote(cacheKey);
+        cache.evictLocal(cacheKey);
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, cache.getName() + SEPARATOR + cacheKey);
+        } catch (Exception e) {
+            // 다른 노드의 L1은 localTtl 이내에 만료됨
+            log.warn("캐시 무효화 메시지 발행 실패 - cache: {}, key: {}, 오류: {}", cache.getName(), cacheKey, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드의 무효화 메시지 수신 - 현재 노드 L1만 삭제
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(SEPARATOR);
+        if (separator < 0) {
+            log.warn("잘못된 캐시 무효화 메시지 무시: {}", body);
+            return;
+        }
+        TwoLevelCache<?> cache = caches.get(body.substring(0, separator));
+        if (cache != null) {
+            cache.evictLocal(body.substring(separator + 1));
+        }
+    }
+}
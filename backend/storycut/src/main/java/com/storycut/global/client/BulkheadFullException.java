@@ -0,0 +1,11 @@
+package com.storycut.global.client;
+
+/**
+ * 호스트별 동시 요청 한도를 초과했을 때 발생하는 예외
+ */
+public class BulkheadFullException extends RuntimeException {
+
+    public BulkheadFullException(String host) {
+        super("외부 호출 동시 요청 한도 초과: " + host);
+    }
+}
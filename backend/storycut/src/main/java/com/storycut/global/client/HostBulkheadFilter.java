@@ -0,0 +1,73 @@
+package com.storycut.global.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * 호스트별 벌크헤드 필터
+ * <p>
+ * 대상 호스트마다 세마포어로 동시 요청 수를 제한한다. 한 외부 서비스가 느려져도 그 호스트의 허용량만큼만
+ * 스레드가 묶이고, 초과 요청은 대기하지 않고 즉시 {@link BulkheadFullException}으로 실패한다.
+ * 허가는 응답 본문 소비가 끝나거나 오류/취소 시 한 번만 반환된다.
+ * </p>
+ */
+public class HostBulkheadFilter implements ExchangeFilterFunction {
+
+    private final int maxConcurrentPerHost;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<String, Semaphore> bulkheads = new ConcurrentHashMap<>();
+
+    public HostBulkheadFilter(int maxConcurrentPerHost, MeterRegistry meterRegistry) {
+        this.maxConcurrentPerHost = maxConcurrentPerHost;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        String host = request.url().getHost();
+        Semaphore bulkhead = bulkheads.computeIfAbsent(host, this::createBulkhead);
+
+        return Mono.defer(() -> {
+            if (!bulkhead.tryAcquire()) {
+                rejectedCounter(host).increment();
+                return Mono.error(new BulkheadFullException(host));
+            }
+
+            AtomicBoolean released = new AtomicBoolean();
+            Runnable release = () -> {
+                if (released.compareAndSet(false, true)) {
+                    bulkhead.release();
+                }
+            };
+
+            return next.exchange(request)
+                    .map(response -> response.mutate()
+                            .body(body -> body.doFinally(signal -> release.run()))
+                            .build())
+                    .doOnError(e -> release.run())
+                    .doOnCancel(release);
+        });
+    }
+
+    private Semaphore createBulkhead(String host) {
+        Semaphore semaphore = new Semaphore(maxConcurrentPerHost);
+        Gauge.builder("http.client.bulkhead.available", semaphore, Semaphore::availablePermits)
+                .description("호스트별 남은 동시 요청 허용량")
+                .tag("host", host)
+                .register(meterRegistry);
+        return semaphore;
+    }
+
+    private Counter rejectedCounter(String host) {
+        return meterRegistry.counter("http.client.bulkhead.rejected", "host", host);
+    }
+}
@@ -0,0 +1,41 @@
+package com.storycut.global.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 병렬 조회용 스레드 풀 설정
+ * <p>
+ * 여러 저장소(MySQL, MongoDB)를 동시에 조회하는 집계 API 전용 풀이다.
+ * 풀 크기와 대기열을 제한하여, 저장소가 느려져도 스레드가 무한정 늘어나지 않도록 한다.
+ * 대기열까지 가득 차면 작업을 거절하고(AbortPolicy), 호출 측은 해당 항목을 조회 실패로 처리한다.
+ * </p>
+ */
+@Configuration
+public class ExecutorConfig {
+
+    @Value("${app.room.home.core-pool-size:8}")
+    private int corePoolSize;
+
+    @Value("${app.room.home.max-pool-size:32}")
+    private int maxPoolSize;
+
+    @Value("${app.room.home.queue-capacity:200}")
+    private int queueCapacity;
+
+    @Bean(name = "roomHomeExecutor")
+    public ThreadPoolTaskExecutor roomHomeExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("room-home-");
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
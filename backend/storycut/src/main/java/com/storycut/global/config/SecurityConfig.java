@@ -4,7 +4,7 @@ import com.storycut.domain.auth.handler.OAuth2AuthenticationSuccessHandler;
 import com.storycut.domain.auth.service.CustomOAuth2UserService;
 import com.storycut.domain.auth.JwtFilter.JwtAuthenticationFilter;
 import com.storycut.global.security.filter.LoggingFilter;
-import com.storycut.global.model.enums.PublicEndpoint;
+import com.storycut.global.security.matcher.PublicEndpointMatcher;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -19,7 +19,6 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.Arrays;
-import java.util.List;
 
 @Configuration
 @EnableWebSecurity
@@ -30,6 +29,7 @@ public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final CustomOAuth2UserService customOAuth2UserService;
     private final OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler;
+    private final PublicEndpointMatcher publicEndpointMatcher;
 
     // 앱은 모든 환경에서 사용하지만, 웹 인증은 테스트용으로만 활성화합니다.
     // 프로덕션에서는 false로 설정하여 비활성화할 수 있습니다.
@@ -38,15 +38,12 @@ public class SecurityConfig {
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
-        // 명시적으로 공개 URL 목록 추출
-        List<String> publicUrls = PublicEndpoint.getAll();
-
         http
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .csrf(csrf -> csrf.disable())
             .authorizeHttpRequests(auth -> {
-                // 공개 URL들은 인증 없이 접근 가능
-                publicUrls.forEach(url -> auth.requestMatchers(url).permitAll());
+                // 공개 URL들은 인증 없이 접근 가능 (PublicEndpoint 전체를 하나의 트라이 매처로 판정)
+                auth.requestMatchers(publicEndpointMatcher).permitAll();
 
                 // 보호된 API 엔드포인트들은 인증 필요
                 auth.requestMatchers("/api/**").authenticated()
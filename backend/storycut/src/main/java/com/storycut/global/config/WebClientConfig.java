@@ -1,23 +1,93 @@
 package com.storycut.global.config;
 
+import com.storycut.global.client.HostBulkheadFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.handler.timeout.WriteTimeoutHandler;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 /**
  * WebClient 관련 설정
- * 외부 API 요청을 위한 WebClient 빈 등록
+ * 외부 API 요청을 위한 공용 WebClient 빈 등록
+ * <p>
+ * 모든 외부 호출(구글 토큰/JWKS 등)은 이 WebClient 하나를 공유한다.
+ * 커넥션 풀(keep-alive, 유휴 커넥션 정리), 연결/응답/읽기 타임아웃, 호스트별 벌크헤드를 적용하여
+ * 외부 서비스가 느려져도 서블릿 스레드가 무한정 묶이지 않도록 한다.
+ * </p>
  */
 @Configuration
 public class WebClientConfig {
 
+    @Value("${app.http-client.max-connections:100}")
+    private int maxConnections;
+
+    @Value("${app.http-client.pending-acquire-timeout-ms:2000}")
+    private long pendingAcquireTimeoutMs;
+
+    @Value("${app.http-client.max-idle-time-ms:30000}")
+    private long maxIdleTimeMs;
+
+    @Value("${app.http-client.max-life-time-ms:300000}")
+    private long maxLifeTimeMs;
+
+    @Value("${app.http-client.connect-timeout-ms:2000}")
+    private int connectTimeoutMs;
+
+    @Value("${app.http-client.response-timeout-ms:5000}")
+    private long responseTimeoutMs;
+
+    @Value("${app.http-client.read-timeout-ms:5000}")
+    private long readTimeoutMs;
+
+    @Value("${app.http-client.max-concurrent-per-host:20}")
+    private int maxConcurrentPerHost;
+
+    /**
+     * 외부 호출용 커넥션 풀
+     * 풀 사용량은 reactor.netty.connection.provider.* 메트릭으로 노출된다.
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider outboundConnectionProvider() {
+        return ConnectionProvider.builder("outbound")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofMillis(maxIdleTimeMs))
+                .maxLifeTime(Duration.ofMillis(maxLifeTimeMs))
+                .evictInBackground(Duration.ofSeconds(30))
+                .metrics(true)
+                .build();
+    }
+
     /**
      * 기본 WebClient 빈 생성
      * 구글 API 등 외부 서비스 호출에 사용
+     * 스프링이 구성한 Builder를 사용하여 http.client.requests 지연 시간 메트릭이 함께 기록된다.
      */
     @Bean
-    public WebClient webClient() {
-        return WebClient.builder()
+    public WebClient webClient(WebClient.Builder webClientBuilder,
+                               ConnectionProvider outboundConnectionProvider,
+                               MeterRegistry meterRegistry) {
+        HttpClient httpClient = HttpClient.create(outboundConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(true)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMs))
+                .doOnConnected(connection -> connection
+                        .addHandlerLast(new ReadTimeoutHandler(readTimeoutMs, TimeUnit.MILLISECONDS))
+                        .addHandlerLast(new WriteTimeoutHandler(readTimeoutMs, TimeUnit.MILLISECONDS)));
+
+        return webClientBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(new HostBulkheadFilter(maxConcurrentPerHost, meterRegistry))
                 .build();
     }
 }
@@ -0,0 +1,46 @@
+package com.storycut.global.config;
+
+import com.storycut.global.websocket.StompAuthChannelInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+
+/**
+ * STOMP over WebSocket 설정
+ * <p>
+ * 클라이언트는 {@code /ws}로 연결한 뒤 CONNECT 프레임의 Authorization 헤더에 액세스 토큰을 담아 인증하고,
+ * {@code /topic/rooms/<공유방 ID>}를 구독하여 해당 방의 채팅 생성/삭제 이벤트를 받는다.
+ * 핸드셰이크 자체는 공개 경로이며, 인증과 구독 권한 확인은 {@link StompAuthChannelInterceptor}에서 처리한다.
+ * </p>
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    public static final String ENDPOINT = "/ws";
+    public static final String ROOM_TOPIC_PREFIX = "/topic/rooms/";
+
+    private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.addEndpoint(ENDPOINT)
+                .setAllowedOriginPatterns("*");
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        registry.enableSimpleBroker("/topic");
+        registry.setApplicationDestinationPrefixes("/app");
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompAuthChannelInterceptor);
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -84,6 +85,28 @@ public class GlobalExceptionHandler {
         }
     }
 
+    /**
+     * 낙관적 락 충돌 - 같은 엔티티를 동시에 수정한 요청 중 뒤늦게 커밋한 쪽 (재시도 가능)
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<BaseResponse<BaseResponseStatus>> handleOptimisticLockingFailureException(
+        ObjectOptimisticLockingFailureException e, HttpServletRequest req) {
+        try {
+            MDC.put("exception_type", "ObjectOptimisticLockingFailureException");
+            MDC.put("uri", req.getRequestURI());
+            MDC.put("http_status", HttpStatus.CONFLICT.toString());
+            MDC.put("error_code", String.valueOf(BaseResponseStatus.CONFLICT.getCode()));
+            MDC.put("error_message", e.getMessage());
+
+            LOG.warn("[동시 수정 충돌] URI: {}, 엔티티: {}", req.getRequestURI(), e.getPersistentClassName());
+
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new BaseResponse<>(BaseResponseStatus.CONFLICT));
+        } finally {
+            MDC.clear();
+        }
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<String> handleException(Exception e, HttpServletRequest req) {
         try {
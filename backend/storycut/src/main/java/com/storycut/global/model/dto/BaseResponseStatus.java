@@ -15,9 +15,11 @@ public enum BaseResponseStatus {
     UNAUTHORIZED(false, HttpStatus.UNAUTHORIZED, 401, "인증이 필요합니다."),
     FORBIDDEN(false, HttpStatus.FORBIDDEN, 403, "권한이 없습니다."),
     NOT_FOUND(false, HttpStatus.NOT_FOUND, 404, "대상을 찾을 수 없습니다."),
+    CONFLICT(false, HttpStatus.CONFLICT, 409, "다른 요청과 동시에 처리되어 반영되지 않았습니다. 다시 시도해주세요."),
 
     // 서버 오류 코드 (5xx)
     INTERNAL_SERVER_ERROR(false, HttpStatus.INTERNAL_SERVER_ERROR, 500, "서버 내부 오류가 발생했습니다."),
+    SERVICE_UNAVAILABLE(false, HttpStatus.SERVICE_UNAVAILABLE, 503, "외부 서비스 응답이 지연되고 있습니다. 잠시 후 다시 시도해주세요."),
 
     // JWT 토큰 관련 오류 코드 (1001~1099)
     INVALID_JWT_TOKEN(false, HttpStatus.UNAUTHORIZED, 1001, "유효하지 않은 자체 JWT 토큰입니다."),
@@ -26,6 +28,7 @@ public enum BaseResponseStatus {
     REFRESH_TOKEN_INVALID(false, HttpStatus.UNAUTHORIZED, 1004, "유효하지 않은 리프레시 토큰입니다."),
     TOKEN_GENERATION_FAILED(false, HttpStatus.INTERNAL_SERVER_ERROR, 1005, "토큰 생성에 실패했습니다."),
     TOKEN_VERIFICATION_FAILED(false, HttpStatus.UNAUTHORIZED, 1006, "토큰 검증에 실패했습니다."),
+    JWT_TOKEN_REVOKED(false, HttpStatus.UNAUTHORIZED, 1007, "로그아웃 처리된 토큰입니다."),
     
     // 구글/소셜 로그인 관련 오류 코드 (1101~1199)
     GOOGLE_LOGIN_ERROR(false, HttpStatus.INTERNAL_SERVER_ERROR, 1101, "구글 로그인 처리 중 오류가 발생했습니다."),
@@ -45,6 +48,10 @@ public enum BaseResponseStatus {
 
     INVALID_INVITE_CODE(false, HttpStatus.BAD_REQUEST, 2004, "유효하지 않거나 만료된 초대코드입니다."),
     LENGTH_INVITE_CODE(false, HttpStatus.BAD_REQUEST, 2005, "초대코드는 6자리여야 합니다."),
+    ROOM_FULL(false, HttpStatus.CONFLICT, 2006, "공유방 최대 참여 인원을 초과했습니다."),
+    NOT_ROOM_MEMBER(false, HttpStatus.FORBIDDEN, 2007, "공유방 참여자가 아닙니다."),
+    INVITE_CODE_ALLOCATION_FAILED(false, HttpStatus.SERVICE_UNAVAILABLE, 2008, "초대코드 생성에 실패했습니다. 다시 시도해주세요."),
+    INVALID_ROOM_CURSOR(false, HttpStatus.BAD_REQUEST, 2009, "유효하지 않은 페이지 커서입니다."),
 
     // 3000~ 3999 : 비디오 관련 에러
     NOT_FOUND_VIDEO(false, HttpStatus.NOT_FOUND, 3000, "해당 비디오가 존재하지 않습니다."),
@@ -59,6 +66,7 @@ public enum BaseResponseStatus {
     NOT_FOUND_MESSAGE(false, HttpStatus.NOT_FOUND, 5000, "해당 메시지를 찾을 수 없습니다."),
     NOT_VALID_MESSAGE(false, HttpStatus.BAD_REQUEST, 5001, "메시지가 유효하지 않습니다."),
     UNAUTHORIZED_MESSAGE(false, HttpStatus.FORBIDDEN, 5002, "메시지에 대한 권한이 없습니다."),
+    INVALID_CHAT_CURSOR(false, HttpStatus.BAD_REQUEST, 5003, "채팅 목록 커서가 유효하지 않습니다."),
 
 
     ;
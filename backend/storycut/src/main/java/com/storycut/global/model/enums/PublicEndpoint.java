@@ -5,7 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 /**
- * 인증이 필요 없는 공개 엔드포인트 정의
+ * 인증이 필요 없는 공개 엔드포인트 정의 (컨텍스트 경로를 제외한 경로 기준)
  */
 @Getter
 @AllArgsConstructor
@@ -22,8 +22,8 @@ public enum PublicEndpoint {
     OAUTH2_AUTHORIZATION("/oauth2/authorization/**"),
     LOGIN_OAUTH2_CODE("/login/oauth2/code/**"),
 
-    // 멤버 공개 API
-    MEMBER_PUBLIC("/api/v1/spring/member/public/**"),
+    // 웹소켓 핸드셰이크 (인증은 STOMP CONNECT 프레임에서 처리)
+    WEBSOCKET("/ws/**"),
 
     // 정적 리소스
     ROOT("/"),
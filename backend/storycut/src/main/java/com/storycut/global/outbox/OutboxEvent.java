@@ -0,0 +1,83 @@
+package com.storycut.global.outbox;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 아웃박스 이벤트 - 처리가 끝나면 행을 삭제하므로 테이블에는 대기 중이거나 재시도 대기 중인 이벤트만 남는다.
+ */
+@Entity
+@Table(
+        name = "outbox_event",
+        indexes = @Index(name = "idx_outbox_event_next_attempt_at", columnList = "next_attempt_at, id")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 50)
+    private OutboxEventType type;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private OutboxEvent(OutboxEventType type, Long aggregateId) {
+        this.type = type;
+        this.aggregateId = aggregateId;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    public static OutboxEvent of(OutboxEventType type, Long aggregateId) {
+        return new OutboxEvent(type, aggregateId);
+    }
+
+    /**
+     * 실패 기록 - 시도 횟수에 따라 지수적으로 늘어나는 간격 뒤에 재시도
+     */
+    public void recordFailure(String error, Duration baseBackoff, Duration maxBackoff) {
+        this.attempts++;
+        Duration backoff = baseBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        if (backoff.compareTo(maxBackoff) > 0) {
+            backoff = maxBackoff;
+        }
+        this.nextAttemptAt = LocalDateTime.now().plus(backoff);
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+    }
+}
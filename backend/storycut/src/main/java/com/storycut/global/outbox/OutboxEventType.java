@@ -0,0 +1,11 @@
+package com.storycut.global.outbox;
+
+/**
+ * 아웃박스 이벤트 종류 - 도메인 변경과 같은 트랜잭션에서 기록되고, 다른 저장소(MongoDB, Redis)의 후속 처리를 나타낸다.
+ */
+public enum OutboxEventType {
+    // 회원 탈퇴 - 참여 중인 공유방 퇴장, 채팅 메시지 삭제, Redis 토큰 정리
+    MEMBER_DELETED,
+    // 공유방 삭제 - Redis에 남은 공유방 관련 데이터 정리
+    ROOM_DELETED
+}
@@ -0,0 +1,14 @@
+package com.storycut.global.outbox;
+
+/**
+ * 아웃박스 이벤트 처리기
+ * <p>
+ * 처리 도중 실패하거나 처리 후 완료 기록 전에 프로세스가 종료되면 같은 이벤트가 다시 전달되므로 멱등하게 구현해야 한다.
+ * </p>
+ */
+public interface OutboxHandler {
+
+    OutboxEventType type();
+
+    void handle(Long aggregateId);
+}
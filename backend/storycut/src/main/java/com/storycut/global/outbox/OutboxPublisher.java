@@ -0,0 +1,21 @@
+package com.storycut.global.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 아웃박스 이벤트 기록 - 도메인 변경과 함께 커밋/롤백되도록 호출자의 트랜잭션 안에서만 기록한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OutboxEventType type, Long aggregateId) {
+        outboxEventRepository.save(OutboxEvent.of(type, aggregateId));
+    }
+}
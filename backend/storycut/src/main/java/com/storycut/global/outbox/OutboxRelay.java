@@ -0,0 +1,147 @@
+package com.storycut.global.outbox;
+
+import com.storycut.global.util.RedisLock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 아웃박스 릴레이 - 기록된 이벤트를 배치로 읽어 처리기에 전달하고, 성공하면 행을 삭제한다.
+ * <p>
+ * 실패한 이벤트는 남겨두고 지수 백오프 뒤 재시도한다. 기본(distributed) 모드에서는 여러 노드 중 한 곳에서만
+ * 처리하도록 Redis 락을 사용하고, local 모드에서는 락 없이 현재 노드에서 처리한다 (단일 노드 실행, 테스트용).
+ * 지표: outbox.pending(대기 이벤트 수), outbox.lag.seconds(가장 오래 대기 중인 이벤트의 경과 시간),
+ * outbox.events(type, result별 처리 수)
+ * </p>
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private static final String LOCK_NAME = "outbox:relay";
+    private static final String LOCAL_MODE = "local";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final RedisLock redisLock;
+    private final MeterRegistry meterRegistry;
+    private final Map<OutboxEventType, OutboxHandler> handlers = new EnumMap<>(OutboxEventType.class);
+    private final boolean localMode;
+    private final int batchSize;
+    private final Duration leaseTime;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       List<OutboxHandler> handlers,
+                       RedisLock redisLock,
+                       MeterRegistry meterRegistry,
+                       @Value("${app.outbox.mode:distributed}") String mode,
+                       @Value("${app.outbox.batch-size:100}") int batchSize,
+                       @Value("${app.outbox.lease:1m}") Duration leaseTime,
+                       @Value("${app.outbox.base-backoff:10s}") Duration baseBackoff,
+                       @Value("${app.outbox.max-backoff:30m}") Duration maxBackoff) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.redisLock = redisLock;
+        this.meterRegistry = meterRegistry;
+        for (OutboxHandler handler : handlers) {
+            if (this.handlers.put(handler.type(), handler) != null) {
+                throw new IllegalStateException("아웃박스 처리기 중복 등록: " + handler.type());
+            }
+        }
+        this.localMode = LOCAL_MODE.equalsIgnoreCase(mode);
+        this.batchSize = batchSize;
+        this.leaseTime = leaseTime;
+        this.baseBackoff = baseBackoff;
+        this.maxBackoff = maxBackoff;
+        Gauge.builder("outbox.pending", pending, AtomicLong::get)
+                .description("처리 대기 중인 아웃박스 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("outbox.lag.seconds", lagSeconds, AtomicLong::get)
+                .description("가장 오래 대기 중인 아웃박스 이벤트의 경과 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:1000}",
+            initialDelayString = "${app.outbox.initial-delay-ms:10000}")
+    public void relayScheduled() {
+        try {
+            if (localMode) {
+                drain();
+            } else {
+                redisLock.runExclusively(LOCK_NAME, leaseTime, this::drain);
+            }
+        } catch (Exception e) {
+            log.warn("아웃박스 릴레이 실행 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 처리 시각이 된 이벤트가 없을 때까지 배치 단위로 처리 (실패한 이벤트는 재시도 시각이 미래로 밀려 다시 읽히지 않음)
+     *
+     * @return 처리에 성공한 이벤트 수
+     */
+    public int drain() {
+        int processed = 0;
+        List<OutboxEvent> batch;
+        do {
+            batch = outboxEventRepository.findDue(LocalDateTime.now(), Limit.of(batchSize));
+            for (OutboxEvent event : batch) {
+                if (dispatch(event)) {
+                    processed++;
+                }
+            }
+        } while (batch.size() == batchSize);
+        updateLag();
+        return processed;
+    }
+
+    private boolean dispatch(OutboxEvent event) {
+        OutboxHandler handler = handlers.get(event.getType());
+        try {
+            if (handler == null) {
+                throw new IllegalStateException("등록된 처리기 없음: " + event.getType());
+            }
+            handler.handle(event.getAggregateId());
+            outboxEventRepository.delete(event);
+            count(event, "processed");
+            return true;
+        } catch (Exception e) {
+            event.recordFailure(e.getMessage(), baseBackoff, maxBackoff);
+            outboxEventRepository.save(event);
+            count(event, "failed");
+            log.warn("아웃박스 이벤트 처리 실패 - id: {}, type: {}, aggregateId: {}, 시도 횟수: {}, 다음 시도: {}",
+                    event.getId(), event.getType(), event.getAggregateId(), event.getAttempts(),
+                    event.getNextAttemptAt(), e);
+            return false;
+        }
+    }
+
+    private void count(OutboxEvent event, String result) {
+        Counter.builder("outbox.events")
+                .description("아웃박스 이벤트 처리 결과")
+                .tag("type", event.getType().name())
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void updateLag() {
+        pending.set(outboxEventRepository.count());
+        lagSeconds.set(outboxEventRepository.findOldestCreatedAt()
+                .map(oldest -> Math.max(0, Duration.between(oldest, LocalDateTime.now()).toSeconds()))
+                .orElse(0L));
+    }
+}
@@ -4,8 +4,12 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import com.storycut.global.security.matcher.PublicEndpointMatcher;
+import com.storycut.global.util.SegmentPathMatcher;
 import java.io.IOException;
+import java.util.List;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -13,6 +17,21 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @Component
 public class LoggingFilter extends OncePerRequestFilter {
 
+    // Swagger & Prometheus & mcp 요청은 로깅 제외
+    private static final SegmentPathMatcher EXCLUDED_PATHS = SegmentPathMatcher.of(List.of(
+        "/swagger-ui/**",
+        "/swagger-ui.html",
+        "/v3/api-docs/**",
+        "/actuator/prometheus",
+        "/api/mcp/**"
+    ));
+
+    private final String contextPath;
+
+    public LoggingFilter(@Value("${server.servlet.context-path:}") String contextPath) {
+        this.contextPath = contextPath;
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
         FilterChain filterChain)
@@ -20,9 +39,8 @@ public class LoggingFilter extends OncePerRequestFilter {
 
         String uri = request.getRequestURI();
 
-        // Swagger & Prometheus & mcp 요청은 로깅 제외
-        if (uri.startsWith("/swagger-ui") || uri.startsWith("/v3/api-docs") || uri.startsWith(
-            "/actuator/prometheus") || uri.startsWith("/api/mcp/")) {
+        // 로깅 제외 경로 (컨텍스트 경로 이후 부분으로 판정)
+        if (EXCLUDED_PATHS.matches(uri, PublicEndpointMatcher.pathOffset(contextPath, uri))) {
             filterChain.doFilter(request, response);
             return;
         }
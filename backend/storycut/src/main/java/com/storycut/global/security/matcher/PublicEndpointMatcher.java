@@ -0,0 +1,50 @@
+package com.storycut.global.security.matcher;
+
+import com.storycut.global.model.enums.PublicEndpoint;
+import com.storycut.global.util.SegmentPathMatcher;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공개 엔드포인트 매처
+ * <p>
+ * {@link PublicEndpoint}의 패턴을 기동 시 세그먼트 트라이로 한 번만 컴파일한다.
+ * 요청 URI에서 컨텍스트 경로(/api/v1/spring)를 건너뛴 나머지 경로로 판정하며, 매칭 시 객체를 생성하지 않는다.
+ * JWT 필터의 제외 판정과 SecurityConfig의 permitAll 설정에서 함께 사용한다.
+ * </p>
+ */
+@Component
+public class PublicEndpointMatcher implements RequestMatcher {
+
+    private final SegmentPathMatcher matcher = SegmentPathMatcher.of(PublicEndpoint.getAll());
+    private final String contextPath;
+
+    public PublicEndpointMatcher(@Value("${server.servlet.context-path:}") String contextPath) {
+        this.contextPath = contextPath;
+    }
+
+    @Override
+    public boolean matches(HttpServletRequest request) {
+        return matches(request.getRequestURI());
+    }
+
+    /**
+     * 컨텍스트 경로를 포함한 요청 URI의 공개 여부
+     */
+    public boolean matches(String requestUri) {
+        return matcher.matches(requestUri, pathOffset(contextPath, requestUri));
+    }
+
+    /**
+     * 컨텍스트 경로를 제외한 경로가 시작되는 위치
+     */
+    public static int pathOffset(String contextPath, String requestUri) {
+        int length = contextPath.length();
+        boolean underContext = length > 0
+                && requestUri.startsWith(contextPath)
+                && (requestUri.length() == length || requestUri.charAt(length) == '/');
+        return underContext ? length : 0;
+    }
+}
@@ -0,0 +1,106 @@
+package com.storycut.global.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 스레드 안전한 블룸 필터
+ * <p>
+ * 이미 균등 분포인 해시(SHA-256 다이제스트 등)를 입력으로 받아, 앞 16바이트를 두 개의 64비트 해시로 나눠
+ * 이중 해싱(h1 + i * h2)으로 k개의 비트 위치를 만든다. 비트 배열은 {@link AtomicLongArray}로 관리하여
+ * 락 없이 동시에 추가/조회할 수 있다.
+ * </p>
+ * <p>
+ * {@link #mightContain(byte[])}가 false이면 확실히 없는 값이고, true이면 설정한 오탐률 이내로 있을 수 있는 값이다.
+ * </p>
+ */
+public final class BloomFilter {
+
+    private static final int MIN_HASH_LENGTH = 16;
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashCount;
+
+    private BloomFilter(long bitSize, int hashCount) {
+        int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, (bitSize + 63) >>> 6);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitSize = (long) wordCount << 6;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * 예상 원소 수와 목표 오탐률로 필터 생성
+     */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("expectedInsertions must be positive");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be in (0, 1)");
+        }
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int hashes = Math.max(1, (int) Math.round((double) bits / expectedInsertions * Math.log(2)));
+        return new BloomFilter(bits, hashes);
+    }
+
+    /**
+     * 해시 값 추가
+     */
+    public void put(byte[] hash) {
+        long h1 = readLong(hash, 0);
+        long h2 = readLong(hash, 8);
+        for (int i = 0; i < hashCount; i++) {
+            setBit(index(h1 + i * h2));
+        }
+    }
+
+    /**
+     * 해시 값이 포함되어 있을 가능성 확인
+     */
+    public boolean mightContain(byte[] hash) {
+        long h1 = readLong(hash, 0);
+        long h2 = readLong(hash, 8);
+        for (int i = 0; i < hashCount; i++) {
+            long bitIndex = index(h1 + i * h2);
+            if ((words.get((int) (bitIndex >>> 6)) & (1L << bitIndex)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long bitSize() {
+        return bitSize;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    private long index(long combinedHash) {
+        return (combinedHash & Long.MAX_VALUE) % bitSize;
+    }
+
+    private void setBit(long bitIndex) {
+        int wordIndex = (int) (bitIndex >>> 6);
+        long mask = 1L << bitIndex;
+        long current;
+        do {
+            current = words.get(wordIndex);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!words.compareAndSet(wordIndex, current, current | mask));
+    }
+
+    private static long readLong(byte[] hash, int offset) {
+        if (hash.length < MIN_HASH_LENGTH) {
+            throw new IllegalArgumentException("hash must be at least " + MIN_HASH_LENGTH + " bytes");
+        }
+        long value = 0;
+        for (int i = offset; i < offset + 8; i++) {
+            value = (value << 8) | (hash[i] & 0xFFL);
+        }
+        return value;
+    }
+}
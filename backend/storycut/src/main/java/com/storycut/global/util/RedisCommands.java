@@ -0,0 +1,95 @@
+package com.storycut.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.DefaultStringRedisConnection;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * RedisTemplate 위의 원자적/일괄 명령 모음
+ * <p>
+ * 읽기-비교-쓰기를 여러 번의 왕복으로 나눠 실행하면 동시 요청 사이에 경쟁이 생기므로,
+ * 서버 측 Lua 스크립트(EVALSHA)로 한 번에 원자적으로 실행하거나 파이프라인으로 묶어 왕복 수를 줄인다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisCommands {
+
+    // 값을 읽고 즉시 삭제 (GETDEL이 없는 Redis 버전에서도 동작)
+    private static final RedisScript<String> GET_AND_DELETE = new DefaultRedisScript<>("""
+            local value = redis.call('GET', KEYS[1])
+            if value then
+                redis.call('DEL', KEYS[1])
+            end
+            return value
+            """, String.class);
+
+    // 저장된 값이 기대값과 같은지 비교 (값을 클라이언트로 가져오지 않음)
+    private static final RedisScript<Long> COMPARE = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    // 저장된 값이 기대값과 같을 때만 삭제 (락 해제 등)
+    private static final RedisScript<Long> COMPARE_AND_DELETE = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 원자적 조회 후 삭제 - 일회용 값(인증 state 등) 소비
+     */
+    public String getAndDelete(String key) {
+        return redisTemplate.execute(GET_AND_DELETE, List.of(key));
+    }
+
+    /**
+     * 원자적 값 비교
+     */
+    public boolean compare(String key, String expected) {
+        return Long.valueOf(1L).equals(redisTemplate.execute(COMPARE, List.of(key), expected));
+    }
+
+    /**
+     * 값이 일치할 때만 삭제
+     */
+    public boolean compareAndDelete(String key, String expected) {
+        return Long.valueOf(1L).equals(redisTemplate.execute(COMPARE_AND_DELETE, List.of(key), expected));
+    }
+
+    /**
+     * 이미 직렬화된 바이트를 그대로 발행 (값 직렬화기를 거치지 않음)
+     *
+     * @return 메시지를 받은 구독자(노드) 수
+     */
+    public Long publish(String channel, byte[] payload) {
+        byte[] rawChannel = channel.getBytes(StandardCharsets.UTF_8);
+        return redisTemplate.execute((RedisCallback<Long>) connection -> connection.publish(rawChannel, payload));
+    }
+
+    /**
+     * 여러 명령을 한 번의 왕복으로 파이프라인 실행
+     * 파이프라인 안의 명령 결과는 반환 목록으로만 확인할 수 있다.
+     */
+    public List<Object> pipelined(Consumer<StringRedisConnection> commands) {
+        return redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            commands.accept(new DefaultStringRedisConnection(connection));
+            return null;
+        });
+    }
+
+}
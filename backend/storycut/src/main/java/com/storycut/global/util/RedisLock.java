@@ -0,0 +1,46 @@
+package com.storycut.global.util;
+
+import java.time.Duration;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 기반 임대(lease) 락 - 여러 노드 중 한 곳에서만 배치 작업을 실행할 때 사용
+ * <p>
+ * SET NX PX로 획득하고, 자신이 건 락일 때만 해제한다.
+ * 작업이 임대 시간을 넘기면 다른 노드가 락을 가져갈 수 있으므로 임대 시간은 작업 시간보다 넉넉하게 잡는다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisLock {
+
+    private static final String LOCK_PREFIX = "LOCK:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisCommands redisCommands;
+
+    /**
+     * 락을 획득한 경우에만 작업 실행
+     *
+     * @return 작업 실행 여부 (다른 노드가 락을 보유 중이면 false)
+     */
+    public boolean runExclusively(String name, Duration leaseTime, Runnable task) {
+        String key = LOCK_PREFIX + name;
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, token, leaseTime))) {
+            log.debug("다른 노드가 락을 보유 중이므로 건너뜀 - {}", name);
+            return false;
+        }
+        try {
+            task.run();
+            return true;
+        } finally {
+            redisCommands.compareAndDelete(key, token);
+        }
+    }
+}
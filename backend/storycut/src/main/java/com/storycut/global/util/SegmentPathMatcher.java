@@ -0,0 +1,137 @@
+package com.storycut.global.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 경로 세그먼트 트라이 기반 URL 매처
+ * <p>
+ * 기동 시 한 번 패턴을 트라이로 컴파일해 두고, 요청 경로를 '/' 단위로 따라가며 판정한다.
+ * 문자열 분리나 substring 없이 원본 문자열의 구간 비교({@link String#regionMatches})만 사용하므로
+ * 매칭 과정에서 객체를 생성하지 않는다.
+ * </p>
+ * <p>
+ * 지원 패턴 (AntPathMatcher와 동일한 의미)
+ * <ul>
+ *     <li>{@code /a/b} - 정확히 일치하는 경로</li>
+ *     <li>{@code /a/**} - {@code /a} 자신과 그 하위 모든 경로</li>
+ * </ul>
+ * </p>
+ */
+public final class SegmentPathMatcher {
+
+    private static final String MULTI_WILDCARD = "**";
+
+    private final Node root = new Node();
+
+    private SegmentPathMatcher() {
+    }
+
+    /**
+     * 패턴 목록으로 매처 생성
+     */
+    public static SegmentPathMatcher of(Collection<String> patterns) {
+        SegmentPathMatcher matcher = new SegmentPathMatcher();
+        patterns.forEach(matcher::add);
+        return matcher;
+    }
+
+    private void add(String pattern) {
+        Node node = root;
+        String[] segments = Arrays.stream(pattern.split("/"))
+                .filter(segment -> !segment.isEmpty())
+                .toArray(String[]::new);
+
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if (MULTI_WILDCARD.equals(segment)) {
+                if (i != segments.length - 1) {
+                    throw new IllegalArgumentException("'**'는 패턴의 마지막 세그먼트에만 사용할 수 있습니다: " + pattern);
+                }
+                node.wildcard = true;
+                return;
+            }
+            if (segment.contains("*") || segment.contains("{")) {
+                throw new IllegalArgumentException("지원하지 않는 패턴입니다: " + pattern);
+            }
+            node = node.childOrCreate(segment);
+        }
+        node.terminal = true;
+    }
+
+    /**
+     * 경로 전체에 대한 일치 여부
+     */
+    public boolean matches(String path) {
+        return matches(path, 0);
+    }
+
+    /**
+     * offset 이후의 경로에 대한 일치 여부 (컨텍스트 경로를 잘라내지 않고 건너뛸 때 사용)
+     */
+    public boolean matches(String path, int offset) {
+        Node node = root;
+        int length = path.length();
+        int pos = offset;
+
+        while (true) {
+            if (node.wildcard) {
+                return true;
+            }
+
+            // 연속된 '/' 건너뛰기
+            while (pos < length && path.charAt(pos) == '/') {
+                pos++;
+            }
+            if (pos >= length) {
+                // 루트("/")가 아닌 경로는 끝의 '/' 유무까지 일치해야 함
+                return node.terminal && (node == root || path.charAt(length - 1) != '/');
+            }
+
+            int end = path.indexOf('/', pos);
+            if (end < 0) {
+                end = length;
+            }
+
+            node = node.child(path, pos, end - pos);
+            if (node == null) {
+                return false;
+            }
+            pos = end;
+        }
+    }
+
+    /**
+     * 트라이 노드 - 자식 수가 적으므로 배열 선형 탐색으로 조회
+     */
+    private static final class Node {
+
+        private String[] names = new String[0];
+        private Node[] children = new Node[0];
+        private boolean terminal;
+        private boolean wildcard;
+
+        private Node child(String path, int start, int length) {
+            for (int i = 0; i < names.length; i++) {
+                String name = names[i];
+                if (name.length() == length && path.regionMatches(start, name, 0, length)) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        private Node childOrCreate(String segment) {
+            Node existing = child(segment, 0, segment.length());
+            if (existing != null) {
+                return existing;
+            }
+            Node created = new Node();
+            names = Arrays.copyOf(names, names.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            names[names.length - 1] = segment;
+            children[children.length - 1] = created;
+            return created;
+        }
+    }
+}
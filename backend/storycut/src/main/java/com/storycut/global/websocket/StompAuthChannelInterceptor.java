@@ -0,0 +1,149 @@
+package com.storycut.global.websocket;
+
+import com.storycut.domain.auth.model.CustomUserDetails;
+import com.storycut.domain.auth.service.TokenBlacklistService;
+import com.storycut.domain.auth.util.JWTUtil;
+import com.storycut.domain.auth.util.TokenDigest;
+import com.storycut.domain.auth.util.JWTUtil.TokenStatus;
+import com.storycut.domain.auth.util.JWTUtil.TokenVerification;
+import com.storycut.domain.room.service.RoomMembershipIndex;
+import com.storycut.global.config.WebSocketConfig;
+import com.storycut.global.exception.BusinessException;
+import com.storycut.global.model.dto.BaseResponseStatus;
+import java.security.Principal;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * STOMP 인바운드 프레임 인증/인가
+ * <p>
+ * CONNECT: Authorization 헤더의 액세스 토큰을 HTTP 요청과 같은 방식(JWTUtil 검증, 블랙리스트 확인)으로 확인하고
+ * 세션 사용자로 등록한다. 토큰 다이제스트와 만료 시각은 세션 속성({@link StompSessionAuth})에 남긴다.
+ * 이후 프레임은 세션 사용자가 있고 토큰 만료 시각이 지나지 않았을 때만 통과한다.
+ * SUBSCRIBE: {@code /topic/rooms/<공유방 ID>}만 허용하며, 멤버십 인덱스로 참여 여부를 확인한다.
+ * 거절 시 예외를 던지면 클라이언트에 ERROR 프레임이 전달된다.
+ * </p>
+ * <p>
+ * 구독 이후의 퇴장/공유방 삭제/로그아웃/토큰 만료는 ChatRoomSubscriptionRegistry가 세션을 종료해 반영한다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JWTUtil jwtUtil;
+    private final TokenBlacklistService tokenBlacklistService;
+    private final RoomMembershipIndex roomMembershipIndex;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        StompCommand command = accessor.getCommand();
+        if (command == StompCommand.CONNECT) {
+            connect(accessor);
+        } else if (command == StompCommand.SUBSCRIBE) {
+            authorizeSubscribe(authenticatedMemberId(accessor), accessor.getDestination());
+        } else if (command == StompCommand.SEND) {
+            authenticatedMemberId(accessor);
+        }
+        return message;
+    }
+
+    private void connect(StompHeaderAccessor accessor) {
+        String authorization = accessor.getFirstNativeHeader(AUTHORIZATION_HEADER);
+        if (!StringUtils.hasText(authorization) || !authorization.startsWith(BEARER_PREFIX)) {
+            throw new BusinessException(BaseResponseStatus.UNAUTHORIZED);
+        }
+        String token = authorization.substring(BEARER_PREFIX.length());
+        TokenVerification verification = authenticate(token);
+
+        Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+        if (sessionAttributes == null) {
+            throw new BusinessException(BaseResponseStatus.UNAUTHORIZED);
+        }
+        Authentication authentication = jwtUtil.getAuthentication(verification);
+        sessionAttributes.put(StompSessionAuth.ATTRIBUTE, new StompSessionAuth(
+                memberIdOf(authentication), TokenDigest.of(token), verification.getExpirationTime()));
+        accessor.setUser(authentication);
+    }
+
+    private TokenVerification authenticate(String token) {
+        TokenVerification verification = jwtUtil.verify(token);
+        if (verification.status() == TokenStatus.EXPIRED) {
+            throw new BusinessException(BaseResponseStatus.JWT_ACCESS_TOKEN_EXPIRED);
+        }
+        if (verification.status() != TokenStatus.VALID) {
+            throw new BusinessException(BaseResponseStatus.INVALID_JWT_TOKEN);
+        }
+        if (tokenBlacklistService.isRevoked(token, verification)) {
+            throw new BusinessException(BaseResponseStatus.JWT_TOKEN_REVOKED);
+        }
+        return verification;
+    }
+
+    /**
+     * CONNECT에서 인증된 세션의 회원 ID - 토큰 만료 시각이 지났으면 거절
+     */
+    private Long authenticatedMemberId(StompHeaderAccessor accessor) {
+        Long memberId = memberIdOf(accessor.getUser());
+        StompSessionAuth auth = StompSessionAuth.from(accessor.getSessionAttributes());
+        if (auth == null || !memberId.equals(auth.memberId())) {
+            throw new BusinessException(BaseResponseStatus.UNAUTHORIZED);
+        }
+        if (auth.isExpired(System.currentTimeMillis())) {
+            throw new BusinessException(BaseResponseStatus.JWT_ACCESS_TOKEN_EXPIRED);
+        }
+        return memberId;
+    }
+
+    private void authorizeSubscribe(Long memberId, String destination) {
+        Long roomId = parseRoomId(destination);
+        if (roomId == null) {
+            throw new BusinessException(BaseResponseStatus.FORBIDDEN);
+        }
+        if (!roomMembershipIndex.isMember(roomId, memberId)) {
+            log.debug("공유방 구독 거절 memberId={}, roomId={}", memberId, roomId);
+            throw new BusinessException(BaseResponseStatus.NOT_ROOM_MEMBER);
+        }
+    }
+
+    /**
+     * {@code /topic/rooms/<공유방 ID>} 형식이면 공유방 ID, 아니면 null
+     */
+    public static Long parseRoomId(String destination) {
+        if (destination == null || !destination.startsWith(WebSocketConfig.ROOM_TOPIC_PREFIX)) {
+            return null;
+        }
+        try {
+            return Long.valueOf(destination.substring(WebSocketConfig.ROOM_TOPIC_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private Long memberIdOf(Principal user) {
+        if (user instanceof Authentication authentication
+                && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getMemberId();
+        }
+        throw new BusinessException(BaseResponseStatus.UNAUTHORIZED);
+    }
+}
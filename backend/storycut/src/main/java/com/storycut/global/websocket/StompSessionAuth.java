@@ -0,0 +1,31 @@
+package com.storycut.global.websocket;
+
+import java.util.Map;
+
+/**
+ * CONNECT 시 확인한 인증 정보 - STOMP 세션 속성에 저장해 이후 프레임 검사와 세션 정리에 사용
+ *
+ * @param tokenDigest 연결에 사용한 액세스 토큰의 다이제스트 (로그아웃 시 종료할 세션 식별)
+ * @param expiresAt   액세스 토큰 만료 시각 (epoch ms), 이후에는 세션을 유지하지 않는다
+ */
+public record StompSessionAuth(
+        Long memberId,
+        String tokenDigest,
+        long expiresAt
+) {
+
+    public static final String ATTRIBUTE = StompSessionAuth.class.getName();
+
+    /**
+     * 세션 속성에서 인증 정보 조회 (CONNECT를 거치지 않았으면 null)
+     */
+    public static StompSessionAuth from(Map<String, Object> sessionAttributes) {
+        return sessionAttributes != null && sessionAttributes.get(ATTRIBUTE) instanceof StompSessionAuth auth
+                ? auth
+                : null;
+    }
+
+    public boolean isExpired(long now) {
+        return expiresAt <= now;
+    }
+}
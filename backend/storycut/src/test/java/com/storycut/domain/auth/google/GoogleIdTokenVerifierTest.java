@@ -0,0 +1,138 @@
+package com.storycut.domain.auth.google;
+
+import com.storycut.global.exception.BusinessException;
+import com.storycut.global.model.dto.BaseResponseStatus;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.security.PublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GoogleIdTokenVerifierTest {
+
+    private static final String CLIENT_ID = "storycut-client-id";
+    private static final String ISSUER = "https://accounts.google.com";
+
+    private final KeyPair currentKey = Jwts.SIG.RS256.keyPair().build();
+    private final KeyPair rotatedKey = Jwts.SIG.RS256.keyPair().build();
+
+    private MutableClock clock;
+    private AtomicInteger fetchCount;
+    private Map<String, PublicKey> publishedKeys;
+    private GoogleIdTokenVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.now());
+        fetchCount = new AtomicInteger();
+        publishedKeys = Map.of("kid-1", currentKey.getPublic());
+
+        // 로컬 키 세트를 반환하는 키 공급원
+        GoogleSigningKeySource keySource = () -> {
+            fetchCount.incrementAndGet();
+            return new GoogleSigningKeys(publishedKeys, Duration.ofHours(6));
+        };
+        verifier = new GoogleIdTokenVerifier(keySource, new SimpleMeterRegistry(), List.of(CLIENT_ID), clock);
+    }
+
+    private String idToken(String keyId, KeyPair keyPair, String issuer, String audience) {
+        Instant now = clock.instant();
+        return Jwts.builder()
+                .header().keyId(keyId).and()
+                .issuer(issuer)
+                .audience().add(audience).and()
+                .subject("google-sub-1")
+                .claim("email", "user@example.com")
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plus(Duration.ofHours(1))))
+                .signWith(keyPair.getPrivate(), Jwts.SIG.RS256)
+                .compact();
+    }
+
+    @Test
+    @DisplayName("캐시된 공개키로 ID 토큰을 검증하고 키 세트는 한 번만 가져온다")
+    void verifiesWithCachedKeys() {
+        // when
+        Claims first = verifier.verify(idToken("kid-1", currentKey, ISSUER, CLIENT_ID));
+        Claims second = verifier.verify(idToken("kid-1", currentKey, "accounts.google.com", CLIENT_ID));
+
+        // then
+        assertThat(first.getSubject()).isEqualTo("google-sub-1");
+        assertThat(second.get("email", String.class)).isEqualTo("user@example.com");
+        assertThat(fetchCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대상(client id)이나 발급자가 다르면 검증에 실패한다")
+    void rejectsWrongAudienceOrIssuer() {
+        BusinessException audience = assertThrows(BusinessException.class,
+                () -> verifier.verify(idToken("kid-1", currentKey, ISSUER, "other-client")));
+        BusinessException issuer = assertThrows(BusinessException.class,
+                () -> verifier.verify(idToken("kid-1", currentKey, "https://evil.example.com", CLIENT_ID)));
+
+        assertThat(audience.getBaseResponseStatus()).isEqualTo(BaseResponseStatus.TOKEN_VERIFICATION_FAILED);
+        assertThat(issuer.getBaseResponseStatus()).isEqualTo(BaseResponseStatus.TOKEN_VERIFICATION_FAILED);
+    }
+
+    @Test
+    @DisplayName("모르는 kid가 오면 키 세트를 다시 가져오되 최소 간격 내에서는 재조회하지 않는다")
+    void refetchesOnUnknownKeyIdWithRateLimit() {
+        // given - 첫 로딩 후 구글이 키를 교체
+        verifier.verify(idToken("kid-1", currentKey, ISSUER, CLIENT_ID));
+        publishedKeys = Map.of("kid-2", rotatedKey.getPublic());
+        String rotatedToken = idToken("kid-2", rotatedKey, ISSUER, CLIENT_ID);
+
+        // when & then - 직전 조회 직후에는 재조회 제한으로 실패
+        assertThrows(BusinessException.class, () -> verifier.verify(rotatedToken));
+        assertThat(fetchCount.get()).isEqualTo(1);
+
+        // when & then - 최소 간격이 지나면 재조회 후 성공
+        clock.advance(Duration.ofMinutes(1));
+        Claims claims = verifier.verify(idToken("kid-2", rotatedKey, ISSUER, CLIENT_ID));
+        assertThat(claims.getSubject()).isEqualTo("google-sub-1");
+        assertThat(fetchCount.get()).isEqualTo(2);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
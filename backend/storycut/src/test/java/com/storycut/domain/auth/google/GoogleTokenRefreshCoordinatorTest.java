@@ -0,0 +1,122 @@
+package com.storycut.domain.auth.google;
+
+import com.storycut.global.util.RedisCommands;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class GoogleTokenRefreshCoordinatorTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisCommands redisCommands;
+
+    private final Map<String, String> store = new ConcurrentHashMap<>();
+    private GoogleTokenRefreshCoordinator coordinator;
+
+    @BeforeEach
+    void setUp() {
+        // 메모리 맵으로 동작하는 Redis 대역
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(anyString())).thenAnswer(invocation -> store.get(invocation.<String>getArgument(0)));
+        when(valueOperations.setIfAbsent(anyString(), anyString(), anyLong(), eq(TimeUnit.MILLISECONDS)))
+                .thenAnswer(invocation -> store.putIfAbsent(invocation.getArgument(0), invocation.getArgument(1)) == null);
+        doAnswer(invocation -> {
+            store.put(invocation.getArgument(0), invocation.getArgument(1));
+            return null;
+        }).when(valueOperations).set(anyString(), anyString(), anyLong(), eq(TimeUnit.MILLISECONDS));
+        when(redisTemplate.delete(anyString())).thenAnswer(invocation -> store.remove(invocation.<String>getArgument(0)) != null);
+        when(redisCommands.compareAndDelete(anyString(), anyString()))
+                .thenAnswer(invocation -> store.remove(invocation.getArgument(0), invocation.getArgument(1)));
+        when(redisTemplate.hasKey(anyString())).thenAnswer(invocation -> store.containsKey(invocation.<String>getArgument(0)));
+
+        coordinator = new GoogleTokenRefreshCoordinator(redisTemplate, redisCommands, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("같은 회원의 동시 갱신 요청은 구글 호출 한 번으로 합쳐진다")
+    void coalescesConcurrentRefreshes() throws Exception {
+        // given
+        AtomicInteger googleCalls = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return coordinator.getAccessToken(1L, () -> {
+                    googleCalls.incrementAndGet();
+                    sleep(200);
+                    return new GoogleTokenResponse("google-access-token", 3599L, null);
+                });
+            }));
+        }
+        start.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("google-access-token");
+        }
+        executor.shutdown();
+        assertThat(googleCalls.get()).isEqualTo(1);
+        assertThat(store).containsEntry("G_AT:1", "google-access-token").doesNotContainKey("G_LOCK:1");
+    }
+
+    @Test
+    @DisplayName("유효한 토큰이 캐시되어 있으면 갱신 로직을 실행하지 않는다")
+    void returnsCachedTokenWithoutRefresh() {
+        // given
+        coordinator.store(2L, new GoogleTokenResponse("issued-token", 3599L, "refresh"));
+
+        // when
+        String token = coordinator.getAccessToken(2L, () -> {
+            throw new AssertionError("갱신이 호출되면 안 됨");
+        });
+
+        // then
+        assertThat(token).isEqualTo("issued-token");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
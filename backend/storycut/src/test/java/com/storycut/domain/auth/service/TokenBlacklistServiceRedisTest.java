@@ -0,0 +1,169 @@
+package com.storycut.domain.auth.service;
+
+import com.storycut.domain.auth.event.MemberTokensRevokedEvent;
+import com.storycut.domain.auth.google.GoogleApiClient;
+import com.storycut.domain.auth.google.GoogleTokenRefreshCoordinator;
+import com.storycut.domain.auth.util.JWTUtil;
+import com.storycut.domain.auth.util.JWTUtil.TokenStatus;
+import com.storycut.domain.auth.util.JWTUtil.TokenVerification;
+import com.storycut.domain.member.model.entity.Member;
+import com.storycut.domain.member.repository.MemberRepository;
+import com.storycut.domain.member.service.MemberCache;
+import com.storycut.domain.member.service.MemberService;
+import com.storycut.global.outbox.OutboxPublisher;
+import com.storycut.global.util.RedisCommands;
+import com.storycut.support.EmbeddedRedis;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 회원 단위 토큰 폐기(BL:member:&lt;id&gt;)를 내장 Redis에서 검증
+ * <p>
+ * 회원 탈퇴 요청을 보낸 기기가 아닌 다른 기기의 액세스 토큰도 차단되는지, 다른 노드가 메시지/재구성으로 같은 결과를 내는지 확인한다.
+ * </p>
+ */
+class TokenBlacklistServiceRedisTest {
+
+    private static final long ACCESS_TOKEN_VALIDITY_MS = 30 * 60 * 1000L;
+    private static final Long MEMBER_ID = 7L;
+
+    private static EmbeddedRedis redis;
+    private static RedisTemplate<String, String> redisTemplate;
+
+    private ApplicationEventPublisher eventPublisher;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        redis = EmbeddedRedis.start();
+        redisTemplate = redis.template();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redis.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redis.flushAll();
+        eventPublisher = mock(ApplicationEventPublisher.class);
+    }
+
+    private TokenBlacklistService node() {
+        return new TokenBlacklistService(redisTemplate, new RedisCommands(redisTemplate),
+                mock(RedisMessageListenerContainer.class), eventPublisher, new SimpleMeterRegistry(),
+                1000, 0.001, ACCESS_TOKEN_VALIDITY_MS);
+    }
+
+    private static TokenVerification token(Long memberId, long issuedAt) {
+        return new TokenVerification(TokenStatus.VALID, Jwts.claims()
+                .subject(String.valueOf(memberId))
+                .issuedAt(new Date(issuedAt))
+                .expiration(new Date(issuedAt + ACCESS_TOKEN_VALIDITY_MS))
+                .build());
+    }
+
+    @Test
+    @DisplayName("회원 탈퇴 후 다른 기기에서 발급받은 같은 회원의 액세스 토큰도 차단된다")
+    void deleteMember_rejectsOtherDeviceToken() {
+        // given - 탈퇴 요청 기기와 다른 기기의 토큰
+        TokenBlacklistService blacklist = node();
+        TokenService tokenService = new TokenService(mock(JWTUtil.class), mock(MemberRepository.class),
+                redisTemplate, new RedisCommands(redisTemplate), blacklist, mock(GoogleApiClient.class),
+                mock(GoogleTokenRefreshCoordinator.class), mock(HttpServletRequest.class));
+        MemberRepository memberRepository = mock(MemberRepository.class);
+        Member member = mock(Member.class);
+        when(memberRepository.findById(MEMBER_ID)).thenReturn(Optional.of(member));
+        MemberService memberService = new MemberService(memberRepository, mock(OutboxPublisher.class),
+                mock(MemberCache.class), tokenService);
+
+        long issuedAt = System.currentTimeMillis() - 60_000;
+        TokenVerification otherDevice = token(MEMBER_ID, issuedAt);
+        TokenVerification otherMember = token(8L, issuedAt);
+        redisTemplate.opsForValue().set("RT:" + MEMBER_ID, "refresh");
+        redisTemplate.opsForValue().set("G_RT:" + MEMBER_ID, "google-refresh");
+        assertThat(blacklist.isRevoked("other-device", otherDevice)).isFalse();
+
+        // when
+        memberService.deleteMember(MEMBER_ID);
+
+        // then
+        assertThat(blacklist.isRevoked("other-device", otherDevice)).isTrue();
+        assertThat(blacklist.isRevoked("other-member", otherMember)).isFalse();
+        assertThat(redisTemplate.hasKey("RT:" + MEMBER_ID)).isFalse();
+        assertThat(redisTemplate.hasKey("G_RT:" + MEMBER_ID)).isFalse();
+        assertThat(redisTemplate.getExpire("BL:member:" + MEMBER_ID, TimeUnit.MILLISECONDS))
+                .isBetween(1L, ACCESS_TOKEN_VALIDITY_MS);
+        verify(eventPublisher).publishEvent(new MemberTokensRevokedEvent(MEMBER_ID));
+    }
+
+    @Test
+    @DisplayName("폐기 시각 이후에 발급된 토큰은 차단하지 않는다")
+    void revokeMember_allowsLaterToken() {
+        // given
+        TokenBlacklistService blacklist = node();
+
+        // when
+        blacklist.revokeMember(MEMBER_ID);
+
+        // then - 발급 시각은 초 단위이므로 다음 초에 발급된 토큰
+        long nextSecond = (System.currentTimeMillis() / 1000 + 1) * 1000;
+        assertThat(blacklist.isRevoked("later", token(MEMBER_ID, nextSecond))).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 노드는 폐기 메시지를 받아 같은 회원의 토큰을 차단하고 세션 종료 이벤트를 발행한다")
+    void peerMessage_revokesMemberTokens() {
+        // given
+        node().revokeMember(MEMBER_ID);
+        String cutoff = redisTemplate.opsForValue().get("BL:member:" + MEMBER_ID);
+        TokenBlacklistService peer = node();
+        byte[] body = ("member:" + MEMBER_ID + ":" + cutoff).getBytes(StandardCharsets.UTF_8);
+
+        // when
+        peer.onMessage(new DefaultMessage("auth:blacklist".getBytes(StandardCharsets.UTF_8), body), null);
+
+        // then
+        assertThat(peer.isRevoked("token", token(MEMBER_ID, Long.parseLong(cutoff) - 1000))).isTrue();
+        assertThat(peer.isRevoked("token", token(8L, Long.parseLong(cutoff) - 1000))).isFalse();
+    }
+
+    @Test
+    @DisplayName("재구성 시 Redis의 회원 폐기 키를 읽고, 액세스 토큰 유효 시간이 지난 폐기 시각은 정리한다")
+    void rebuild_loadsMemberCutoffs() {
+        // given - 메시지를 놓친 노드, 유효 시간이 지난 폐기 기록
+        node().revokeMember(MEMBER_ID);
+        long staleCutoff = System.currentTimeMillis() - ACCESS_TOKEN_VALIDITY_MS - 60_000;
+        redisTemplate.opsForValue().set("BL:member:8", String.valueOf(staleCutoff));
+        TokenBlacklistService peer = node();
+
+        // when
+        peer.rebuild();
+
+        // then
+        long issuedAt = System.currentTimeMillis() - 60_000;
+        assertThat(peer.isRevoked("token", token(MEMBER_ID, issuedAt))).isTrue();
+        assertThat(peer.isRevoked("token", token(8L, staleCutoff - 1000))).isFalse();
+    }
+}
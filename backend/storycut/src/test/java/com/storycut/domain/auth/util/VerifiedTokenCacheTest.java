@@ -0,0 +1,70 @@
+package com.storycut.domain.auth.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+    private static final String TOKEN = "header.payload.signature";
+
+    private Claims claimsExpiringIn(long millis) {
+        return Jwts.claims()
+                .subject("1")
+                .expiration(new Date(System.currentTimeMillis() + millis))
+                .build();
+    }
+
+    @Test
+    @DisplayName("검증된 클레임은 토큰 다이제스트 키로 재사용된다")
+    void cachedClaimsAreReturned() {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100, new SimpleMeterRegistry());
+        Claims claims = claimsExpiringIn(60_000);
+        String key = cache.keyOf(TOKEN);
+
+        // when
+        cache.put(key, claims);
+
+        // then
+        assertThat(key).isEqualTo(TokenDigest.of(TOKEN)).doesNotContain(TOKEN);
+        assertThat(cache.get(cache.keyOf(TOKEN))).isSameAs(claims);
+        assertThat(cache.get(cache.keyOf("other.token.value"))).isNull();
+    }
+
+    @Test
+    @DisplayName("토큰의 exp가 지난 항목은 반환하지 않는다")
+    void expiredClaimsAreNotServed() throws InterruptedException {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100, new SimpleMeterRegistry());
+        String key = cache.keyOf(TOKEN);
+
+        // when
+        cache.put(key, claimsExpiringIn(50));
+        Thread.sleep(100);
+
+        // then
+        assertThat(cache.get(key)).isNull();
+    }
+
+    @Test
+    @DisplayName("캐시를 끄면 키를 만들지 않고 항상 미스로 동작한다")
+    void disabledCacheAlwaysMisses() {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(false, 100, new SimpleMeterRegistry());
+
+        // when
+        String key = cache.keyOf(TOKEN);
+        cache.put(key, claimsExpiringIn(60_000));
+
+        // then
+        assertThat(key).isNull();
+        assertThat(cache.get(key)).isNull();
+    }
+}
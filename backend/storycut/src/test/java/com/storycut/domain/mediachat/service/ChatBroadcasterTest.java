@@ -0,0 +1,106 @@
+package com.storycut.domain.mediachat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.storycut.domain.mediachat.dto.response.ChatEventResponse;
+import com.storycut.domain.mediachat.dto.response.ChatMessageResponse;
+import com.storycut.global.util.RedisCommands;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChatBroadcasterTest {
+
+    @Mock
+    private RedisCommands redisCommands;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ChatBroadcaster chatBroadcaster;
+
+    @BeforeEach
+    void setUp() {
+        chatBroadcaster = new ChatBroadcaster(redisCommands, messagingTemplate, objectMapper, meterRegistry);
+    }
+
+    private ChatEventResponse createdEvent() {
+        return ChatEventResponse.created(ChatMessageResponse.builder()
+                .id("chat-1")
+                .roomId(10L)
+                .senderId(1L)
+                .videoId("video-1")
+                .createdAt(LocalDateTime.of(2025, 5, 1, 12, 0))
+                .build());
+    }
+
+    @Test
+    @DisplayName("이벤트는 한 번 직렬화해 공유방 채널에 발행하고, 로컬에는 직접 보내지 않는다")
+    void broadcast_publishesOnce() throws Exception {
+        // given
+        ChatEventResponse event = createdEvent();
+
+        // when
+        chatBroadcaster.broadcast(event);
+
+        // then
+        ArgumentCaptor<byte[]> payload = ArgumentCaptor.forClass(byte[].class);
+        verify(redisCommands).publish(eq("chat:room:10"), payload.capture());
+        assertThat(objectMapper.readTree(payload.getValue()).get("chatId").asText()).isEqualTo("chat-1");
+        verify(messagingTemplate, never()).send(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("발행에 실패하면 로컬 구독자에게만 직접 전달한다")
+    void broadcast_fallsBackToLocal() {
+        // given
+        when(redisCommands.publish(anyString(), any())).thenThrow(new IllegalStateException("redis down"));
+
+        // when
+        chatBroadcaster.broadcast(ChatEventResponse.deleted(10L, "chat-1"));
+
+        // then
+        verify(messagingTemplate).send(eq("/topic/rooms/10"), any());
+        assertThat(meterRegistry.counter("chat.fanout.publish.failed").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("채널에서 받은 바이트는 다시 직렬화하지 않고 그대로 공유방 토픽에 전달한다")
+    @SuppressWarnings("unchecked")
+    void onMessage_forwardsRawPayload() {
+        // given
+        byte[] body = "{\"type\":\"DELETED\"}".getBytes(StandardCharsets.UTF_8);
+        DefaultMessage message = new DefaultMessage("chat:room:10".getBytes(StandardCharsets.UTF_8), body);
+
+        // when
+        chatBroadcaster.onMessage(message, null);
+
+        // then
+        ArgumentCaptor<Message<?>> sent = ArgumentCaptor.forClass(Message.class);
+        verify(messagingTemplate).send(eq("/topic/rooms/10"), sent.capture());
+        assertThat(sent.getValue().getPayload()).isEqualTo(body);
+    }
+}
@@ -1,11 +1,13 @@
 package com.storycut.domain.mediachat.service;
 
 import com.storycut.domain.mediachat.dto.request.ChatMessageRequest;
+import com.storycut.domain.mediachat.dto.response.ChatEventResponse;
 import com.storycut.domain.mediachat.dto.response.ChatMessageResponse;
 import com.storycut.domain.mediachat.model.ChatMessage;
 import com.storycut.domain.mediachat.repository.ChatMessageRepository;
-import com.storycut.domain.room.entity.Room;
+import com.storycut.domain.room.dto.query.RoomSnapshot;
 import com.storycut.domain.room.service.RoomDetailService;
+import com.storycut.domain.room.service.RoomMembershipIndex;
 import com.storycut.global.exception.BusinessException;
 import com.storycut.global.model.dto.BaseResponseStatus;
 import org.junit.jupiter.api.BeforeEach;
@@ -32,6 +34,7 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -47,9 +50,15 @@ class ChatFacadeServiceTest {
     @Mock
     private RoomDetailService roomDetailService;
 
+    @Mock
+    private RoomMembershipIndex roomMembershipIndex;
+
     @Mock
     private ChatMessageRepository chatMessageRepository;
 
+    @Mock
+    private ChatBroadcaster chatBroadcaster;
+
     @InjectMocks
     private ChatFacadeService chatFacadeService;
 
@@ -60,7 +69,7 @@ class ChatFacadeServiceTest {
     private ChatMessageRequest chatMessageRequest;
     private ChatMessage chatMessage;
     private ChatMessageResponse chatMessageResponse;
-    private Room room;
+    private RoomSnapshot room;
 
     @BeforeEach
     void setUp() {
@@ -101,13 +110,8 @@ class ChatFacadeServiceTest {
         log.info("ChatMessageResponse 생성: id={}, roomId={}, senderId={}", 
                 chatMessageResponse.getId(), chatMessageResponse.getRoomId(), chatMessageResponse.getSenderId());
 
-        // Room 객체 생성
-        room = Room.builder()
-                .hostMemberId(hostId)
-                .title("테스트 방")
-                .password("비밀번호")
-                .context("방 설명")
-                .build();
+        // Room 스냅샷 생성
+        room = new RoomSnapshot(roomId, hostId, "테스트 방", "방 설명", null, true, 1, null, now, now);
         log.info("Room 객체 생성: hostId={}, title={}", hostId, "테스트 방");
         log.info("========== 테스트 데이터 초기화 완료 ==========");
     }
@@ -117,8 +121,9 @@ class ChatFacadeServiceTest {
     void saveVideoMessage_Success() {
         log.info("========== 비디오 메시지 저장 테스트 (정상 케이스) 시작 ==========");
         // given
-        log.info("Mock 설정: roomDetailService.findRoomById({})", roomId);
-        when(roomDetailService.findRoomById(roomId)).thenReturn(room);
+        log.info("Mock 설정: roomDetailService.getRoomSnapshot({})", roomId);
+        when(roomDetailService.getRoomSnapshot(roomId)).thenReturn(room);
+        when(roomMembershipIndex.isMember(roomId, memberId)).thenReturn(true);
         
         log.info("Mock 설정: chatMessageService.saveMessage({}, {}, {})", roomId, memberId, chatMessageRequest);
         when(chatMessageService.saveMessage(eq(roomId), eq(memberId), any(ChatMessageRequest.class)))
@@ -143,8 +148,9 @@ class ChatFacadeServiceTest {
 
         // verify
         log.info("Mock 호출 검증 시작");
-        verify(roomDetailService, times(1)).findRoomById(roomId);
+        verify(roomDetailService, times(1)).getRoomSnapshot(roomId);
         verify(chatMessageService, times(1)).saveMessage(eq(roomId), eq(memberId), any(ChatMessageRequest.class));
+        verify(chatBroadcaster, times(1)).broadcast(ChatEventResponse.created(result));
         log.info("Mock 호출 검증 완료");
         log.info("========== 비디오 메시지 저장 테스트 (정상 케이스) 완료 ==========");
     }
@@ -154,8 +160,8 @@ class ChatFacadeServiceTest {
     void saveVideoMessage_RoomNotFound() {
         log.info("========== 비디오 메시지 저장 테스트 (방이 존재하지 않는 경우) 시작 ==========");
         // given
-        log.info("Mock 설정: roomDetailService.findRoomById({}) - 예외 발생 설정", roomId);
-        when(roomDetailService.findRoomById(roomId)).thenThrow(new BusinessException(BaseResponseStatus.NOT_FOUND_ROOM));
+        log.info("Mock 설정: roomDetailService.getRoomSnapshot({}) - 예외 발생 설정", roomId);
+        when(roomDetailService.getRoomSnapshot(roomId)).thenThrow(new BusinessException(BaseResponseStatus.NOT_FOUND_ROOM));
 
         // when & then
         log.info("테스트 실행 및 예외 검증 시작");
@@ -170,12 +176,28 @@ class ChatFacadeServiceTest {
         
         // verify
         log.info("Mock 호출 검증 시작");
-        verify(roomDetailService, times(1)).findRoomById(roomId);
+        verify(roomDetailService, times(1)).getRoomSnapshot(roomId);
         verify(chatMessageService, times(0)).saveMessage(anyLong(), anyLong(), any(ChatMessageRequest.class));
-        log.info("Mock 호출 검증 완료: roomDetailService.findRoomById 1회 호출됨, chatMessageService.saveMessage 호출 안됨");
+        log.info("Mock 호출 검증 완료: roomDetailService.getRoomSnapshot 1회 호출됨, chatMessageService.saveMessage 호출 안됨");
         log.info("========== 비디오 메시지 저장 테스트 (방이 존재하지 않는 경우) 완료 ==========");
     }
 
+    @Test
+    @DisplayName("비디오 메시지 저장 테스트 - 공유방 참여자가 아닌 경우")
+    void saveVideoMessage_NotRoomMember() {
+        // given
+        when(roomDetailService.getRoomSnapshot(roomId)).thenReturn(room);
+        when(roomMembershipIndex.isMember(roomId, memberId)).thenReturn(false);
+
+        // when & then
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> chatFacadeService.saveVideoMessage(roomId, memberId, chatMessageRequest));
+        assertThat(exception.getBaseResponseStatus()).isEqualTo(BaseResponseStatus.NOT_ROOM_MEMBER);
+
+        // verify
+        verify(chatMessageService, times(0)).saveMessage(anyLong(), anyLong(), any(ChatMessageRequest.class));
+    }
+
     @Test
     @DisplayName("채팅 메시지 페이징 조회 테스트")
     void getChatMessages_Success() {
@@ -185,15 +207,16 @@ class ChatFacadeServiceTest {
         int size = 10;
         List<ChatMessageResponse> responseList = List.of(chatMessageResponse);
         
-        log.info("Mock 설정: roomDetailService.findRoomById({})", roomId);
-        when(roomDetailService.findRoomById(roomId)).thenReturn(room);
+        log.info("Mock 설정: roomDetailService.getRoomSnapshot({})", roomId);
+        when(roomDetailService.getRoomSnapshot(roomId)).thenReturn(room);
+        when(roomMembershipIndex.isMember(roomId, memberId)).thenReturn(true);
         
         log.info("Mock 설정: chatMessageService.getByRoomIdWithPaging({}, {}, {})", roomId, page, size);
         when(chatMessageService.getByRoomIdWithPaging(roomId, page, size)).thenReturn(responseList);
 
         // when
-        log.info("테스트 실행: chatFacadeService.getChatMessages({}, {}, {})", roomId, page, size);
-        List<ChatMessageResponse> result = chatFacadeService.getChatMessages(roomId, page, size);
+        log.info("테스트 실행: chatFacadeService.getChatMessages({}, {}, {}, {})", roomId, memberId, page, size);
+        List<ChatMessageResponse> result = chatFacadeService.getChatMessages(roomId, memberId, page, size);
 
         // then
         log.info("테스트 결과 검증 시작");
@@ -204,7 +227,7 @@ class ChatFacadeServiceTest {
         
         // verify
         log.info("Mock 호출 검증 시작");
-        verify(roomDetailService, times(1)).findRoomById(roomId);
+        verify(roomDetailService, times(1)).getRoomSnapshot(roomId);
         verify(chatMessageService, times(1)).getByRoomIdWithPaging(roomId, page, size);
         log.info("Mock 호출 검증 완료");
         log.info("========== 채팅 메시지 페이징 조회 테스트 완료 ==========");
@@ -218,15 +241,16 @@ class ChatFacadeServiceTest {
         LocalDateTime timestamp = LocalDateTime.now().minusHours(1);
         List<ChatMessageResponse> responseList = List.of(chatMessageResponse);
         
-        log.info("Mock 설정: roomDetailService.findRoomById({})", roomId);
-        when(roomDetailService.findRoomById(roomId)).thenReturn(room);
+        log.info("Mock 설정: roomDetailService.getRoomSnapshot({})", roomId);
+        when(roomDetailService.getRoomSnapshot(roomId)).thenReturn(room);
+        when(roomMembershipIndex.isMember(roomId, memberId)).thenReturn(true);
         
         log.info("Mock 설정: chatMessageService.getByRoomIdAfterTimestamp({}, {})", roomId, timestamp);
         when(chatMessageService.getByRoomIdAfterTimestamp(roomId, timestamp)).thenReturn(responseList);
 
         // when
-        log.info("테스트 실행: chatFacadeService.getMessagesAfter({}, {})", roomId, timestamp);
-        List<ChatMessageResponse> result = chatFacadeService.getMessagesAfter(roomId, timestamp);
+        log.info("테스트 실행: chatFacadeService.getMessagesAfter({}, {}, {})", roomId, memberId, timestamp);
+        List<ChatMessageResponse> result = chatFacadeService.getMessagesAfter(roomId, memberId, timestamp);
 
         // then
         log.info("테스트 결과 검증 시작");
@@ -237,7 +261,7 @@ class ChatFacadeServiceTest {
         
         // verify
         log.info("Mock 호출 검증 시작");
-        verify(roomDetailService, times(1)).findRoomById(roomId);
+        verify(roomDetailService, times(1)).getRoomSnapshot(roomId);
         verify(chatMessageService, times(1)).getByRoomIdAfterTimestamp(roomId, timestamp);
         log.info("Mock 호출 검증 완료");
         log.info("========== 특정 시간 이후 메시지 조회 테스트 완료 ==========");
@@ -251,8 +275,8 @@ class ChatFacadeServiceTest {
         log.info("Mock 설정: chatMessageService.getRoomIdByChatId({})", chatId);
         when(chatMessageService.getRoomIdByChatId(chatId)).thenReturn(roomId);
         
-        log.info("Mock 설정: roomDetailService.findRoomById({})", roomId);
-        when(roomDetailService.findRoomById(roomId)).thenReturn(room);
+        log.info("Mock 설정: roomDetailService.getRoomSnapshot({})", roomId);
+        when(roomDetailService.getRoomSnapshot(roomId)).thenReturn(room);
         
         log.info("Mock 설정: chatMessageService.isMemberAuthorized({}, {}, {})", chatId, memberId, hostId);
         when(chatMessageService.isMemberAuthorized(chatId, memberId, hostId)).thenReturn(true);
@@ -271,9 +295,10 @@ class ChatFacadeServiceTest {
         // verify
         log.info("Mock 호출 검증 시작");
         verify(chatMessageService, times(1)).getRoomIdByChatId(chatId);
-        verify(roomDetailService, times(1)).findRoomById(roomId);
+        verify(roomDetailService, times(1)).getRoomSnapshot(roomId);
         verify(chatMessageService, times(1)).isMemberAuthorized(chatId, memberId, hostId);
         verify(chatMessageService, times(1)).deleteById(chatId);
+        verify(chatBroadcaster, times(1)).broadcast(ChatEventResponse.deleted(roomId, chatId));
         log.info("Mock 호출 검증 완료");
         log.info("========== 메시지 삭제 테스트 (권한 있는 사용자) 완료 ==========");
     }
@@ -286,8 +311,8 @@ class ChatFacadeServiceTest {
         log.info("Mock 설정: chatMessageService.getRoomIdByChatId({})", chatId);
         when(chatMessageService.getRoomIdByChatId(chatId)).thenReturn(roomId);
         
-        log.info("Mock 설정: roomDetailService.findRoomById({})", roomId);
-        when(roomDetailService.findRoomById(roomId)).thenReturn(room);
+        log.info("Mock 설정: roomDetailService.getRoomSnapshot({})", roomId);
+        when(roomDetailService.getRoomSnapshot(roomId)).thenReturn(room);
         
         log.info("Mock 설정: chatMessageService.isMemberAuthorized({}, {}, {}) -> false", chatId, memberId, hostId);
         when(chatMessageService.isMemberAuthorized(chatId, memberId, hostId)).thenReturn(false);
@@ -306,9 +331,10 @@ class ChatFacadeServiceTest {
         // verify
         log.info("Mock 호출 검증 시작");
         verify(chatMessageService, times(1)).getRoomIdByChatId(chatId);
-        verify(roomDetailService, times(1)).findRoomById(roomId);
+        verify(roomDetailService, times(1)).getRoomSnapshot(roomId);
         verify(chatMessageService, times(1)).isMemberAuthorized(chatId, memberId, hostId);
         verify(chatMessageService, times(0)).deleteById(anyString());
+        verify(chatBroadcaster, never()).broadcast(any());
         log.info("Mock 호출 검증 완료: deleteById 메서드는 호출되지 않음");
         log.info("========== 메시지 삭제 테스트 (권한 없는 사용자) 완료 ==========");
     }
@@ -335,7 +361,7 @@ class ChatFacadeServiceTest {
         // verify
         log.info("Mock 호출 검증 시작");
         verify(chatMessageService, times(1)).getRoomIdByChatId(chatId);
-        verify(roomDetailService, times(0)).findRoomById(anyLong());
+        verify(roomDetailService, times(0)).getRoomSnapshot(anyLong());
         verify(chatMessageService, times(0)).isMemberAuthorized(anyString(), anyLong(), anyLong());
         verify(chatMessageService, times(0)).deleteById(anyString());
         log.info("Mock 호출 검증 완료: 첫 번째 메서드 호출 후 예외 발생으로 이후 메서드는 호출되지 않음");
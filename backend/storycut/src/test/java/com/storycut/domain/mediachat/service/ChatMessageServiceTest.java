@@ -1,11 +1,15 @@
 package com.storycut.domain.mediachat.service;
 
+import com.storycut.domain.mediachat.dto.query.ChatCursor;
+import com.storycut.domain.mediachat.dto.query.ChatDirection;
 import com.storycut.domain.mediachat.dto.request.ChatMessageRequest;
 import com.storycut.domain.mediachat.dto.response.ChatMessageResponse;
+import com.storycut.domain.mediachat.dto.response.ChatSliceResponse;
 import com.storycut.domain.mediachat.model.ChatMessage;
 import com.storycut.domain.mediachat.repository.ChatMessageRepository;
 import com.storycut.global.exception.BusinessException;
 import com.storycut.global.model.dto.BaseResponseStatus;
+import org.bson.types.ObjectId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,10 +19,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 
 import java.time.LocalDateTime;
@@ -26,6 +30,7 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -43,6 +48,9 @@ class ChatMessageServiceTest {
     @Mock
     private ChatMessageRepository chatMessageRepository;
 
+    @Mock
+    private RecentChatCache recentChatCache;
+
     @InjectMocks
     private ChatMessageService chatMessageService;
 
@@ -131,11 +139,11 @@ class ChatMessageServiceTest {
         // given
         int page = 0;
         int size = 10;
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "timestamp"));
-        Page<ChatMessage> messagePage = new PageImpl<>(List.of(chatMessage), pageable, 1);
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "_id"));
+        Slice<ChatMessage> messagePage = new SliceImpl<>(List.of(chatMessage), pageable, false);
         
         log.info("Mock 설정: chatMessageRepository.findByRoomIdOrderByCreatedAtDesc({}, {})", roomId, pageable);
-        when(chatMessageRepository.findByRoomIdOrderByCreatedAtDesc(eq(roomId), any(Pageable.class)))
+        when(chatMessageRepository.findByRoomIdOrderByCreatedAtDesc(roomId, pageable))
                 .thenReturn(messagePage);
 
         // when
@@ -369,6 +377,7 @@ class ChatMessageServiceTest {
         // verify
         log.info("Mock 호출 검증 시작");
         verify(chatMessageRepository, times(1)).save(any(ChatMessage.class));
+        verify(recentChatCache, times(1)).onSaved(result);
         log.info("Mock 호출 검증 완료");
         log.info("========== 채팅 메시지 저장 테스트 완료 ==========");
     }
@@ -393,6 +402,7 @@ class ChatMessageServiceTest {
         log.info("Mock 호출 검증 시작");
         verify(chatMessageRepository, times(1)).findById(chatId);
         verify(chatMessageRepository, times(1)).delete(chatMessage);
+        verify(recentChatCache, times(1)).onDeleted(roomId, chatId);
         log.info("Mock 호출 검증 완료");
         log.info("========== 채팅 메시지 삭제 테스트 완료 ==========");
     }
@@ -438,4 +448,126 @@ class ChatMessageServiceTest {
         log.info("Mock 호출 검증 완료");
         log.info("========== Room ID로 모든 메시지 삭제 테스트 완료 ==========");
     }
+
+    @Test
+    @DisplayName("Room ID로 메시지를 배치 크기만큼 삭제 테스트")
+    void deleteBatchByRoomId_Success() {
+        // given
+        ChatMessage first = ChatMessage.builder().id("a").build();
+        ChatMessage second = ChatMessage.builder().id("b").build();
+        when(chatMessageRepository.findIdsByRoomId(roomId, PageRequest.of(0, 2))).thenReturn(List.of(first, second));
+
+        // when
+        int deleted = chatMessageService.deleteBatchByRoomId(roomId, 2);
+
+        // then
+        assertThat(deleted).isEqualTo(2);
+        verify(chatMessageRepository, times(1)).deleteAllById(List.of("a", "b"));
+        verify(recentChatCache, times(1)).evict(List.of(roomId));
+    }
+
+    @Test
+    @DisplayName("첫 페이지가 캐시 크기 이내면 MongoDB 대신 최근 채팅 캐시에서 조회")
+    void getByRoomIdWithPaging_FirstPageFromCache() {
+        // given
+        when(recentChatCache.covers(10)).thenReturn(true);
+        when(recentChatCache.getFirstPage(roomId, 10)).thenReturn(List.of(chatMessageResponse));
+
+        // when
+        List<ChatMessageResponse> result = chatMessageService.getByRoomIdWithPaging(roomId, 0, 10);
+
+        // then
+        assertThat(result).containsExactly(chatMessageResponse);
+        verify(chatMessageRepository, times(0)).findByRoomIdOrderByCreatedAtDesc(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("회원 메시지 배치 삭제 시 영향받은 방의 최근 채팅 캐시를 한 번씩 무효화")
+    void deleteBatchBySenderId_EvictsRooms() {
+        // given
+        List<ChatMessage> messages = List.of(
+                ChatMessage.builder().id("a").roomId(1L).build(),
+                ChatMessage.builder().id("b").roomId(2L).build(),
+                ChatMessage.builder().id("c").roomId(1L).build());
+        when(chatMessageRepository.findIdsBySenderId(memberId, PageRequest.of(0, 3))).thenReturn(messages);
+
+        // when
+        int deleted = chatMessageService.deleteBatchBySenderId(memberId, 3);
+
+        // then
+        assertThat(deleted).isEqualTo(3);
+        verify(recentChatCache, times(1)).evict(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("삭제할 메시지가 없으면 삭제 쿼리를 보내지 않음 테스트")
+    void deleteBatchByRoomId_Empty() {
+        // given
+        when(chatMessageRepository.findIdsByRoomId(roomId, PageRequest.of(0, 2))).thenReturn(List.of());
+
+        // when
+        int deleted = chatMessageService.deleteBatchByRoomId(roomId, 2);
+
+        // then
+        assertThat(deleted).isZero();
+        verify(chatMessageRepository, times(0)).deleteAllById(any());
+    }
+
+    private ChatMessage messageAt(LocalDateTime createdAt) {
+        return ChatMessage.builder()
+                .id(new ObjectId().toHexString())
+                .roomId(roomId)
+                .createdAt(createdAt)
+                .build();
+    }
+
+    @Test
+    @DisplayName("커서 조회는 한 건 더 조회해 다음 목록 여부를 판단하고 마지막 메시지 기준 커서를 반환")
+    void getByRoomIdWithCursor_HasMore() {
+        // given
+        LocalDateTime base = LocalDateTime.of(2025, 5, 1, 12, 0);
+        ChatMessage first = messageAt(base);
+        ChatMessage second = messageAt(base.minusSeconds(1));
+        ChatMessage third = messageAt(base.minusSeconds(2));
+        when(chatMessageRepository.findByRoomIdAndCursor(roomId, null, ChatDirection.OLDER, 3))
+                .thenReturn(List.of(first, second, third));
+
+        // when
+        ChatSliceResponse result = chatMessageService.getByRoomIdWithCursor(roomId, null, ChatDirection.OLDER, 2);
+
+        // then
+        assertThat(result.messages()).extracting(ChatMessageResponse::getId)
+                .containsExactly(first.getId(), second.getId());
+        assertThat(result.hasMore()).isTrue();
+        ChatCursor next = ChatCursor.decode(result.nextCursor());
+        assertThat(next.id().toHexString()).isEqualTo(second.getId());
+        assertThat(next.createdAt()).isEqualTo(second.getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("새 메시지 방향 조회 결과가 없으면 요청 커서를 그대로 반환")
+    void getByRoomIdWithCursor_NewerEmpty() {
+        // given
+        ChatCursor cursor = ChatCursor.from(messageAt(LocalDateTime.of(2025, 5, 1, 12, 0)));
+        when(chatMessageRepository.findByRoomIdAndCursor(roomId, cursor, ChatDirection.NEWER, 11))
+                .thenReturn(List.of());
+
+        // when
+        ChatSliceResponse result = chatMessageService.getByRoomIdWithCursor(
+                roomId, cursor.encode(), ChatDirection.NEWER, 10);
+
+        // then
+        assertThat(result.messages()).isEmpty();
+        assertThat(result.hasMore()).isFalse();
+        assertThat(result.nextCursor()).isEqualTo(cursor.encode());
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 예외 발생")
+    void getByRoomIdWithCursor_InvalidCursor() {
+        assertThatThrownBy(() -> chatMessageService.getByRoomIdWithCursor(roomId, "not-a-cursor", ChatDirection.OLDER, 10))
+                .isInstanceOf(BusinessException.class)
+                .extracting("baseResponseStatus")
+                .isEqualTo(BaseResponseStatus.INVALID_CHAT_CURSOR);
+    }
 }
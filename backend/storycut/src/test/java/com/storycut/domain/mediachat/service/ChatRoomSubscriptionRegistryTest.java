@@ -0,0 +1,223 @@
+package com.storycut.domain.mediachat.service;
+
+import com.storycut.domain.auth.event.AccessTokenRevokedEvent;
+import com.storycut.domain.auth.event.MemberTokensRevokedEvent;
+import com.storycut.domain.room.event.RoomMembershipChangedEvent;
+import com.storycut.global.model.dto.BaseResponseStatus;
+import com.storycut.global.websocket.StompSessionAuth;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRoomSubscriptionRegistryTest {
+
+    private static final ChannelTopic ROOM_10 = new ChannelTopic("chat:room:10");
+    private static final long NOW = 1_700_000_000_000L;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Mock
+    private ChatBroadcaster chatBroadcaster;
+
+    @Mock
+    private MessageChannel clientOutboundChannel;
+
+    private ChatRoomSubscriptionRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC);
+        registry = new ChatRoomSubscriptionRegistry(listenerContainer, chatBroadcaster, clientOutboundChannel,
+                new SimpleMeterRegistry(), clock);
+    }
+
+    private static StompSessionAuth auth(Long memberId) {
+        return new StompSessionAuth(memberId, "digest-" + memberId, NOW + 60_000);
+    }
+
+    /**
+     * ERROR 프레임을 받은(종료된) 세션 ID 목록
+     */
+    @SuppressWarnings("unchecked")
+    private List<String> closedSessions() {
+        ArgumentCaptor<Message<?>> frames = ArgumentCaptor.forClass(Message.class);
+        verify(clientOutboundChannel, atLeast(0)).send(frames.capture());
+        List<StompHeaderAccessor> accessors = frames.getAllValues().stream().map(StompHeaderAccessor::wrap).toList();
+        assertThat(accessors).allMatch(accessor -> accessor.getCommand() == StompCommand.ERROR);
+        return accessors.stream().map(StompHeaderAccessor::getSessionId).toList();
+    }
+
+    @Test
+    @DisplayName("같은 공유방을 여러 세션이 구독해도 Redis 채널은 한 번만 구독하고, 마지막 구독이 끝날 때 해지한다")
+    void subscribe_refCounted() {
+        // given
+        registry.subscribe("s1", auth(1L), "sub-1", 10L);
+        registry.subscribe("s2", auth(2L), "sub-1", 10L);
+
+        // when
+        registry.unsubscribe("s1", "sub-1");
+
+        // then
+        verify(listenerContainer, times(1)).addMessageListener(chatBroadcaster, ROOM_10);
+        verify(listenerContainer, never()).removeMessageListener(any(), any(ChannelTopic.class));
+
+        // when
+        registry.unsubscribe("s2", "sub-1");
+
+        // then
+        verify(listenerContainer, times(1)).removeMessageListener(chatBroadcaster, ROOM_10);
+        assertThat(registry.subscribedRoomCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("연결이 끊기면 해당 세션의 모든 구독을 해지한다")
+    void disconnect_releasesAll() {
+        // given
+        registry.subscribe("s1", auth(1L), "sub-1", 10L);
+        registry.subscribe("s1", auth(1L), "sub-2", 11L);
+        registry.subscribe("s2", auth(2L), "sub-1", 11L);
+
+        // when
+        registry.disconnect("s1");
+
+        // then
+        verify(listenerContainer).removeMessageListener(chatBroadcaster, ROOM_10);
+        verify(listenerContainer, never()).removeMessageListener(chatBroadcaster, new ChannelTopic("chat:room:11"));
+        assertThat(registry.subscribedRoomCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 세션의 해지 요청은 무시한다")
+    void unsubscribe_unknownSession() {
+        // when
+        registry.unsubscribe("unknown", "sub-1");
+        registry.disconnect("unknown");
+
+        // then
+        verify(listenerContainer, never()).removeMessageListener(any(), any(ChannelTopic.class));
+    }
+
+    @Test
+    @DisplayName("퇴장 이벤트는 그 회원이 해당 방을 구독 중인 세션만 종료하고 구독을 해지한다")
+    void left_closesMemberSessions() {
+        // given
+        registry.subscribe("s1", auth(1L), "sub-1", 10L);
+        registry.subscribe("s2", auth(1L), "sub-1", 11L);
+        registry.subscribe("s3", auth(3L), "sub-1", 10L);
+
+        // when
+        registry.onMembershipChanged(RoomMembershipChangedEvent.left(10L, 1L));
+
+        // then
+        assertThat(closedSessions()).containsExactly("s1");
+        assertThat(registry.subscribedRoomCount()).isEqualTo(2);
+        verify(listenerContainer, never()).removeMessageListener(any(), any(ChannelTopic.class));
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 온 공유방 삭제 메시지는 그 방을 구독 중인 모든 세션을 종료한다")
+    void roomDeletedMessage_closesRoomSessions() {
+        // given
+        registry.subscribe("s1", auth(1L), "sub-1", 10L);
+        registry.subscribe("s2", auth(2L), "sub-1", 10L);
+        registry.subscribe("s3", auth(3L), "sub-1", 11L);
+        byte[] body = RoomMembershipChangedEvent.roomDeleted(10L).encode().getBytes(StandardCharsets.UTF_8);
+
+        // when
+        registry.onMessage(new DefaultMessage("room:membership".getBytes(StandardCharsets.UTF_8), body), null);
+        registry.disconnect("s1"); // 종료에 따른 연결 끊김 이벤트는 무시됨
+
+        // then
+        assertThat(closedSessions()).containsExactlyInAnyOrder("s1", "s2");
+        verify(listenerContainer, times(1)).removeMessageListener(chatBroadcaster, ROOM_10);
+        assertThat(registry.subscribedRoomCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("폐기된 액세스 토큰으로 연결한 세션은 종료한다")
+    void accessTokenRevoked_closesSession() {
+        // given
+        registry.subscribe("s1", auth(1L), "sub-1", 10L);
+        registry.subscribe("s2", auth(2L), "sub-1", 10L);
+
+        // when
+        registry.onAccessTokenRevoked(new AccessTokenRevokedEvent("digest-1"));
+
+        // then
+        assertThat(closedSessions()).containsExactly("s1");
+        assertThat(registry.subscribedRoomCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("회원 단위로 토큰이 폐기되면 그 회원의 모든 세션을 종료한다")
+    void memberTokensRevoked_closesAllMemberSessions() {
+        // given - 같은 회원의 다른 기기 연결 포함
+        registry.subscribe("s1", auth(1L), "sub-1", 10L);
+        registry.subscribe("s2", new StompSessionAuth(1L, "digest-other", Long.MAX_VALUE), "sub-1", 11L);
+        registry.subscribe("s3", auth(2L), "sub-1", 10L);
+
+        // when
+        registry.onMemberTokensRevoked(new MemberTokensRevokedEvent(1L));
+
+        // then
+        assertThat(closedSessions()).containsExactlyInAnyOrder("s1", "s2");
+        assertThat(registry.subscribedRoomCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("액세스 토큰 만료 시각이 지난 세션은 주기 확인에서 종료한다")
+    void closeExpiredSessions() {
+        // given
+        registry.subscribe("s1", new StompSessionAuth(1L, "digest-1", NOW), "sub-1", 10L);
+        registry.subscribe("s2", new StompSessionAuth(2L, "digest-2", NOW + 1), "sub-1", 10L);
+
+        // when
+        registry.closeExpiredSessions();
+
+        // then
+        assertThat(closedSessions()).containsExactly("s1");
+    }
+
+    @Test
+    @DisplayName("참여 이벤트나 종료 대상이 없는 변경은 세션에 영향을 주지 않는다")
+    void noMatchingSession() {
+        // given
+        registry.subscribe("s1", auth(1L), "sub-1", 10L);
+
+        // when
+        registry.onMembershipChanged(RoomMembershipChangedEvent.joined(10L, 2L));
+        registry.onMembershipChanged(RoomMembershipChangedEvent.left(11L, 1L));
+
+        // then
+        verifyNoInteractions(clientOutboundChannel);
+        assertThat(registry.subscribedRoomCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,165 @@
+package com.storycut.domain.mediachat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.storycut.domain.mediachat.dto.response.ChatMessageResponse;
+import com.storycut.domain.mediachat.model.ChatMessage;
+import com.storycut.domain.mediachat.repository.ChatMessageRepository;
+import com.storycut.support.EmbeddedRedis;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 최근 채팅 L2 리스트의 버전 조건부 채우기/추가/삭제 스크립트를 내장 Redis에서 실제로 실행해 검증
+ */
+class RecentChatCacheRedisTest {
+
+    private static final Long ROOM_ID = 10L;
+    private static final int CAPACITY = 3;
+    private static final String KEY = "chat:recent:10";
+    private static final String VERSION_KEY = "chat:recent:ver:10";
+
+    private static EmbeddedRedis redis;
+    private static RedisTemplate<String, String> redisTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private ChatMessageRepository chatMessageRepository;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        redis = EmbeddedRedis.start();
+        redisTemplate = redis.template();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redis.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redis.flushAll();
+        chatMessageRepository = mock(ChatMessageRepository.class);
+    }
+
+    private RecentChatCache node() {
+        return new RecentChatCache(chatMessageRepository, redisTemplate, mock(RedisMessageListenerContainer.class),
+                objectMapper, new SimpleMeterRegistry(), CAPACITY, 100, Duration.ofMinutes(5), Duration.ofMinutes(30));
+    }
+
+    private ChatMessage message(String id) {
+        return ChatMessage.builder()
+                .id(id)
+                .roomId(ROOM_ID)
+                .senderId(1L)
+                .videoId("video-" + id)
+                .createdAt(LocalDateTime.of(2025, 5, 1, 12, 0))
+                .build();
+    }
+
+    private List<String> remoteIds() throws Exception {
+        List<String> ids = new ArrayList<>();
+        for (String value : redisTemplate.opsForList().range(KEY, 0, -1)) {
+            ids.add(objectMapper.readValue(value, ChatMessageResponse.class).getId());
+        }
+        return ids;
+    }
+
+    @Test
+    @DisplayName("조회 중 쓰기가 없으면 MongoDB 결과로 L2 리스트를 만료 시간과 함께 채운다")
+    void fillsRemoteOnMiss() throws Exception {
+        // given
+        when(chatMessageRepository.findByRoomIdOrderByCreatedAtDesc(eq(ROOM_ID), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(message("b"), message("a"))));
+
+        // when
+        node().getFirstPage(ROOM_ID, 2);
+
+        // then
+        assertThat(remoteIds()).containsExactly("b", "a");
+        assertThat(redisTemplate.getExpire(KEY)).isPositive();
+    }
+
+    @Test
+    @DisplayName("다른 노드의 저장이 MongoDB 조회 중에 끼어들면 이전 스냅샷으로 L2를 채우지 않는다")
+    void skipsFillWhenPeerWritesDuringLoad() throws Exception {
+        // given - 노드 A가 저장 전 스냅샷을 읽는 사이 노드 B가 저장 반영
+        RecentChatCache nodeA = node();
+        RecentChatCache nodeB = node();
+        when(chatMessageRepository.findByRoomIdOrderByCreatedAtDesc(eq(ROOM_ID), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    nodeB.onSaved(ChatMessageResponse.from(message("b")));
+                    return new SliceImpl<>(List.of(message("a")));
+                })
+                .thenReturn(new SliceImpl<>(List.of(message("b"), message("a"))));
+
+        // when
+        nodeA.getFirstPage(ROOM_ID, 2);
+
+        // then
+        assertThat(redisTemplate.hasKey(KEY)).isFalse();
+        assertThat(redisTemplate.opsForValue().get(VERSION_KEY)).isEqualTo("1");
+
+        // when - 이후 조회는 새 버전 기준으로 채움
+        nodeB.getFirstPage(ROOM_ID, 2);
+
+        // then
+        assertThat(remoteIds()).containsExactly("b", "a");
+    }
+
+    @Test
+    @DisplayName("저장은 이미 있는 리스트에만 추가해 capacity개로 자르고, 리스트가 없으면 버전만 올린다")
+    void pushOnlyToExistingList() throws Exception {
+        // given
+        RecentChatCache cache = node();
+        when(chatMessageRepository.findByRoomIdOrderByCreatedAtDesc(eq(ROOM_ID), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(message("c"), message("b"), message("a"))));
+        cache.getFirstPage(ROOM_ID, 3);
+
+        // when
+        cache.onSaved(ChatMessageResponse.from(message("d")));
+        cache.onSaved(ChatMessageResponse.from(ChatMessage.builder().id("x").roomId(11L).senderId(1L).build()));
+
+        // then
+        assertThat(remoteIds()).containsExactly("d", "c", "b");
+        assertThat(redisTemplate.hasKey("chat:recent:11")).isFalse();
+        assertThat(redisTemplate.opsForValue().get("chat:recent:ver:11")).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("삭제는 버전을 올리고 리스트를 지운다")
+    void deleteBumpsVersionAndDropsList() {
+        // given
+        RecentChatCache cache = node();
+        when(chatMessageRepository.findByRoomIdOrderByCreatedAtDesc(eq(ROOM_ID), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(message("b"), message("a"))));
+        cache.getFirstPage(ROOM_ID, 2);
+
+        // when
+        cache.onDeleted(ROOM_ID, "b");
+
+        // then
+        assertThat(redisTemplate.hasKey(KEY)).isFalse();
+        assertThat(redisTemplate.opsForValue().get(VERSION_KEY)).isEqualTo("1");
+        assertThat(redisTemplate.getExpire(VERSION_KEY)).isPositive();
+    }
+}
@@ -0,0 +1,298 @@
+package com.storycut.domain.mediachat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.storycut.domain.mediachat.dto.response.ChatMessageResponse;
+import com.storycut.domain.mediachat.model.ChatMessage;
+import com.storycut.domain.mediachat.repository.ChatMessageRepository;
+import com.storycut.domain.mediachat.service.RecentChatCache.RecentChatRing;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RecentChatCacheTest {
+
+    private static final Long ROOM_ID = 10L;
+    private static final int CAPACITY = 3;
+    private static final List<String> KEYS = List.of("chat:recent:10", "chat:recent:ver:10");
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ListOperations<String, String> listOperations;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private RecentChatCache recentChatCache;
+
+    @BeforeEach
+    void setUp() {
+        recentChatCache = new RecentChatCache(chatMessageRepository, redisTemplate, listenerContainer,
+                objectMapper, new SimpleMeterRegistry(), CAPACITY, 100, Duration.ofMinutes(5), Duration.ofMinutes(30));
+    }
+
+    private ChatMessage message(String id, int minutesAgo) {
+        return ChatMessage.builder()
+                .id(id)
+                .roomId(ROOM_ID)
+                .senderId(1L)
+                .videoId("video-" + id)
+                .createdAt(LocalDateTime.of(2025, 5, 1, 12, 0).minusMinutes(minutesAgo))
+                .build();
+    }
+
+    private void givenRemoteMiss() {
+        when(redisTemplate.opsForList()).thenReturn(listOperations);
+        when(listOperations.range("chat:recent:10", 0, CAPACITY - 1)).thenReturn(List.of());
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    private void givenMongo(ChatMessage... messages) {
+        when(chatMessageRepository.findByRoomIdOrderByCreatedAtDesc(eq(ROOM_ID), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(messages)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("캐시에 없으면 MongoDB에서 채우고, 이후 조회는 프로세스 내 링 버퍼에서 처리한다")
+    void getFirstPage_loadsOnceThenServesFromMemory() {
+        // given
+        givenRemoteMiss();
+        when(valueOperations.get("chat:recent:ver:10")).thenReturn("7");
+        givenMongo(message("c", 0), message("b", 1), message("a", 2));
+
+        // when
+        List<ChatMessageResponse> first = recentChatCache.getFirstPage(ROOM_ID, 2);
+        List<ChatMessageResponse> second = recentChatCache.getFirstPage(ROOM_ID, 3);
+
+        // then
+        assertThat(first).extracting(ChatMessageResponse::getId).containsExactly("c", "b");
+        assertThat(second).extracting(ChatMessageResponse::getId).containsExactly("c", "b", "a");
+        verify(chatMessageRepository, times(1)).findByRoomIdOrderByCreatedAtDesc(eq(ROOM_ID), any(Pageable.class));
+        verify(listOperations, times(1)).range(anyString(), eq(0L), eq((long) CAPACITY - 1));
+        // 조회 시작 시점의 버전(7)이 그대로일 때만 L2를 채움
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), eq(KEYS), any(Object[].class));
+        verify(redisTemplate).execute(any(RedisScript.class), eq(KEYS),
+                eq("7"), eq("1800000"), anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("버전을 읽지 못하면 MongoDB 결과로 응답하되 L2는 채우지 않는다")
+    void getFirstPage_skipsFillWithoutVersion() {
+        // given
+        givenRemoteMiss();
+        when(valueOperations.get("chat:recent:ver:10")).thenThrow(new IllegalStateException("redis down"));
+        givenMongo(message("a", 0));
+
+        // when
+        List<ChatMessageResponse> page = recentChatCache.getFirstPage(ROOM_ID, 1);
+
+        // then
+        assertThat(page).extracting(ChatMessageResponse::getId).containsExactly("a");
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("MongoDB에서 다시 채우는 동안 같은 방에 저장이 있으면 읽은 결과를 링 버퍼에 넣지 않는다")
+    void getFirstPage_skipsInstallWhenWrittenDuringLoad() {
+        // given
+        givenRemoteMiss();
+        when(chatMessageRepository.findByRoomIdOrderByCreatedAtDesc(eq(ROOM_ID), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    recentChatCache.onSaved(ChatMessageResponse.from(message("b", 0)));
+                    return new SliceImpl<>(List.of(message("a", 1)));
+                })
+                .thenReturn(new SliceImpl<>(List.of(message("b", 0), message("a", 1))));
+
+        // when
+        recentChatCache.getFirstPage(ROOM_ID, 2);
+        List<ChatMessageResponse> page = recentChatCache.getFirstPage(ROOM_ID, 2);
+
+        // then
+        assertThat(page).extracting(ChatMessageResponse::getId).containsExactly("b", "a");
+        verify(chatMessageRepository, times(2)).findByRoomIdOrderByCreatedAtDesc(eq(ROOM_ID), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Redis 리스트에 있으면 MongoDB를 조회하지 않는다")
+    void getFirstPage_servesFromRedis() throws Exception {
+        // given
+        List<String> values = new ArrayList<>();
+        for (ChatMessage message : List.of(message("c", 0), message("b", 1))) {
+            values.add(objectMapper.writeValueAsString(ChatMessageResponse.from(message)));
+        }
+        when(redisTemplate.opsForList()).thenReturn(listOperations);
+        when(listOperations.range("chat:recent:10", 0, CAPACITY - 1)).thenReturn(values);
+
+        // when
+        List<ChatMessageResponse> page = recentChatCache.getFirstPage(ROOM_ID, 3);
+
+        // then
+        assertThat(page).extracting(ChatMessageResponse::getId).containsExactly("c", "b");
+        assertThat(page.get(0).getCreatedAt()).isEqualTo(message("c", 0).getCreatedAt());
+        verify(chatMessageRepository, never()).findByRoomIdOrderByCreatedAtDesc(any(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("저장과 삭제는 링 버퍼에 바로 반영되고, L2는 버전을 올리는 스크립트로 갱신/삭제하며 다른 노드에 알린다")
+    void onSavedAndDeleted_updateInPlace() {
+        // given
+        givenRemoteMiss();
+        givenMongo(message("b", 1), message("a", 2));
+        recentChatCache.getFirstPage(ROOM_ID, 3);
+
+        // when
+        recentChatCache.onSaved(ChatMessageResponse.from(message("c", 0)));
+        recentChatCache.onDeleted(ROOM_ID, "b");
+
+        // then
+        assertThat(recentChatCache.getFirstPage(ROOM_ID, 3))
+                .extracting(ChatMessageResponse::getId).containsExactly("c", "a");
+        verify(chatMessageRepository, times(1)).findByRoomIdOrderByCreatedAtDesc(eq(ROOM_ID), any(Pageable.class));
+        verify(redisTemplate).execute(any(RedisScript.class), eq(KEYS), eq("1800000"), eq("3"), anyString());
+        verify(redisTemplate).execute(any(RedisScript.class), eq(KEYS), eq("1800000"));
+        verify(redisTemplate).convertAndSend(eq("chat:recent:updates"),
+                argThat((Object body) -> body.toString().matches("[^|]+\\|10\\|\\{.*\"id\":\"c\".*")));
+        verify(redisTemplate).convertAndSend(eq("chat:recent:updates"),
+                argThat((Object body) -> body.toString().matches("[^|]+\\|10")));
+    }
+
+    @Test
+    @DisplayName("다른 노드의 삭제(무효화) 메시지를 받으면 해당 방의 링 버퍼를 비운다")
+    void onMessage_invalidatesLocal() {
+        // given
+        givenRemoteMiss();
+        givenMongo(message("a", 0));
+        recentChatCache.getFirstPage(ROOM_ID, 1);
+
+        // when
+        recentChatCache.onMessage(new DefaultMessage(
+                "chat:recent:updates".getBytes(StandardCharsets.UTF_8),
+                "other-node|10".getBytes(StandardCharsets.UTF_8)), null);
+        recentChatCache.getFirstPage(ROOM_ID, 1);
+
+        // then
+        verify(chatMessageRepository, times(2)).findByRoomIdOrderByCreatedAtDesc(eq(ROOM_ID), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("다른 노드의 저장 메시지는 링 버퍼에 바로 추가해 MongoDB나 Redis를 다시 읽지 않는다")
+    void onMessage_addsPeerSave() throws Exception {
+        // given
+        givenRemoteMiss();
+        givenMongo(message("a", 1));
+        recentChatCache.getFirstPage(ROOM_ID, 2);
+        String json = objectMapper.writeValueAsString(ChatMessageResponse.from(message("b", 0)));
+
+        // when
+        recentChatCache.onMessage(new DefaultMessage(
+                "chat:recent:updates".getBytes(StandardCharsets.UTF_8),
+                ("other-node|10|" + json).getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        assertThat(recentChatCache.getFirstPage(ROOM_ID, 2))
+                .extracting(ChatMessageResponse::getId).containsExactly("b", "a");
+        verify(chatMessageRepository, times(1)).findByRoomIdOrderByCreatedAtDesc(eq(ROOM_ID), any(Pageable.class));
+        verify(listOperations, times(1)).range(anyString(), eq(0L), eq((long) CAPACITY - 1));
+    }
+
+    @Test
+    @DisplayName("노드마다 저장 메시지를 받는 순서가 달라도 링 버퍼는 (작성 시각, ID) 내림차순을 유지한다")
+    void ring_keepsIdOrder() {
+        // given
+        RecentChatRing ring = new RecentChatRing(3, List.of(ChatMessageResponse.from(message("b", 2))), false);
+
+        // when
+        ring.add(ChatMessageResponse.from(message("d", 0)));
+        ring.add(ChatMessageResponse.from(message("c", 1)));
+        ring.add(ChatMessageResponse.from(message("a", 3)));
+
+        // then - 전체를 담지 않은 링에는 담긴 범위보다 오래된 메시지를 넣지 않음
+        assertThat(ring.firstPage(3)).extracting(ChatMessageResponse::getId).containsExactly("d", "c", "b");
+    }
+
+    @Test
+    @DisplayName("같은 초에 다른 노드에서 저장되어 ObjectId 순서가 작성 순서와 다른 메시지는 MongoDB처럼 작성 시각 순으로 둔다")
+    void ring_ordersByCreatedAtWithinSameSecond() {
+        // given - 같은 초의 ObjectId, 먼저 작성된 메시지의 노드별 값이 더 큼
+        LocalDateTime second = LocalDateTime.of(2025, 5, 1, 12, 0, 0);
+        ChatMessageResponse earlier = ChatMessageResponse.from(ChatMessage.builder()
+                .id("6650a1b2ffffff0000000001").roomId(ROOM_ID).senderId(1L)
+                .createdAt(second.plusNanos(100_000_000)).build());
+        ChatMessageResponse later = ChatMessageResponse.from(ChatMessage.builder()
+                .id("6650a1b2000000000000000a").roomId(ROOM_ID).senderId(2L)
+                .createdAt(second.plusNanos(900_000_000)).build());
+        ChatMessageResponse laterWithNanos = ChatMessageResponse.from(ChatMessage.builder()
+                .id("6650a1b2000000000000000a").roomId(ROOM_ID).senderId(2L)
+                .createdAt(second.plusNanos(900_000_123)).build());
+        RecentChatRing ring = new RecentChatRing(3, List.of(ChatMessageResponse.from(message("0", 1))), true);
+
+        // when - 저장한 노드의 응답(나노초 포함)이 다시 와도 같은 메시지로 취급
+        ring.add(later);
+        ring.add(earlier);
+        ring.add(laterWithNanos);
+
+        // then - createdAt DESC, _id DESC
+        assertThat(ring.firstPage(3)).extracting(ChatMessageResponse::getId)
+                .containsExactly("6650a1b2000000000000000a", "6650a1b2ffffff0000000001", "0");
+    }
+
+    @Test
+    @DisplayName("링 버퍼가 가득 차면 가장 오래된 메시지를 버리고(이미 담긴 메시지는 다시 넣지 않음), 담긴 개수보다 큰 페이지는 처리하지 않는다")
+    void ring_dropsOldestWhenFull() {
+        // given
+        RecentChatRing ring = new RecentChatRing(2, List.of(ChatMessageResponse.from(message("a", 1))), true);
+
+        // when
+        ring.add(ChatMessageResponse.from(message("b", 0)));
+        ring.add(ChatMessageResponse.from(message("c", 0)));
+        ring.add(ChatMessageResponse.from(message("c", 0)));
+
+        // then
+        assertThat(ring.firstPage(2)).extracting(ChatMessageResponse::getId).containsExactly("c", "b");
+        ring.remove("b");
+        assertThat(ring.firstPage(2)).isNull();
+        assertThat(ring.firstPage(1)).extracting(ChatMessageResponse::getId).containsExactly("c");
+    }
+}
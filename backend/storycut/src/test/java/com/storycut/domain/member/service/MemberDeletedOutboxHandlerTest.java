@@ -0,0 +1,79 @@
+package com.storycut.domain.member.service;
+
+import com.storycut.domain.mediachat.service.ChatMessageService;
+import com.storycut.domain.room.dto.response.RoomResponse;
+import com.storycut.domain.room.service.RoomService;
+import com.storycut.global.exception.BusinessException;
+import com.storycut.global.model.dto.BaseResponseStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MemberDeletedOutboxHandlerTest {
+
+    private static final Long MEMBER_ID = 1L;
+
+    @Mock
+    private RoomService roomService;
+
+    @Mock
+    private ChatMessageService chatMessageService;
+
+    private MemberDeletedOutboxHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new MemberDeletedOutboxHandler(roomService, chatMessageService, 2);
+    }
+
+    private RoomResponse room(Long roomId) {
+        RoomResponse room = mock(RoomResponse.class);
+        when(room.getRoomId()).thenReturn(roomId);
+        return room;
+    }
+
+    @Test
+    @DisplayName("참여 중인 공유방에서 퇴장하고 채팅 메시지를 정리한다 (이미 퇴장한 방은 건너뜀)")
+    void cleansUpMemberData() {
+        // given
+        RoomResponse alreadyLeft = room(10L);
+        RoomResponse joined = room(11L);
+        when(roomService.getMyRooms(MEMBER_ID)).thenReturn(List.of(alreadyLeft, joined));
+        doThrow(new BusinessException(BaseResponseStatus.NOT_ROOM_MEMBER)).when(roomService).leaveRoom(MEMBER_ID, 10L);
+        when(chatMessageService.deleteBatchBySenderId(MEMBER_ID, 2)).thenReturn(2, 1, 0);
+
+        // when
+        handler.handle(MEMBER_ID);
+
+        // then
+        verify(roomService).leaveRoom(MEMBER_ID, 11L);
+        verify(chatMessageService, times(3)).deleteBatchBySenderId(MEMBER_ID, 2);
+    }
+
+    @Test
+    @DisplayName("방장 승계 충돌 등 재시도가 필요한 오류는 그대로 전달해 이벤트를 남긴다")
+    void propagatesRetryableFailure() {
+        // given
+        RoomResponse hosted = room(10L);
+        when(roomService.getMyRooms(MEMBER_ID)).thenReturn(List.of(hosted));
+        doThrow(new BusinessException(BaseResponseStatus.CONFLICT)).when(roomService).leaveRoom(MEMBER_ID, 10L);
+
+        // when & then
+        assertThatThrownBy(() -> handler.handle(MEMBER_ID)).isInstanceOf(BusinessException.class);
+        verify(chatMessageService, never()).deleteBatchBySenderId(MEMBER_ID, 2);
+    }
+}
@@ -0,0 +1,57 @@
+package com.storycut.domain.member.service;
+
+import com.storycut.domain.auth.service.TokenService;
+import com.storycut.domain.member.model.entity.Member;
+import com.storycut.domain.member.repository.MemberRepository;
+import com.storycut.global.outbox.OutboxEventType;
+import com.storycut.global.outbox.OutboxPublisher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MemberServiceTest {
+
+    private static final Long MEMBER_ID = 1L;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private OutboxPublisher outboxPublisher;
+
+    @Mock
+    private MemberCache memberCache;
+
+    @Mock
+    private TokenService tokenService;
+
+    @InjectMocks
+    private MemberService memberService;
+
+    @Test
+    @DisplayName("회원 탈퇴 시 토큰 폐기는 후속 처리 이벤트와 별개로 즉시 수행한다")
+    void deleteMember_revokesTokensImmediately() {
+        // given
+        Member member = Member.builder().id(MEMBER_ID).providerId("google-1").build();
+        when(memberRepository.findById(MEMBER_ID)).thenReturn(Optional.of(member));
+
+        // when
+        memberService.deleteMember(MEMBER_ID);
+
+        // then
+        InOrder order = inOrder(memberRepository, tokenService, outboxPublisher);
+        order.verify(memberRepository).delete(member);
+        order.verify(tokenService).revokeAllTokens(MEMBER_ID);
+        order.verify(outboxPublisher).append(OutboxEventType.MEMBER_DELETED, MEMBER_ID);
+    }
+}
@@ -0,0 +1,56 @@
+package com.storycut.domain.room.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+class RoomMemberDuplicateCleanerTest {
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    @DisplayName("유니크 제약이 없던 테이블의 중복 참여 관계는 가장 먼저 생성된 행만 남긴다")
+    void keepsOldestRowPerMembership() {
+        // given
+        jdbcTemplate.execute("CREATE TABLE room_member (id BIGINT PRIMARY KEY, room_id BIGINT, member_id BIGINT)");
+        jdbcTemplate.update("INSERT INTO room_member VALUES (1, 10, 100), (2, 10, 100), (3, 10, 101), " +
+                "(4, 10, 100), (5, 20, 100)");
+
+        // when
+        new RoomMemberDuplicateCleaner(jdbcTemplate).afterPropertiesSet();
+
+        // then
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM room_member ORDER BY id", Long.class))
+                .containsExactly(1L, 3L, 5L);
+    }
+
+    @Test
+    @DisplayName("테이블이 아직 없으면 정리를 건너뛰고 기동을 계속한다")
+    void skipsWhenTableMissing() {
+        assertThatCode(() -> new RoomMemberDuplicateCleaner(jdbcTemplate).afterPropertiesSet())
+                .doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,91 @@
+package com.storycut.domain.room.repository;
+
+import com.storycut.domain.room.entity.Room;
+import com.storycut.global.config.JpaConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 네이티브 INSERT 검증을 위해 H2를 MySQL 호환 모드로 실행
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:room-member;MODE=MySQL;DB_CLOSE_DELAY=-1")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaConfig.class)
+class RoomMemberRepositoryTest {
+
+    @Autowired
+    private RoomMemberRepository roomMemberRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private Room room;
+
+    @BeforeEach
+    void setUp() {
+        room = em.persist(Room.builder()
+                .hostMemberId(1L)
+                .title("room")
+                .context("context")
+                .build());
+    }
+
+    @Test
+    @DisplayName("이미 참여 중인 회원의 참여는 유니크 제약 위반으로 실패하고 중복 참여로 구분된다")
+    void insertMember_rejectsDuplicate() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        roomMemberRepository.insertMember(room.getId(), 2L, now);
+
+        // when & then
+        assertThatThrownBy(() -> roomMemberRepository.insertMember(room.getId(), 2L, now))
+                .isInstanceOfSatisfying(DataIntegrityViolationException.class,
+                        e -> assertThat(RoomMemberRepository.isDuplicateMembership(e)).isTrue());
+        assertThat(roomMemberRepository.existsByRoomIdAndMemberId(room.getId(), 2L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("중복이 아닌 무결성 오류(없는 방)는 중복 참여로 오인되지 않는다")
+    void insertMember_surfacesOtherViolations() {
+        assertThatThrownBy(() -> roomMemberRepository.insertMember(-1L, 2L, LocalDateTime.now()))
+                .isInstanceOfSatisfying(DataIntegrityViolationException.class,
+                        e -> assertThat(RoomMemberRepository.isDuplicateMembership(e)).isFalse());
+    }
+
+    @Test
+    @DisplayName("방장 승계 대상은 나가는 방장을 제외한 가장 오래된 참여자다")
+    void findOldestMemberIdExcept() {
+        // given
+        LocalDateTime base = LocalDateTime.now().minusHours(1);
+        roomMemberRepository.insertMember(room.getId(), 1L, base);
+        roomMemberRepository.insertMember(room.getId(), 3L, base.plusMinutes(20));
+        roomMemberRepository.insertMember(room.getId(), 2L, base.plusMinutes(10));
+
+        // when & then
+        assertThat(roomMemberRepository.findOldestMemberIdExcept(room.getId(), 1L, Limit.of(1)))
+                .containsExactly(2L);
+        assertThat(roomMemberRepository.findOldestMemberIdExcept(room.getId(), 2L, Limit.of(1)))
+                .containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("남은 참여자가 없으면 승계 대상이 없다")
+    void findOldestMemberIdExcept_empty() {
+        // given
+        roomMemberRepository.insertMember(room.getId(), 1L, LocalDateTime.now());
+
+        // when & then
+        assertThat(roomMemberRepository.findOldestMemberIdExcept(room.getId(), 1L, Limit.of(1))).isEmpty();
+    }
+}
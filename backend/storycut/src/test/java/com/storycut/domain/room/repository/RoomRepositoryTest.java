@@ -0,0 +1,261 @@
+package com.storycut.domain.room.repository;
+
+import com.storycut.domain.room.dto.query.RoomFeedItem;
+import com.storycut.domain.room.dto.query.RoomSummary;
+import com.storycut.domain.room.entity.Room;
+import com.storycut.domain.room.entity.RoomMember;
+import com.storycut.global.config.JpaConfig;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(JpaConfig.class)
+class RoomRepositoryTest {
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private Room createRoom(Long hostId, String password, Long... otherMemberIds) {
+        Room room = em.persist(Room.builder()
+                .hostMemberId(hostId)
+                .title("room-" + hostId)
+                .context("context")
+                .password(password)
+                .build());
+        join(room, hostId);
+        for (Long memberId : otherMemberIds) {
+            join(room, memberId);
+        }
+        return room;
+    }
+
+    private void join(Room room, Long memberId) {
+        em.persist(RoomMember.builder().memberId(memberId).room(room).build());
+        roomRepository.incrementMemberCount(room.getId());
+    }
+
+    private long countStatements(Runnable query) {
+        em.flush();
+        em.clear();
+        statistics.clear();
+        query.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    @Test
+    @DisplayName("내 공유방 목록은 참여자 수, 방장 여부, 비밀번호 여부를 함께 조회한다")
+    void findRoomSummariesByMemberId() {
+        // given
+        Long memberId = 1L;
+        Room hosted = createRoom(memberId, "1234", 2L, 3L);
+        Room joined = createRoom(10L, null, memberId);
+        createRoom(20L, null, 21L); // 참여하지 않은 방
+
+        // when
+        List<RoomSummary> summaries = roomRepository.findRoomSummariesByMemberId(memberId);
+
+        // then
+        assertThat(summaries).hasSize(2);
+        RoomSummary hostedSummary = summaries.stream()
+                .filter(summary -> summary.roomId().equals(hosted.getId())).findFirst().orElseThrow();
+        RoomSummary joinedSummary = summaries.stream()
+                .filter(summary -> summary.roomId().equals(joined.getId())).findFirst().orElseThrow();
+
+        assertThat(hostedSummary.memberCount()).isEqualTo(3);
+        assertThat(hostedSummary.isHost()).isTrue();
+        assertThat(hostedSummary.hasPassword()).isTrue();
+        assertThat(joinedSummary.memberCount()).isEqualTo(2);
+        assertThat(joinedSummary.isHost()).isFalse();
+        assertThat(joinedSummary.hasPassword()).isFalse();
+    }
+
+    @Test
+    @DisplayName("참여 방 수와 관계없이 내 공유방 목록 조회는 SQL 한 번으로 끝난다")
+    void findRoomSummariesByMemberId_constantStatementCount() {
+        // given
+        Long memberId = 1L;
+        createRoom(memberId, null, 2L);
+
+        long singleRoomStatements = countStatements(() -> roomRepository.findRoomSummariesByMemberId(memberId));
+
+        for (long host = 100; host < 130; host++) {
+            createRoom(host, null, memberId, host + 1000);
+        }
+
+        // when
+        long manyRoomStatements = countStatements(() ->
+                assertThat(roomRepository.findRoomSummariesByMemberId(memberId)).hasSize(31));
+
+        // then
+        assertThat(singleRoomStatements).isEqualTo(1);
+        assertThat(manyRoomStatements).isEqualTo(singleRoomStatements);
+    }
+
+    @Test
+    @DisplayName("정원이 찬 방은 참여자 수를 증가시키지 않는다")
+    void incrementMemberCount_respectsCapacity() {
+        // given
+        Room room = em.persist(Room.builder()
+                .hostMemberId(1L)
+                .title("room")
+                .context("context")
+                .capacity(2)
+                .build());
+
+        // when
+        int first = roomRepository.incrementMemberCount(room.getId());
+        int second = roomRepository.incrementMemberCount(room.getId());
+        int third = roomRepository.incrementMemberCount(room.getId());
+
+        // then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isEqualTo(1);
+        assertThat(third).isZero();
+        assertThat(roomRepository.findMemberCountById(room.getId())).contains(2);
+    }
+
+    @Test
+    @DisplayName("참여자 수는 0 미만으로 감소하지 않는다")
+    void decrementMemberCount_neverNegative() {
+        // given
+        Room room = createRoom(1L, null);
+
+        // when
+        roomRepository.decrementMemberCount(room.getId(), 2L);
+        roomRepository.decrementMemberCount(room.getId(), 2L);
+
+        // then
+        assertThat(roomRepository.findMemberCountById(room.getId())).contains(0);
+    }
+
+    @Test
+    @DisplayName("현재 방장의 퇴장은 참여자 수 감소 쿼리에서 걸러진다")
+    void decrementMemberCount_rejectsCurrentHost() {
+        // given
+        Room room = createRoom(1L, null, 2L);
+
+        // when
+        int updated = roomRepository.decrementMemberCount(room.getId(), 1L);
+
+        // then
+        assertThat(updated).isZero();
+        assertThat(roomRepository.findMemberCountById(room.getId())).contains(2);
+    }
+
+    @Test
+    @DisplayName("보정 쿼리는 실제 참여자 수와 어긋난 방만 수정한다")
+    void reconcileMemberCounts() {
+        // given - 카운터 갱신 없이 참여자 행만 추가된 방
+        Room drifted = createRoom(1L, null);
+        em.persist(RoomMember.builder().memberId(2L).room(drifted).build());
+        em.persist(RoomMember.builder().memberId(3L).room(drifted).build());
+        Room correct = createRoom(10L, null, 11L);
+        em.flush();
+
+        // when
+        int repaired = roomRepository.reconcileMemberCounts(1L, Long.MAX_VALUE);
+
+        // then
+        assertThat(repaired).isEqualTo(1);
+        assertThat(roomRepository.findMemberCountById(drifted.getId())).contains(3);
+        assertThat(roomRepository.findMemberCountById(correct.getId())).contains(2);
+    }
+
+    @Test
+    @DisplayName("삭제 표시된 방은 조회, 내 공유방 목록, 입장 대상에서 제외되고 정리 후 행이 제거된다")
+    void softDeletedRoom_isHiddenUntilPurged() {
+        // given
+        Room room = createRoom(1L, null, 2L);
+        room.markDeleted();
+        em.flush();
+        em.clear();
+
+        // when & then
+        assertThat(roomRepository.findById(room.getId())).isEmpty();
+        assertThat(roomRepository.findRoomSummariesByMemberId(2L)).isEmpty();
+        assertThat(roomRepository.incrementMemberCount(room.getId())).isZero();
+
+        // 참여 관계가 정리된 뒤에만 방 행을 지울 수 있다
+        em.getEntityManager().createQuery("DELETE FROM RoomMember rm WHERE rm.room.id = :roomId")
+                .setParameter("roomId", room.getId())
+                .executeUpdate();
+        assertThat(roomRepository.hardDeleteMarked(room.getId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("삭제 표시되지 않은 방은 행 제거 대상이 아니다")
+    void hardDeleteMarked_ignoresLiveRoom() {
+        // given
+        Room room = createRoom(1L, null);
+        em.flush();
+
+        // when & then
+        assertThat(roomRepository.hardDeleteMarked(room.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("둘러보기는 (생성 시각, ID) 역순 키셋 페이징으로 누락이나 중복 없이 이어진다")
+    void findFeed_keysetPagination() {
+        // given (생성 시각이 같은 방이 섞여 있어도 ID로 순서가 정해짐)
+        for (long hostId = 1; hostId <= 5; hostId++) {
+            createRoom(hostId, null);
+        }
+        em.flush();
+        em.clear();
+
+        // when
+        List<RoomFeedItem> first = roomRepository.findFeedFirstPage(null, Limit.of(2));
+        RoomFeedItem last = first.get(first.size() - 1);
+        List<RoomFeedItem> second = roomRepository.findFeedAfter(null, last.createdAt(), last.roomId(), Limit.of(10));
+
+        // then
+        List<RoomFeedItem> all = roomRepository.findFeedFirstPage(null, Limit.of(10));
+        assertThat(all).hasSize(5);
+        assertThat(first).containsExactlyElementsOf(all.subList(0, 2));
+        assertThat(second).containsExactlyElementsOf(all.subList(2, 5));
+    }
+
+    @Test
+    @DisplayName("둘러보기 제목 접두사 검색은 와일드카드를 문자 그대로 비교한다")
+    void findFeed_titlePrefix() {
+        // given
+        em.persist(Room.builder().hostMemberId(1L).title("100% 여행").context("c").build());
+        em.persist(Room.builder().hostMemberId(2L).title("100점 여행").context("c").build());
+        em.persist(Room.builder().hostMemberId(3L).title("가족 여행").context("c").build());
+        em.flush();
+
+        // when
+        List<RoomFeedItem> escaped = roomRepository.findFeedFirstPage("100!%%", Limit.of(10));
+        List<RoomFeedItem> prefix = roomRepository.findFeedFirstPage("100%", Limit.of(10));
+
+        // then
+        assertThat(escaped).extracting(RoomFeedItem::roomTitle).containsExactly("100% 여행");
+        assertThat(prefix).extracting(RoomFeedItem::roomTitle).containsExactlyInAnyOrder("100% 여행", "100점 여행");
+    }
+}
@@ -0,0 +1,125 @@
+package com.storycut.domain.room.service;
+
+import com.storycut.domain.room.dto.query.RoomFeedCursor;
+import com.storycut.domain.room.dto.query.RoomFeedItem;
+import com.storycut.domain.room.dto.response.RoomFeedResponse;
+import com.storycut.domain.room.repository.RoomRepository;
+import com.storycut.global.exception.BusinessException;
+import com.storycut.global.model.dto.BaseResponseStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RoomDiscoveryServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 5, 1, 12, 0, 0, 123_456_000);
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    private RoomDiscoveryService roomDiscoveryService;
+
+    @BeforeEach
+    void setUp() {
+        roomDiscoveryService = new RoomDiscoveryService(roomRepository, Duration.ofMinutes(1));
+    }
+
+    private RoomFeedItem item(long roomId) {
+        return new RoomFeedItem(roomId, 1L, "room-" + roomId, false, null, 1, null, NOW.minusSeconds(roomId));
+    }
+
+    @Test
+    @DisplayName("한 건 더 조회해 다음 페이지 여부와 마지막 항목 기준 커서를 만든다")
+    void discover_buildsNextCursor() {
+        // given
+        when(roomRepository.findFeedFirstPage(null, Limit.of(3))).thenReturn(List.of(item(1), item(2), item(3)));
+
+        // when
+        RoomFeedResponse response = roomDiscoveryService.discover(null, 2, null);
+
+        // then
+        assertThat(response.rooms()).extracting(RoomFeedItem::roomId).containsExactly(1L, 2L);
+        assertThat(response.hasNext()).isTrue();
+        assertThat(RoomFeedCursor.decode(response.nextCursor()))
+                .isEqualTo(new RoomFeedCursor(item(2).createdAt(), 2L));
+    }
+
+    @Test
+    @DisplayName("커서가 있으면 커서 이후부터 조회하고 마지막 페이지에는 커서가 없다")
+    void discover_afterCursor() {
+        // given
+        RoomFeedCursor cursor = new RoomFeedCursor(NOW, 10L);
+        when(roomRepository.findFeedAfter(null, NOW, 10L, Limit.of(3))).thenReturn(List.of(item(11)));
+
+        // when
+        RoomFeedResponse response = roomDiscoveryService.discover(cursor.encode(), 2, null);
+
+        // then
+        assertThat(response.rooms()).extracting(RoomFeedItem::roomId).containsExactly(11L);
+        assertThat(response.hasNext()).isFalse();
+        assertThat(response.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("필터 없는 첫 페이지는 캐시되어 반복 요청에도 한 번만 조회한다")
+    void discover_cachesFirstPage() {
+        // given
+        when(roomRepository.findFeedFirstPage(null, Limit.of(21))).thenReturn(List.of(item(1)));
+
+        // when
+        roomDiscoveryService.discover(null, null, null);
+        roomDiscoveryService.discover(null, null, " ");
+
+        // then
+        verify(roomRepository, times(1)).findFeedFirstPage(null, Limit.of(21));
+    }
+
+    @Test
+    @DisplayName("제목 필터는 캐시하지 않고 와일드카드를 이스케이프한 접두사로 조회한다")
+    void discover_titleFilter() {
+        // given
+        when(roomRepository.findFeedFirstPage("50!%!_!!%", Limit.of(21))).thenReturn(List.of());
+
+        // when
+        roomDiscoveryService.discover(null, null, "50%_!");
+        roomDiscoveryService.discover(null, null, "50%_!");
+
+        // then
+        verify(roomRepository, times(2)).findFeedFirstPage("50!%!_!!%", Limit.of(21));
+    }
+
+    @Test
+    @DisplayName("페이지 크기는 최대값으로 제한된다")
+    void discover_clampsSize() {
+        // given
+        when(roomRepository.findFeedFirstPage("a%", Limit.of(RoomDiscoveryService.MAX_PAGE_SIZE + 1)))
+                .thenReturn(List.of());
+
+        // when & then
+        assertThat(roomDiscoveryService.discover(null, 1000, "a").rooms()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 예외가 발생한다")
+    void discover_invalidCursor() {
+        assertThatThrownBy(() -> roomDiscoveryService.discover("not-a-cursor", null, null))
+                .isInstanceOf(BusinessException.class)
+                .extracting("baseResponseStatus")
+                .isEqualTo(BaseResponseStatus.INVALID_ROOM_CURSOR);
+    }
+}
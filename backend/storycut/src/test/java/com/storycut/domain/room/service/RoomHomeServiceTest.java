@@ -0,0 +1,149 @@
+package com.storycut.domain.room.service;
+
+import com.storycut.domain.mediachat.dto.response.ChatMessageResponse;
+import com.storycut.domain.mediachat.service.ChatMessageService;
+import com.storycut.domain.room.dto.query.RoomSnapshot;
+import com.storycut.domain.room.dto.response.RoomHomeResponse;
+import com.storycut.domain.room.dto.response.RoomMemberResponse;
+import com.storycut.domain.room.dto.response.RoomResponse;
+import com.storycut.domain.room.entity.RoomMember;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RoomHomeServiceTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final Long ROOM_ID = 10L;
+
+    @Mock
+    private RoomDetailService roomDetailService;
+
+    @Mock
+    private RoomMemberService roomMemberService;
+
+    @Mock
+    private ChatMessageService chatMessageService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ExecutorService executor;
+
+    private RoomHomeService roomHomeService;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        roomHomeService = new RoomHomeService(roomDetailService, roomMemberService, chatMessageService,
+                executor, meterRegistry, Duration.ofMillis(200), 20);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private RoomResponse givenRoom() {
+        RoomSnapshot snapshot = new RoomSnapshot(ROOM_ID, MEMBER_ID, "room", null, null, false, 1, null, null, null);
+        RoomResponse room = RoomResponse.builder().roomId(ROOM_ID).build();
+        when(roomDetailService.getRoomSnapshot(ROOM_ID)).thenReturn(snapshot);
+        when(roomDetailService.mapToResponse(MEMBER_ID, snapshot)).thenReturn(room);
+        return room;
+    }
+
+    private ChatMessageResponse chat(String id) {
+        return ChatMessageResponse.builder().id(id).roomId(ROOM_ID).videoId("v-" + id).build();
+    }
+
+    @Test
+    @DisplayName("모든 항목을 병렬로 조회해 하나의 응답으로 합친다")
+    void getRoomHome_allParts() {
+        // given
+        RoomResponse room = givenRoom();
+        List<RoomMember> members = List.of(mock(RoomMember.class));
+        List<RoomMemberResponse> memberResponses = List.of(RoomMemberResponse.builder().memberId(MEMBER_ID).build());
+        when(roomMemberService.findMembersByRoomId(ROOM_ID)).thenReturn(members);
+        when(roomMemberService.mapToResponseList(members)).thenReturn(memberResponses);
+        when(chatMessageService.getByRoomIdWithPaging(ROOM_ID, 0, 20)).thenReturn(List.of(chat("2"), chat("1")));
+        when(chatMessageService.getLatestVideoByRoomId(ROOM_ID)).thenReturn(Optional.of(chat("2")));
+
+        // when
+        RoomHomeResponse response = roomHomeService.getRoomHome(MEMBER_ID, ROOM_ID);
+
+        // then
+        assertThat(response.room()).isSameAs(room);
+        assertThat(response.members()).isSameAs(memberResponses);
+        assertThat(response.recentChats()).extracting(ChatMessageResponse::getId).containsExactly("2", "1");
+        assertThat(response.latestVideo().getId()).isEqualTo("2");
+        assertThat(response.unavailableParts()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("제한 시간 안에 끝나지 않은 항목은 비워 두고 나머지 결과만 반환한다")
+    void getRoomHome_partialOnTimeout() throws InterruptedException {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        RoomResponse room = givenRoom();
+        when(roomMemberService.findMembersByRoomId(ROOM_ID)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return List.of();
+        });
+        when(chatMessageService.getByRoomIdWithPaging(ROOM_ID, 0, 20)).thenReturn(List.of(chat("1")));
+        when(chatMessageService.getLatestVideoByRoomId(ROOM_ID)).thenReturn(Optional.empty());
+
+        // when
+        long startedAt = System.nanoTime();
+        RoomHomeResponse response = roomHomeService.getRoomHome(MEMBER_ID, ROOM_ID);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        release.countDown();
+
+        // then
+        assertThat(elapsedMillis).isLessThan(2_000);
+        assertThat(response.room()).isSameAs(room);
+        assertThat(response.members()).isNull();
+        assertThat(response.recentChats()).hasSize(1);
+        assertThat(response.latestVideo()).isNull();
+        assertThat(response.unavailableParts()).containsExactly(RoomHomeService.PART_MEMBERS);
+        assertThat(meterRegistry.counter("room.home.part.unavailable", "part", "members").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("조회 중 예외가 난 항목만 unavailableParts에 담긴다")
+    void getRoomHome_partialOnFailure() {
+        // given
+        givenRoom();
+        when(roomMemberService.findMembersByRoomId(ROOM_ID)).thenReturn(List.of());
+        when(roomMemberService.mapToResponseList(List.of())).thenReturn(List.of());
+        when(chatMessageService.getByRoomIdWithPaging(ROOM_ID, 0, 20))
+                .thenThrow(new IllegalStateException("mongo down"));
+        when(chatMessageService.getLatestVideoByRoomId(ROOM_ID))
+                .thenThrow(new IllegalStateException("mongo down"));
+
+        // when
+        RoomHomeResponse response = roomHomeService.getRoomHome(MEMBER_ID, ROOM_ID);
+
+        // then
+        assertThat(response.members()).isEmpty();
+        assertThat(response.recentChats()).isNull();
+        assertThat(response.unavailableParts())
+                .containsExactly(RoomHomeService.PART_LATEST_VIDEO, RoomHomeService.PART_RECENT_CHATS);
+    }
+}
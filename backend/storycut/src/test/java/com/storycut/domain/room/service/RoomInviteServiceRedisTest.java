@@ -0,0 +1,164 @@
+package com.storycut.domain.room.service;
+
+import com.storycut.global.exception.BusinessException;
+import com.storycut.global.model.dto.BaseResponseStatus;
+import com.storycut.support.EmbeddedRedis;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 초대코드 Lua 스크립트(ALLOCATE/RESOLVE/REVOKE)를 내장 Redis에서 실제로 실행해 검증
+ * <p>
+ * 후보 코드는 같은 시드의 Random으로 만들어, 서로 다른 공유방이 같은 후보 순서로 충돌하도록 한다.
+ * </p>
+ */
+class RoomInviteServiceRedisTest {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final long SEED = 42L;
+
+    private static EmbeddedRedis redis;
+    private static RedisTemplate<String, String> redisTemplate;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        redis = EmbeddedRedis.start();
+        redisTemplate = redis.template();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redis.stop();
+    }
+
+    @BeforeEach
+    void flush() {
+        redis.flushAll();
+    }
+
+    private RoomInviteService service() {
+        return new RoomInviteService(redisTemplate, TTL, new Random(SEED));
+    }
+
+    @Test
+    @DisplayName("유효한 코드가 있으면 역방향 키로 찾아 같은 코드를 재사용하고, 두 키 모두 만료 시간이 걸린다")
+    void allocate_reusesLiveCode() {
+        // given
+        RoomInviteService inviteService = service();
+
+        // when
+        String first = inviteService.generateInviteCode(7L);
+        String second = inviteService.generateInviteCode(7L);
+
+        // then
+        assertThat(second).isEqualTo(first);
+        assertThat(redisTemplate.opsForValue().get("invite:room:7")).isEqualTo(first);
+        assertThat(redisTemplate.opsForValue().get("invite:" + first)).isEqualTo("7");
+        assertThat(redisTemplate.getExpire("invite:room:7", TimeUnit.MILLISECONDS)).isBetween(1L, TTL.toMillis());
+        assertThat(redisTemplate.getExpire("invite:" + first, TimeUnit.MILLISECONDS)).isBetween(1L, TTL.toMillis());
+        assertThat(inviteService.decodeInviteCode(first.toLowerCase())).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("다른 공유방이 선점한 후보 코드는 SET NX로 건너뛰고 다음 후보를 사용한다")
+    void allocate_skipsTakenCandidate() {
+        // given - 같은 시드이므로 첫 후보가 같음
+        String taken = service().generateInviteCode(1L);
+
+        // when
+        String code = service().generateInviteCode(2L);
+
+        // then
+        assertThat(code).isNotEqualTo(taken);
+        assertThat(service().decodeInviteCode(taken)).isEqualTo(1L);
+        assertThat(service().decodeInviteCode(code)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("후보 코드가 모두 사용 중이면 발급에 실패하고 어떤 키도 덮어쓰지 않는다")
+    void allocate_failsWhenAllCandidatesTaken() {
+        // given - 공유방 1~5가 같은 후보 5개를 하나씩 선점
+        Set<String> codes = new HashSet<>();
+        for (long roomId = 1; roomId <= 5; roomId++) {
+            codes.add(service().generateInviteCode(roomId));
+        }
+        assertThat(codes).hasSize(5);
+
+        // when & then
+        assertThatThrownBy(() -> service().generateInviteCode(6L))
+                .isInstanceOf(BusinessException.class)
+                .extracting("baseResponseStatus")
+                .isEqualTo(BaseResponseStatus.INVITE_CODE_ALLOCATION_FAILED);
+        assertThat(redisTemplate.hasKey("invite:room:6")).isFalse();
+        for (long roomId = 1; roomId <= 5; roomId++) {
+            String code = redisTemplate.opsForValue().get("invite:room:" + roomId);
+            assertThat(redisTemplate.opsForValue().get("invite:" + code)).isEqualTo(String.valueOf(roomId));
+        }
+    }
+
+    @Test
+    @DisplayName("역방향 키가 가리키는 코드가 만료되었거나 다른 방에 재발급되었으면 새 코드를 발급한다")
+    void allocate_ignoresStaleReverseKey() {
+        // given - 공유방 1의 이전 코드가 공유방 2에 재발급된 상태
+        redisTemplate.opsForValue().set("invite:room:1", "ABCDEF");
+        redisTemplate.opsForValue().set("invite:ABCDEF", "2");
+
+        // when
+        String code = service().generateInviteCode(1L);
+
+        // then
+        assertThat(code).isNotEqualTo("ABCDEF");
+        assertThat(redisTemplate.opsForValue().get("invite:ABCDEF")).isEqualTo("2");
+        assertThat(redisTemplate.opsForValue().get("invite:room:1")).isEqualTo(code);
+    }
+
+    @Test
+    @DisplayName("회수된 코드는 더 이상 조회되지 않고, 이후 발급은 새 코드로 동작한다")
+    void revoke_thenResolveFails() {
+        // given
+        RoomInviteService inviteService = service();
+        String code = inviteService.generateInviteCode(7L);
+
+        // when
+        inviteService.revokeInviteCode(7L);
+
+        // then
+        assertThat(redisTemplate.hasKey("invite:room:7")).isFalse();
+        assertThat(redisTemplate.hasKey("invite:" + code)).isFalse();
+        assertThatThrownBy(() -> inviteService.decodeInviteCode(code))
+                .isInstanceOf(BusinessException.class)
+                .extracting("baseResponseStatus")
+                .isEqualTo(BaseResponseStatus.INVALID_INVITE_CODE);
+
+        String reissued = inviteService.generateInviteCode(7L);
+        assertThat(inviteService.decodeInviteCode(reissued)).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("코드 키가 남아 있어도 역방향 키가 다른 코드를 가리키면 조회되지 않는다")
+    void resolve_requiresMatchingReverseKey() {
+        // given - 코드 키만 남고 공유방은 다른 코드로 재발급됨
+        redisTemplate.opsForValue().set("invite:ABCDEF", "7");
+        redisTemplate.opsForValue().set("invite:room:7", "GHJKLM");
+
+        // when & then
+        assertThatThrownBy(() -> service().decodeInviteCode("ABCDEF"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("baseResponseStatus")
+                .isEqualTo(BaseResponseStatus.INVALID_INVITE_CODE);
+    }
+}
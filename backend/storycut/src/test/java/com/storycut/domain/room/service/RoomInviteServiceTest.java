@@ -0,0 +1,122 @@
+package com.storycut.domain.room.service;
+
+import com.storycut.global.exception.BusinessException;
+import com.storycut.global.model.dto.BaseResponseStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RoomInviteServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private RoomInviteService roomInviteService;
+
+    @BeforeEach
+    void setUp() {
+        roomInviteService = new RoomInviteService(redisTemplate, Duration.ofMinutes(10));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("초대코드 발급은 역방향 키와 중복되지 않는 형식의 후보 코드를 한 번의 스크립트로 전달한다")
+    void generateInviteCode_sendsCandidatesInOneScript() {
+        // given
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("invite:room:7")), args.capture()))
+                .thenReturn("ABC234");
+
+        // when
+        String code = roomInviteService.generateInviteCode(7L);
+
+        // then
+        assertThat(code).isEqualTo("ABC234");
+        List<Object> sent = Arrays.asList(args.getValue());
+        assertThat(sent.subList(0, 3)).containsExactly("7", "600000", "invite:");
+        assertThat(sent.subList(3, sent.size()))
+                .isNotEmpty()
+                .allSatisfy(candidate -> assertThat((String) candidate).matches("[2-9A-HJ-NP-Z]{6}"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("후보 코드가 모두 사용 중이면 발급 실패 예외가 발생한다")
+    void generateInviteCode_allCandidatesTaken() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(null);
+
+        // when & then
+        assertThatThrownBy(() -> roomInviteService.generateInviteCode(7L))
+                .isInstanceOf(BusinessException.class)
+                .extracting("baseResponseStatus")
+                .isEqualTo(BaseResponseStatus.INVITE_CODE_ALLOCATION_FAILED);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("초대코드 조회는 대소문자를 구분하지 않는다")
+    void decodeInviteCode_normalizesCase() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("invite:ABC234")), eq("ABC234"), eq("invite:room:")))
+                .thenReturn("7");
+
+        // when & then
+        assertThat(roomInviteService.decodeInviteCode("abc234")).isEqualTo(7L);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("만료되었거나 회수된 초대코드는 유효하지 않다")
+    void decodeInviteCode_invalid() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).thenReturn(null);
+
+        // when & then
+        assertThatThrownBy(() -> roomInviteService.decodeInviteCode("ABC234"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("baseResponseStatus")
+                .isEqualTo(BaseResponseStatus.INVALID_INVITE_CODE);
+    }
+
+    @Test
+    @DisplayName("6자리가 아닌 초대코드는 Redis 조회 없이 거절한다")
+    void decodeInviteCode_wrongLength() {
+        assertThatThrownBy(() -> roomInviteService.decodeInviteCode("ABC"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("baseResponseStatus")
+                .isEqualTo(BaseResponseStatus.LENGTH_INVITE_CODE);
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("초대코드 회수는 역방향 키 기준으로 한 번에 처리한다")
+    void revokeInviteCode() {
+        // when
+        roomInviteService.revokeInviteCode(7L);
+
+        // then
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("invite:room:7")), eq("invite:"));
+    }
+}
@@ -0,0 +1,264 @@
+package com.storycut.domain.room.service;
+
+import com.storycut.domain.room.dto.query.RoomMembership;
+import com.storycut.domain.room.event.RoomMembershipChangedEvent;
+import com.storycut.domain.room.repository.RoomMemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RoomMembershipIndexTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    @Mock
+    private RoomMemberRepository roomMemberRepository;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Mock
+    private Clock clock;
+
+    private final AtomicLong now = new AtomicLong(NOW);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private RoomMembershipIndex index;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(clock.millis()).thenAnswer(invocation -> now.get());
+        index = new RoomMembershipIndex(roomMemberRepository, redisTemplate, listenerContainer, meterRegistry, 2,
+                Duration.ofSeconds(60), Duration.ofSeconds(5), clock);
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage("room:membership".getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void buildWith(RoomMembership... memberships) {
+        // 배치 크기 2로 키셋 페이징
+        when(roomMemberRepository.findMembershipsAfter(0L, Limit.of(2)))
+                .thenReturn(List.of(memberships[0], memberships[1]));
+        when(roomMemberRepository.findMembershipsAfter(memberships[1].id(), Limit.of(2)))
+                .thenReturn(List.of(memberships).subList(2, memberships.length));
+        index.rebuild();
+    }
+
+    @Test
+    @DisplayName("구성된 인덱스로 참여 여부를 DB 조회 없이 확인한다")
+    void answersFromIndex() {
+        // given
+        buildWith(new RoomMembership(1L, 10L, 100L),
+                new RoomMembership(2L, 10L, 101L),
+                new RoomMembership(3L, 20L, 100L));
+
+        // when & then
+        assertThat(index.isMember(10L, 100L)).isTrue();
+        assertThat(index.isMember(20L, 100L)).isTrue();
+        assertThat(index.roomIdsOf(100L)).containsExactlyInAnyOrder(10L, 20L);
+        verify(roomMemberRepository, never()).existsByRoomIdAndMemberId(anyLong(), anyLong());
+        assertThat(meterRegistry.get("room.membership.index.bytes").gauge().value()).isPositive();
+    }
+
+    @Test
+    @DisplayName("인덱스에 없으면 DB로 확인하고 결과를 인덱스에 반영한다")
+    void fallsBackToDatabaseOnMiss() {
+        // given
+        buildWith(new RoomMembership(1L, 10L, 100L),
+                new RoomMembership(2L, 10L, 101L));
+        when(roomMemberRepository.existsByRoomIdAndMemberId(10L, 102L)).thenReturn(true);
+
+        // when
+        boolean first = index.isMember(10L, 102L);
+        boolean second = index.isMember(10L, 102L);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        verify(roomMemberRepository).existsByRoomIdAndMemberId(10L, 102L);
+    }
+
+    @Test
+    @DisplayName("DB로 확인한 비참여 결과는 negative-ttl 동안 기억하고, 지나면 다시 DB로 확인한다")
+    void cachesNonMemberForNegativeTtl() {
+        // given
+        buildWith(new RoomMembership(1L, 10L, 100L),
+                new RoomMembership(2L, 10L, 101L));
+        when(roomMemberRepository.existsByRoomIdAndMemberId(10L, 102L)).thenReturn(false);
+
+        // when
+        boolean first = index.isMember(10L, 102L);
+        boolean cached = index.isMember(10L, 102L);
+        now.addAndGet(Duration.ofSeconds(6).toMillis());
+        boolean expired = index.isMember(10L, 102L);
+
+        // then
+        assertThat(first).isFalse();
+        assertThat(cached).isFalse();
+        assertThat(expired).isFalse();
+        verify(roomMemberRepository, times(2)).existsByRoomIdAndMemberId(10L, 102L);
+    }
+
+    @Test
+    @DisplayName("입장 이벤트를 받으면 기억한 비참여 결과를 지운다")
+    void joinedEventInvalidatesNonMember() {
+        // given - 인덱스 구성 전이라 참여 여부는 DB로만 확인
+        when(roomMemberRepository.existsByRoomIdAndMemberId(10L, 102L)).thenReturn(false, true);
+        index.isMember(10L, 102L);
+
+        // when
+        index.onMessage(message("JOINED:10:102"), null);
+
+        // then
+        assertThat(index.isMember(10L, 102L)).isTrue();
+        verify(roomMemberRepository, times(2)).existsByRoomIdAndMemberId(10L, 102L);
+    }
+
+    @Test
+    @DisplayName("DB 확인 중 같은 방의 입장이 반영되면 비참여 결과를 기억하지 않는다")
+    void doesNotCacheNonMemberJoinedDuringCheck() {
+        // given
+        when(roomMemberRepository.existsByRoomIdAndMemberId(10L, 102L)).thenAnswer(invocation -> {
+            // 조회 직후 커밋된 입장 이벤트가 먼저 도착
+            index.onMessage(message("JOINED:10:102"), null);
+            return false;
+        }).thenReturn(true);
+
+        // when
+        boolean first = index.isMember(10L, 102L);
+        boolean second = index.isMember(10L, 102L);
+
+        // then
+        assertThat(first).isFalse();
+        assertThat(second).isTrue();
+        verify(roomMemberRepository, times(2)).existsByRoomIdAndMemberId(10L, 102L);
+    }
+
+    @Test
+    @DisplayName("퇴장/방 삭제 이벤트를 반영하고 다른 노드로 전파한다")
+    void appliesMembershipChanges() {
+        // given
+        buildWith(new RoomMembership(1L, 10L, 100L),
+                new RoomMembership(2L, 10L, 101L),
+                new RoomMembership(3L, 20L, 100L));
+
+        // when
+        index.onMembershipChanged(RoomMembershipChangedEvent.left(10L, 101L));
+        index.onMembershipChanged(RoomMembershipChangedEvent.roomDeleted(20L));
+
+        // then
+        assertThat(index.isMember(10L, 101L)).isFalse();
+        assertThat(index.roomIdsOf(100L)).containsExactly(10L);
+        verify(redisTemplate).convertAndSend("room:membership", "LEFT:10:101");
+        verify(redisTemplate).convertAndSend("room:membership", "ROOM_DELETED:20");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 입장 메시지를 받으면 인덱스에 반영한다")
+    void appliesRemoteMessage() {
+        // given
+        buildWith(new RoomMembership(1L, 10L, 100L),
+                new RoomMembership(2L, 10L, 101L));
+
+        // when
+        index.onMessage(new DefaultMessage("room:membership".getBytes(StandardCharsets.UTF_8),
+                "JOINED:30:100".getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        assertThat(index.isMember(30L, 100L)).isTrue();
+        verify(roomMemberRepository, never()).existsByRoomIdAndMemberId(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("DB 확인 중 같은 방의 퇴장이 반영되면 확인 결과를 인덱스에 넣지 않는다")
+    void doesNotResurrectMemberLeftDuringCheck() {
+        // given
+        buildWith(new RoomMembership(1L, 10L, 100L),
+                new RoomMembership(2L, 10L, 101L));
+        when(roomMemberRepository.existsByRoomIdAndMemberId(10L, 102L)).thenAnswer(invocation -> {
+            // 조회 직후 커밋된 퇴장 이벤트가 먼저 도착
+            index.onMessage(message("LEFT:10:102"), null);
+            return true;
+        });
+
+        // when
+        index.isMember(10L, 102L);
+        index.isMember(10L, 102L);
+
+        // then - 인덱스에 남지 않아 다시 DB로 확인
+        verify(roomMemberRepository, times(2)).existsByRoomIdAndMemberId(10L, 102L);
+        assertThat(index.roomIdsOf(102L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("확인한 지 positive-ttl이 지난 방은 DB로 참여자를 다시 읽어 유실된 퇴장을 보정한다")
+    void refreshesStaleRoomFromDatabase() {
+        // given - 101의 퇴장 메시지가 유실된 상태
+        buildWith(new RoomMembership(1L, 10L, 100L),
+                new RoomMembership(2L, 10L, 101L));
+        now.addAndGet(Duration.ofSeconds(61).toMillis());
+        when(roomMemberRepository.findMemberIdsByRoomId(10L)).thenReturn(List.of(100L));
+
+        // when
+        boolean left = index.isMember(10L, 101L);
+        boolean stayed = index.isMember(10L, 100L);
+
+        // then
+        assertThat(left).isFalse();
+        assertThat(stayed).isTrue();
+        assertThat(index.roomIdsOf(101L)).isEmpty();
+        verify(roomMemberRepository, times(1)).findMemberIdsByRoomId(10L);
+        verify(roomMemberRepository, never()).existsByRoomIdAndMemberId(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("재구성 중 들어온 변경은 교체 직전에 새 인덱스에 재생된다")
+    void replaysChangesReceivedDuringRebuild() {
+        // given
+        when(roomMemberRepository.findMembershipsAfter(0L, Limit.of(2)))
+                .thenReturn(List.of(new RoomMembership(1L, 10L, 100L), new RoomMembership(2L, 10L, 101L)));
+        when(roomMemberRepository.findMembershipsAfter(2L, Limit.of(2))).thenAnswer(invocation -> {
+            // 첫 페이지를 읽은 뒤 퇴장/입장 메시지 수신
+            index.onMessage(message("LEFT:10:101"), null);
+            index.onMessage(message("JOINED:20:102"), null);
+            return List.of();
+        });
+
+        // when
+        index.rebuild();
+
+        // then
+        assertThat(index.roomIdsOf(101L)).isEmpty();
+        assertThat(index.roomIdsOf(100L)).containsExactly(10L);
+        assertThat(index.roomIdsOf(102L)).containsExactly(20L);
+    }
+}
@@ -0,0 +1,90 @@
+package com.storycut.domain.room.service;
+
+import com.storycut.domain.room.event.RoomMembershipChangedEvent;
+import com.storycut.global.util.RedisCommands;
+import com.storycut.support.EmbeddedRedis;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 접속 현황 반영(ZADD GT)과 퇴장 정리(ZREM)를 내장 Redis에서 실제로 실행해 검증
+ */
+class RoomPresenceServiceRedisTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+    private static final Duration WINDOW = Duration.ofSeconds(30);
+
+    private static EmbeddedRedis redis;
+    private static RedisTemplate<String, String> redisTemplate;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        redis = EmbeddedRedis.start();
+        redisTemplate = redis.template();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redis.stop();
+    }
+
+    @BeforeEach
+    void flush() {
+        redis.flushAll();
+    }
+
+    private RoomPresenceService node(long millis) {
+        Clock clock = Clock.fixed(Instant.ofEpochMilli(millis), ZoneOffset.UTC);
+        return new RoomPresenceService(new RedisCommands(redisTemplate), new SimpleMeterRegistry(), WINDOW, clock);
+    }
+
+    @Test
+    @DisplayName("늦게 반영된 다른 노드의 더 오래된 하트비트는 최신 시각을 덮어쓰지 않는다")
+    void flush_keepsNewestSeenAtAcrossNodes() {
+        // given - 노드 A가 최신 시각을 먼저 반영
+        RoomPresenceService nodeA = node(NOW);
+        RoomPresenceService nodeB = node(NOW - 5_000);
+        nodeA.heartbeat(1L, 10L);
+        nodeB.heartbeat(1L, 10L);
+        nodeA.flush();
+
+        // when
+        nodeB.flush();
+
+        // then
+        assertThat(redisTemplate.opsForZSet().score("presence:room:1", "10")).isEqualTo((double) NOW);
+        assertThat(node(NOW).getOnlineMembers(1L).onlineMemberIds()).containsExactly(10L);
+    }
+
+    @Test
+    @DisplayName("퇴장한 회원은 window를 기다리지 않고 접속 목록에서 바로 빠진다")
+    void onMembershipChanged_leftRemovesImmediately() {
+        // given
+        RoomPresenceService presenceService = node(NOW);
+        presenceService.heartbeat(1L, 10L);
+        presenceService.heartbeat(1L, 11L);
+        presenceService.flush();
+
+        // when
+        presenceService.onMembershipChanged(RoomMembershipChangedEvent.left(1L, 10L));
+
+        // then
+        assertThat(presenceService.getOnlineMembers(1L).onlineMemberIds()).containsExactly(11L);
+
+        presenceService.onMembershipChanged(RoomMembershipChangedEvent.roomDeleted(1L));
+        assertThat(redisTemplate.hasKey("presence:room:1")).isFalse();
+    }
+}
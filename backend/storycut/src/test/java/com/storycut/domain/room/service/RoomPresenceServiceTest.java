@@ -0,0 +1,199 @@
+package com.storycut.domain.room.service;
+
+import com.storycut.domain.room.dto.response.RoomPresenceResponse;
+import com.storycut.domain.room.event.RoomMembershipChangedEvent;
+import com.storycut.global.util.RedisCommands;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisZSetCommands.ZAddArgs;
+import org.springframework.data.redis.connection.StringRedisConnection;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RoomPresenceServiceTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    @Mock
+    private RedisCommands redisCommands;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private RoomPresenceService presenceService;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC);
+        presenceService = new RoomPresenceService(redisCommands, meterRegistry, Duration.ofSeconds(30), clock);
+    }
+
+    private StringRedisConnection runPipeline() {
+        ArgumentCaptor<Consumer<StringRedisConnection>> commands = captor();
+        verify(redisCommands).pipelined(commands.capture());
+        StringRedisConnection connection = mock(StringRedisConnection.class);
+        commands.getValue().accept(connection);
+        return connection;
+    }
+
+    @Test
+    @DisplayName("하트비트는 버퍼에 모았다가 회원별 한 건으로 합쳐 한 번의 파이프라인으로 반영한다")
+    void flush_coalescesHeartbeats() {
+        // given
+        presenceService.heartbeat(1L, 10L);
+        presenceService.heartbeat(1L, 10L);
+        presenceService.heartbeat(1L, 11L);
+        presenceService.heartbeat(2L, 10L);
+
+        // when
+        presenceService.flush();
+
+        // then
+        StringRedisConnection connection = runPipeline();
+        verify(connection, times(1)).zAdd("presence:room:1", NOW, "10", ZAddArgs.empty().gt());
+        verify(connection, times(1)).zAdd("presence:room:1", NOW, "11", ZAddArgs.empty().gt());
+        verify(connection, times(1)).zAdd("presence:room:2", NOW, "10", ZAddArgs.empty().gt());
+        verify(connection).zRemRangeByScore("presence:room:1", Double.NEGATIVE_INFINITY, NOW - 30_000);
+        verify(connection).pExpire("presence:room:1", 60_000);
+        assertThat(meterRegistry.counter("room.presence.heartbeats").count()).isEqualTo(4.0);
+        assertThat(meterRegistry.counter("room.presence.flushed").count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("버퍼가 비어 있으면 Redis를 호출하지 않고, 반영 후에는 버퍼가 비워진다")
+    void flush_skipsWhenEmpty() {
+        // given
+        presenceService.heartbeat(1L, 10L);
+        presenceService.flush();
+
+        // when
+        presenceService.flush();
+
+        // then
+        verify(redisCommands, times(1)).pipelined(any());
+    }
+
+    @Test
+    @DisplayName("여러 공유방의 접속 인원은 window 이내 점수만 한 번의 파이프라인으로 센다")
+    void countOnline_pipelinesZCount() {
+        // given
+        when(redisCommands.pipelined(any())).thenReturn(List.of(3L, 0L));
+
+        // when
+        Map<Long, Long> counts = presenceService.countOnline(List.of(1L, 2L, 1L));
+
+        // then
+        StringRedisConnection connection = runPipeline();
+        verify(connection, times(2)).zCount(anyString(), anyDouble(), anyDouble());
+        verify(connection).zCount("presence:room:1", NOW - 30_000 + 1, Double.POSITIVE_INFINITY);
+        assertThat(counts).hasSize(2).containsValues(3L, 0L);
+    }
+
+    @Test
+    @DisplayName("접속 인원 조회 중 Redis 오류가 나면 빈 결과를 반환한다")
+    void countOnline_redisFailure() {
+        // given
+        when(redisCommands.pipelined(any())).thenThrow(new IllegalStateException("redis down"));
+
+        // when & then
+        assertThat(presenceService.countOnline(List.of(1L))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("참여 방이 없으면 Redis를 호출하지 않는다")
+    void countOnline_empty() {
+        assertThat(presenceService.countOnline(List.of())).isEmpty();
+        verifyNoInteractions(redisCommands);
+    }
+
+    @Test
+    @DisplayName("접속 목록 조회 시 만료된 항목을 정리하고 남은 회원을 반환한다")
+    void getOnlineMembers_removesStaleEntries() {
+        // given
+        when(redisCommands.pipelined(any())).thenReturn(List.of(1L, new LinkedHashSet<>(List.of("10", "11"))));
+
+        // when
+        RoomPresenceResponse response = presenceService.getOnlineMembers(1L);
+
+        // then
+        StringRedisConnection connection = runPipeline();
+        verify(connection).zRemRangeByScore("presence:room:1", Double.NEGATIVE_INFINITY, NOW - 30_000);
+        verify(connection, never()).zAdd(anyString(), anyDouble(), anyString(), any(ZAddArgs.class));
+        assertThat(response.onlineMemberIds()).containsExactly(10L, 11L);
+        assertThat(response.onlineCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("퇴장 이벤트는 Redis 접속 목록에서 회원을 바로 제거하고, 버퍼에 남은 하트비트도 버린다")
+    void onMembershipChanged_leftRemovesMember() {
+        // given
+        presenceService.heartbeat(1L, 10L);
+        presenceService.heartbeat(1L, 11L);
+
+        // when
+        presenceService.onMembershipChanged(RoomMembershipChangedEvent.left(1L, 10L));
+
+        // then
+        verify(runPipeline()).zRem("presence:room:1", "10");
+
+        presenceService.flush();
+        ArgumentCaptor<Consumer<StringRedisConnection>> commands = captor();
+        verify(redisCommands, times(2)).pipelined(commands.capture());
+        StringRedisConnection connection = mock(StringRedisConnection.class);
+        commands.getValue().accept(connection);
+        verify(connection, never()).zAdd(eq("presence:room:1"), anyDouble(), eq("10"), any(ZAddArgs.class));
+        verify(connection).zAdd("presence:room:1", NOW, "11", ZAddArgs.empty().gt());
+    }
+
+    @Test
+    @DisplayName("공유방 삭제 이벤트는 접속 목록 키를 지우고 해당 방의 버퍼를 비운다")
+    void onMembershipChanged_roomDeletedRemovesKey() {
+        // given
+        presenceService.heartbeat(1L, 10L);
+
+        // when
+        presenceService.onMembershipChanged(RoomMembershipChangedEvent.roomDeleted(1L));
+
+        // then
+        verify(runPipeline()).del("presence:room:1");
+        presenceService.flush();
+        verify(redisCommands, times(1)).pipelined(any());
+    }
+
+    @Test
+    @DisplayName("참여 이벤트는 접속 목록에 영향을 주지 않는다")
+    void onMembershipChanged_joinedIgnored() {
+        presenceService.onMembershipChanged(RoomMembershipChangedEvent.joined(1L, 10L));
+        verifyNoInteractions(redisCommands);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<Consumer<StringRedisConnection>> captor() {
+        return ArgumentCaptor.forClass(Consumer.class);
+    }
+}
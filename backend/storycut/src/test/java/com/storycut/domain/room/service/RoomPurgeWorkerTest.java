@@ -0,0 +1,132 @@
+package com.storycut.domain.room.service;
+
+import com.storycut.domain.mediachat.service.ChatMessageService;
+import com.storycut.domain.room.entity.RoomPurgeTask;
+import com.storycut.domain.room.repository.RoomMemberRepository;
+import com.storycut.domain.room.repository.RoomPurgeTaskRepository;
+import com.storycut.domain.room.repository.RoomRepository;
+import com.storycut.global.util.RedisLock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RoomPurgeWorkerTest {
+
+    private static final Long ROOM_ID = 7L;
+
+    @Mock
+    private RoomPurgeTaskRepository roomPurgeTaskRepository;
+
+    @Mock
+    private RoomMemberRepository roomMemberRepository;
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @Mock
+    private ChatMessageService chatMessageService;
+
+    @Mock
+    private RedisLock redisLock;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private RoomPurgeWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        worker = new RoomPurgeWorker(roomPurgeTaskRepository, roomMemberRepository, roomRepository,
+                chatMessageService, redisLock, meterRegistry,
+                2, 10, Duration.ofMinutes(5), Duration.ofSeconds(30), Duration.ofHours(1));
+    }
+
+    private RoomPurgeTask givenDueTask() {
+        RoomPurgeTask task = RoomPurgeTask.of(ROOM_ID);
+        when(roomPurgeTaskRepository.findByNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+                any(LocalDateTime.class), any(Limit.class)))
+                .thenReturn(List.of(task));
+        return task;
+    }
+
+    @Test
+    @DisplayName("참여 관계와 채팅 메시지를 배치 단위로 지운 뒤 방 행과 작업을 제거한다")
+    void purgesInBatches() {
+        // given
+        RoomPurgeTask task = givenDueTask();
+        when(roomMemberRepository.findIdsByRoomId(ROOM_ID, Limit.of(2)))
+                .thenReturn(List.of(1L, 2L))
+                .thenReturn(List.of(3L))
+                .thenReturn(List.of());
+        when(roomMemberRepository.deleteAllByIdIn(List.of(1L, 2L))).thenReturn(2);
+        when(roomMemberRepository.deleteAllByIdIn(List.of(3L))).thenReturn(1);
+        when(chatMessageService.deleteBatchByRoomId(ROOM_ID, 2)).thenReturn(2, 2, 1, 0);
+
+        // when
+        int completed = worker.purgeDueTasks();
+
+        // then
+        assertThat(completed).isEqualTo(1);
+        assertThat(task.getPurgedMembers()).isEqualTo(3);
+        assertThat(task.getPurgedMessages()).isEqualTo(5);
+        verify(chatMessageService, times(4)).deleteBatchByRoomId(ROOM_ID, 2);
+        verify(roomRepository).hardDeleteMarked(ROOM_ID);
+        verify(roomPurgeTaskRepository).delete(task);
+        assertThat(meterRegistry.counter("room.purge.completed").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("정리 도중 실패하면 작업을 남겨두고 백오프 뒤 재시도를 예약한다")
+    void schedulesRetryOnFailure() {
+        // given
+        RoomPurgeTask task = givenDueTask();
+        when(roomMemberRepository.findIdsByRoomId(ROOM_ID, Limit.of(2))).thenReturn(List.of());
+        when(chatMessageService.deleteBatchByRoomId(ROOM_ID, 2)).thenThrow(new IllegalStateException("mongo down"));
+        LocalDateTime before = LocalDateTime.now();
+
+        // when
+        int completed = worker.purgeDueTasks();
+
+        // then
+        assertThat(completed).isZero();
+        assertThat(task.getAttempts()).isEqualTo(1);
+        assertThat(task.getLastError()).isEqualTo("mongo down");
+        assertThat(task.getNextAttemptAt()).isAfterOrEqualTo(before.plusSeconds(30));
+        verify(roomRepository, never()).hardDeleteMarked(anyLong());
+        verify(roomPurgeTaskRepository, never()).delete(any(RoomPurgeTask.class));
+        assertThat(meterRegistry.counter("room.purge.failed").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("재시도 간격은 실패할 때마다 두 배로 늘어나되 최대 간격을 넘지 않는다")
+    void backoffIsCapped() {
+        // given
+        RoomPurgeTask task = RoomPurgeTask.of(ROOM_ID);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            task.recordFailure("error", Duration.ofSeconds(30), Duration.ofMinutes(5));
+        }
+
+        // then
+        assertThat(task.getAttempts()).isEqualTo(10);
+        assertThat(task.getNextAttemptAt()).isBeforeOrEqualTo(LocalDateTime.now().plusMinutes(5));
+    }
+}
@@ -0,0 +1,109 @@
+package com.storycut.global.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.storycut.support.EmbeddedRedis;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 버전 조건부 L2 채우기/무효화 스크립트를 내장 Redis에서 실제로 실행해 검증
+ */
+class TwoLevelCacheRedisTest {
+
+    private static EmbeddedRedis redis;
+    private static RedisTemplate<String, String> redisTemplate;
+
+    private TwoLevelCache<String> cache;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        redis = EmbeddedRedis.start();
+        redisTemplate = redis.template();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redis.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redis.flushAll();
+        TwoLevelCacheManager manager = new TwoLevelCacheManager(redisTemplate,
+                mock(RedisMessageListenerContainer.class), new ObjectMapper(), new SimpleMeterRegistry());
+        cache = manager.create("test", String.class, 100, Duration.ofMinutes(5), Duration.ofMinutes(30));
+    }
+
+    @Test
+    @DisplayName("조회 중 무효화가 없으면 로더 결과를 L2에 만료 시간과 함께 채운다")
+    void fillsRemoteOnMiss() {
+        // when
+        cache.get(1L, () -> "db");
+
+        // then
+        assertThat(redisTemplate.opsForValue().get("cache:test:1")).isEqualTo("\"db\"");
+        assertThat(redisTemplate.getExpire("cache:test:1")).isPositive();
+    }
+
+    @Test
+    @DisplayName("로더가 이전 값을 읽는 동안 무효화되면 이전 값을 L2에 다시 채우지 않는다")
+    void skipsFillWhenEvictedDuringLoad() throws Exception {
+        // given - 커밋 직전 값을 읽은 뒤, 다른 스레드의 커밋 이후 무효화가 먼저 L2에 반영되는 상황
+        CompletableFuture<Void> eviction = new CompletableFuture<>();
+
+        // when
+        String value = cache.get(1L, () -> {
+            eviction.completeAsync(() -> {
+                cache.evict(1L);
+                return null;
+            });
+            awaitVersion("1");
+            return "stale";
+        }).orElseThrow();
+        eviction.get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(value).isEqualTo("stale");
+        assertThat(redisTemplate.hasKey("cache:test:1")).isFalse();
+        assertThat(cache.get(1L, () -> "fresh").orElseThrow()).isEqualTo("fresh");
+        assertThat(redisTemplate.opsForValue().get("cache:test:1")).isEqualTo("\"fresh\"");
+    }
+
+    private static void awaitVersion(String expected) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!expected.equals(redisTemplate.opsForValue().get("cache:test:1:ver"))) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("무효화가 반영되지 않음");
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    @Test
+    @DisplayName("무효화는 L2 값을 지우고 버전 키에도 만료 시간을 건다")
+    void evictBumpsVersionWithTtl() {
+        // given
+        cache.get(1L, () -> "db");
+
+        // when
+        cache.evict(1L);
+
+        // then
+        assertThat(redisTemplate.hasKey("cache:test:1")).isFalse();
+        assertThat(redisTemplate.getExpire("cache:test:1:ver")).isPositive();
+    }
+}
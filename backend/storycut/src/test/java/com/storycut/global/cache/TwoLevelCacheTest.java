@@ -0,0 +1,277 @@
+package com.storycut.global.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TwoLevelCacheTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private TwoLevelCacheManager manager;
+    private TwoLevelCache<String> cache;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        manager = new TwoLevelCacheManager(redisTemplate, listenerContainer, new ObjectMapper(), meterRegistry);
+        cache = manager.create("test", String.class, 100, Duration.ofMinutes(5), Duration.ofMinutes(30));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("L1에 적재된 값은 Redis와 로더를 거치지 않고 반환한다")
+    void returnsFromLocalCache() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        cache.get(1L, () -> "v" + loads.incrementAndGet());
+        String second = cache.get(1L, () -> "v" + loads.incrementAndGet()).orElseThrow();
+
+        // then
+        assertThat(second).isEqualTo("v1");
+        assertThat(loads.get()).isEqualTo(1);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("cache:test:1", "cache:test:1:ver")),
+                eq(""), eq("\"v1\""), eq("1800000"));
+        assertThat(meterRegistry.counter("cache.two_level.requests", "cache", "test", "result", "l1").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("L1에 없고 L2에 있으면 로더를 호출하지 않는다")
+    void returnsFromRemoteCache() {
+        // given
+        when(valueOperations.get("cache:test:1")).thenReturn("\"remote\"");
+
+        // when
+        String value = cache.get(1L, () -> "db").orElseThrow();
+
+        // then
+        assertThat(value).isEqualTo("remote");
+        verify(valueOperations, never()).set(anyString(), anyString(), anyLong(), eq(TimeUnit.MILLISECONDS));
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("L2 채우기는 로더 호출 전에 읽은 버전을 조건으로 실행해, 조회 중 무효화된 이전 값을 다시 채우지 않는다")
+    void fillsRemoteConditionallyOnVersionReadBeforeLoad() {
+        // given
+        when(valueOperations.get("cache:test:1:ver")).thenReturn("3");
+
+        // when
+        cache.get(1L, () -> {
+            // 로더 실행 중 다른 요청의 무효화로 버전이 바뀌어도 기대 버전은 조회 시작 시점 값
+            when(valueOperations.get("cache:test:1:ver")).thenReturn("4");
+            return "db";
+        });
+
+        // then
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("cache:test:1", "cache:test:1:ver")),
+                eq("3"), eq("\"db\""), eq("1800000"));
+        verify(valueOperations, never()).set(anyString(), anyString(), anyLong(), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("버전 조회에 실패하면 L2를 채우지 않고 로더 결과만 반환한다")
+    void skipsFillWhenVersionUnavailable() {
+        // given
+        when(valueOperations.get("cache:test:1:ver")).thenThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        String value = cache.get(1L, () -> "db").orElseThrow();
+
+        // then
+        assertThat(value).isEqualTo("db");
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 로더 결과로 응답한다")
+    void fallsBackToLoaderWhenRedisFails() {
+        // given
+        when(valueOperations.get("cache:test:1")).thenThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        String value = cache.get(1L, () -> "db").orElseThrow();
+
+        // then
+        assertThat(value).isEqualTo("db");
+    }
+
+    @Test
+    @DisplayName("로더가 null을 반환하면 캐시하지 않는다")
+    void doesNotCacheMissingValue() {
+        // when
+        boolean present = cache.get(1L, () -> null).isPresent();
+
+        // then
+        assertThat(present).isFalse();
+        assertThat(cache.get(1L, () -> "created").orElseThrow()).isEqualTo("created");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("트랜잭션 안의 무효화는 커밋 이후에 L2 삭제와 무효화 메시지 발행을 수행한다")
+    void evictsAfterCommit() {
+        // given
+        cache.get(1L, () -> "old");
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        cache.evict(1L);
+
+        // then - 커밋 전에는 그대로
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), eq("1800000"));
+        assertThat(cache.localCache().getIfPresent("1")).isEqualTo("old");
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // 버전을 올리고 L2 삭제
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("cache:test:1", "cache:test:1:ver")),
+                eq("1800000"));
+        verify(redisTemplate).convertAndSend("cache:invalidate", "test|1");
+        assertThat(cache.localCache().getIfPresent("1")).isNull();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("다른 노드의 무효화 메시지를 받으면 L1만 비운다")
+    void evictsLocalOnMessage() {
+        // given
+        cache.get(1L, () -> "old");
+        DefaultMessage message = new DefaultMessage(
+                "cache:invalidate".getBytes(StandardCharsets.UTF_8), "test|1".getBytes(StandardCharsets.UTF_8));
+
+        // when
+        manager.onMessage(message, null);
+
+        // then
+        assertThat(cache.localCache().getIfPresent("1")).isNull();
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), eq("1800000"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("부정 캐시가 설정되면 존재하지 않는 키는 로더를 반복 호출하지 않는다")
+    void cachesMissingValueWhenNegativeCachingEnabled() {
+        // given
+        TwoLevelCache<String> negativeCache = manager.create("negative", String.class, 100,
+                Duration.ofMinutes(5), Duration.ofMinutes(30), Duration.ofSeconds(30));
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        negativeCache.get(404L, () -> { loads.incrementAndGet(); return null; });
+        boolean present = negativeCache.get(404L, () -> { loads.incrementAndGet(); return null; }).isPresent();
+
+        // then
+        assertThat(present).isFalse();
+        assertThat(loads.get()).isEqualTo(1);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("cache:negative:404", "cache:negative:404:ver")),
+                eq(""), eq("\u0000"), eq("30000"));
+    }
+
+    @Test
+    @DisplayName("무효화되면 부정 캐시도 함께 지워진다")
+    void evictClearsNegativeEntry() {
+        // given
+        TwoLevelCache<String> negativeCache = manager.create("negative", String.class, 100,
+                Duration.ofMinutes(5), Duration.ofMinutes(30), Duration.ofSeconds(30));
+        negativeCache.get(1L, () -> null);
+
+        // when
+        negativeCache.evict(1L);
+
+        // then
+        assertThat(negativeCache.get(1L, () -> "created").orElseThrow()).isEqualTo("created");
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 미스는 로더를 한 번만 호출한다")
+    void loadsOnceForConcurrentMisses() throws Exception {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // when
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> cache.get(1L, () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return "db";
+        }).orElseThrow());
+        loading.await(5, TimeUnit.SECONDS);
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> cache.get(1L, () -> {
+            loads.incrementAndGet();
+            return "db-2";
+        }).orElseThrow());
+        release.countDown();
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("db");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("db");
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
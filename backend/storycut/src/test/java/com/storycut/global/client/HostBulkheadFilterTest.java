@@ -0,0 +1,67 @@
+package com.storycut.global.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HostBulkheadFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ClientRequest request(String url) {
+        return ClientRequest.create(HttpMethod.POST, URI.create(url)).build();
+    }
+
+    @Test
+    @DisplayName("호스트별 동시 요청 한도를 넘으면 즉시 실패하고 다른 호스트는 영향받지 않는다")
+    void rejectsWhenHostIsSaturated() {
+        // given - 응답이 오지 않는 느린 호스트
+        HostBulkheadFilter filter = new HostBulkheadFilter(1, meterRegistry);
+        Sinks.One<ClientResponse> slowResponse = Sinks.one();
+        ExchangeFunction slow = request -> slowResponse.asMono();
+        ExchangeFunction fast = request -> Mono.just(ClientResponse.create(HttpStatus.OK).body("ok").build());
+
+        // when
+        filter.filter(request("https://oauth2.googleapis.com/token"), slow).subscribe();
+
+        // then
+        assertThrows(BulkheadFullException.class,
+                () -> filter.filter(request("https://oauth2.googleapis.com/token"), slow).block());
+        assertThat(filter.filter(request("https://www.googleapis.com/oauth2/v3/certs"), fast)
+                .flatMap(response -> response.bodyToMono(String.class))
+                .block()).isEqualTo("ok");
+        assertThat(meterRegistry.counter("http.client.bulkhead.rejected", "host", "oauth2.googleapis.com").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("응답 본문 소비가 끝나면 허가를 반환한다")
+    void releasesPermitAfterBodyConsumed() {
+        // given
+        HostBulkheadFilter filter = new HostBulkheadFilter(1, meterRegistry);
+        ExchangeFunction ok = request -> Mono.just(ClientResponse.create(HttpStatus.OK).body("ok").build());
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            filter.filter(request("https://oauth2.googleapis.com/token"), ok)
+                    .flatMap(response -> response.bodyToMono(String.class))
+                    .block();
+        }
+
+        // then
+        assertThat(meterRegistry.get("http.client.bulkhead.available").tag("host", "oauth2.googleapis.com")
+                .gauge().value()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,163 @@
+package com.storycut.global.outbox;
+
+import com.storycut.global.config.JpaConfig;
+import com.storycut.global.util.RedisLock;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@DataJpaTest(properties = {"app.outbox.mode=local", "app.outbox.batch-size=2"})
+@Import({JpaConfig.class, OutboxPublisher.class, OutboxRelay.class, OutboxRelayTest.Handlers.class})
+class OutboxRelayTest {
+
+    @Autowired
+    private OutboxPublisher outboxPublisher;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private RecordingHandler memberHandler;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockitoBean
+    private RedisLock redisLock;
+
+    @BeforeEach
+    void setUp() {
+        memberHandler.handled.clear();
+        memberHandler.failuresLeft = 0;
+    }
+
+    @Test
+    @DisplayName("기록된 이벤트를 배치 단위로 모두 처리하고 처리된 행을 삭제한다")
+    void drainsAllEventsInBatches() {
+        // given (배치 크기 2보다 많은 이벤트)
+        outboxPublisher.append(OutboxEventType.MEMBER_DELETED, 1L);
+        outboxPublisher.append(OutboxEventType.MEMBER_DELETED, 2L);
+        outboxPublisher.append(OutboxEventType.MEMBER_DELETED, 3L);
+
+        // when
+        int processed = outboxRelay.drain();
+
+        // then
+        assertThat(processed).isEqualTo(3);
+        assertThat(memberHandler.handled).containsExactly(1L, 2L, 3L);
+        assertThat(outboxEventRepository.count()).isZero();
+        assertThat(meterRegistry.get("outbox.pending").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("처리에 실패한 이벤트는 남겨두고 재시도 시각 전에는 다시 읽지 않는다")
+    void keepsFailedEventForRetry() {
+        // given
+        memberHandler.failuresLeft = 1;
+        outboxPublisher.append(OutboxEventType.MEMBER_DELETED, 1L);
+
+        // when
+        int first = outboxRelay.drain();
+        int second = outboxRelay.drain();
+
+        // then
+        assertThat(first).isZero();
+        assertThat(second).isZero();
+        OutboxEvent event = outboxEventRepository.findAll().get(0);
+        assertThat(event.getAttempts()).isEqualTo(1);
+        assertThat(event.getLastError()).isEqualTo("temporary failure");
+        assertThat(meterRegistry.get("outbox.events").tag("result", "failed").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("처리기가 없는 이벤트 종류는 실패로 기록된다")
+    void recordsFailureForUnknownType() {
+        // given
+        outboxPublisher.append(OutboxEventType.ROOM_DELETED, 10L);
+
+        // when
+        int processed = outboxRelay.drain();
+
+        // then
+        assertThat(processed).isZero();
+        assertThat(outboxEventRepository.findAll()).singleElement()
+                .satisfies(event -> assertThat(event.getAttempts()).isEqualTo(1));
+    }
+
+    @Test
+    @DisplayName("local 모드에서는 Redis 락 없이 현재 노드에서 처리한다")
+    void localModeSkipsLock() {
+        // given
+        outboxPublisher.append(OutboxEventType.MEMBER_DELETED, 1L);
+
+        // when
+        outboxRelay.relayScheduled();
+
+        // then
+        assertThat(memberHandler.handled).containsExactly(1L);
+        verifyNoInteractions(redisLock);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("트랜잭션 밖에서는 이벤트를 기록할 수 없다")
+    void appendRequiresTransaction() {
+        assertThatThrownBy(() -> outboxPublisher.append(OutboxEventType.MEMBER_DELETED, 1L))
+                .isInstanceOf(IllegalTransactionStateException.class);
+    }
+
+    static class RecordingHandler implements OutboxHandler {
+
+        final List<Long> handled = new ArrayList<>();
+        int failuresLeft;
+
+        @Override
+        public OutboxEventType type() {
+            return OutboxEventType.MEMBER_DELETED;
+        }
+
+        @Override
+        public void handle(Long aggregateId) {
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                throw new IllegalStateException("temporary failure");
+            }
+            handled.add(aggregateId);
+        }
+    }
+
+    @TestConfiguration
+    static class Handlers {
+
+        @Bean
+        RecordingHandler memberHandler() {
+            return new RecordingHandler();
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
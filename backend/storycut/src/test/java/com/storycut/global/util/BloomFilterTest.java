@@ -0,0 +1,58 @@
+package com.storycut.global.util;
+
+import com.storycut.domain.auth.util.TokenDigest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 값은 항상 포함된 것으로 판정된다")
+    void noFalseNegatives() {
+        // given
+        BloomFilter filter = BloomFilter.create(1_000, 0.01);
+
+        // when
+        for (int i = 0; i < 1_000; i++) {
+            filter.put(TokenDigest.sha256("revoked-" + i));
+        }
+
+        // then
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(filter.mightContain(TokenDigest.sha256("revoked-" + i))).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("오탐률은 설정값 근처로 유지된다")
+    void falsePositiveRateIsBounded() {
+        // given
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(TokenDigest.sha256("revoked-" + i));
+        }
+
+        // when
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain(TokenDigest.sha256("active-" + i))) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertThat((double) falsePositives / probes).isLessThan(0.02);
+    }
+
+    @Test
+    @DisplayName("16바이트 미만의 해시는 거부한다")
+    void rejectsShortHash() {
+        BloomFilter filter = BloomFilter.create(100, 0.01);
+
+        assertThrows(IllegalArgumentException.class, () -> filter.put(new byte[8]));
+    }
+}
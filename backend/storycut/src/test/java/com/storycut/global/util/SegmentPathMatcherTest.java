@@ -0,0 +1,70 @@
+package com.storycut.global.util;
+
+import com.storycut.global.model.enums.PublicEndpoint;
+import com.storycut.global.security.matcher.PublicEndpointMatcher;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.AntPathMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SegmentPathMatcherTest {
+
+    private static final List<String> SAMPLE_PATHS = List.of(
+            "/", "/auth/login", "/auth/login/", "/auth/loginx", "/auth", "/auth/refresh",
+            "/oauth2", "/oauth2/", "/oauth2/authorization/google", "/oauth2x/authorization",
+            "/login/oauth2/code/google", "/login/oauth2", "/swagger-ui.html", "/swagger-ui/index.html",
+            "/v3/api-docs", "/v3/api-docs/swagger-config", "/actuator/prometheus", "/error", "/errors",
+            "/favicon.ico", "/health", "/room/1", "/member/detail", "/static/js/app.js", "//auth//login"
+    );
+
+    @Test
+    @DisplayName("PublicEndpoint 패턴에 대해 AntPathMatcher와 동일하게 판정한다")
+    void matchesLikeAntPathMatcher() {
+        // given
+        List<String> patterns = PublicEndpoint.getAll();
+        SegmentPathMatcher matcher = SegmentPathMatcher.of(patterns);
+        AntPathMatcher antPathMatcher = new AntPathMatcher();
+
+        // when & then
+        for (String path : SAMPLE_PATHS) {
+            boolean expected = patterns.stream().anyMatch(pattern -> antPathMatcher.match(pattern, path));
+            assertThat(matcher.matches(path)).as(path).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("컨텍스트 경로를 건너뛰고 나머지 경로로 판정한다")
+    void skipsContextPath() {
+        // given
+        PublicEndpointMatcher matcher = new PublicEndpointMatcher("/api/v1/spring");
+
+        // when & then
+        assertThat(matcher.matches("/api/v1/spring/auth/refresh")).isTrue();
+        assertThat(matcher.matches("/api/v1/spring/swagger-ui/index.html")).isTrue();
+        assertThat(matcher.matches("/api/v1/spring/room/1")).isFalse();
+        assertThat(matcher.matches("/api/v1/springauth/refresh")).isFalse();
+    }
+
+    @Test
+    @DisplayName("PublicEndpoint 패턴은 컨텍스트 경로를 제외한 경로이므로, 컨텍스트 경로를 포함한 패턴은 매칭되지 않는다")
+    void patternsExcludeContextPath() {
+        // given
+        PublicEndpointMatcher matcher = new PublicEndpointMatcher("/api/v1/spring");
+
+        // when & then
+        assertThat(PublicEndpoint.getAll()).noneMatch(pattern -> pattern.startsWith("/api/v1/spring"));
+        assertThat(matcher.matches("/api/v1/spring/auth/login")).isTrue();
+        assertThat(matcher.matches("/api/v1/spring/api/v1/spring/auth/login")).isFalse();
+        assertThat(matcher.matches("/api/v1/spring/member/public/profile")).isFalse();
+    }
+
+    @Test
+    @DisplayName("마지막 세그먼트가 아닌 와일드카드는 거부한다")
+    void rejectsUnsupportedPattern() {
+        assertThrows(IllegalArgumentException.class, () -> SegmentPathMatcher.of(List.of("/a/**/b")));
+        assertThrows(IllegalArgumentException.class, () -> SegmentPathMatcher.of(List.of("/a/*.js")));
+    }
+}
@@ -0,0 +1,216 @@
+package com.storycut.global.websocket;
+
+import com.storycut.domain.auth.model.CustomUserDetails;
+import com.storycut.domain.auth.service.TokenBlacklistService;
+import com.storycut.domain.auth.util.JWTUtil;
+import com.storycut.domain.auth.util.JWTUtil.TokenStatus;
+import com.storycut.domain.auth.util.JWTUtil.TokenVerification;
+import com.storycut.domain.auth.util.TokenDigest;
+import com.storycut.domain.room.service.RoomMembershipIndex;
+import com.storycut.global.exception.BusinessException;
+import com.storycut.global.model.dto.BaseResponseStatus;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.util.Date;
+import java.util.HashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StompAuthChannelInterceptorTest {
+
+    private static final String TOKEN = "access-token";
+
+    @Mock
+    private JWTUtil jwtUtil;
+
+    @Mock
+    private TokenBlacklistService tokenBlacklistService;
+
+    @Mock
+    private RoomMembershipIndex roomMembershipIndex;
+
+    @InjectMocks
+    private StompAuthChannelInterceptor interceptor;
+
+    private final MessageChannel channel = mock(MessageChannel.class);
+
+    private StompHeaderAccessor accessor(StompCommand command) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionAttributes(new HashMap<>());
+        accessor.setLeaveMutable(true);
+        return accessor;
+    }
+
+    /**
+     * CONNECT를 마친 세션의 프레임 (세션 사용자와 인증 정보 설정)
+     */
+    private StompHeaderAccessor connected(StompCommand command, Long memberId, long expiresAt) {
+        StompHeaderAccessor accessor = accessor(command);
+        accessor.setUser(user(memberId));
+        accessor.getSessionAttributes().put(StompSessionAuth.ATTRIBUTE,
+                new StompSessionAuth(memberId, TokenDigest.of(TOKEN), expiresAt));
+        return accessor;
+    }
+
+    private long inOneHour() {
+        return System.currentTimeMillis() + 3_600_000;
+    }
+
+    private Message<byte[]> message(StompHeaderAccessor accessor) {
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private Authentication user(Long memberId) {
+        CustomUserDetails details = new CustomUserDetails(memberId, "user@storycut.com");
+        return new UsernamePasswordAuthenticationToken(details, "", details.getAuthorities());
+    }
+
+    @Test
+    @DisplayName("CONNECT 시 유효한 액세스 토큰이면 세션 사용자로 등록하고, 토큰 다이제스트와 만료 시각을 세션에 남긴다")
+    void connect_validToken() {
+        // given
+        StompHeaderAccessor accessor = accessor(StompCommand.CONNECT);
+        accessor.setNativeHeader("Authorization", "Bearer " + TOKEN);
+        Date expiration = new Date(inOneHour() / 1000 * 1000);
+        TokenVerification verification = new TokenVerification(TokenStatus.VALID,
+                Jwts.claims().subject("1").expiration(expiration).build());
+        Authentication authentication = user(1L);
+        when(jwtUtil.verify(TOKEN)).thenReturn(verification);
+        when(tokenBlacklistService.isRevoked(eq(TOKEN), any(TokenVerification.class))).thenReturn(false);
+        when(jwtUtil.getAuthentication(verification)).thenReturn(authentication);
+
+        // when
+        interceptor.preSend(message(accessor), channel);
+
+        // then
+        assertThat(accessor.getUser()).isSameAs(authentication);
+        assertThat(StompSessionAuth.from(accessor.getSessionAttributes()))
+                .isEqualTo(new StompSessionAuth(1L, TokenDigest.of(TOKEN), expiration.getTime()));
+    }
+
+    @Test
+    @DisplayName("CONNECT 시 토큰이 없거나 로그아웃된 토큰이면 거절한다")
+    void connect_rejected() {
+        // given
+        StompHeaderAccessor noToken = accessor(StompCommand.CONNECT);
+        StompHeaderAccessor revoked = accessor(StompCommand.CONNECT);
+        revoked.setNativeHeader("Authorization", "Bearer " + TOKEN);
+        when(jwtUtil.verify(TOKEN)).thenReturn(new TokenVerification(TokenStatus.VALID, null));
+        when(tokenBlacklistService.isRevoked(eq(TOKEN), any(TokenVerification.class))).thenReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> interceptor.preSend(message(noToken), channel))
+                .isInstanceOf(BusinessException.class)
+                .extracting("baseResponseStatus")
+                .isEqualTo(BaseResponseStatus.UNAUTHORIZED);
+        assertThatThrownBy(() -> interceptor.preSend(message(revoked), channel))
+                .isInstanceOf(BusinessException.class)
+                .extracting("baseResponseStatus")
+                .isEqualTo(BaseResponseStatus.JWT_TOKEN_REVOKED);
+    }
+
+    @Test
+    @DisplayName("공유방 참여자는 해당 방 토픽을 구독할 수 있다")
+    void subscribe_member() {
+        // given
+        StompHeaderAccessor accessor = connected(StompCommand.SUBSCRIBE, 1L, inOneHour());
+        accessor.setDestination("/topic/rooms/10");
+        when(roomMembershipIndex.isMember(10L, 1L)).thenReturn(true);
+
+        // when
+        Message<?> result = interceptor.preSend(message(accessor), channel);
+
+        // then
+        assertThat(result).isNotNull();
+    }
+
+    @Test
+    @DisplayName("참여자가 아니거나 공유방 토픽이 아니면 구독을 거절한다")
+    void subscribe_rejected() {
+        // given
+        StompHeaderAccessor notMember = connected(StompCommand.SUBSCRIBE, 1L, inOneHour());
+        notMember.setDestination("/topic/rooms/10");
+        StompHeaderAccessor otherTopic = connected(StompCommand.SUBSCRIBE, 1L, inOneHour());
+        otherTopic.setDestination("/topic/rooms/abc");
+        when(roomMembershipIndex.isMember(10L, 1L)).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> interceptor.preSend(message(notMember), channel))
+                .isInstanceOf(BusinessException.class)
+                .extracting("baseResponseStatus")
+                .isEqualTo(BaseResponseStatus.NOT_ROOM_MEMBER);
+        assertThatThrownBy(() -> interceptor.preSend(message(otherTopic), channel))
+                .isInstanceOf(BusinessException.class)
+                .extracting("baseResponseStatus")
+                .isEqualTo(BaseResponseStatus.FORBIDDEN);
+    }
+
+    @Test
+    @DisplayName("인증되지 않은 세션의 구독은 거절한다")
+    void subscribe_unauthenticated() {
+        // given
+        StompHeaderAccessor accessor = accessor(StompCommand.SUBSCRIBE);
+        accessor.setDestination("/topic/rooms/10");
+
+        // when & then
+        assertThatThrownBy(() -> interceptor.preSend(message(accessor), channel))
+                .isInstanceOf(BusinessException.class)
+                .extracting("baseResponseStatus")
+                .isEqualTo(BaseResponseStatus.UNAUTHORIZED);
+    }
+
+    @Test
+    @DisplayName("CONNECT 때 받은 토큰의 만료 시각이 지난 세션은 구독과 전송을 거절한다")
+    void expiredSession_rejected() {
+        // given
+        long expired = System.currentTimeMillis() - 1;
+        StompHeaderAccessor subscribe = connected(StompCommand.SUBSCRIBE, 1L, expired);
+        subscribe.setDestination("/topic/rooms/10");
+        StompHeaderAccessor send = connected(StompCommand.SEND, 1L, expired);
+
+        // when & then
+        assertThatThrownBy(() -> interceptor.preSend(message(subscribe), channel))
+                .isInstanceOf(BusinessException.class)
+                .extracting("baseResponseStatus")
+                .isEqualTo(BaseResponseStatus.JWT_ACCESS_TOKEN_EXPIRED);
+        assertThatThrownBy(() -> interceptor.preSend(message(send), channel))
+                .isInstanceOf(BusinessException.class)
+                .extracting("baseResponseStatus")
+                .isEqualTo(BaseResponseStatus.JWT_ACCESS_TOKEN_EXPIRED);
+        verifyNoInteractions(roomMembershipIndex);
+    }
+
+    @Test
+    @DisplayName("세션 사용자가 있어도 CONNECT 인증 정보가 없으면 거절한다")
+    void missingSessionAuth_rejected() {
+        // given
+        StompHeaderAccessor accessor = accessor(StompCommand.SEND);
+        accessor.setUser(user(1L));
+
+        // when & then
+        assertThatThrownBy(() -> interceptor.preSend(message(accessor), channel))
+                .isInstanceOf(BusinessException.class)
+                .extracting("baseResponseStatus")
+                .isEqualTo(BaseResponseStatus.UNAUTHORIZED);
+    }
+}
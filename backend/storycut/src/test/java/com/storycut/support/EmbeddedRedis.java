@@ -0,0 +1,65 @@
+package com.storycut.support;
+
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+
+/**
+ * Lua 스크립트/파이프라인 검증용 내장 Redis - 빈 포트에 서버를 띄우고 애플리케이션과 같은 설정의 RedisTemplate 제공
+ */
+public final class EmbeddedRedis {
+
+    private final RedisServer server;
+    private final LettuceConnectionFactory connectionFactory;
+    private final RedisTemplate<String, String> template;
+
+    private EmbeddedRedis(RedisServer server, LettuceConnectionFactory connectionFactory,
+                          RedisTemplate<String, String> template) {
+        this.server = server;
+        this.connectionFactory = connectionFactory;
+        this.template = template;
+    }
+
+    public static EmbeddedRedis start() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        RedisServer server = new RedisServer(port);
+        server.start();
+
+        LettuceConnectionFactory connectionFactory =
+                new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        RedisTemplate<String, String> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(new StringRedisSerializer());
+        template.afterPropertiesSet();
+        return new EmbeddedRedis(server, connectionFactory, template);
+    }
+
+    public RedisTemplate<String, String> template() {
+        return template;
+    }
+
+    public void flushAll() {
+        template.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+    }
+
+    public void stop() throws IOException {
+        connectionFactory.destroy();
+        server.stop();
+    }
+}